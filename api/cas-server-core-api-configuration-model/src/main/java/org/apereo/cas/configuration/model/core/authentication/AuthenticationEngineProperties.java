@@ -30,10 +30,36 @@ public class AuthenticationEngineProperties implements Serializable {
      */
     private Groovy groovyPostProcessor = new Groovy();
 
+    /**
+     * Settings for the threads that hash passwords
+     * on behalf of BCrypt, SCrypt, PBKDF2 and Groovy password encoders.
+     */
+    private PasswordHashing passwordHashing = new PasswordHashing();
+
     @RequiresModule(name = "cas-server-core-authentication", automated = true)
     @Getter
     @Setter
     public static class Groovy extends SpringResourceProperties {
         private static final long serialVersionUID = 8079027843747126083L;
     }
+
+    @RequiresModule(name = "cas-server-core-authentication", automated = true)
+    @Getter
+    @Setter
+    public static class PasswordHashing implements Serializable {
+        private static final long serialVersionUID = 3381528744265118724L;
+
+        /**
+         * Number of threads that hash passwords.
+         * Zero or less uses the number of available processors.
+         */
+        private int poolSize;
+
+        /**
+         * Number of hashing tasks that may wait for a thread.
+         * Logins that find the queue full are rejected right away,
+         * so this should stay well below the number of request threads of the servlet container.
+         */
+        private int queueCapacity = 100;
+    }
 }
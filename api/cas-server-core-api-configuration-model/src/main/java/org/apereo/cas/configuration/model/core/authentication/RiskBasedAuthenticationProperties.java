@@ -49,6 +49,12 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private Response response = new Response();
 
+    /**
+     * Control how the authentication history of principals
+     * is summarized and kept in memory.
+     */
+    private Profiles profiles = new Profiles();
+
     /**
      * The risk threshold factor beyond which the authentication
      * event may be considered risky.
@@ -98,6 +104,13 @@ public class RiskBasedAuthenticationProperties implements Serializable {
          * to calculate risky authentication attempts.
          */
         private boolean enabled;
+
+        /**
+         * Number of decimal places to which latitude and longitude are rounded
+         * when locations are compared. Locations that fall into the same grid cell
+         * are considered the same; two decimal places make cells of about a kilometer.
+         */
+        private int precision = 2;
     }
 
     @Getter
@@ -119,6 +132,27 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         private int windowInHours = 2;
     }
 
+    @Getter
+    @Setter
+    public static class Profiles implements Serializable {
+
+        private static final long serialVersionUID = -1893453727193487622L;
+
+        /**
+         * Maximum number of principals whose authentication history
+         * is summarized and kept in memory.
+         */
+        private long maximumSize = 100_000;
+
+        /**
+         * How long the summarized authentication history of a principal is kept, before
+         * it is built again from the event repository. A summary is only updated with
+         * authentication events that happen on this CAS node, so in a clustered deployment
+         * this controls how long events from other nodes may go unnoticed.
+         */
+        private String rebuildPeriod = "PT24H";
+    }
+
     @Getter
     @Setter
     public static class Response implements Serializable {
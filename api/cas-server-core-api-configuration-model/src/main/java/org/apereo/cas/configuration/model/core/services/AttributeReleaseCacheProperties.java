@@ -0,0 +1,38 @@
+package org.apereo.cas.configuration.model.core.services;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties that control caching of attribute release policy results.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiresModule(name = "cas-server-core-services", automated = true)
+@Getter
+@Setter
+public class AttributeReleaseCacheProperties implements Serializable {
+
+    private static final long serialVersionUID = 4180383297315412377L;
+
+    /**
+     * Whether results of attribute release policies should be cached
+     * per principal and registered service.
+     */
+    private boolean enabled;
+
+    /**
+     * Amount of time after which a cached result is discarded and recalculated.
+     */
+    private String expireAfterWrite = "PT30S";
+
+    /**
+     * Maximum number of results to keep in the cache.
+     */
+    private long maximumSize = 10_000;
+}
@@ -110,6 +110,11 @@ public class ServiceRegistryProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private SmsProperties sms = new SmsProperties();
+    /**
+     * Settings that control caching of attribute release policy results.
+     */
+    @NestedConfigurationProperty
+    private AttributeReleaseCacheProperties attributeReleaseCache = new AttributeReleaseCacheProperties();
     /**
      * Flag that indicates whether to initialise active service registry implementation with a default set of service definition included
      * with CAS in JSON format.
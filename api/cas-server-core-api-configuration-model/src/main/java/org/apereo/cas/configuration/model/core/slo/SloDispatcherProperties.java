@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties that control how logout messages are dispatched to services.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+public class SloDispatcherProperties implements Serializable {
+
+    private static final long serialVersionUID = 2216391860384617214L;
+
+    /**
+     * Whether logout messages should be sent to services in parallel.
+     * When false, services are contacted one after another on the logout request thread.
+     */
+    private boolean parallel;
+
+    /**
+     * Number of threads available to send logout messages in parallel.
+     */
+    private int poolSize = 10;
+
+    /**
+     * Number of logout deliveries that may wait for a thread before
+     * deliveries are executed on the logout request thread itself.
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * Amount of time to wait for a single service to receive its logout message
+     * before the delivery is abandoned and handed over to the retry queue.
+     */
+    private String timeout = "PT5S";
+
+    /**
+     * Maximum number of times a failed logout delivery is retried.
+     * Set to zero to disable retries.
+     */
+    private int maxRetryAttempts = 3;
+
+    /**
+     * Amount of time to wait before the first retry of a failed delivery.
+     */
+    private String retryDelay = "PT2S";
+
+    /**
+     * Multiplier applied to the retry delay after every failed attempt.
+     */
+    private double retryBackoffMultiplier = 2.0;
+
+    /**
+     * Maximum number of failed deliveries that may wait in the retry queue.
+     * Failures beyond this limit are dropped and logged.
+     */
+    private int retryQueueCapacity = 1000;
+}
@@ -106,6 +106,12 @@ public class TicketRegistryProperties implements Serializable {
      */
     private InMemory inMemory = new InMemory();
 
+    /**
+     * Settings that control how tickets are serialized
+     * before they are encrypted and signed by the registry.
+     */
+    private Serialization serialization = new Serialization();
+
 
     /**
      * CouchDb registry settings.
@@ -161,4 +167,43 @@ public class TicketRegistryProperties implements Serializable {
             crypto.setEnabled(false);
         }
     }
+
+    @RequiresModule(name = "cas-server-support-kryo")
+    @Getter
+    @Setter
+    public static class Serialization implements Serializable {
+
+        private static final long serialVersionUID = -3862712542513487641L;
+
+        /**
+         * The serialization strategy used to turn tickets into bytes prior to encryption.
+         * Accepted values are {@code DEFAULT}, which uses native java serialization,
+         * and {@code KRYO} which requires the kryo module to be available at runtime.
+         */
+        private String type = "DEFAULT";
+
+        /**
+         * When true, tickets continue to be written using the default java serialization
+         * format while tickets written using kryo can still be read. This allows nodes
+         * in a cluster to be upgraded one at a time, and should be turned off once all nodes
+         * are able to read kryo-encoded tickets.
+         */
+        private boolean writeLegacyFormat;
+
+        /**
+         * If true, {@code reset} is called automatically after an entire object graph has been read or written.
+         */
+        private boolean kryoAutoReset;
+
+        /**
+         * If true, each appearance of an object in the graph after the first is stored as an integer ordinal.
+         */
+        private boolean kryoObjectsByReference;
+
+        /**
+         * If true, an exception is thrown when an unregistered class is encountered.
+         * Registered classes are serialized as an int id; see {@code ComponentSerializationPlan}.
+         */
+        private boolean kryoRegistrationRequired = true;
+    }
 }
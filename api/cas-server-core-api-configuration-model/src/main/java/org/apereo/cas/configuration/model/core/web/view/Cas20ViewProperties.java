@@ -36,6 +36,14 @@ public class Cas20ViewProperties implements Serializable {
      */
     private boolean v3ForwardCompatible;
 
+    /**
+     * Write service validation responses directly to the response stream
+     * instead of rendering the success and failure templates. The output
+     * matches that of the default templates; customized templates
+     * are not consulted when enabled.
+     */
+    private boolean directRendering;
+
     /**
      * Proxy views and settings.
      */
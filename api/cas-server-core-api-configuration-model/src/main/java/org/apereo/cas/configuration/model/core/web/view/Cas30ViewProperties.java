@@ -38,6 +38,14 @@ public class Cas30ViewProperties implements Serializable {
      */
     private ValidationAttributesRendererTypes attributeRendererType = ValidationAttributesRendererTypes.DEFAULT;
 
+    /**
+     * Write service validation responses directly to the response stream
+     * instead of rendering the success and failure templates. The output
+     * matches that of the default templates; customized templates
+     * are not consulted when enabled.
+     */
+    private boolean directRendering;
+
     public enum ValidationAttributesRendererTypes {
         /**
          * Render attributes using CAS protocol suggestions.
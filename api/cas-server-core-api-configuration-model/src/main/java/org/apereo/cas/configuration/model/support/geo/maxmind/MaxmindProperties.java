@@ -32,4 +32,24 @@ public class MaxmindProperties extends BaseGeoLocationProperties {
      */
     @RequiredProperty
     private transient Resource countryDatabase;
+
+    /**
+     * Whether database files should be memory-mapped rather than
+     * loaded into the heap. Databases that are not files on the
+     * file system are always loaded into the heap.
+     */
+    private boolean memoryMapped = true;
+
+    /**
+     * Whether database files should be watched and read again
+     * once they are replaced. Databases should be replaced by moving
+     * a new file in place rather than modifying the file that is in use.
+     */
+    private boolean watcherEnabled = true;
+
+    /**
+     * Maximum number of locations to cache, keyed by the network
+     * prefix of the address that is looked up.
+     */
+    private long cacheSize = 10_000;
 }
@@ -248,5 +248,11 @@ public class IgniteProperties implements Serializable {
          * </ul>
          */
         private String writeSynchronizationMode = "FULL_SYNC";
+
+        /**
+         * Number of entries fetched at a time when tickets are enumerated or queried,
+         * such as when looking for expired tickets or the sessions of a principal.
+         */
+        private int queryPageSize = 1024;
     }
 }
@@ -104,6 +104,14 @@ public abstract class AbstractLdapProperties implements Serializable {
      * number of connections that can be created
      */
     private String blockWaitTime = "PT3S";
+
+    /**
+     * Whether the connection pool should be shared with all other LDAP components
+     * that are configured with the exact same connection and pool settings.
+     * Pools used to bind as end users are only shared between authentication handlers.
+     */
+    private boolean sharedPool = true;
+
     /**
      * If multiple URLs are provided as the ldapURL this describes how each URL will be processed.
      * <ul>
@@ -30,9 +30,17 @@ public class OidcProperties implements Serializable {
 
     /**
      * Timeout that indicates how long should the JWKS file be kept in cache.
+     * Once elapsed, keys are reloaded in the background upon next use, and
+     * previously loaded keys continue to be used until reloading succeeds.
      */
     private int jwksCacheInMinutes = 60;
 
+    /**
+     * Maximum number of keystores of registered services to keep in cache.
+     * Should be at least the number of OIDC clients that have their own keystore.
+     */
+    private long jwksCacheMaximumSize = 1_000;
+
     /**
      * OIDC issuer.
      */
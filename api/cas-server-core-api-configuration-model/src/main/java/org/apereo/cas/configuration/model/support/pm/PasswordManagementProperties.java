@@ -185,6 +185,18 @@ public class PasswordManagementProperties implements Serializable {
          * Search filter used to look up usernames by email.
          */
         private String searchFilterUsername;
+
+        /**
+         * How long account entries found in LDAP are remembered, so that the steps
+         * of a single password reset flow look up the entry only once.
+         * A zero duration disables the cache.
+         */
+        private String entryCacheExpiration = "PT0S";
+
+        /**
+         * Maximum number of account entries that are remembered at any given time.
+         */
+        private long entryCacheSize = 1000;
     }
 
     @RequiresModule(name = "cas-server-support-pm-webflow")
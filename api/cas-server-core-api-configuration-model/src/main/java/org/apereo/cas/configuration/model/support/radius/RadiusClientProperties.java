@@ -47,4 +47,18 @@ public class RadiusClientProperties implements Serializable {
      * The accounting port.
      */
     private int accountingPort = 1813;
+
+    /**
+     * Maximum number of open client sockets kept for each RADIUS server.
+     * Sockets are reused across authentication requests, each carrying one
+     * outstanding request at a time. A value of zero disables pooling, and opens
+     * a new socket for every authentication request.
+     */
+    private int poolSize;
+
+    /**
+     * How long the resolved address of the RADIUS server is reused
+     * before it is resolved again.
+     */
+    private String dnsCacheExpiration = "PT5M";
 }
@@ -56,6 +56,19 @@ public class SamlMetadataUIProperties implements Serializable {
     @RequiredProperty
     private List<String> resources = new ArrayList<>();
 
+    /**
+     * How long MDUI of an entity fetched dynamically from a metadata query server
+     * is used before it is fetched again in the background.
+     */
+    private String cacheExpiration = "PT1H";
+
+    /**
+     * How long the login page waits for MDUI of an entity that is not fetched
+     * dynamically yet. Once passed, the page renders without MDUI and the fetch
+     * continues in the background.
+     */
+    private String fetchTimeout = "PT5S";
+
     /**
      * Scheduler settings to indicate how often is metadata reloaded.
      */
@@ -74,6 +74,32 @@ public class SpnegoProperties implements Serializable {
      */
     private String dnsTimeout = "PT2S";
 
+    /**
+     * Number of threads that look up client host names in parallel.
+     */
+    private int dnsPoolSize = 10;
+
+    /**
+     * How long a resolved client host name is remembered.
+     */
+    private String dnsCacheExpiration = "PT30M";
+
+    /**
+     * How long an address whose host name could not be resolved is remembered.
+     */
+    private String dnsNegativeCacheExpiration = "PT1M";
+
+    /**
+     * Maximum number of client addresses whose host names are remembered.
+     */
+    private long dnsCacheMaximumSize = 10_000;
+
+    /**
+     * How long the LDAP verdict on whether a client host is allowed for spnego is remembered.
+     * Set to zero to search LDAP for every request.
+     */
+    private String ldapCacheExpiration = "PT10M";
+
     /**
      * A regex pattern that indicates whether the client host name is allowed for spnego.
      */
@@ -29,4 +29,21 @@ public class ThemeProperties implements Serializable {
      * The parameter name used to switch themes.
      */
     private String paramName = "theme";
+
+    /**
+     * How long the resolved theme of a registered service is remembered.
+     * Themes fetched from remote endpoints are refreshed in the background after this period.
+     */
+    private String cacheExpiration = "PT10M";
+
+    /**
+     * How long remote endpoints that failed to produce a theme are left alone
+     * before they are contacted again.
+     */
+    private String cacheFailureExpiration = "PT30S";
+
+    /**
+     * Maximum number of resolved themes to remember.
+     */
+    private long cacheMaximumSize = 10_000;
 }
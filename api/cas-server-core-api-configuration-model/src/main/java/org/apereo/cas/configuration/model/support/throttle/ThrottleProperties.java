@@ -43,6 +43,11 @@ public class ThrottleProperties implements Serializable {
      */
     private Jdbc jdbc = new Jdbc();
 
+    /**
+     * Count throttling failure events over sliding windows.
+     */
+    private SlidingWindow slidingWindow = new SlidingWindow();
+
     /**
      * Settings related to throttling requests using bucket4j.
      */
@@ -106,6 +111,38 @@ public class ThrottleProperties implements Serializable {
         private int rangeSeconds = -1;
     }
 
+    /**
+     * Sliding window.
+     */
+    @RequiresModule(name = "cas-server-support-throttle", automated = true)
+    @Getter
+    @Setter
+    public static class SlidingWindow implements Serializable {
+
+        private static final long serialVersionUID = -3528941287612740153L;
+
+        /**
+         * Count failures per throttling key over a sliding window that spans
+         * the failure range, instead of tracking the time of the last failure.
+         * Once the number of failures in the window reaches the failure threshold,
+         * requests are throttled. Windows expire on their own once idle for the
+         * failure range, so the scheduled cleaner has nothing left to do.
+         */
+        private boolean enabled;
+
+        /**
+         * Number of fixed time buckets that make up the sliding window.
+         * More buckets let the window slide more smoothly at the cost of memory per key.
+         */
+        private int buckets = 10;
+
+        /**
+         * Maximum number of keys whose windows are kept in memory.
+         * Least recently used windows are evicted once this limit is reached.
+         */
+        private long maximumSize = 100_000;
+    }
+
     @RequiresModule(name = "cas-server-support-throttle-jdbc")
     @Getter
     @Setter
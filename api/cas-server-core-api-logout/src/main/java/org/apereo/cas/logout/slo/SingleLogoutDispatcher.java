@@ -0,0 +1,31 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link SingleLogoutDispatcher} which defines how logout messages
+ * are delivered to the services linked to a ticket-granting ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@FunctionalInterface
+public interface SingleLogoutDispatcher {
+
+    /**
+     * Dispatch logout messages to services.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param services             the services keyed by the ticket ids issued to them
+     * @param handlers             the handlers that produce and send logout messages
+     * @return the logout requests
+     */
+    List<SingleLogoutRequest> dispatch(TicketGrantingTicket ticketGrantingTicket,
+                                       Map<String, WebApplicationService> services,
+                                       Collection<SingleLogoutServiceMessageHandler> handlers);
+}
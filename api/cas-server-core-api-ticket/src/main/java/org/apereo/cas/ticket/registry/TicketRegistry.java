@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import java.util.Collection;
 import java.util.function.Predicate;
@@ -25,6 +26,16 @@ public interface TicketRegistry {
      */
     void addTicket(Ticket ticket);
 
+    /**
+     * Add a batch of tickets to the registry. Registries that are able to
+     * write several tickets in one round-trip should override this method.
+     *
+     * @param toSave the tickets to add
+     */
+    default void addTicket(final Stream<? extends Ticket> toSave) {
+        toSave.forEach(this::addTicket);
+    }
+
     /**
      * Retrieve a ticket from the registry. If the ticket retrieved does not
      * match the expected class, an InvalidTicketException is thrown.
@@ -132,4 +143,32 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets the ticket-granting tickets of the given principal that have not expired.
+     * Principal ids are compared ignoring case.
+     *
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @param principalId the principal id
+     * @return the ticket-granting tickets
+     */
+    default Stream<? extends TicketGrantingTicket> getSessionsFor(final String principalId) {
+        return getTickets(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired())
+            .map(TicketGrantingTicket.class::cast)
+            .filter(ticket -> ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId));
+    }
+
+    /**
+     * Gets the tickets that have expired.
+     *
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @return the expired tickets
+     */
+    default Stream<? extends Ticket> getExpiredTickets() {
+        return getTicketsStream().filter(Ticket::isExpired);
+    }
+
 }
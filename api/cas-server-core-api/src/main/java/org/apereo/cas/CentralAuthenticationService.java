@@ -16,6 +16,7 @@ import org.apereo.cas.validation.Assertion;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * CAS viewed as a set of services to generate and validate Tickets.
@@ -147,6 +148,27 @@ public interface CentralAuthenticationService {
     ServiceTicket grantServiceTicket(String ticketGrantingTicketId, Service service, AuthenticationResult authenticationResult)
         throws AuthenticationException, AbstractTicketException;
 
+    /**
+     * Grant {@link ServiceTicket}s for a number of services against the same ticket-granting ticket.
+     * The same security policy as {@link #grantServiceTicket(String, Service, AuthenticationResult)} applies
+     * to every service; no ticket is granted unless all services are allowed.
+     *
+     * @param ticketGrantingTicketId Proof of prior authentication.
+     * @param services               The target services of the service tickets.
+     * @param authenticationResult   The authentication context established if credentials provided
+     * @return Non-null service tickets, in the order of the given services.
+     * @throws AuthenticationException on errors authenticating the credentials
+     * @throws AbstractTicketException if the tickets could not be created.
+     */
+    default List<ServiceTicket> grantServiceTickets(final String ticketGrantingTicketId, final Collection<Service> services,
+                                                    final AuthenticationResult authenticationResult)
+        throws AuthenticationException, AbstractTicketException {
+        return services
+            .stream()
+            .map(service -> grantServiceTicket(ticketGrantingTicketId, service, authenticationResult))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Grant a {@link ProxyTicket} that may be used to access the given service
      * by authenticating the given credentials.
@@ -2,33 +2,50 @@ package org.apereo.cas.audit.spi.resource;
 
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.util.AopUtils;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 
 import lombok.val;
 import org.apereo.inspektr.audit.spi.AuditResourceResolver;
 import org.aspectj.lang.JoinPoint;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
- * Extracts the resource as a CAS service for the audit.
+ * Extracts the resource as a CAS service, or a number of services, for the audit.
  *
  * @author Scott Battaglia
  * @since 3.1.2
  */
 public class ServiceResourceResolver implements AuditResourceResolver {
 
+    private static Collection<Service> getServices(final JoinPoint joinPoint) {
+        val arg = AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
+        if (arg instanceof Collection) {
+            return (Collection<Service>) arg;
+        }
+        return CollectionUtils.wrapList((Service) arg);
+    }
+
     @Override
     public String[] resolveFrom(final JoinPoint joinPoint, final Object retval) {
-        val service = (Service) AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
+        val services = getServices(joinPoint)
+            .stream()
+            .map(service -> DigestUtils.abbreviate(service.getId()))
+            .collect(Collectors.joining(","));
         val builder = new StringBuilder(retval.toString())
             .append(" for ")
-            .append(DigestUtils.abbreviate(service.getId()));
+            .append(services);
 
         return new String[]{builder.toString()};
     }
 
     @Override
     public String[] resolveFrom(final JoinPoint joinPoint, final Exception ex) {
-        val service = (Service) AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
-        return new String[]{service.getId()};
+        return getServices(joinPoint)
+            .stream()
+            .map(Service::getId)
+            .toArray(String[]::new);
     }
 }
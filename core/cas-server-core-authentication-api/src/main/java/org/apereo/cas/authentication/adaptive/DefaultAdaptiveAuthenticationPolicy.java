@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceService;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
+import org.apereo.cas.util.RegexUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +14,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.webflow.execution.RequestContext;
 
-import java.util.regex.Pattern;
-
 /**
  * This is {@link DefaultAdaptiveAuthenticationPolicy}.
  *
@@ -66,12 +65,12 @@ public class DefaultAdaptiveAuthenticationPolicy implements AdaptiveAuthenticati
 
     private boolean isGeoLocationCountryRejected(final GeoLocationResponse finalLoc) {
         return StringUtils.isNotBlank(this.adaptiveAuthenticationProperties.getRejectCountries())
-            && Pattern.compile(this.adaptiveAuthenticationProperties.getRejectCountries()).matcher(finalLoc.build()).find();
+            && RegexUtils.find(RegexUtils.compile(this.adaptiveAuthenticationProperties.getRejectCountries(), 0), finalLoc.build());
     }
 
     private boolean isUserAgentRejected(final String userAgent) {
         return StringUtils.isNotBlank(this.adaptiveAuthenticationProperties.getRejectBrowsers())
-            && Pattern.compile(this.adaptiveAuthenticationProperties.getRejectBrowsers()).matcher(userAgent).find();
+            && RegexUtils.find(RegexUtils.compile(this.adaptiveAuthenticationProperties.getRejectBrowsers(), 0), userAgent);
     }
 
     private boolean isIpAddressRejected(final RequestContext requestContext, final String clientIp) {
@@ -1,14 +1,13 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
+import org.apereo.cas.util.RegexUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.webflow.execution.RequestContext;
 
-import java.util.regex.Pattern;
-
 /**
  * This is {@link BaseIPAddressIntelligenceService}.
  *
@@ -24,7 +23,7 @@ public abstract class BaseIPAddressIntelligenceService implements IPAddressIntel
 
     private boolean isClientIpAddressRejected(final String clientIp) {
         return StringUtils.isNotBlank(this.adaptiveAuthenticationProperties.getRejectIpAddresses())
-            && Pattern.compile(this.adaptiveAuthenticationProperties.getRejectIpAddresses()).matcher(clientIp).find();
+            && RegexUtils.find(RegexUtils.compile(this.adaptiveAuthenticationProperties.getRejectIpAddresses(), 0), clientIp);
     }
 
     @Override
@@ -3,11 +3,7 @@ package org.apereo.cas.authentication.policy;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.AuthenticationHandler;
 import org.apereo.cas.authentication.AuthenticationPolicy;
-import org.apereo.cas.authentication.principal.Principal;
-import org.apereo.cas.ticket.Ticket;
-import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
-import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,8 +31,7 @@ public class UniquePrincipalAuthenticationPolicy implements AuthenticationPolicy
     public boolean isSatisfiedBy(final Authentication authentication, final Set<AuthenticationHandler> authenticationHandlers) throws Exception {
         try {
             val authPrincipal = authentication.getPrincipal();
-            try (val ticketsStream =
-                         this.ticketRegistry.getTickets(t -> isSamePrincipalId(t, authPrincipal))) {
+            try (val ticketsStream = this.ticketRegistry.getSessionsFor(authPrincipal.getId())) {
                 val count = ticketsStream.count();
                 if (count == 0) {
                     LOGGER.debug("Authentication policy is satisfied with [{}]", authPrincipal.getId());
@@ -50,13 +45,4 @@ public class UniquePrincipalAuthenticationPolicy implements AuthenticationPolicy
             throw new GeneralSecurityException(e);
         }
     }
-
-    private boolean isSamePrincipalId(final Ticket t, final Principal p) {
-        return FunctionUtils.doIf(TicketGrantingTicket.class.isInstance(t) && !t.isExpired(),
-            () -> {
-                val principal = TicketGrantingTicket.class.cast(t).getAuthentication().getPrincipal();
-                return principal.getId().equalsIgnoreCase(p.getId());
-            },
-            () -> Boolean.TRUE).get();
-    }
 }
@@ -0,0 +1,35 @@
+package org.apereo.cas.authentication.support.password;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * This is {@link HashingExecutorPasswordEncoder} that hands the work of an expensive
+ * password encoder over to a {@link PasswordHashingExecutor}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class HashingExecutorPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -27,11 +27,26 @@ public class PasswordEncoderUtils {
 
     /**
      * New password encoder password encoder.
+     * Passwords are hashed on the calling thread.
      *
      * @param properties the properties
      * @return the password encoder
      */
     public static PasswordEncoder newPasswordEncoder(final PasswordEncoderProperties properties) {
+        return newPasswordEncoder(properties, null);
+    }
+
+    /**
+     * New password encoder password encoder.
+     * Expensive encoders such as BCrypt, SCrypt, PBKDF2 and Groovy scripts
+     * hash passwords on the given {@link PasswordHashingExecutor}, if any.
+     *
+     * @param properties the properties
+     * @param executor   the password hashing executor; may be null
+     * @return the password encoder
+     */
+    public static PasswordEncoder newPasswordEncoder(final PasswordEncoderProperties properties,
+                                                     final PasswordHashingExecutor executor) {
         val type = properties.getType();
         if (StringUtils.isBlank(type)) {
             LOGGER.trace("No password encoder type is defined, and so none shall be created");
@@ -41,7 +56,7 @@ public class PasswordEncoderUtils {
         if (type.endsWith(".groovy")) {
             LOGGER.debug("Creating Groovy-based password encoder at [{}]", type);
             val resource = ApplicationContextProvider.getResourceLoader().getResource(type);
-            return new GroovyPasswordEncoder(resource);
+            return withHashingExecutor(new GroovyPasswordEncoder(resource), executor);
         }
 
         if (type.contains(".")) {
@@ -70,23 +85,30 @@ public class PasswordEncoderUtils {
                     properties.getStrength());
                 if (StringUtils.isBlank(properties.getSecret())) {
                     LOGGER.debug("Creating BCRYPT encoder without secret");
-                    return new BCryptPasswordEncoder(properties.getStrength());
+                    return withHashingExecutor(new BCryptPasswordEncoder(properties.getStrength()), executor);
                 }
                 LOGGER.debug("Creating BCRYPT encoder with secret");
-                return new BCryptPasswordEncoder(properties.getStrength(), RandomUtils.getNativeInstance());
+                return withHashingExecutor(new BCryptPasswordEncoder(properties.getStrength(), RandomUtils.getNativeInstance()), executor);
             case SCRYPT:
                 LOGGER.debug("Creating SCRYPT encoder");
-                return new SCryptPasswordEncoder();
+                return withHashingExecutor(new SCryptPasswordEncoder(), executor);
             case PBKDF2:
                 if (StringUtils.isBlank(properties.getSecret())) {
                     LOGGER.trace("Creating PBKDF2 encoder without secret");
-                    return new Pbkdf2PasswordEncoder();
+                    return withHashingExecutor(new Pbkdf2PasswordEncoder(), executor);
                 }
-                return new Pbkdf2PasswordEncoder(properties.getSecret(), properties.getStrength(), HASH_WIDTH);
+                return withHashingExecutor(new Pbkdf2PasswordEncoder(properties.getSecret(), properties.getStrength(), HASH_WIDTH), executor);
             case NONE:
             default:
                 LOGGER.trace("No password encoder shall be created given the requested encoder type [{}]", type);
                 return NoOpPasswordEncoder.getInstance();
         }
     }
+
+    private static PasswordEncoder withHashingExecutor(final PasswordEncoder encoder, final PasswordHashingExecutor executor) {
+        if (executor == null) {
+            return encoder;
+        }
+        return new HashingExecutorPasswordEncoder(encoder, executor);
+    }
 }
@@ -0,0 +1,156 @@
+package org.apereo.cas.authentication.support.password;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link PasswordHashingExecutor} that runs password hashing on a dedicated pool
+ * of threads, sized to the number of available processors by default. Hashing work waits
+ * in a bounded queue and is rejected right away once the queue is full, so that a burst
+ * of logins cannot tie up every request thread with hashing. A single executor is shared
+ * by all password encoders as the {@code passwordHashingExecutor} bean.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class PasswordHashingExecutor implements AutoCloseable {
+    /**
+     * Default number of hashing tasks that may wait for a thread.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 100;
+
+    @Getter
+    private final int poolSize;
+
+    @Getter
+    private final int queueCapacity;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder hashCount = new LongAdder();
+
+    private final LongAdder hashTimeNanos = new LongAdder();
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(final int poolSize, final int queueCapacity) {
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.executor = new ThreadPoolExecutor(this.poolSize, this.poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.queueCapacity),
+            new BasicThreadFactory.Builder()
+                .namingPattern("password-hashing-%d")
+                .daemon(true)
+                .build(),
+            new ThreadPoolExecutor.AbortPolicy());
+        LOGGER.debug("Password hashing runs on [{}] thread(s) with a queue of [{}] task(s)", this.poolSize, this.queueCapacity);
+    }
+
+    /**
+     * Run the hashing task on a hashing thread and wait for its result.
+     *
+     * @param <T>  the result type
+     * @param task the task
+     * @return the result
+     * @throws RejectedExecutionException if too many hashing tasks are waiting already
+     */
+    public <T> T execute(final Supplier<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                val startTime = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    hashTimeNanos.add(System.nanoTime() - startTime);
+                    hashCount.increment();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            rejectedCount.increment();
+            LOGGER.warn("Password hashing is rejected since [{}] hashing task(s) are waiting already", getQueueSize());
+            throw e;
+        }
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (final ExecutionException e) {
+            val cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Gets the number of hashing tasks waiting for a thread.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Gets the number of hashing tasks that are running.
+     *
+     * @return the active count
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Gets the number of hashing tasks rejected since the queue was full.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Gets the number of hashing tasks that have completed.
+     *
+     * @return the hash count
+     */
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    /**
+     * Gets the total time spent hashing, in nanoseconds.
+     *
+     * @return the hash time
+     */
+    public long getHashTimeNanos() {
+        return hashTimeNanos.sum();
+    }
+
+    /**
+     * Stop accepting hashing work. Work that is queued already is allowed to complete.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,44 @@
+package org.apereo.cas.authentication.support.password;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link PasswordHashingExecutorMetrics} that exposes the queue depth,
+ * rejections and hashing latency of a {@link PasswordHashingExecutor}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class PasswordHashingExecutorMetrics implements MeterBinder {
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("cas.password.hashing.queue", executor, PasswordHashingExecutor::getQueueSize)
+            .description("Number of password hashing tasks waiting for a thread")
+            .register(registry);
+
+        Gauge.builder("cas.password.hashing.active", executor, PasswordHashingExecutor::getActiveCount)
+            .description("Number of password hashing tasks running")
+            .register(registry);
+
+        FunctionCounter.builder("cas.password.hashing.rejected", executor, PasswordHashingExecutor::getRejectedCount)
+            .description("Number of password hashing tasks rejected since the queue was full")
+            .register(registry);
+
+        FunctionTimer.builder("cas.password.hashing", executor,
+            PasswordHashingExecutor::getHashCount,
+            PasswordHashingExecutor::getHashTimeNanos,
+            TimeUnit.NANOSECONDS)
+            .description("Time spent hashing passwords")
+            .register(registry);
+    }
+}
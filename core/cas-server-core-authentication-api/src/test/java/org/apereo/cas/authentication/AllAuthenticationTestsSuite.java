@@ -7,6 +7,7 @@ import org.apereo.cas.authentication.adaptive.intel.RestfulIPAddressIntelligence
 import org.apereo.cas.authentication.policy.GroovyScriptAuthenticationPolicyTests;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtilsTests;
 import org.apereo.cas.authentication.principal.resolvers.InternalGroovyScriptDaoTests;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutorTests;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -32,7 +33,8 @@ import org.junit.runners.Suite;
     GroovyPrincipalFactoryTests.class,
     OneTimeTokenAccountTests.class,
     DefaultAuthenticationResultBuilderTests.class,
-    GroovyAuthenticationPostProcessorTests.class
+    GroovyAuthenticationPostProcessorTests.class,
+    PasswordHashingExecutorTests.class
 })
 public class AllAuthenticationTestsSuite {
 }
@@ -0,0 +1,173 @@
+package org.apereo.cas.authentication.support.password;
+
+import org.apereo.cas.configuration.model.core.authentication.PasswordEncoderProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link PasswordHashingExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class PasswordHashingExecutorTests {
+    private static final int REQUEST_THREADS = 200;
+
+    private static final int LOGINS = 1000;
+
+    private static final int PAGE_RENDERS = 50;
+
+    private static final int QUEUE_CAPACITY = 32;
+
+    private PasswordHashingExecutor executor;
+
+    @After
+    public void shutdown() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void verifyExpensiveEncodersHashOnExecutor() {
+        val properties = new PasswordEncoderProperties();
+        properties.setType(PasswordEncoderProperties.PasswordEncoderTypes.BCRYPT.name());
+        properties.setStrength(4);
+        assertFalse(PasswordEncoderUtils.newPasswordEncoder(properties) instanceof HashingExecutorPasswordEncoder);
+
+        executor = new PasswordHashingExecutor(0, QUEUE_CAPACITY);
+        val encoder = PasswordEncoderUtils.newPasswordEncoder(properties, executor);
+        assertTrue(encoder instanceof HashingExecutorPasswordEncoder);
+        val encoded = encoder.encode("Mellon");
+        assertTrue(encoder.matches("Mellon", encoded));
+        assertFalse(encoder.matches("Mordor", encoded));
+        assertEquals(3, executor.getHashCount());
+        assertTrue(executor.getHashTimeNanos() > 0);
+    }
+
+    @Test
+    public void verifyMetricsReportInjectedExecutor() {
+        executor = new PasswordHashingExecutor(1, QUEUE_CAPACITY);
+        val registry = new SimpleMeterRegistry();
+        new PasswordHashingExecutorMetrics(executor).bindTo(registry);
+
+        executor.execute(() -> Boolean.TRUE);
+        executor.close();
+        try {
+            executor.execute(() -> Boolean.TRUE);
+            fail("Hashing should have been rejected");
+        } catch (final RejectedExecutionException e) {
+            LOGGER.trace(e.getMessage(), e);
+        }
+        assertEquals(1, registry.get("cas.password.hashing").functionTimer().count(), 0);
+        assertEquals(1, registry.get("cas.password.hashing.rejected").functionCounter().count(), 0);
+        assertEquals(0, registry.get("cas.password.hashing.queue").gauge().value(), 0);
+    }
+
+    @Test
+    public void verifyHashingIsRejectedWhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1);
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val threads = Executors.newFixedThreadPool(2);
+        try {
+            val running = threads.submit(() -> executor.execute(() -> {
+                started.countDown();
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    return false;
+                }
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            val queued = threads.submit(() -> executor.execute(() -> Boolean.TRUE));
+            while (executor.getQueueSize() == 0) {
+                Thread.sleep(10);
+            }
+            try {
+                executor.execute(() -> Boolean.TRUE);
+                fail("Hashing should have been rejected");
+            } catch (final RejectedExecutionException e) {
+                assertEquals(1, executor.getRejectedCount());
+            }
+            release.countDown();
+            assertTrue(running.get());
+            assertTrue(queued.get());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyPageRenderingStaysResponsiveDuringLoginBurst() throws Exception {
+        executor = new PasswordHashingExecutor(0, QUEUE_CAPACITY);
+        val encoder = new HashingExecutorPasswordEncoder(new BCryptPasswordEncoder(10), executor);
+        val encoded = new BCryptPasswordEncoder(10).encode("Mellon");
+
+        val requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        try {
+            val accepted = new AtomicInteger();
+            val rejected = new AtomicInteger();
+            val maxQueueSize = new AtomicInteger();
+            val logins = new ArrayList<Future<?>>(LOGINS);
+            for (var i = 0; i < LOGINS; i++) {
+                logins.add(requestThreads.submit(() -> {
+                    try {
+                        assertTrue(encoder.matches("Mellon", encoded));
+                        accepted.incrementAndGet();
+                    } catch (final RejectedExecutionException e) {
+                        rejected.incrementAndGet();
+                    }
+                    maxQueueSize.accumulateAndGet(executor.getQueueSize(), Math::max);
+                }));
+            }
+
+            val maxRenderTime = new AtomicLong();
+            for (var i = 0; i < PAGE_RENDERS; i++) {
+                val submitted = System.nanoTime();
+                val page = requestThreads.submit(() -> {
+                    val html = new StringBuilder("<html><body>");
+                    for (var j = 0; j < 100; j++) {
+                        html.append("<div>").append(j).append("</div>");
+                    }
+                    return html.append("</body></html>").toString();
+                });
+                assertTrue(page.get(10, TimeUnit.SECONDS).endsWith("</html>"));
+                val renderTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted);
+                maxRenderTime.accumulateAndGet(renderTime, Math::max);
+                Thread.sleep(10);
+            }
+            for (val login : logins) {
+                login.get(1, TimeUnit.MINUTES);
+            }
+
+            LOGGER.info("Logins accepted [{}], rejected [{}]; slowest page rendered in [{}] ms; deepest hashing queue was [{}]",
+                accepted.get(), rejected.get(), maxRenderTime.get(), maxQueueSize.get());
+            assertEquals(LOGINS, accepted.get() + rejected.get());
+            assertTrue(rejected.get() > 0);
+            assertEquals(rejected.get(), executor.getRejectedCount());
+            assertEquals(accepted.get(), executor.getHashCount());
+            assertTrue(maxQueueSize.get() <= QUEUE_CAPACITY);
+            assertTrue(maxRenderTime.get() < TimeUnit.SECONDS.toMillis(1));
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.apereo.cas.authentication;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link MultifactorAuthenticationProviderRegistry} that keeps an immutable snapshot
+ * of the multifactor authentication providers available in the application context.
+ * The snapshot is built once, on first use, and rebuilt only after the application
+ * context or the refresh scope is refreshed. Providers are indexed by their id
+ * so that triggers can resolve them with a map lookup. The registry is registered
+ * as a bean in the application context whose providers it tracks.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MultifactorAuthenticationProviderRegistry {
+    /**
+     * Bean name of the registry.
+     */
+    public static final String BEAN_NAME = "multifactorAuthenticationProviderRegistry";
+
+    private final ApplicationContext applicationContext;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Gets the registry bean of the given application context.
+     * Contexts that do not define the registry get a new registry
+     * whose snapshot lives only as long as the caller keeps it.
+     *
+     * @param applicationContext the application context
+     * @return the multifactor authentication provider registry
+     */
+    public static MultifactorAuthenticationProviderRegistry of(final ApplicationContext applicationContext) {
+        if (applicationContext.containsBean(BEAN_NAME)) {
+            return applicationContext.getBean(BEAN_NAME, MultifactorAuthenticationProviderRegistry.class);
+        }
+        LOGGER.trace("No [{}] bean is defined in the application context; creating a new registry", BEAN_NAME);
+        return new MultifactorAuthenticationProviderRegistry(applicationContext);
+    }
+
+    /**
+     * Gets available providers keyed by their bean name.
+     *
+     * @return the providers
+     */
+    public Map<String, MultifactorAuthenticationProvider> getProviders() {
+        return getSnapshot().getProvidersByBeanName();
+    }
+
+    /**
+     * Gets the provider whose id is the given identifier.
+     * Identifiers that are not provider ids are matched against each provider in turn.
+     *
+     * @param identifier the identifier
+     * @return the provider
+     */
+    public Optional<MultifactorAuthenticationProvider> getProvider(final String identifier) {
+        if (identifier == null) {
+            return Optional.empty();
+        }
+        val current = getSnapshot();
+        val provider = current.getProvidersById().get(identifier);
+        if (provider != null) {
+            return Optional.of(provider);
+        }
+        return current.getProvidersByBeanName()
+            .values()
+            .stream()
+            .filter(p -> p.matches(identifier))
+            .findFirst();
+    }
+
+    /**
+     * Discard the snapshot so that it is rebuilt on next use.
+     */
+    public void refresh() {
+        LOGGER.trace("Discarding snapshot of available multifactor authentication providers");
+        this.snapshot = null;
+    }
+
+    /**
+     * Handle context refreshed event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleContextRefreshedEvent(final ContextRefreshedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Handle refresh scope refreshed event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRefreshScopeRefreshedEvent(final RefreshScopeRefreshedEvent event) {
+        refresh();
+    }
+
+    private Snapshot getSnapshot() {
+        var current = this.snapshot;
+        if (current == null) {
+            current = new Snapshot(locateProviders());
+            this.snapshot = current;
+            LOGGER.debug("Located [{}] multifactor authentication provider(s) in the application context", current.getProvidersById().size());
+        }
+        return current;
+    }
+
+    private Map<String, MultifactorAuthenticationProvider> locateProviders() {
+        try {
+            return applicationContext.getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
+        } catch (final Exception e) {
+            LOGGER.trace("No beans of type [{}] are available in the application context. "
+                    + "CAS may not be configured to handle multifactor authentication requests in absence of a provider",
+                MultifactorAuthenticationProvider.class);
+        }
+        return Collections.emptyMap();
+    }
+
+    @Getter
+    private static class Snapshot {
+        private final Map<String, MultifactorAuthenticationProvider> providersByBeanName;
+
+        private final Map<String, MultifactorAuthenticationProvider> providersById;
+
+        Snapshot(final Map<String, MultifactorAuthenticationProvider> providers) {
+            this.providersByBeanName = Collections.unmodifiableMap(new LinkedHashMap<>(providers));
+            val byId = new LinkedHashMap<String, MultifactorAuthenticationProvider>();
+            providers.values()
+                .stream()
+                .filter(provider -> provider.getId() != null)
+                .forEach(provider -> byId.putIfAbsent(provider.getId(), provider));
+            this.providersById = Collections.unmodifiableMap(byId);
+        }
+    }
+}
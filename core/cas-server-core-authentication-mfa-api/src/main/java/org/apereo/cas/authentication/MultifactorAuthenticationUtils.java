@@ -222,9 +222,7 @@ public class MultifactorAuthenticationUtils {
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderFromApplicationContext(final String providerId) {
         try {
             LOGGER.trace("Locating bean definition for [{}]", providerId);
-            return MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(ApplicationContextProvider.getApplicationContext()).values().stream()
-                .filter(p -> p.matches(providerId))
-                .findFirst();
+            return getMultifactorAuthenticationProviderById(providerId, ApplicationContextProvider.getApplicationContext());
         } catch (final Exception e) {
             LOGGER.trace("Could not locate [{}] bean id in the application context as an authentication provider.", providerId);
         }
@@ -258,20 +256,14 @@ public class MultifactorAuthenticationUtils {
 
     /**
      * Gets all multifactor authentication providers from application context.
+     * Providers are read from a snapshot that is only rebuilt when the context is refreshed.
      *
      * @param applicationContext the application context
      * @return the all multifactor authentication providers from application context
      */
     public static Map<String, MultifactorAuthenticationProvider> getAvailableMultifactorAuthenticationProviders(
         final ApplicationContext applicationContext) {
-        try {
-            return applicationContext.getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
-        } catch (final Exception e) {
-            LOGGER.trace("No beans of type [{}] are available in the application context. "
-                    + "CAS may not be configured to handle multifactor authentication requests in absence of a provider",
-                MultifactorAuthenticationProvider.class);
-        }
-        return new HashMap<>(0);
+        return MultifactorAuthenticationProviderRegistry.of(applicationContext).getProviders();
     }
 
     /**
@@ -284,9 +276,6 @@ public class MultifactorAuthenticationUtils {
      */
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderById(final String providerId,
                                                                                                        final ApplicationContext context) {
-        return getAvailableMultifactorAuthenticationProviders(context).values()
-            .stream()
-            .filter(p -> p.matches(providerId))
-            .findFirst();
+        return MultifactorAuthenticationProviderRegistry.of(context).getProvider(providerId);
     }
 }
@@ -75,7 +75,8 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
             val mfaMethod = entry.getKey().toString();
             val pattern = entry.getValue().toString();
 
-            val providerFound = MultifactorAuthenticationUtils.resolveProvider(providerMap, mfaMethod);
+            val providerFound = MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(mfaMethod,
+                ApplicationContextProvider.getApplicationContext());
 
             if (providerFound.isEmpty()) {
                 LOGGER.error("Adaptive authentication is configured to require [{}] for [{}], yet [{}] is absent in the configuration.",
@@ -60,7 +60,8 @@ public class GlobalMultifactorAuthenticationTrigger implements MultifactorAuthen
             throw new AuthenticationException();
         }
 
-        val providerFound = MultifactorAuthenticationUtils.resolveProvider(providerMap, globalProviderId);
+        val providerFound = MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(globalProviderId,
+            ApplicationContextProvider.getApplicationContext());
         if (providerFound.isPresent()) {
             val provider = providerFound.get();
             return Optional.of(provider);
@@ -80,7 +80,8 @@ public class GroovyScriptMultifactorAuthenticationTrigger implements Multifactor
             if (StringUtils.isBlank(provider)) {
                 return Optional.empty();
             }
-            return MultifactorAuthenticationUtils.resolveProvider(providerMap, provider);
+            return MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(provider,
+                ApplicationContextProvider.getApplicationContext());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
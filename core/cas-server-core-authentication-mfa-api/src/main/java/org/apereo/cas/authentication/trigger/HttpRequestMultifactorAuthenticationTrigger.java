@@ -59,7 +59,8 @@ public class HttpRequestMultifactorAuthenticationTrigger implements MultifactorA
                 throw new AuthenticationException();
             }
 
-            val providerFound = MultifactorAuthenticationUtils.resolveProvider(providerMap, values.get(0));
+            val providerFound = MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(values.get(0),
+                ApplicationContextProvider.getApplicationContext());
             if (providerFound.isPresent()) {
                 return providerFound;
             }
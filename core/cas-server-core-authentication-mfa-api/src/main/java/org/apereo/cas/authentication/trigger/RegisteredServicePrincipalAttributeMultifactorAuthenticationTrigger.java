@@ -9,6 +9,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.Getter;
@@ -21,7 +22,6 @@ import org.springframework.core.Ordered;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 /**
  * This is {@link RegisteredServicePrincipalAttributeMultifactorAuthenticationTrigger}.
@@ -64,7 +64,7 @@ public class RegisteredServicePrincipalAttributeMultifactorAuthenticationTrigger
         val providers = MultifactorAuthenticationUtils.getAuthenticationProviderForService(registeredService);
         val result = multifactorAuthenticationProviderResolver.resolveEventViaPrincipalAttribute(principal,
             org.springframework.util.StringUtils.commaDelimitedListToSet(policy.getPrincipalAttributeNameTrigger()),
-            registeredService, Optional.empty(), providers, Pattern.compile(policy.getPrincipalAttributeValueToMatch()).asPredicate());
+            registeredService, Optional.empty(), providers, RegexUtils.compile(policy.getPrincipalAttributeValueToMatch(), 0).asPredicate());
 
         if (result != null && !result.isEmpty()) {
             val id = CollectionUtils.firstElement(result);
@@ -94,7 +94,8 @@ public class TimedMultifactorAuthenticationTrigger implements MultifactorAuthent
             .orElse(null);
 
         if (timed != null) {
-            val providerFound = MultifactorAuthenticationUtils.resolveProvider(providerMap, timed.getProviderId());
+            val providerFound = MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(timed.getProviderId(),
+                ApplicationContextProvider.getApplicationContext());
             if (providerFound.isEmpty()) {
                 LOGGER.error("Adaptive authentication is configured to require [{}] for [{}], yet [{}] absent in the configuration.",
                     timed.getProviderId(), service, timed.getProviderId());
@@ -0,0 +1,143 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.mfa.MultifactorAuthenticationTestUtils;
+import org.apereo.cas.authentication.trigger.GlobalMultifactorAuthenticationTrigger;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
+
+import lombok.val;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link MultifactorAuthenticationProviderRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class MultifactorAuthenticationProviderRegistryTests {
+    private static final int PROVIDER_COUNT = 10;
+
+    private static final int ITERATIONS = 100;
+
+    private ProviderLookupCountingApplicationContext applicationContext;
+
+    private static String getProviderId(final int index) {
+        return "mfa-provider-" + index;
+    }
+
+    @Before
+    public void initialize() {
+        applicationContext = new ProviderLookupCountingApplicationContext();
+        applicationContext.refresh();
+        applicationContext.getBeanFactory().registerSingleton(MultifactorAuthenticationProviderRegistry.BEAN_NAME,
+            new MultifactorAuthenticationProviderRegistry(applicationContext));
+        for (var i = 0; i < PROVIDER_COUNT; i++) {
+            registerProvider(getProviderId(i));
+        }
+        ApplicationContextProvider.holdApplicationContext(applicationContext);
+    }
+
+    @Test
+    public void verifyProvidersAreIndexedById() {
+        val registry = MultifactorAuthenticationProviderRegistry.of(applicationContext);
+        assertSame(registry, MultifactorAuthenticationProviderRegistry.of(applicationContext));
+        assertEquals(PROVIDER_COUNT, registry.getProviders().size());
+        assertTrue(registry.getProvider(getProviderId(3)).isPresent());
+        assertEquals(getProviderId(3), registry.getProvider(getProviderId(3)).get().getId());
+        assertTrue(registry.getProvider("mfa-provider-.*").isPresent());
+        assertFalse(registry.getProvider("unknown").isPresent());
+        assertFalse(registry.getProvider(null).isPresent());
+    }
+
+    @Test
+    public void verifySnapshotIsRebuiltOnRefresh() {
+        val registry = MultifactorAuthenticationProviderRegistry.of(applicationContext);
+        assertEquals(PROVIDER_COUNT, registry.getProviders().size());
+
+        registerProvider("mfa-late");
+        assertFalse(registry.getProvider("mfa-late").isPresent());
+
+        registry.handleContextRefreshedEvent(new ContextRefreshedEvent(applicationContext));
+        assertEquals(PROVIDER_COUNT + 1, registry.getProviders().size());
+        assertTrue(registry.getProvider("mfa-late").isPresent());
+    }
+
+    @Test
+    public void verifyTriggerEvaluationAgainstSnapshot() {
+        val casProperties = new CasConfigurationProperties();
+        casProperties.getAuthn().getMfa().setGlobalProviderId(getProviderId(PROVIDER_COUNT - 1));
+        val trigger = new GlobalMultifactorAuthenticationTrigger(casProperties);
+        val authentication = MultifactorAuthenticationTestUtils.getAuthentication("casuser");
+        val registeredService = MultifactorAuthenticationTestUtils.getRegisteredService();
+        val request = new MockHttpServletRequest();
+        val service = MultifactorAuthenticationTestUtils.getService("service");
+
+        val registry = MultifactorAuthenticationProviderRegistry.of(applicationContext);
+        registry.refresh();
+        applicationContext.getProviderLookups().set(0);
+        for (var i = 0; i < ITERATIONS; i++) {
+            assertTrue(trigger.isActivated(authentication, registeredService, request, service).isPresent());
+        }
+        assertEquals(1, applicationContext.getProviderLookups().get());
+
+        registry.handleContextRefreshedEvent(new ContextRefreshedEvent(applicationContext));
+        assertTrue(trigger.isActivated(authentication, registeredService, request, service).isPresent());
+        assertEquals(2, applicationContext.getProviderLookups().get());
+    }
+
+    @Test
+    public void verifyContextWithoutRegistryBean() {
+        val context = new StaticApplicationContext();
+        context.refresh();
+        ApplicationContextProvider.registerBeanIntoApplicationContext(context, SimpleMultifactorAuthenticationProvider.class, "mfa-single");
+        val registry = MultifactorAuthenticationProviderRegistry.of(context);
+        assertNotSame(registry, MultifactorAuthenticationProviderRegistry.of(context));
+        assertEquals(1, registry.getProviders().size());
+    }
+
+    private void registerProvider(final String id) {
+        val provider = ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
+            SimpleMultifactorAuthenticationProvider.class, id);
+        provider.setId(id);
+    }
+
+    /**
+     * Provider whose id is assigned at registration.
+     */
+    public static class SimpleMultifactorAuthenticationProvider extends AbstractMultifactorAuthenticationProvider {
+        private static final long serialVersionUID = 2203718929317346217L;
+
+        @Override
+        public String getFriendlyName() {
+            return getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Application context that counts lookups of multifactor authentication providers.
+     */
+    private static class ProviderLookupCountingApplicationContext extends StaticApplicationContext {
+        private final AtomicInteger providerLookups = new AtomicInteger();
+
+        AtomicInteger getProviderLookups() {
+            return providerLookups;
+        }
+
+        @Override
+        public <T> Map<String, T> getBeansOfType(final Class<T> type, final boolean includeNonSingletons, final boolean allowEagerInit) {
+            if (MultifactorAuthenticationProvider.class.equals(type)) {
+                providerLookups.incrementAndGet();
+            }
+            return super.getBeansOfType(type, includeNonSingletons, allowEagerInit);
+        }
+    }
+}
@@ -18,7 +18,8 @@ import org.junit.runners.Suite;
     DefaultMultifactorAuthenticationProviderBypassTests.class,
     GroovyMultifactorAuthenticationProviderBypassTests.class,
     DefaultMultifactorTriggerSelectionStrategyTests.class,
-    RestMultifactorAuthenticationProviderBypassTests.class
+    RestMultifactorAuthenticationProviderBypassTests.class,
+    MultifactorAuthenticationProviderRegistryTests.class
 })
 public class MultifactorAuthenticationTestsSuite {
 }
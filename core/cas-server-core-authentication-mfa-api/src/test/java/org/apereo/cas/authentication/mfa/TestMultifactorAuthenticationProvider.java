@@ -2,8 +2,10 @@ package org.apereo.cas.authentication.mfa;
 
 import org.apereo.cas.authentication.AbstractMultifactorAuthenticationProvider;
 import org.apereo.cas.authentication.MultifactorAuthenticationProvider;
+import org.apereo.cas.authentication.MultifactorAuthenticationProviderRegistry;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import lombok.val;
 import org.springframework.context.ConfigurableApplicationContext;
 
 /**
@@ -27,8 +29,10 @@ public class TestMultifactorAuthenticationProvider extends AbstractMultifactorAu
      * @return the multifactor authentication provider
      */
     public static MultifactorAuthenticationProvider registerProviderIntoApplicationContext(final ConfigurableApplicationContext applicationContext) {
-        return ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
+        val provider = ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
             TestMultifactorAuthenticationProvider.class, "provider" + System.currentTimeMillis());
+        MultifactorAuthenticationProviderRegistry.of(applicationContext).refresh();
+        return provider;
     }
 
     @Override
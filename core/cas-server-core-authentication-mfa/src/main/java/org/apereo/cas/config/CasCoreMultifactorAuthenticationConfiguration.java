@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.DefaultMultifactorAuthenticationContextVali
 import org.apereo.cas.authentication.DefaultRequestedAuthenticationContextValidator;
 import org.apereo.cas.authentication.MultifactorAuthenticationContextValidator;
 import org.apereo.cas.authentication.MultifactorAuthenticationProvider;
+import org.apereo.cas.authentication.MultifactorAuthenticationProviderRegistry;
 import org.apereo.cas.authentication.MultifactorAuthenticationTriggerSelectionStrategy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
@@ -64,4 +65,10 @@ public class CasCoreMultifactorAuthenticationConfiguration {
             multifactorTriggerSelectionStrategy.getIfAvailable(),
             authenticationContextValidator());
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = MultifactorAuthenticationProviderRegistry.BEAN_NAME)
+    public MultifactorAuthenticationProviderRegistry multifactorAuthenticationProviderRegistry() {
+        return new MultifactorAuthenticationProviderRegistry(applicationContext);
+    }
 }
@@ -10,9 +10,12 @@ import org.apereo.cas.authentication.GroovyAuthenticationPreProcessor;
 import org.apereo.cas.authentication.PrincipalElectionStrategy;
 import org.apereo.cas.authentication.handler.ByCredentialSourceAuthenticationHandlerResolver;
 import org.apereo.cas.authentication.handler.RegisteredServiceAuthenticationHandlerResolver;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutorMetrics;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -94,4 +97,16 @@ public class CasCoreAuthenticationSupportConfiguration {
             }
         };
     }
+
+    @ConditionalOnMissingBean(name = "passwordHashingExecutor")
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor() {
+        val hashing = casProperties.getAuthn().getEngine().getPasswordHashing();
+        return new PasswordHashingExecutor(hashing.getPoolSize(), hashing.getQueueCapacity());
+    }
+
+    @Bean
+    public MeterBinder passwordHashingExecutorMetrics() {
+        return new PasswordHashingExecutorMetrics(passwordHashingExecutor());
+    }
 }
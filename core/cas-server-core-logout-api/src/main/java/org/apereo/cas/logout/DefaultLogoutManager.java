@@ -1,17 +1,19 @@
 package org.apereo.cas.logout;
 
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.slo.SequentialSingleLogoutDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequest;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +34,9 @@ public class DefaultLogoutManager implements LogoutManager {
     private final boolean singleLogoutCallbacksDisabled;
     private final LogoutExecutionPlan logoutExecutionPlan;
 
+    @Setter
+    private SingleLogoutDispatcher singleLogoutDispatcher = new SequentialSingleLogoutDispatcher();
+
     @Override
     public List<SingleLogoutRequest> performLogout(final TicketGrantingTicket ticket) {
         LOGGER.info("Performing logout operations for [{}]", ticket.getId());
@@ -55,23 +60,10 @@ public class DefaultLogoutManager implements LogoutManager {
             .flatMap(Set::stream)
             .filter(entry -> entry.getValue() instanceof WebApplicationService)
             .filter(Objects::nonNull)
-            .map(entry -> Pair.of(entry.getKey(), (WebApplicationService) entry.getValue()))
-            .collect(Collectors.toList());
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> (WebApplicationService) entry.getValue(),
+                (first, second) -> first, LinkedHashMap::new));
 
         val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers();
-        return logoutServices.stream()
-            .map(entry -> sloHandlers
-                .stream()
-                .filter(handler -> handler.supports(entry.getValue()))
-                .map(handler -> {
-                    val service = entry.getValue();
-                    LOGGER.trace("Handling single logout callback for [{}]", service.getId());
-                    return handler.handle(service, entry.getKey(), ticketToBeLoggedOut);
-                })
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()))
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        return this.singleLogoutDispatcher.dispatch(ticketToBeLoggedOut, logoutServices, sloHandlers);
     }
 }
@@ -0,0 +1,258 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.configuration.model.core.slo.SloDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutRequestStatus;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ParallelSingleLogoutDispatcher} that contacts services in parallel
+ * on a bounded pool of threads. All services of a logout are given the same fixed
+ * amount of time, counted from the start of the dispatch, to receive their logout messages.
+ * Back-channel deliveries that fail are placed on a bounded retry queue and attempted again
+ * with an exponential backoff, while deliveries that time out are cancelled and not retried.
+ * When the pool and its queue are saturated, deliveries run on the calling thread.
+ * Delivery latency, failures and retries are recorded as metrics once bound
+ * to a meter registry, tagged by the name of the registered service rather than
+ * its logout url, since logout urls are unbounded.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class ParallelSingleLogoutDispatcher implements SingleLogoutDispatcher, DisposableBean {
+    private static final String METER_DELIVERY = "cas.slo.delivery";
+    private static final String METER_FAILURES = "cas.slo.delivery.failures";
+    private static final String METER_RETRIES = "cas.slo.delivery.retries";
+    private static final String METER_RETRY_QUEUE = "cas.slo.retry.queue";
+
+    private static final String TAG_SERVICE = "service";
+
+    private static final String UNKNOWN_SERVICE = "unknown";
+
+    private final ThreadPoolExecutor executorService;
+
+    private final ScheduledExecutorService retryExecutorService = new ScheduledThreadPoolExecutor(1,
+        new BasicThreadFactory.Builder().namingPattern("cas-slo-retry-%d").daemon(true).build());
+
+    private final AtomicInteger queuedRetries = new AtomicInteger();
+
+    private final Duration timeout;
+
+    private final Duration retryDelay;
+
+    private final SloDispatcherProperties properties;
+
+    private final ServicesManager servicesManager;
+
+    private MeterRegistry meterRegistry;
+
+    public ParallelSingleLogoutDispatcher(final SloDispatcherProperties properties, final ServicesManager servicesManager) {
+        this.properties = properties;
+        this.servicesManager = servicesManager;
+        this.timeout = Beans.newDuration(properties.getTimeout());
+        this.retryDelay = Beans.newDuration(properties.getRetryDelay());
+        this.executorService = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new BasicThreadFactory.Builder().namingPattern("cas-slo-dispatcher-%d").daemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public List<SingleLogoutRequest> dispatch(final TicketGrantingTicket ticketGrantingTicket,
+                                              final Map<String, WebApplicationService> services,
+                                              final Collection<SingleLogoutServiceMessageHandler> handlers) {
+        val deadline = System.nanoTime() + timeout.toNanos();
+        val deliveries = services.entrySet()
+            .stream()
+            .map(entry -> {
+                val serviceName = getRegisteredServiceName(entry.getValue());
+                val cancelled = new AtomicBoolean();
+                val delivery = executorService.submit(
+                    () -> deliver(entry.getValue(), serviceName, entry.getKey(), ticketGrantingTicket, handlers, cancelled));
+                return Triple.of(entry.getValue(), delivery, cancelled);
+            })
+            .collect(Collectors.toList());
+
+        return deliveries
+            .stream()
+            .map(delivery -> awaitDelivery(delivery.getLeft(), delivery.getMiddle(), delivery.getRight(), deadline))
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Record delivery metrics into the given registry.
+     *
+     * @param registry the registry
+     */
+    void bindTo(final MeterRegistry registry) {
+        this.meterRegistry = registry;
+        registry.gauge(METER_RETRY_QUEUE, queuedRetries);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+        val pending = retryExecutorService.shutdownNow();
+        if (!pending.isEmpty()) {
+            LOGGER.warn("[{}] logout deliveries waiting to be retried are discarded", pending.size());
+        }
+    }
+
+    /**
+     * Deliver logout messages to the given service using all supporting handlers.
+     * Back-channel requests that could not be delivered are scheduled for a retry,
+     * unless the delivery was cancelled because it timed out.
+     *
+     * @param service              the service
+     * @param serviceName          the name of the registered service, used to tag metrics
+     * @param ticketId             the ticket id
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param handlers             the handlers
+     * @param cancelled            whether the delivery was cancelled
+     * @return the logout requests
+     */
+    protected List<SingleLogoutRequest> deliver(final WebApplicationService service, final String serviceName,
+                                                final String ticketId, final TicketGrantingTicket ticketGrantingTicket,
+                                                final Collection<SingleLogoutServiceMessageHandler> handlers,
+                                                final AtomicBoolean cancelled) {
+        val startTime = System.nanoTime();
+        val requests = new ArrayList<SingleLogoutRequest>();
+        handlers.stream()
+            .filter(handler -> handler.supports(service))
+            .forEach(handler -> {
+                LOGGER.trace("Handling single logout callback for [{}]", service.getId());
+                val results = handler.handle(service, ticketId, ticketGrantingTicket)
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+                if (!cancelled.get()) {
+                    results.stream()
+                        .filter(request -> request.getStatus() == LogoutRequestStatus.FAILURE)
+                        .forEach(request -> scheduleRetry(service, serviceName, () -> handler.performBackChannelLogout(request), 1));
+                }
+                requests.addAll(results);
+            });
+        if (cancelled.get()) {
+            LOGGER.debug("Logout delivery to [{}] was cancelled after it timed out", service.getId());
+            return requests;
+        }
+        val failed = requests.stream().anyMatch(request -> request.getStatus() == LogoutRequestStatus.FAILURE);
+        recordDelivery(serviceName, System.nanoTime() - startTime, !failed);
+        if (failed) {
+            recordFailure(serviceName, "failure");
+        }
+        return requests;
+    }
+
+    private List<SingleLogoutRequest> awaitDelivery(final WebApplicationService service,
+                                                    final Future<List<SingleLogoutRequest>> delivery,
+                                                    final AtomicBoolean cancelled,
+                                                    final long deadline) {
+        try {
+            return delivery.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            cancelled.set(true);
+            delivery.cancel(true);
+            LOGGER.warn("Logout delivery to [{}] did not complete within [{}] and is cancelled; Continuing processing...", service.getId(), timeout);
+            recordFailure(getRegisteredServiceName(service), "timeout");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for logout delivery to [{}]", service.getId());
+        } catch (final ExecutionException e) {
+            LOGGER.error("Unable to deliver logout message to [{}]: [{}]", service.getId(), e.getCause().getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            recordFailure(getRegisteredServiceName(service), "error");
+        }
+        return new ArrayList<>(0);
+    }
+
+    private String getRegisteredServiceName(final WebApplicationService service) {
+        val registeredService = servicesManager != null ? servicesManager.findServiceBy(service) : null;
+        return registeredService != null ? registeredService.getName() : UNKNOWN_SERVICE;
+    }
+
+    private void scheduleRetry(final WebApplicationService service, final String serviceName,
+                               final BooleanSupplier delivery, final int attempt) {
+        if (attempt > properties.getMaxRetryAttempts()) {
+            LOGGER.warn("Logout delivery to [{}] has failed after [{}] attempts and will not be retried", service.getId(), attempt);
+            recordRetry(serviceName, "exhausted");
+            return;
+        }
+        if (queuedRetries.incrementAndGet() > properties.getRetryQueueCapacity()) {
+            queuedRetries.decrementAndGet();
+            LOGGER.warn("Retry queue is full; Logout delivery to [{}] is discarded", service.getId());
+            recordRetry(serviceName, "rejected");
+            return;
+        }
+        val delay = (long) (retryDelay.toMillis() * Math.pow(properties.getRetryBackoffMultiplier(), attempt - 1));
+        LOGGER.debug("Scheduling attempt [{}] of logout delivery to [{}] in [{}] ms", attempt, service.getId(), delay);
+        retryExecutorService.schedule(() -> {
+            queuedRetries.decrementAndGet();
+            executorService.execute(() -> {
+                val startTime = System.nanoTime();
+                val result = delivery.getAsBoolean();
+                recordDelivery(serviceName, System.nanoTime() - startTime, result);
+                if (result) {
+                    LOGGER.debug("Logout delivery to [{}] succeeded on attempt [{}]", service.getId(), attempt);
+                    recordRetry(serviceName, "success");
+                } else {
+                    recordRetry(serviceName, "failure");
+                    scheduleRetry(service, serviceName, delivery, attempt + 1);
+                }
+            });
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void recordDelivery(final String serviceName, final long elapsedNanos, final boolean success) {
+        if (meterRegistry != null) {
+            Timer.builder(METER_DELIVERY)
+                .tag(TAG_SERVICE, serviceName)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordFailure(final String serviceName, final String reason) {
+        if (meterRegistry != null) {
+            meterRegistry.counter(METER_FAILURES, TAG_SERVICE, serviceName, "reason", reason).increment();
+        }
+    }
+
+    private void recordRetry(final String serviceName, final String result) {
+        if (meterRegistry != null) {
+            meterRegistry.counter(METER_RETRIES, TAG_SERVICE, serviceName, "result", result).increment();
+        }
+    }
+}
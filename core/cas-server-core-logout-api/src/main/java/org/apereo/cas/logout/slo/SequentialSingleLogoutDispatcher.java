@@ -0,0 +1,45 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link SequentialSingleLogoutDispatcher} that contacts
+ * services one after another on the calling thread.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class SequentialSingleLogoutDispatcher implements SingleLogoutDispatcher {
+
+    @Override
+    public List<SingleLogoutRequest> dispatch(final TicketGrantingTicket ticketGrantingTicket,
+                                              final Map<String, WebApplicationService> services,
+                                              final Collection<SingleLogoutServiceMessageHandler> handlers) {
+        return services.entrySet()
+            .stream()
+            .map(entry -> handlers
+                .stream()
+                .filter(handler -> handler.supports(entry.getValue()))
+                .map(handler -> {
+                    val service = entry.getValue();
+                    LOGGER.trace("Handling single logout callback for [{}]", service.getId());
+                    return handler.handle(service, entry.getKey(), ticketGrantingTicket);
+                })
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()))
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+}
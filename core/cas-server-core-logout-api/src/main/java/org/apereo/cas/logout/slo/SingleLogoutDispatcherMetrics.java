@@ -0,0 +1,24 @@
+package org.apereo.cas.logout.slo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * This is {@link SingleLogoutDispatcherMetrics} that exposes delivery latency, failures
+ * and retries of the single logout dispatcher, if logout messages are dispatched in parallel.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class SingleLogoutDispatcherMetrics implements MeterBinder {
+    private final SingleLogoutDispatcher singleLogoutDispatcher;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (singleLogoutDispatcher instanceof ParallelSingleLogoutDispatcher) {
+            ((ParallelSingleLogoutDispatcher) singleLogoutDispatcher).bindTo(registry);
+        }
+    }
+}
@@ -10,6 +10,10 @@ import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.ParallelSingleLogoutDispatcher;
+import org.apereo.cas.logout.slo.SequentialSingleLogoutDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutDispatcherMetrics;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
@@ -18,6 +22,7 @@ import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.web.UrlValidator;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.RegExUtils;
@@ -88,7 +93,25 @@ public class CasCoreLogoutConfiguration implements LogoutExecutionPlanConfigurer
     @Autowired
     @Bean
     public LogoutManager logoutManager(@Qualifier("logoutExecutionPlan") final LogoutExecutionPlan logoutExecutionPlan) {
-        return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+        val manager = new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+        manager.setSingleLogoutDispatcher(singleLogoutDispatcher());
+        return manager;
+    }
+
+    @ConditionalOnMissingBean(name = "singleLogoutDispatcher")
+    @Bean
+    public SingleLogoutDispatcher singleLogoutDispatcher() {
+        val dispatcher = casProperties.getSlo().getDispatcher();
+        if (dispatcher.isParallel()) {
+            return new ParallelSingleLogoutDispatcher(dispatcher, servicesManager.getIfAvailable());
+        }
+        return new SequentialSingleLogoutDispatcher();
+    }
+
+    @ConditionalOnMissingBean(name = "singleLogoutDispatcherMetrics")
+    @Bean
+    public MeterBinder singleLogoutDispatcherMetrics() {
+        return new SingleLogoutDispatcherMetrics(singleLogoutDispatcher());
     }
 
     @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
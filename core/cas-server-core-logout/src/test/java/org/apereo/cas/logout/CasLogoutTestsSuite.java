@@ -14,6 +14,7 @@ import org.junit.runners.Suite;
     DefaultLogoutManagerTests.class,
     DefaultSingleLogoutServiceLogoutUrlBuilderTests.class,
     LogoutHttpMessageTests.class,
+    ParallelSingleLogoutDispatcherTests.class,
     SamlCompliantLogoutMessageCreatorTests.class
 })
 public class CasLogoutTestsSuite {
@@ -0,0 +1,150 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.configuration.model.core.slo.SloDispatcherProperties;
+import org.apereo.cas.logout.slo.ParallelSingleLogoutDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutDispatcherMetrics;
+import org.apereo.cas.logout.slo.SingleLogoutRequest;
+import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.ServicesManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ParallelSingleLogoutDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ParallelSingleLogoutDispatcherTests {
+    private ParallelSingleLogoutDispatcher dispatcher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MockTicketGrantingTicket ticketGrantingTicket;
+
+    private Map<String, WebApplicationService> services;
+
+    @SneakyThrows
+    private static SingleLogoutRequest getLogoutRequest(final String ticketId, final WebApplicationService service,
+                                                        final LogoutRequestStatus status) {
+        return DefaultSingleLogoutRequest.builder()
+            .ticketId(ticketId)
+            .service(service)
+            .logoutUrl(new URL(service.getId()))
+            .status(status)
+            .build();
+    }
+
+    @Before
+    public void initialize() {
+        val properties = new SloDispatcherProperties();
+        properties.setTimeout("PT1S");
+        properties.setRetryDelay("PT0.1S");
+        val servicesManager = mock(ServicesManager.class);
+        when(servicesManager.findServiceBy(any(WebApplicationService.class))).thenAnswer(invocation ->
+            DefaultLogoutManagerTests.getRegisteredService(((WebApplicationService) invocation.getArgument(0)).getId()));
+        dispatcher = new ParallelSingleLogoutDispatcher(properties, servicesManager);
+        meterRegistry = new SimpleMeterRegistry();
+        new SingleLogoutDispatcherMetrics(dispatcher).bindTo(meterRegistry);
+
+        ticketGrantingTicket = new MockTicketGrantingTicket("casuser");
+        services = new LinkedHashMap<>();
+        services.put("ST-1", DefaultLogoutManagerTests.getService("https://app1.example.org"));
+        services.put("ST-2", DefaultLogoutManagerTests.getService("https://app2.example.org"));
+    }
+
+    @After
+    public void shutdown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void verifyServicesAreContactedInParallel() {
+        val handler = mock(SingleLogoutServiceMessageHandler.class);
+        when(handler.supports(any())).thenReturn(true);
+        val threads = new CopyOnWriteArrayList<Thread>();
+        when(handler.handle(any(), anyString(), any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            Thread.sleep(500);
+            val service = (WebApplicationService) invocation.getArgument(0);
+            return List.of(getLogoutRequest(invocation.getArgument(1), service, LogoutRequestStatus.SUCCESS));
+        });
+
+        val startTime = System.currentTimeMillis();
+        val requests = dispatcher.dispatch(ticketGrantingTicket, services, List.of(handler));
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        assertEquals(2, requests.size());
+        assertEquals("ST-1", requests.get(0).getTicketId());
+        assertEquals("ST-2", requests.get(1).getTicketId());
+        assertEquals(2, meterRegistry.get("cas.slo.delivery").tag("result", "success").timer().count());
+        assertEquals(1, meterRegistry.get("cas.slo.delivery")
+            .tag("service", "Test registered service https://app1.example.org").timer().count());
+        assertTrue(threads.stream().allMatch(thread -> thread.isDaemon() && thread.getName().startsWith("cas-slo-dispatcher-")));
+    }
+
+    @Test
+    public void verifySlowServiceTimesOut() {
+        val handler = mock(SingleLogoutServiceMessageHandler.class);
+        when(handler.supports(any())).thenReturn(true);
+        when(handler.handle(any(), eq("ST-1"), any())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return List.of();
+        });
+        when(handler.handle(any(), eq("ST-2"), any())).thenAnswer(invocation ->
+            List.of(getLogoutRequest("ST-2", invocation.getArgument(0), LogoutRequestStatus.SUCCESS)));
+
+        val requests = dispatcher.dispatch(ticketGrantingTicket, services, List.of(handler));
+        assertEquals(1, requests.size());
+        assertEquals(1, meterRegistry.get("cas.slo.delivery.failures").tag("reason", "timeout")
+            .tag("service", "Test registered service https://app1.example.org").counter().count(), 0);
+        verify(handler, after(500).times(1)).handle(any(), eq("ST-1"), any());
+    }
+
+    @Test
+    public void verifySlowServicesShareTimeout() {
+        services.put("ST-3", DefaultLogoutManagerTests.getService("https://app3.example.org"));
+        val handler = mock(SingleLogoutServiceMessageHandler.class);
+        when(handler.supports(any())).thenReturn(true);
+        when(handler.handle(any(), anyString(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return List.of();
+        });
+
+        val startTime = System.currentTimeMillis();
+        val requests = dispatcher.dispatch(ticketGrantingTicket, services, List.of(handler));
+        assertTrue(System.currentTimeMillis() - startTime < 2000);
+        assertTrue(requests.isEmpty());
+        assertEquals(3, meterRegistry.get("cas.slo.delivery.failures").tag("reason", "timeout").counter().count(), 0);
+    }
+
+    @Test
+    public void verifyFailedDeliveryIsRetried() {
+        val handler = mock(SingleLogoutServiceMessageHandler.class);
+        when(handler.supports(any())).thenReturn(true);
+        when(handler.handle(any(), anyString(), any())).thenAnswer(invocation ->
+            List.of(getLogoutRequest(invocation.getArgument(1), invocation.getArgument(0), LogoutRequestStatus.FAILURE)));
+        when(handler.performBackChannelLogout(any())).thenReturn(false, true);
+
+        val requests = dispatcher.dispatch(ticketGrantingTicket, services, List.of(handler));
+        assertEquals(2, requests.size());
+        verify(handler, timeout(5000).atLeast(3)).performBackChannelLogout(any());
+        assertTrue(requests.stream().allMatch(request -> request.getStatus() == LogoutRequestStatus.FAILURE));
+    }
+}
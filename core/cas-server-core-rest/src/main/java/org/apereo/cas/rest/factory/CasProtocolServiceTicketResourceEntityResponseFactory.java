@@ -4,6 +4,7 @@ import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.authentication.AuthenticationResult;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl;
+import org.apereo.cas.ticket.Ticket;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,10 @@ import lombok.val;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * This is {@link CasProtocolServiceTicketResourceEntityResponseFactory}.
  *
@@ -46,6 +51,27 @@ public class CasProtocolServiceTicketResourceEntityResponseFactory implements Se
         return ticket.getId();
     }
 
+    @Override
+    public List<String> build(final String ticketGrantingTicket, final Collection<Service> services,
+                              final AuthenticationResult authenticationResult) {
+        return grantServiceTickets(ticketGrantingTicket, services, authenticationResult);
+    }
+
+    /**
+     * Grant service tickets for all services in one go, sharing the ticket-granting ticket.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param services             the services
+     * @param authenticationResult the authentication result
+     * @return the service tickets
+     */
+    protected List<String> grantServiceTickets(final String ticketGrantingTicket, final Collection<Service> services,
+                                               final AuthenticationResult authenticationResult) {
+        val tickets = centralAuthenticationService.grantServiceTickets(ticketGrantingTicket, services, authenticationResult);
+        LOGGER.debug("Generated [{}] service tickets", tickets.size());
+        return tickets.stream().map(Ticket::getId).collect(Collectors.toList());
+    }
+
     @Override
     public boolean supports(final Service service, final AuthenticationResult authenticationResult) {
         return service != null && service instanceof SimpleWebApplicationServiceImpl;
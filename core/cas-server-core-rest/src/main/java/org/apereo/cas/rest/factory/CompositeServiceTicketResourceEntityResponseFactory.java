@@ -9,6 +9,7 @@ import org.apereo.inspektr.audit.annotation.Audit;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * This is {@link CompositeServiceTicketResourceEntityResponseFactory}.
@@ -34,6 +35,17 @@ public class CompositeServiceTicketResourceEntityResponseFactory implements Serv
         return factory.build(ticketGrantingTicket, service, authenticationResult);
     }
 
+    @Override
+    public List<String> build(final String ticketGrantingTicket, final Collection<Service> services,
+                              final AuthenticationResult authenticationResult) {
+        val factory = chain.stream()
+            .filter(f -> services.stream().allMatch(service -> f.supports(service, authenticationResult)))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unable to locate a response entity factory to build service tickets "
+                + "for all requested services. Services that are handled by different factories must be requested separately"));
+        return factory.build(ticketGrantingTicket, services, authenticationResult);
+    }
+
     @Override
     public boolean supports(final Service service, final AuthenticationResult authenticationResult) {
         return service != null && authenticationResult != null;
@@ -6,6 +6,10 @@ import org.apereo.cas.authentication.principal.Service;
 import org.springframework.core.Ordered;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * This is {@link ServiceTicketResourceEntityResponseFactory}.
  *
@@ -26,6 +30,24 @@ public interface ServiceTicketResourceEntityResponseFactory extends Ordered {
                                  Service service,
                                  AuthenticationResult authenticationResult);
 
+    /**
+     * Build the service tickets for a number of services that share the same ticket-granting ticket.
+     * By default, tickets are built one service at a time.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param services             the services
+     * @param authenticationResult the authentication result
+     * @return the service tickets, in the order of the given services
+     */
+    default List<String> build(final String ticketGrantingTicket,
+                               final Collection<Service> services,
+                               final AuthenticationResult authenticationResult) {
+        return services
+            .stream()
+            .map(service -> build(ticketGrantingTicket, service, authenticationResult).getBody())
+            .collect(Collectors.toList());
+    }
+
     /**
      * Supports boolean.
      *
@@ -0,0 +1,183 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesRefreshEvent;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link DefaultRegisteredServiceAttributeReleaseCache} that keeps
+ * the results of attribute release policies in a bounded, expiring cache.
+ * Results are keyed by the principal id, a SHA-256 digest of its attributes,
+ * the selected service and the registered service id along with the version of
+ * its definition. Versions are tracked per registered service and move forward
+ * whenever a definition is saved, deleted or reloaded with changes, so that results
+ * calculated for a previous version are never returned.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class DefaultRegisteredServiceAttributeReleaseCache implements RegisteredServiceAttributeReleaseCache {
+    private final RegisteredServiceAttributeReleaseCache delegate = RegisteredServiceAttributeReleaseCache.noOp();
+
+    private final Map<Long, RegisteredServiceVersion> versions = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Cache<CacheKey, Map<String, Object>> cache;
+
+    public DefaultRegisteredServiceAttributeReleaseCache(final Duration expireAfterWrite, final long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Digest principal attributes in a canonical form where attribute names are sorted,
+     * and each name and value is prefixed by its length so that no two different sets
+     * of attributes produce the same input to the digest.
+     *
+     * @param attributes the attributes
+     * @return the digest
+     */
+    static String digestAttributes(final Map<String, Object> attributes) {
+        val builder = new StringBuilder();
+        new TreeMap<>(attributes).forEach((name, value) -> {
+            appendCanonical(builder, name);
+            val values = CollectionUtils.toCollection(value);
+            builder.append(values.size()).append('#');
+            values.forEach(v -> appendCanonical(builder, v instanceof byte[] ? EncodingUtils.encodeBase64((byte[]) v) : String.valueOf(v)));
+        });
+        return DigestUtils.sha256(builder.toString());
+    }
+
+    private static void appendCanonical(final StringBuilder builder, final String value) {
+        builder.append(value.length()).append(':').append(value);
+    }
+
+    @Override
+    public Map<String, Object> getAttributes(final Principal principal, final Service selectedService,
+                                             final RegisteredService registeredService) {
+        val key = new CacheKey(principal.getId(),
+            selectedService != null ? selectedService.getId() : null,
+            registeredService.getId(),
+            getVersion(registeredService.getId()),
+            digestAttributes(principal.getAttributes()));
+        val attributes = cache.get(key, k -> {
+            LOGGER.trace("Calculating attributes to release for [{}] and service [{}]", principal.getId(), registeredService.getName());
+            return new LinkedHashMap<>(delegate.getAttributes(principal, selectedService, registeredService));
+        });
+        return new LinkedHashMap<>(attributes);
+    }
+
+    @Override
+    public void invalidate(final RegisteredService registeredService) {
+        LOGGER.trace("Invalidating cached attribute release results for [{}]", registeredService.getName());
+        versions.compute(registeredService.getId(), (id, version) -> RegisteredServiceVersion.next(version, registeredService.hashCode()));
+        cache.asMap().keySet().removeIf(key -> key.getRegisteredServiceId() == registeredService.getId());
+    }
+
+    @Override
+    public void invalidateAll() {
+        versions.replaceAll((id, version) -> RegisteredServiceVersion.next(version, version.getFingerprint()));
+        cache.invalidateAll();
+    }
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidate(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidate(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered services refresh event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServicesRefreshEvent(final CasRegisteredServicesRefreshEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Handle registered services loaded event, invalidating
+     * results only for definitions that have changed since they were last seen.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        event.getServices().forEach(service -> {
+            val version = versions.get(service.getId());
+            if (version == null) {
+                versions.putIfAbsent(service.getId(), new RegisteredServiceVersion(0, service.hashCode()));
+            } else if (version.getFingerprint() != service.hashCode()) {
+                invalidate(service);
+            }
+        });
+    }
+
+    private long getVersion(final long registeredServiceId) {
+        val version = versions.get(registeredServiceId);
+        return version != null ? version.getVersion() : 0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class RegisteredServiceVersion {
+        private final long version;
+        private final int fingerprint;
+
+        static RegisteredServiceVersion next(final RegisteredServiceVersion current, final int fingerprint) {
+            return new RegisteredServiceVersion(current != null ? current.getVersion() + 1 : 1, fingerprint);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    static class CacheKey {
+        private final String principalId;
+        private final String selectedServiceId;
+        private final long registeredServiceId;
+        private final long registeredServiceVersion;
+        private final String attributesDigest;
+    }
+}
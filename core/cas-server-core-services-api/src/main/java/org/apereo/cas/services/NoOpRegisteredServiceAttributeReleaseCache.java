@@ -0,0 +1,36 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+
+import lombok.val;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is {@link NoOpRegisteredServiceAttributeReleaseCache} that always
+ * consults the attribute release policy of the registered service.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class NoOpRegisteredServiceAttributeReleaseCache implements RegisteredServiceAttributeReleaseCache {
+
+    @Override
+    public Map<String, Object> getAttributes(final Principal principal, final Service selectedService,
+                                             final RegisteredService registeredService) {
+        val attributePolicy = registeredService.getAttributeReleasePolicy();
+        return attributePolicy != null
+            ? attributePolicy.getAttributes(principal, selectedService, registeredService)
+            : new HashMap<>();
+    }
+
+    @Override
+    public void invalidate(final RegisteredService registeredService) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+}
@@ -0,0 +1,49 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+
+import java.util.Map;
+
+/**
+ * This is {@link RegisteredServiceAttributeReleaseCache} that sits in front of
+ * {@link RegisteredServiceAttributeReleasePolicy} and may remember the attributes
+ * calculated for a principal and a registered service.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface RegisteredServiceAttributeReleaseCache {
+
+    /**
+     * Calculate the attributes to release, consulting the attribute release policy
+     * of the registered service if no result is available.
+     *
+     * @param principal         the principal
+     * @param selectedService   the selected service
+     * @param registeredService the registered service
+     * @return the attributes
+     */
+    Map<String, Object> getAttributes(Principal principal, Service selectedService, RegisteredService registeredService);
+
+    /**
+     * Invalidate all results calculated for the registered service.
+     *
+     * @param registeredService the registered service
+     */
+    void invalidate(RegisteredService registeredService);
+
+    /**
+     * Invalidate all results.
+     */
+    void invalidateAll();
+
+    /**
+     * Cache instance that does not cache and always consults the policy.
+     *
+     * @return the cache instance
+     */
+    static RegisteredServiceAttributeReleaseCache noOp() {
+        return new NoOpRegisteredServiceAttributeReleaseCache();
+    }
+}
@@ -0,0 +1,30 @@
+package org.apereo.cas.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * This is {@link RegisteredServiceAttributeReleaseCacheMetrics} that exposes
+ * the statistics of the attribute release cache, if caching is turned on.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class RegisteredServiceAttributeReleaseCacheMetrics implements MeterBinder {
+    private static final String CACHE_NAME = "casAttributeReleaseCache";
+
+    private final RegisteredServiceAttributeReleaseCache attributeReleaseCache;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (attributeReleaseCache instanceof DefaultRegisteredServiceAttributeReleaseCache) {
+            val cache = ((DefaultRegisteredServiceAttributeReleaseCache) attributeReleaseCache).getCache();
+            new CaffeineCacheMetrics(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+        }
+    }
+}
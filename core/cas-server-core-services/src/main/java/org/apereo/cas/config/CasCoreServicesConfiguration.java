@@ -10,7 +10,9 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceResponseBuilder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.core.services.ServiceRegistryProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ChainingServiceRegistry;
+import org.apereo.cas.services.DefaultRegisteredServiceAttributeReleaseCache;
 import org.apereo.cas.services.DefaultServiceRegistryExecutionPlan;
 import org.apereo.cas.services.DefaultServicesManager;
 import org.apereo.cas.services.DomainServicesManager;
@@ -18,6 +20,8 @@ import org.apereo.cas.services.ImmutableServiceRegistry;
 import org.apereo.cas.services.InMemoryServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyAuditableEnforcer;
+import org.apereo.cas.services.RegisteredServiceAttributeReleaseCache;
+import org.apereo.cas.services.RegisteredServiceAttributeReleaseCacheMetrics;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.RegisteredServicesEventListener;
 import org.apereo.cas.services.ServiceRegistry;
@@ -35,6 +39,7 @@ import org.apereo.cas.util.io.CommunicationsManager;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
@@ -138,6 +143,22 @@ public class CasCoreServicesConfiguration {
         return new DefaultServicesManager(serviceRegistry(), eventPublisher, activeProfiles);
     }
 
+    @ConditionalOnMissingBean(name = "registeredServiceAttributeReleaseCache")
+    @Bean
+    public RegisteredServiceAttributeReleaseCache registeredServiceAttributeReleaseCache() {
+        val cache = casProperties.getServiceRegistry().getAttributeReleaseCache();
+        if (cache.isEnabled()) {
+            return new DefaultRegisteredServiceAttributeReleaseCache(Beans.newDuration(cache.getExpireAfterWrite()), cache.getMaximumSize());
+        }
+        return RegisteredServiceAttributeReleaseCache.noOp();
+    }
+
+    @ConditionalOnMissingBean(name = "registeredServiceAttributeReleaseCacheMetrics")
+    @Bean
+    public MeterBinder registeredServiceAttributeReleaseCacheMetrics() {
+        return new RegisteredServiceAttributeReleaseCacheMetrics(registeredServiceAttributeReleaseCache());
+    }
+
     @Bean
     public AbstractHttpMessageConverter yamlHttpMessageConverter() {
         return new RegisteredServiceYamlHttpMessageConverter();
@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImplTe
 import org.apereo.cas.authentication.principal.WebApplicationServiceFactoryTests;
 import org.apereo.cas.services.AnonymousRegisteredServiceUsernameAttributeProviderTests;
 import org.apereo.cas.services.DefaultRegisteredServiceAccessStrategyTests;
+import org.apereo.cas.services.DefaultRegisteredServiceAttributeReleaseCacheTests;
 import org.apereo.cas.services.DefaultRegisteredServiceMultifactorPolicyTests;
 import org.apereo.cas.services.DefaultRegisteredServiceUsernameProviderTests;
 import org.apereo.cas.services.DefaultServicesManagerByEnvironmentTests;
@@ -51,6 +52,7 @@ import org.junit.runners.Suite;
     HttpBasedServiceCredentialTests.class,
     AnonymousRegisteredServiceUsernameAttributeProviderTests.class,
     DefaultRegisteredServiceAccessStrategyTests.class,
+    DefaultRegisteredServiceAttributeReleaseCacheTests.class,
     DefaultRegisteredServiceUsernameProviderTests.class,
     DefaultRegisteredServiceMultifactorPolicyTests.class,
     DefaultServicesManagerTests.class,
@@ -0,0 +1,119 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.CollectionUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link DefaultRegisteredServiceAttributeReleaseCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultRegisteredServiceAttributeReleaseCacheTests {
+
+    private static AbstractRegisteredService getRegisteredService(final AtomicInteger count) {
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        registeredService.setAttributeReleasePolicy((principal, selectedService, service) -> {
+            count.incrementAndGet();
+            return CollectionUtils.wrap("cn", principal.getId());
+        });
+        return registeredService;
+    }
+
+    @Test
+    public void verifyResultsAreCached() {
+        val count = new AtomicInteger();
+        val cache = new DefaultRegisteredServiceAttributeReleaseCache(Duration.ofMinutes(1), 100);
+        val registeredService = getRegisteredService(count);
+        val principal = RegisteredServiceTestUtils.getPrincipal("casuser", CollectionUtils.wrap("uid", "casuser"));
+        val service = RegisteredServiceTestUtils.getService();
+
+        val attributes = cache.getAttributes(principal, service, registeredService);
+        assertEquals("casuser", attributes.get("cn"));
+        assertEquals(attributes, cache.getAttributes(principal, service, registeredService));
+        assertEquals(1, count.get());
+
+        val otherPrincipal = RegisteredServiceTestUtils.getPrincipal("casuser", CollectionUtils.wrap("uid", "other"));
+        cache.getAttributes(otherPrincipal, service, registeredService);
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void verifyModifiedServiceIsRecalculatedOnLoad() {
+        val count = new AtomicInteger();
+        val cache = new DefaultRegisteredServiceAttributeReleaseCache(Duration.ofMinutes(1), 100);
+        val registeredService = getRegisteredService(count);
+        val principal = RegisteredServiceTestUtils.getPrincipal("casuser");
+        val service = RegisteredServiceTestUtils.getService();
+
+        cache.handleCasRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, List.of(registeredService)));
+        cache.getAttributes(principal, service, registeredService);
+        cache.handleCasRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, List.of(registeredService)));
+        cache.getAttributes(principal, service, registeredService);
+        assertEquals(1, count.get());
+
+        registeredService.setDescription("Modified service definition");
+        cache.handleCasRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, List.of(registeredService)));
+        cache.getAttributes(principal, service, registeredService);
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void verifyAttributesDigestIsCanonical() {
+        val first = new LinkedHashMap<String, Object>();
+        first.put("uid", "casuser");
+        first.put("memberOf", List.of("staff", "faculty"));
+        val second = new LinkedHashMap<String, Object>();
+        second.put("memberOf", List.of("staff", "faculty"));
+        second.put("uid", List.of("casuser"));
+        assertEquals(DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(first),
+            DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(second));
+
+        assertNotEquals(DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(CollectionUtils.wrap("memberOf", List.of("staff,faculty"))),
+            DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(CollectionUtils.wrap("memberOf", List.of("staff", "faculty"))));
+        assertNotEquals(DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(CollectionUtils.wrap("a", "bc")),
+            DefaultRegisteredServiceAttributeReleaseCache.digestAttributes(CollectionUtils.wrap("ab", "c")));
+    }
+
+    @Test
+    public void verifyCacheInvalidatedOnSavedEvent() {
+        val count = new AtomicInteger();
+        val cache = new DefaultRegisteredServiceAttributeReleaseCache(Duration.ofMinutes(1), 100);
+        val registeredService = getRegisteredService(count);
+        val principal = RegisteredServiceTestUtils.getPrincipal("casuser");
+        val service = RegisteredServiceTestUtils.getService();
+
+        cache.getAttributes(principal, service, registeredService);
+        cache.handleCasRegisteredServiceSavedEvent(new CasRegisteredServiceSavedEvent(this, registeredService));
+        cache.getAttributes(principal, service, registeredService);
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void verifyMetricsAreRecorded() {
+        val count = new AtomicInteger();
+        val cache = new DefaultRegisteredServiceAttributeReleaseCache(Duration.ofMinutes(1), 100);
+        val registry = new SimpleMeterRegistry();
+        new RegisteredServiceAttributeReleaseCacheMetrics(cache).bindTo(registry);
+        val registeredService = getRegisteredService(count);
+        val principal = RegisteredServiceTestUtils.getPrincipal("casuser");
+        val service = RegisteredServiceTestUtils.getService();
+
+        cache.getAttributes(principal, service, registeredService);
+        cache.getAttributes(principal, service, registeredService);
+        val hits = registry.get("cache.gets").tag("result", "hit").functionCounter().count();
+        assertEquals(1, hits, 0);
+    }
+}
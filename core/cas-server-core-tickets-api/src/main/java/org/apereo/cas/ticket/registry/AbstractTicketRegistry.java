@@ -6,7 +6,6 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.util.DigestUtils;
-import org.apereo.cas.util.serialization.SerializationUtils;
 
 import com.google.common.io.ByteSource;
 import lombok.NoArgsConstructor;
@@ -15,6 +14,7 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
@@ -43,6 +43,12 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected CipherExecutor cipherExecutor;
 
+    /**
+     * The codec that turns ticket objects into bytes before they are encrypted.
+     */
+    @NonNull
+    protected TicketSerializationCodec ticketSerializationCodec = new DefaultTicketSerializationCodec();
+
     @Override
     public Ticket getTicket(final String ticketId) {
         return getTicket(ticketId, ticket -> {
@@ -225,7 +231,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             return null;
         }
         LOGGER.debug("Encoding ticket [{}]", ticket);
-        val encodedTicketObject = SerializationUtils.serializeAndEncodeObject(this.cipherExecutor, ticket);
+        val serializedTicket = this.ticketSerializationCodec.encode(ticket);
+        val encodedTicketObject = (byte[]) this.cipherExecutor.encode(serializedTicket, ArrayUtils.EMPTY_OBJECT_ARRAY);
         val encodedTicketId = encodeTicketId(ticket.getId());
         val encodedTicket = new EncodedTicket(encodedTicketId, ByteSource.wrap(encodedTicketObject).read());
         LOGGER.debug("Created encoded ticket [{}]", encodedTicket);
@@ -254,7 +261,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
         LOGGER.debug("Attempting to decode [{}]", result);
         val encodedTicket = (EncodedTicket) result;
-        val ticket = SerializationUtils.decodeAndDeserializeObject(encodedTicket.getEncodedTicket(), this.cipherExecutor, Ticket.class);
+        val serializedTicket = (byte[]) this.cipherExecutor.decode(encodedTicket.getEncodedTicket(), ArrayUtils.EMPTY_OBJECT_ARRAY);
+        val ticket = this.ticketSerializationCodec.decode(serializedTicket);
         LOGGER.debug("Decoded ticket to [{}]", ticket);
         return ticket;
     }
@@ -0,0 +1,32 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+/**
+ * This is {@link DefaultTicketSerializationCodec} that relies on native java serialization.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultTicketSerializationCodec implements TicketSerializationCodec {
+    private static final byte[] STREAM_MAGIC = {(byte) 0xAC, (byte) 0xED};
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        return SerializationUtils.serialize(ticket);
+    }
+
+    @Override
+    public Ticket decode(final byte[] serializedTicket) {
+        return SerializationUtils.deserializeAndCheckObject(serializedTicket, Ticket.class);
+    }
+
+    @Override
+    public boolean supports(final byte[] serializedTicket) {
+        return serializedTicket != null
+            && serializedTicket.length > STREAM_MAGIC.length
+            && serializedTicket[0] == STREAM_MAGIC[0]
+            && serializedTicket[1] == STREAM_MAGIC[1];
+    }
+}
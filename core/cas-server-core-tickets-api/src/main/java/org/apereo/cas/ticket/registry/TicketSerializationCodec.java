@@ -0,0 +1,39 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketSerializationCodec} that is responsible for turning
+ * ticket objects into a byte representation and back, typically before the ticket
+ * is encrypted and signed by the ticket registry and handed over to the underlying store.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface TicketSerializationCodec {
+
+    /**
+     * Encode the ticket into a byte representation.
+     *
+     * @param ticket the ticket
+     * @return the byte []
+     */
+    byte[] encode(Ticket ticket);
+
+    /**
+     * Decode the byte representation back into a ticket.
+     *
+     * @param serializedTicket the serialized ticket
+     * @return the ticket
+     */
+    Ticket decode(byte[] serializedTicket);
+
+    /**
+     * Determine whether the given payload was produced by this codec
+     * and can be decoded by it.
+     *
+     * @param serializedTicket the serialized ticket
+     * @return true/false
+     */
+    boolean supports(byte[] serializedTicket);
+}
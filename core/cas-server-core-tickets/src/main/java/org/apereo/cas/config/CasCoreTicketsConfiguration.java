@@ -33,9 +33,11 @@ import org.apereo.cas.ticket.proxy.support.Cas20ProxyHandler;
 import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.DefaultTicketSerializationCodec;
 import org.apereo.cas.ticket.registry.NoOpLockingStrategy;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.ticket.support.AlwaysExpiresExpirationPolicy;
 import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
@@ -278,9 +280,19 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
 
         if (mem.isCache()) {
             val logoutManager = applicationContext.getBean("logoutManager", LogoutManager.class);
-            return new CachingTicketRegistry(cipher, logoutManager);
+            val registry = new CachingTicketRegistry(cipher, logoutManager);
+            registry.setTicketSerializationCodec(ticketSerializationCodec());
+            return registry;
         }
-        return new DefaultTicketRegistry(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency(), cipher);
+        val registry = new DefaultTicketRegistry(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency(), cipher);
+        registry.setTicketSerializationCodec(ticketSerializationCodec());
+        return registry;
+    }
+
+    @ConditionalOnMissingBean(name = "ticketSerializationCodec")
+    @Bean
+    public TicketSerializationCodec ticketSerializationCodec() {
+        return new DefaultTicketSerializationCodec();
     }
 
     @ConditionalOnMissingBean(name = "defaultTicketRegistrySupport")
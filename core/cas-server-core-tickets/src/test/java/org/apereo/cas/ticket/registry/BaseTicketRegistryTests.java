@@ -178,6 +178,26 @@ public abstract class BaseTicketRegistryTests {
         }
     }
 
+    @Test
+    public void verifyAddTicketsInBatch() {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), new NeverExpiresExpirationPolicy());
+        ticketRegistry.addTicket(tgt);
+
+        val serviceTickets = new ArrayList<ServiceTicket>();
+        for (var i = 0; i < TICKETS_IN_REGISTRY; i++) {
+            serviceTickets.add(tgt.grantServiceTicket(serviceTicketId + '-' + i, RegisteredServiceTestUtils.getService("batch" + i),
+                new NeverExpiresExpirationPolicy(), false, true));
+        }
+        ticketRegistry.addTicket(serviceTickets.stream());
+
+        serviceTickets.forEach(st -> {
+            val ticket = ticketRegistry.getTicket(st.getId(), ServiceTicket.class);
+            assertNotNull(st.getId(), ticket);
+            assertEquals(st.getService(), ticket.getService());
+        });
+    }
+
     @Test
     public void verifyAddAndUpdateTicket() {
         try {
@@ -0,0 +1,38 @@
+package org.apereo.cas.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.val;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link RegexPatternCacheMetrics} that exposes the hit ratio of the
+ * shared pattern cache in {@link RegexUtils} along with the number of patterns
+ * compiled and the time spent compiling them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class RegexPatternCacheMetrics implements MeterBinder {
+    private static final String CACHE_NAME = "casRegexPatternCache";
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        new CaffeineCacheMetrics(RegexUtils.getPatternCache(), CACHE_NAME, Tags.empty()).bindTo(registry);
+
+        FunctionCounter.builder("cas.regex.compilations", RegexUtils.class, c -> RegexUtils.getPatternCompilationCount())
+            .description("Number of regular expressions compiled")
+            .register(registry);
+
+        val nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+        FunctionCounter.builder("cas.regex.compilation.time", RegexUtils.class,
+            c -> (double) RegexUtils.getPatternCompilationTime() / nanosPerSecond)
+            .description("Total time spent compiling regular expressions")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+}
@@ -1,10 +1,13 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -25,6 +28,20 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    /**
+     * Maximum number of distinct compiled patterns kept in memory.
+     */
+    public static final long PATTERN_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final Cache<String, Pattern> PATTERN_CACHE = Caffeine.newBuilder()
+        .maximumSize(PATTERN_CACHE_MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    private static final LongAdder COMPILATION_COUNT = new LongAdder();
+
+    private static final LongAdder COMPILATION_TIME_NANOS = new LongAdder();
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -72,6 +89,8 @@ public class RegexUtils {
 
     /**
      * Creates the pattern with the given flags.
+     * Compiled patterns are shared across callers, so each distinct
+     * pattern and flags combination is only compiled once.
      *
      * @param pattern the pattern, may be null.
      * @param flags   the flags
@@ -82,14 +101,75 @@ public class RegexUtils {
             LOGGER.debug("Pattern cannot be null");
             return MATCH_NOTHING_PATTERN;
         }
-        try {
+        return PATTERN_CACHE.get(flags + ":" + pattern, key -> compilePattern(pattern, flags));
+    }
+
+    /**
+     * Compiles the pattern with the given flags, sharing compiled patterns
+     * through the same cache as {@link #createPattern(String, int)}.
+     * Unlike {@link #createPattern(String, int)}, an invalid pattern is not replaced
+     * with {@link RegexUtils#MATCH_NOTHING_PATTERN}, which makes this suitable for
+     * patterns that reject requests and must not be silently disabled.
+     *
+     * @param pattern the pattern, may not be null.
+     * @param flags   the flags
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the pattern is invalid
+     */
+    public static Pattern compile(final String pattern, final int flags) {
+        val compiled = PATTERN_CACHE.get(flags + ":" + pattern, key -> compileAndMeasure(pattern, flags));
+        if (compiled == MATCH_NOTHING_PATTERN) {
             return Pattern.compile(pattern, flags);
+        }
+        return compiled;
+    }
+
+    /**
+     * Gets the cache of compiled patterns.
+     *
+     * @return the pattern cache
+     */
+    static Cache<String, Pattern> getPatternCache() {
+        return PATTERN_CACHE;
+    }
+
+    /**
+     * Gets the number of patterns compiled so far.
+     *
+     * @return the compilation count
+     */
+    static long getPatternCompilationCount() {
+        return COMPILATION_COUNT.sum();
+    }
+
+    /**
+     * Gets the total time spent compiling patterns, in nanoseconds.
+     *
+     * @return the compilation time
+     */
+    static long getPatternCompilationTime() {
+        return COMPILATION_TIME_NANOS.sum();
+    }
+
+    private static Pattern compilePattern(final String pattern, final int flags) {
+        try {
+            return compileAndMeasure(pattern, flags);
         } catch (final PatternSyntaxException exception) {
             LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
             return MATCH_NOTHING_PATTERN;
         }
     }
 
+    private static Pattern compileAndMeasure(final String pattern, final int flags) {
+        val startTime = System.nanoTime();
+        try {
+            return Pattern.compile(pattern, flags);
+        } finally {
+            COMPILATION_COUNT.increment();
+            COMPILATION_TIME_NANOS.add(System.nanoTime() - startTime);
+        }
+    }
+
     /**
      * Matches the entire region for the string.
      *
@@ -0,0 +1,230 @@
+package org.apereo.cas.util.io;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link DebouncedFileWriter} that writes the contents of an in-memory store back
+ * to its file. The first change that is not written yet schedules a write for the configured
+ * delay later, and changes that come in before that write are carried by it as well. Writes
+ * therefore happen at most once per delay even while changes keep coming in. Each write goes to
+ * a temporary file next to the target that is then renamed over it, so readers never see
+ * a partially written file. Changes to the file that are not caused by this writer may be
+ * observed via {@link #watch(Consumer)}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class DebouncedFileWriter implements Closeable {
+    /**
+     * Default delay before pending changes are written.
+     */
+    public static final Duration DEFAULT_WRITE_DELAY = Duration.ofMillis(500);
+
+    @Getter
+    private final File file;
+
+    private final long delayMillis;
+
+    private final ContentWriter writer;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+
+    private boolean pending;
+
+    private long lastWrittenModifiedTime;
+
+    private long lastWrittenLength = -1;
+
+    private PathWatcherService watcherService;
+
+    public DebouncedFileWriter(final File file, final ContentWriter writer) {
+        this(file, DEFAULT_WRITE_DELAY, writer);
+    }
+
+    public DebouncedFileWriter(final File file, final Duration delay, final ContentWriter writer) {
+        this.file = file.getAbsoluteFile();
+        this.delayMillis = Math.max(0, delay.toMillis());
+        this.writer = writer;
+        val executor = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder()
+            .namingPattern("debounced-writer-" + file.getName() + "-%d")
+            .daemon(true)
+            .build());
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduler = executor;
+    }
+
+    /**
+     * Write the given content to the file atomically, by writing it to a temporary
+     * file in the same directory first and then renaming that over the file.
+     *
+     * @param file   the file
+     * @param writer the writer
+     * @throws IOException the exception
+     */
+    public static void writeAtomically(final File file, final ContentWriter writer) throws IOException {
+        val target = file.getAbsoluteFile().toPath();
+        val temp = Files.createTempFile(target.getParent(), '.' + file.getName(), ".tmp");
+        try {
+            try (val out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            } catch (final IOException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IOException(e);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                LOGGER.debug("File system does not support atomic moves; replacing [{}] instead", target);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Note that the store has changed, and write it out the configured delay after
+     * the first change that is not written yet.
+     */
+    public void schedule() {
+        synchronized (lock) {
+            if (pending) {
+                return;
+            }
+            pending = true;
+        }
+        if (delayMillis == 0) {
+            flush();
+            return;
+        }
+        try {
+            scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to schedule write of [{}]; writing it right away", file);
+            flush();
+        }
+    }
+
+    /**
+     * Write pending changes right away, if there are any.
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (!pending) {
+                return;
+            }
+            pending = false;
+            try {
+                writeAtomically(file, writer);
+                lastWrittenModifiedTime = file.lastModified();
+                lastWrittenLength = file.length();
+                LOGGER.trace("Wrote pending changes to [{}]", file);
+            } catch (final Exception e) {
+                LOGGER.error("Unable to write [{}]: [{}]", file, e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Whether there are changes that are not written yet.
+     *
+     * @return true/false
+     */
+    public boolean isPending() {
+        synchronized (lock) {
+            return pending;
+        }
+    }
+
+    /**
+     * Whether the file has changed since this writer last wrote it.
+     *
+     * @return true/false
+     */
+    public boolean isModifiedExternally() {
+        synchronized (lock) {
+            return file.lastModified() != lastWrittenModifiedTime || file.length() != lastWrittenLength;
+        }
+    }
+
+    /**
+     * Watch the file and hand changes that are not caused by this writer to the given consumer.
+     * Changes are not handed over while writes are pending, since those would overwrite them anyway.
+     *
+     * @param onChange the consumer
+     */
+    public void watch(final Consumer<File> onChange) {
+        synchronized (lock) {
+            if (watcherService != null) {
+                return;
+            }
+            val watchedFile = file.getPath();
+            val consumer = (Consumer<File>) changed -> {
+                if (!changed.getAbsolutePath().equals(watchedFile)) {
+                    return;
+                }
+                if (isPending()) {
+                    LOGGER.warn("File [{}] has changed while writes are pending; the pending writes will replace the change", file);
+                    return;
+                }
+                if (isModifiedExternally()) {
+                    LOGGER.debug("Detected change in file [{}]", file);
+                    onChange.accept(file);
+                }
+            };
+            watcherService = new PathWatcherService(file.getParentFile().toPath(), consumer, consumer, f -> {
+            });
+            watcherService.start(file.getName());
+        }
+    }
+
+    /**
+     * Write pending changes and stop watching the file.
+     */
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdownNow();
+        synchronized (lock) {
+            if (watcherService != null) {
+                watcherService.close();
+                watcherService = null;
+            }
+        }
+    }
+
+    /**
+     * Writes the contents of the store to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Write.
+         *
+         * @param out the stream
+         * @throws Exception the exception
+         */
+        void write(OutputStream out) throws Exception;
+    }
+}
@@ -9,6 +9,8 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 
+import java.io.Closeable;
+
 /**
  * This is {@link WatchableGroovyScriptResource}.
  *
@@ -17,7 +19,7 @@ import org.springframework.core.io.Resource;
  */
 @Slf4j
 @Getter
-public class WatchableGroovyScriptResource {
+public class WatchableGroovyScriptResource implements Closeable {
     private transient FileWatcherService watcherService;
     private transient GroovyObject groovyScript;
     private final transient Resource resource;
@@ -40,6 +42,13 @@ public class WatchableGroovyScriptResource {
         }
     }
 
+    @Override
+    public void close() {
+        if (this.watcherService != null) {
+            this.watcherService.close();
+        }
+    }
+
     private void compileScriptResource(final Resource script) {
         this.groovyScript = ScriptingUtils.parseGroovyScript(script, true);
     }
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.CasEmbeddedValueResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.RegexPatternCacheMetrics;
 import org.apereo.cas.util.SchedulingUtils;
 import org.apereo.cas.util.io.CommunicationsManager;
 import org.apereo.cas.util.io.GroovySmsSender;
@@ -12,6 +13,7 @@ import org.apereo.cas.util.spring.Converters;
 import org.apereo.cas.util.spring.SpringAwareMessageMessageInterpolator;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.InitializingBean;
@@ -70,6 +72,11 @@ public class CasCoreUtilConfiguration implements InitializingBean {
         return new ApplicationContextProvider();
     }
 
+    @Bean
+    public MeterBinder regexPatternCacheMetrics() {
+        return new RegexPatternCacheMetrics();
+    }
+
     @Bean
     public MessageInterpolator messageInterpolator() {
         return new SpringAwareMessageMessageInterpolator();
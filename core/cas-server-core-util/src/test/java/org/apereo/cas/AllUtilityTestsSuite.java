@@ -23,6 +23,7 @@ import org.apereo.cas.util.gen.HexRandomStringGeneratorTests;
 import org.apereo.cas.util.http.HttpMessageTests;
 import org.apereo.cas.util.http.SimpleHttpClientTests;
 import org.apereo.cas.util.io.CommunicationsManagerTests;
+import org.apereo.cas.util.io.DebouncedFileWriterTests;
 import org.apereo.cas.util.io.GroovySmsSenderTests;
 import org.apereo.cas.util.io.RestfulSmsSenderTests;
 
@@ -61,6 +62,7 @@ import org.junit.runners.Suite;
     ScriptingUtilsTests.class,
     GroovySmsSenderTests.class,
     RestfulSmsSenderTests.class,
+    DebouncedFileWriterTests.class,
     RandomUtilsTests.class
 })
 public class AllUtilityTestsSuite {
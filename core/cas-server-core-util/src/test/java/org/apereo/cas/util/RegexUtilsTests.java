@@ -3,6 +3,8 @@ package org.apereo.cas.util;
 import lombok.val;
 import org.junit.Test;
 
+import java.util.regex.PatternSyntaxException;
+
 import static org.junit.Assert.*;
 
 /**
@@ -24,4 +26,44 @@ public class RegexUtilsTests {
     public void verifyNullRegex() {
         assertFalse(RegexUtils.isValidRegex(null));
     }
+
+    @Test
+    public void verifyPatternIsCompiledOnce() {
+        val compilations = RegexUtils.getPatternCompilationCount();
+        val pattern = RegexUtils.createPattern("^https://app\\d+\\.example\\.org/.*");
+        assertSame(pattern, RegexUtils.createPattern("^https://app\\d+\\.example\\.org/.*"));
+        assertEquals(compilations + 1, RegexUtils.getPatternCompilationCount());
+        assertTrue(RegexUtils.getPatternCache().stats().hitCount() > 0);
+    }
+
+    @Test
+    public void verifyPatternFlagsAreCachedSeparately() {
+        val insensitive = RegexUtils.createPattern("casuser");
+        val sensitive = RegexUtils.createPattern("casuser", 0);
+        assertNotSame(insensitive, sensitive);
+        assertTrue(RegexUtils.matches(insensitive, "CASUSER"));
+        assertFalse(RegexUtils.matches(sensitive, "CASUSER"));
+    }
+
+    @Test
+    public void verifyInvalidPatternMatchesNothing() {
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("***"));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("***"));
+    }
+
+    @Test
+    public void verifyValidPatternIsSharedWhenCompiled() {
+        assertSame(RegexUtils.compile("casuser", 0), RegexUtils.createPattern("casuser", 0));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void verifyInvalidPatternFailsToCompile() {
+        RegexUtils.compile("[unbalanced", 0);
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void verifyInvalidCachedPatternFailsToCompile() {
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("(unbalanced", 0));
+        RegexUtils.compile("(unbalanced", 0);
+    }
 }
@@ -0,0 +1,98 @@
+package org.apereo.cas.util.io;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link DebouncedFileWriterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DebouncedFileWriterTests {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verifyChangesAreWrittenOnce() throws Exception {
+        val file = folder.newFile("store.json");
+        val content = new AtomicReference<String>("initial");
+        val writes = new AtomicInteger();
+        try (val writer = new DebouncedFileWriter(file, Duration.ofMillis(200), out -> {
+            writes.incrementAndGet();
+            out.write(content.get().getBytes(StandardCharsets.UTF_8));
+        })) {
+            for (var i = 0; i < 100; i++) {
+                content.set("value-" + i);
+                writer.schedule();
+            }
+            assertTrue(writer.isPending());
+            assertEquals(0, writes.get());
+
+            val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (writer.isPending() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertFalse(writer.isPending());
+            assertEquals(1, writes.get());
+            assertEquals("value-99", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+            assertFalse(writer.isModifiedExternally());
+        }
+    }
+
+    @Test
+    public void verifyPendingChangesAreWrittenOnClose() throws Exception {
+        val file = folder.newFile("store.json");
+        val writer = new DebouncedFileWriter(file, Duration.ofMinutes(1),
+            out -> out.write("closed".getBytes(StandardCharsets.UTF_8)));
+        writer.schedule();
+        writer.close();
+        assertEquals("closed", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void verifyFailedWriteKeepsFile() throws Exception {
+        val file = folder.newFile("store.json");
+        FileUtils.write(file, "original", StandardCharsets.UTF_8);
+        try {
+            DebouncedFileWriter.writeAtomically(file, out -> {
+                out.write("partial".getBytes(StandardCharsets.UTF_8));
+                throw new IllegalStateException("Failed");
+            });
+            fail("Write should have failed");
+        } catch (final IOException e) {
+            assertEquals("original", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        }
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void verifyExternalChangesAreObserved() throws Exception {
+        val file = folder.newFile("store.json");
+        val changed = new CountDownLatch(1);
+        try (val writer = new DebouncedFileWriter(file, Duration.ZERO,
+            out -> out.write("internal".getBytes(StandardCharsets.UTF_8)))) {
+            writer.schedule();
+            assertFalse(writer.isModifiedExternally());
+            writer.watch(f -> changed.countDown());
+
+            Thread.sleep(1000);
+            DebouncedFileWriter.writeAtomically(file, out -> out.write("external change".getBytes(StandardCharsets.UTF_8)));
+            assertTrue(writer.isModifiedExternally());
+            assertTrue(changed.await(30, TimeUnit.SECONDS));
+        }
+    }
+}
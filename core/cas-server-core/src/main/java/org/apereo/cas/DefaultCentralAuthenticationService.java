@@ -17,6 +17,7 @@ import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.slo.SingleLogoutRequest;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.RegisteredServiceAttributeReleaseCache;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.UnauthorizedProxyingException;
@@ -44,6 +45,7 @@ import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.validation.Assertion;
 import org.apereo.cas.validation.DefaultAssertionBuilder;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.annotation.Audit;
@@ -51,7 +53,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -70,6 +72,12 @@ import java.util.List;
 public class DefaultCentralAuthenticationService extends AbstractCentralAuthenticationService {
     private static final long serialVersionUID = -8943828074939533986L;
 
+    /**
+     * Calculates, and possibly caches, attributes released to services.
+     */
+    @Setter
+    private RegisteredServiceAttributeReleaseCache attributeReleaseCache = RegisteredServiceAttributeReleaseCache.noOp();
+
     public DefaultCentralAuthenticationService(final ApplicationEventPublisher applicationEventPublisher,
                                                final TicketRegistry ticketRegistry,
                                                final ServicesManager servicesManager,
@@ -120,16 +128,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
         val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
         val ticketGrantingTicket = getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
-        val selectedService = resolveServiceFromAuthenticationRequest(service);
-        val registeredService = this.servicesManager.findServiceBy(selectedService);
-
-        enforceRegisteredServiceAccess(selectedService, ticketGrantingTicket, registeredService);
-
-        val currentAuthentication = evaluatePossibilityOfMixedPrincipals(authenticationResult, ticketGrantingTicket);
-        RegisteredServiceAccessStrategyUtils.ensureServiceSsoAccessIsAllowed(registeredService, selectedService, ticketGrantingTicket, credentialProvided);
-        evaluateProxiedServiceIfNeeded(selectedService, ticketGrantingTicket, registeredService);
-
-        getAuthenticationSatisfiedByPolicy(currentAuthentication, new ServiceContext(selectedService, registeredService));
+        ensureServiceTicketCanBeGranted(ticketGrantingTicket, service, authenticationResult);
 
         val latestAuthentication = ticketGrantingTicket.getRoot().getAuthentication();
         AuthenticationCredentialsThreadLocalBinder.bindCurrent(latestAuthentication);
@@ -144,6 +143,36 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         return serviceTicket;
     }
 
+    @Audit(
+        action = "SERVICE_TICKET",
+        actionResolverName = "GRANT_SERVICE_TICKET_RESOLVER",
+        resourceResolverName = "GRANT_SERVICE_TICKET_RESOURCE_RESOLVER")
+    @Override
+    public List<ServiceTicket> grantServiceTickets(final String ticketGrantingTicketId, final Collection<Service> services,
+                                                   final AuthenticationResult authenticationResult)
+        throws AuthenticationException, AbstractTicketException {
+
+        val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
+        val ticketGrantingTicket = getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        services.forEach(service -> ensureServiceTicketCanBeGranted(ticketGrantingTicket, service, authenticationResult));
+
+        val latestAuthentication = ticketGrantingTicket.getRoot().getAuthentication();
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(latestAuthentication);
+        val principal = latestAuthentication.getPrincipal();
+        val factory = (ServiceTicketFactory) this.ticketFactory.get(ServiceTicket.class);
+        val serviceTickets = new ArrayList<ServiceTicket>(services.size());
+        services.forEach(service -> serviceTickets.add(factory.create(ticketGrantingTicket, service, credentialProvided, ServiceTicket.class)));
+        this.ticketRegistry.updateTicket(ticketGrantingTicket);
+        this.ticketRegistry.addTicket(serviceTickets.stream());
+
+        serviceTickets.forEach(serviceTicket -> {
+            LOGGER.info("Granted ticket [{}] for service [{}] and principal [{}]", serviceTicket.getId(),
+                DigestUtils.abbreviate(serviceTicket.getService().getId()), principal.getId());
+            doPublishEvent(new CasServiceTicketGrantedEvent(this, ticketGrantingTicket, serviceTicket));
+        });
+        return serviceTickets;
+    }
+
     @Audit(
         action = "PROXY_TICKET",
         actionResolverName = "GRANT_PROXY_TICKET_RESOLVER",
@@ -281,8 +310,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             val attributePolicy = registeredService.getAttributeReleasePolicy();
             LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
 
-            val attributesToRelease = attributePolicy != null
-                ? attributePolicy.getAttributes(principal, selectedService, registeredService) : new HashMap<String, Object>();
+            val attributesToRelease = this.attributeReleaseCache.getAttributes(principal, selectedService, registeredService);
 
             LOGGER.debug("Calculated attributes for release per the release policy are [{}]", attributesToRelease.keySet());
 
@@ -344,6 +372,21 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         return ticketGrantingTicket;
     }
 
+    private void ensureServiceTicketCanBeGranted(final TicketGrantingTicket ticketGrantingTicket, final Service service,
+                                                 final AuthenticationResult authenticationResult) {
+        val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
+        val selectedService = resolveServiceFromAuthenticationRequest(service);
+        val registeredService = this.servicesManager.findServiceBy(selectedService);
+
+        enforceRegisteredServiceAccess(selectedService, ticketGrantingTicket, registeredService);
+
+        val currentAuthentication = evaluatePossibilityOfMixedPrincipals(authenticationResult, ticketGrantingTicket);
+        RegisteredServiceAccessStrategyUtils.ensureServiceSsoAccessIsAllowed(registeredService, selectedService, ticketGrantingTicket, credentialProvided);
+        evaluateProxiedServiceIfNeeded(selectedService, ticketGrantingTicket, registeredService);
+
+        getAuthenticationSatisfiedByPolicy(currentAuthentication, new ServiceContext(selectedService, registeredService));
+    }
+
     private void enforceRegisteredServiceAccess(final Authentication authentication, final Service service, final RegisteredService registeredService) {
         val audit = AuditableContext.builder()
             .service(service)
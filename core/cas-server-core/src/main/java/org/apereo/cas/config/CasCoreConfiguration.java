@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.policy.RequiredHandlerAuthenticationPolicyF
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.services.RegisteredServiceAttributeReleaseCache;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.TicketFactory;
@@ -79,6 +80,10 @@ public class CasCoreConfiguration {
     @Qualifier("protocolTicketCipherExecutor")
     private ObjectProvider<CipherExecutor> cipherExecutor;
 
+    @Autowired
+    @Qualifier("registeredServiceAttributeReleaseCache")
+    private ObjectProvider<RegisteredServiceAttributeReleaseCache> registeredServiceAttributeReleaseCache;
+
     @Bean
     @ConditionalOnMissingBean(name = "authenticationPolicyFactory")
     public ContextualAuthenticationPolicyFactory<ServiceContext> authenticationPolicyFactory() {
@@ -106,7 +111,7 @@ public class CasCoreConfiguration {
     @ConditionalOnMissingBean(name = "centralAuthenticationService")
     public CentralAuthenticationService centralAuthenticationService(
         @Qualifier("authenticationServiceSelectionPlan") final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan) {
-        return new DefaultCentralAuthenticationService(applicationEventPublisher,
+        val cas = new DefaultCentralAuthenticationService(applicationEventPublisher,
             ticketRegistry.getIfAvailable(),
             servicesManager.getIfAvailable(),
             logoutManager.getIfAvailable(),
@@ -116,5 +121,7 @@ public class CasCoreConfiguration {
             principalFactory.getIfAvailable(),
             cipherExecutor.getIfAvailable(),
             registeredServiceAccessStrategyEnforcer.getIfAvailable());
+        registeredServiceAttributeReleaseCache.ifAvailable(cas::setAttributeReleaseCache);
+        return cas;
     }
 }
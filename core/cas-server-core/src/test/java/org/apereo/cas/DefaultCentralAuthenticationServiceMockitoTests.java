@@ -29,6 +29,7 @@ import org.apereo.cas.services.UnauthorizedServiceException;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TransientSessionTicket;
@@ -61,6 +62,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -275,6 +277,16 @@ public class DefaultCentralAuthenticationServiceMockitoTests extends BaseCasCore
             .forEach(i -> assertEquals(assertion.getChainedAuthentications().get(i), authentication));
     }
 
+    @Test
+    public void verifyServiceTicketsAreGrantedInOneRegistryWrite() {
+        val services = Collections.nCopies(3, (Service) RegisteredServiceTestUtils.getService(SVC2_ID));
+        val serviceTickets = this.cas.grantServiceTickets(TGT2_ID, services, getAuthenticationContext());
+        assertEquals(services.size(), serviceTickets.size());
+        verify(this.ticketRegMock, times(1)).updateTicket(any(TicketGrantingTicket.class));
+        verify(this.ticketRegMock, times(1)).addTicket(any(Stream.class));
+        verify(this.ticketRegMock, never()).addTicket(any(Ticket.class));
+    }
+
     private TicketGrantingTicket createRootTicketGrantingTicket() {
         val tgtRootMock = mock(TicketGrantingTicket.class);
         when(tgtRootMock.isExpired()).thenReturn(false);
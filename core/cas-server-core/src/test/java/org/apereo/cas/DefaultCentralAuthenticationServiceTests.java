@@ -17,6 +17,7 @@ import org.apereo.cas.services.UnauthorizedServiceException;
 import org.apereo.cas.services.UnauthorizedSsoServiceException;
 import org.apereo.cas.ticket.AbstractTicketException;
 import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
@@ -124,6 +125,37 @@ public class DefaultCentralAuthenticationServiceTests extends AbstractCentralAut
         getCentralAuthenticationService().grantServiceTicket(ticketId.getId(), getService(), ctx);
     }
 
+    @Test
+    public void verifyGrantServiceTicketsWithValidTicketGrantingTicket() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketId = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val services = CollectionUtils.wrapList(getService(), getService("testDefault"));
+        val serviceTickets = getCentralAuthenticationService().grantServiceTickets(ticketId.getId(), services, ctx);
+
+        assertEquals(2, serviceTickets.size());
+        for (var i = 0; i < services.size(); i++) {
+            val serviceTicket = serviceTickets.get(i);
+            assertEquals(services.get(i).getId(), serviceTicket.getService().getId());
+            assertNotNull(getTicketRegistry().getTicket(serviceTicket.getId(), ServiceTicket.class));
+        }
+        val ticketGrantingTicket = getTicketRegistry().getTicket(ticketId.getId(), TicketGrantingTicket.class);
+        assertEquals(2, ticketGrantingTicket.getServices().size());
+    }
+
+    @Test
+    public void verifyGrantServiceTicketsFailsAuthzRuleForAnyService() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketId = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val services = CollectionUtils.wrapList(getService(), getService("TestServiceAttributeForAuthzFails"));
+        try {
+            getCentralAuthenticationService().grantServiceTickets(ticketId.getId(), services, ctx);
+            fail("Expected a principal exception");
+        } catch (final PrincipalException e) {
+            val ticketGrantingTicket = getTicketRegistry().getTicket(ticketId.getId(), TicketGrantingTicket.class);
+            assertTrue(ticketGrantingTicket.getServices().isEmpty());
+        }
+    }
+
     @Test
     public void verifyGrantServiceTicketFailsAuthzRule() {
         val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport(),
@@ -11,6 +11,7 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapException;
 import org.ldaptive.Response;
 import org.ldaptive.SearchResult;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.webflow.execution.RequestContext;
 
 /**
@@ -24,7 +25,7 @@ import org.springframework.webflow.execution.RequestContext;
  * @since 4.2
  */
 @Slf4j
-public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttributeAcceptableUsagePolicyRepository {
+public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttributeAcceptableUsagePolicyRepository implements DisposableBean {
     private static final long serialVersionUID = 1600024683199961892L;
 
     private final transient ConnectionFactory connectionFactory;
@@ -70,4 +71,9 @@ public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttrib
             CollectionUtils.wrap(id));
         return LdapUtils.executeSearchOperation(this.connectionFactory, this.baseDn, filter);
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
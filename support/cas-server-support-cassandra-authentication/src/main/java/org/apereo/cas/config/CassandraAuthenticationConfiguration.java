@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
 import org.apereo.cas.cassandra.CassandraSessionFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
@@ -50,6 +51,10 @@ public class CassandraAuthenticationConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ObjectProvider<PasswordHashingExecutor> passwordHashingExecutor;
+
     @Bean
     public PrincipalFactory cassandraPrincipalFactory() {
         return PrincipalFactoryUtils.newPrincipalFactory();
@@ -69,7 +74,7 @@ public class CassandraAuthenticationConfiguration {
             cassandraPrincipalFactory(),
             cassandra.getOrder(), cassandra, cassandraRepository());
         handler.setPrincipalNameTransformer(PrincipalNameTransformerUtils.newPrincipalNameTransformer(cassandra.getPrincipalTransformation()));
-        handler.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(cassandra.getPasswordEncoder()));
+        handler.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(cassandra.getPasswordEncoder(), passwordHashingExecutor.getIfAvailable()));
         return handler;
     }
 
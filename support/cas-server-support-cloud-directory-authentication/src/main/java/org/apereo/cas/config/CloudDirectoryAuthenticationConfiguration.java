@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
 import org.apereo.cas.aws.ChainingAWSCredentialsProvider;
 import org.apereo.cas.clouddirectory.CloudDirectoryRepository;
 import org.apereo.cas.clouddirectory.DefaultCloudDirectoryRepository;
@@ -45,6 +46,10 @@ public class CloudDirectoryAuthenticationConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ObjectProvider<PasswordHashingExecutor> passwordHashingExecutor;
+
     @Autowired
     @Qualifier("defaultPrincipalResolver")
     private ObjectProvider<PrincipalResolver> defaultPrincipalResolver;
@@ -65,7 +70,7 @@ public class CloudDirectoryAuthenticationConfiguration {
         val handler = new CloudDirectoryAuthenticationHandler(cloud.getName(), servicesManager.getIfAvailable(),
             cloudDirectoryPrincipalFactory(), cloudDirectoryRepository(), cloud);
         handler.setPrincipalNameTransformer(PrincipalNameTransformerUtils.newPrincipalNameTransformer(cloud.getPrincipalTransformation()));
-        handler.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(cloud.getPasswordEncoder()));
+        handler.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(cloud.getPasswordEncoder(), passwordHashingExecutor.getIfAvailable()));
         return handler;
     }
 
@@ -5,44 +5,65 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.RandomUtils;
 
-import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.val;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link BaseConsentRepository}.
+ * Decisions are indexed by principal and service, so that locating the decision
+ * for an attribute release does not require going through all decisions.
+ * Storing or removing a decision only updates the index entries of that decision.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
-@Setter
-@RequiredArgsConstructor
-@AllArgsConstructor
 public abstract class BaseConsentRepository implements ConsentRepository {
     private static final long serialVersionUID = 1736846688546785564L;
+
     private transient Set<ConsentDecision> consentDecisions = new LinkedHashSet<>();
 
+    /**
+     * Decisions keyed by principal and service, in the order they were stored.
+     */
+    private transient Map<String, Map<String, Set<ConsentDecision>>> consentDecisionIndex = new ConcurrentHashMap<>();
+
+    private transient Map<Long, ConsentDecision> consentDecisionsById = new ConcurrentHashMap<>();
+
+    protected BaseConsentRepository() {
+    }
+
+    protected BaseConsentRepository(final Set<ConsentDecision> consentDecisions) {
+        setConsentDecisions(consentDecisions);
+    }
+
     @Override
     public ConsentDecision findConsentDecision(final Service service, final RegisteredService registeredService,
                                                final Authentication authentication) {
-        return this.consentDecisions.stream()
-            .filter(d -> d.getPrincipal().equals(authentication.getPrincipal().getId())
-                && d.getService().equals(service.getId()))
-            .findFirst()
-            .orElse(null);
+        val decisions = this.consentDecisionIndex.get(authentication.getPrincipal().getId());
+        if (decisions == null) {
+            return null;
+        }
+        val candidates = decisions.get(service.getId());
+        return candidates == null ? null : candidates.stream().findFirst().orElse(null);
     }
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
-        return this.consentDecisions.stream()
-            .filter(d -> d.getPrincipal().equals(principal))
+        val decisions = this.consentDecisionIndex.get(principal);
+        if (decisions == null) {
+            return new LinkedHashSet<>(0);
+        }
+        return decisions.values()
+            .stream()
+            .flatMap(Set::stream)
             .collect(Collectors.toSet());
     }
 
@@ -52,31 +73,70 @@ public abstract class BaseConsentRepository implements ConsentRepository {
     }
 
     @Override
-    public boolean storeConsentDecision(final ConsentDecision decision) {
-        val consent = getConsentDecisions()
-            .stream()
-            .filter(d -> d.getId() == decision.getId())
-            .findFirst()
-            .orElse(null);
+    public synchronized boolean storeConsentDecision(final ConsentDecision decision) {
+        val consent = this.consentDecisionsById.get(decision.getId());
         if (consent != null) {
-            getConsentDecisions().remove(decision);
+            getConsentDecisions().remove(consent);
+            removeFromIndex(consent);
         } else {
             decision.setId(RandomUtils.getNativeInstance().nextInt());
         }
         getConsentDecisions().add(decision);
+        addToIndex(decision);
         return true;
     }
 
 
     @Override
-    public boolean deleteConsentDecision(final long decisionId, final String principal) {
+    public synchronized boolean deleteConsentDecision(final long decisionId, final String principal) {
         val decisions = findConsentDecisions(principal);
         val result = decisions.stream().filter(d -> d.getId() == decisionId).findFirst();
-        result.ifPresent(value -> this.consentDecisions.remove(value));
+        result.ifPresent(value -> {
+            this.consentDecisions.remove(value);
+            removeFromIndex(value);
+        });
         return result.isPresent();
     }
 
     protected Set<ConsentDecision> getConsentDecisions() {
         return this.consentDecisions;
     }
+
+    /**
+     * Sets the consent decisions, and indexes them by principal and service.
+     *
+     * @param consentDecisions the consent decisions
+     */
+    public synchronized void setConsentDecisions(final Set<ConsentDecision> consentDecisions) {
+        this.consentDecisions = consentDecisions;
+        indexConsentDecisions();
+    }
+
+    /**
+     * Rebuild the index of decisions by principal and service.
+     * Where several decisions exist for the same principal and service,
+     * the first one wins as it would when going through the decisions in order.
+     */
+    protected void indexConsentDecisions() {
+        this.consentDecisionIndex = new ConcurrentHashMap<>();
+        this.consentDecisionsById = new ConcurrentHashMap<>();
+        this.consentDecisions.forEach(this::addToIndex);
+    }
+
+    private void addToIndex(final ConsentDecision decision) {
+        this.consentDecisionIndex
+            .computeIfAbsent(decision.getPrincipal(), k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(decision.getService(), k -> new CopyOnWriteArraySet<>())
+            .add(decision);
+        this.consentDecisionsById.putIfAbsent(decision.getId(), decision);
+    }
+
+    private void removeFromIndex(final ConsentDecision decision) {
+        this.consentDecisionIndex.computeIfPresent(decision.getPrincipal(), (principal, decisions) -> {
+            decisions.values().forEach(candidates -> candidates.remove(decision));
+            decisions.values().removeIf(Set::isEmpty);
+            return decisions.isEmpty() ? null : decisions;
+        });
+        this.consentDecisionsById.remove(decision.getId(), decision);
+    }
 }
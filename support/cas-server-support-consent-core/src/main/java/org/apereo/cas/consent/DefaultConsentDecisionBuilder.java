@@ -9,19 +9,28 @@ import org.apereo.cas.util.EncodingUtils;
 
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultConsentDecisionBuilder}.
+ * Attributes are compared by canonical fingerprints that do not depend on the order
+ * of attribute names or values. Fingerprints of attributes that were consented to
+ * are remembered per principal and service, for as long as the decision is unchanged.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -32,8 +41,17 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
     private static final long serialVersionUID = 8220243983483982326L;
 
+    private static final long FINGERPRINT_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final Duration FINGERPRINT_CACHE_EXPIRATION = Duration.ofHours(1);
+
     private final transient CipherExecutor<Serializable, String> consentCipherExecutor;
 
+    private final transient Cache<String, ConsentedAttributesFingerprint> consentedAttributesFingerprints = Caffeine.newBuilder()
+        .maximumSize(FINGERPRINT_CACHE_MAXIMUM_SIZE)
+        .expireAfterAccess(FINGERPRINT_CACHE_EXPIRATION)
+        .build();
+
     @Override
     public ConsentDecision update(final ConsentDecision consent, final Map<String, Object> attributes) {
         val encodedNames = buildAndEncodeConsentAttributes(attributes);
@@ -56,23 +74,14 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
     @Override
     public boolean doesAttributeReleaseRequireConsent(final ConsentDecision decision,
                                                       final Map<String, Object> attributes) {
-        val consentAttributes = getConsentableAttributesFrom(decision);
-
         if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_NAME) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash);
+            val consented = getConsentedAttributesFingerprint(decision);
+            return !StringUtils.equals(consented.getNames(), fingerprintAttributeNames(attributes));
         }
 
         if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_VALUE) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-
-            val consentAttributeValuesHash = sha512ConsentAttributeValues(consentAttributes);
-            val currentAttributeValuesHash = sha512ConsentAttributeValues(attributes);
-
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash)
-                || !StringUtils.equals(consentAttributeValuesHash, currentAttributeValuesHash);
+            val consented = getConsentedAttributesFingerprint(decision);
+            return !StringUtils.equals(consented.getNamesAndValues(), fingerprintAttributeNamesAndValues(attributes));
         }
         return true;
     }
@@ -92,17 +101,60 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
         }
     }
 
-    private static String sha512ConsentAttributeNames(final Map<String, Object> attributes) {
-        val allNames = String.join("|", attributes.keySet());
-        return DigestUtils.sha512(allNames);
+    /**
+     * Fingerprint the names of the attributes, regardless of their order.
+     *
+     * @param attributes the attributes
+     * @return the fingerprint
+     */
+    protected static String fingerprintAttributeNames(final Map<String, Object> attributes) {
+        val canonical = new StringBuilder();
+        new TreeSet<>(attributes.keySet()).forEach(name -> appendCanonical(canonical, name));
+        return DigestUtils.sha512(canonical.toString());
     }
 
-    private static String sha512ConsentAttributeValues(final Map<String, Object> attributes) {
-        val allValues = attributes.values().stream()
-            .map(CollectionUtils::toCollection)
-            .map(c -> c.stream().map(Object::toString).collect(Collectors.joining()))
-            .collect(Collectors.joining("|"));
-        return DigestUtils.sha512(allValues);
+    /**
+     * Fingerprint the names of the attributes along with their values,
+     * regardless of the order of attributes or the order of values of each attribute.
+     *
+     * @param attributes the attributes
+     * @return the fingerprint
+     */
+    protected static String fingerprintAttributeNamesAndValues(final Map<String, Object> attributes) {
+        val canonical = new StringBuilder();
+        new TreeMap<>(attributes).forEach((name, value) -> {
+            appendCanonical(canonical, name);
+            val values = CollectionUtils.toCollection(value)
+                .stream()
+                .map(Object::toString)
+                .sorted()
+                .collect(Collectors.toList());
+            canonical.append(values.size()).append('[');
+            values.forEach(v -> appendCanonical(canonical, v));
+            canonical.append(']');
+        });
+        return DigestUtils.sha512(canonical.toString());
+    }
+
+    /**
+     * Length-prefix the value so that no two distinct sequences of values
+     * end up with the same canonical form.
+     */
+    private static void appendCanonical(final StringBuilder canonical, final String value) {
+        canonical.append(value.length()).append(':').append(value);
+    }
+
+    private ConsentedAttributesFingerprint getConsentedAttributesFingerprint(final ConsentDecision decision) {
+        val key = decision.getPrincipal() + '|' + decision.getService();
+        val cached = consentedAttributesFingerprints.getIfPresent(key);
+        if (cached != null && StringUtils.equals(cached.getAttributes(), decision.getAttributes())) {
+            return cached;
+        }
+        val consentAttributes = getConsentableAttributesFrom(decision);
+        val fingerprint = new ConsentedAttributesFingerprint(decision.getAttributes(),
+            fingerprintAttributeNames(consentAttributes), fingerprintAttributeNamesAndValues(consentAttributes));
+        consentedAttributesFingerprints.put(key, fingerprint);
+        return fingerprint;
     }
 
     /**
@@ -120,4 +172,18 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
             throw new IllegalArgumentException("Could not serialize attributes for consent decision");
         }
     }
+
+    /**
+     * Fingerprints of the attributes that were consented to, along with
+     * the encoded attributes of the decision they are computed from.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class ConsentedAttributesFingerprint {
+        private final String attributes;
+
+        private final String names;
+
+        private final String namesAndValues;
+    }
 }
@@ -18,6 +18,9 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.junit.Assert.*;
 
 /**
@@ -73,6 +76,71 @@ public class DefaultConsentDecisionBuilderTests {
         assertEquals("value1", attrs.get("attr1"));
     }
 
+    @Test
+    public void verifyReorderedAttributeNamesDoNotRequireConsent() {
+        val consentDecision = consentDecisionBuilder.build(RegisteredServiceTestUtils.getService(),
+            RegisteredServiceTestUtils.getRegisteredService("test"), "casuser", getAttributes(false));
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, getAttributes(true)));
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, getAttributes(false)));
+    }
+
+    @Test
+    public void verifyReorderedAttributeValuesDoNotRequireConsent() {
+        val consentDecision = consentDecisionBuilder.build(RegisteredServiceTestUtils.getService(),
+            RegisteredServiceTestUtils.getRegisteredService("test"), "casuser", getAttributes(false));
+        consentDecision.setOptions(ConsentReminderOptions.ATTRIBUTE_VALUE);
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, getAttributes(true)));
+
+        val changed = getAttributes(true);
+        changed.put("memberOf", CollectionUtils.wrapList("staff", "admins"));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, changed));
+    }
+
+    @Test
+    public void verifyValuesMovedBetweenAttributesRequireConsent() {
+        val consented = new LinkedHashMap<String, Object>();
+        consented.put("first", "a");
+        consented.put("second", CollectionUtils.wrapList("b", "c"));
+        val consentDecision = consentDecisionBuilder.build(RegisteredServiceTestUtils.getService(),
+            RegisteredServiceTestUtils.getRegisteredService("test"), "casuser", consented);
+        consentDecision.setOptions(ConsentReminderOptions.ATTRIBUTE_VALUE);
+
+        val moved = new LinkedHashMap<String, Object>();
+        moved.put("first", CollectionUtils.wrapList("a", "b"));
+        moved.put("second", "c");
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, moved));
+
+        val joined = new LinkedHashMap<String, Object>();
+        joined.put("first", "a");
+        joined.put("second", "bc");
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, joined));
+    }
+
+    @Test
+    public void verifyUpdatedDecisionIsFingerprintedAgain() {
+        val consentDecision = getConsentDecision();
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr1", "value1")));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr2", "value2")));
+
+        consentDecisionBuilder.update(consentDecision, CollectionUtils.wrap("attr2", "value2"));
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr2", "value2")));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr1", "value1")));
+    }
+
+    private static Map<String, Object> getAttributes(final boolean reversed) {
+        val attributes = new LinkedHashMap<String, Object>();
+        if (reversed) {
+            attributes.put("memberOf", CollectionUtils.wrapList("staff", "faculty"));
+            attributes.put("mail", "casuser@example.org");
+            attributes.put("cn", "CAS User");
+        } else {
+            attributes.put("cn", "CAS User");
+            attributes.put("mail", "casuser@example.org");
+            attributes.put("memberOf", CollectionUtils.wrapList("faculty", "staff"));
+        }
+        return attributes;
+    }
+
     private ConsentDecision getConsentDecision() {
         return consentDecisionBuilder.build(RegisteredServiceTestUtils.getService(),
             RegisteredServiceTestUtils.getRegisteredService("test"),
@@ -1,14 +1,23 @@
 package org.apereo.cas.consent;
 
 import org.apereo.cas.audit.spi.config.CasCoreAuditConfiguration;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasConsentCoreConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 
 import lombok.Getter;
+import lombok.val;
+import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
 /**
  * This is {@link InMemoryConsentRepositoryTests}.
  *
@@ -26,4 +35,68 @@ public class InMemoryConsentRepositoryTests extends BaseConsentRepositoryTests {
     @Autowired
     @Qualifier("consentRepository")
     protected ConsentRepository repository;
+
+    @Test
+    public void verifyConsentDecisionsAreIndexedByPrincipalAndService() {
+        val repo = new InMemoryConsentRepository();
+        val otherService = RegisteredServiceTestUtils.getService("https://other.example.org");
+        val first = BUILDER.build(SVC, REG_SVC, "indexed", ATTR);
+        val duplicate = BUILDER.build(SVC, REG_SVC, "indexed", ATTR);
+        val other = BUILDER.build(otherService, REG_SVC, "indexed", ATTR);
+        first.setId(1);
+        duplicate.setId(2);
+        other.setId(3);
+        val decisions = new LinkedHashSet<ConsentDecision>();
+        decisions.add(first);
+        decisions.add(duplicate);
+        decisions.add(other);
+        repo.setConsentDecisions(decisions);
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("indexed");
+        assertSame(first, repo.findConsentDecision(SVC, REG_SVC, authentication));
+        assertSame(other, repo.findConsentDecision(otherService, REG_SVC, authentication));
+        assertNull(repo.findConsentDecision(RegisteredServiceTestUtils.getService("https://unknown.example.org"), REG_SVC, authentication));
+        assertEquals(3, repo.findConsentDecisions("indexed").size());
+
+        assertTrue(repo.deleteConsentDecision(first.getId(), "indexed"));
+        assertSame(duplicate, repo.findConsentDecision(SVC, REG_SVC, authentication));
+
+        val stored = BUILDER.build(SVC, REG_SVC, "stored", ATTR);
+        repo.storeConsentDecision(stored);
+        assertSame(stored, repo.findConsentDecision(SVC, REG_SVC, CoreAuthenticationTestUtils.getAuthentication("stored")));
+    }
+
+    @Test
+    public void verifyConsentDecisionsAreIndexedIncrementally() {
+        val rebuilds = new AtomicInteger();
+        val repo = new InMemoryConsentRepository() {
+            private static final long serialVersionUID = -2919497391738937224L;
+
+            @Override
+            protected void indexConsentDecisions() {
+                rebuilds.incrementAndGet();
+                super.indexConsentDecisions();
+            }
+        };
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("incremental");
+        val decision = BUILDER.build(SVC, REG_SVC, "incremental", ATTR);
+        assertTrue(repo.storeConsentDecision(decision));
+        assertSame(decision, repo.findConsentDecision(SVC, REG_SVC, authentication));
+
+        val duplicate = BUILDER.build(SVC, REG_SVC, "incremental", ATTR);
+        repo.storeConsentDecision(duplicate);
+        decision.setReminder(1L);
+        repo.storeConsentDecision(decision);
+        assertEquals(2, repo.findConsentDecisions().size());
+        assertEquals(2, repo.findConsentDecisions("incremental").size());
+        assertSame(duplicate, repo.findConsentDecision(SVC, REG_SVC, authentication));
+
+        assertTrue(repo.deleteConsentDecision(duplicate.getId(), "incremental"));
+        assertSame(decision, repo.findConsentDecision(SVC, REG_SVC, authentication));
+        assertTrue(repo.deleteConsentDecision(decision.getId(), "incremental"));
+        assertNull(repo.findConsentDecision(SVC, REG_SVC, authentication));
+        assertTrue(repo.findConsentDecisions("incremental").isEmpty());
+        assertFalse(repo.deleteConsentDecision(decision.getId(), "incremental"));
+        assertEquals(0, rebuilds.get());
+    }
 }
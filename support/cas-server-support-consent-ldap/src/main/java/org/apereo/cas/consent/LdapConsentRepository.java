@@ -15,6 +15,7 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapAttribute;
 import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -31,7 +32,7 @@ import java.util.stream.Collectors;
  * @since 5.2.0
  */
 @Slf4j
-public class LdapConsentRepository implements ConsentRepository {
+public class LdapConsentRepository implements ConsentRepository, DisposableBean {
     private static final long serialVersionUID = 8561763114482490L;
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
@@ -261,4 +262,9 @@ public class LdapConsentRepository implements ConsentRepository {
         }
         return new HashSet<>(0);
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
@@ -8,10 +8,11 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 
 import com.couchbase.client.java.document.SerializableDocument;
+import com.couchbase.client.java.view.AsyncViewResult;
+import com.couchbase.client.java.view.AsyncViewRow;
 import com.couchbase.client.java.view.DefaultView;
 import com.couchbase.client.java.view.View;
 import com.couchbase.client.java.view.ViewQuery;
-import com.couchbase.client.java.view.ViewResult;
 import com.couchbase.client.java.view.ViewRow;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -19,19 +20,24 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
+import rx.Observable;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A Ticket Registry storage backend which uses the memcached protocol.
  * CouchBase is a multi host NoSQL database with a memcached interface
  * to persistent storage which also is quite usable as a replicated
  * ticket storage engine for multiple front end CAS servers.
+ * <p>
+ * Tickets are stored with the expiration time of their expiration policy, so that
+ * Couchbase removes expired tickets on its own. Tickets are counted by the reduce function
+ * of the {@link #ALL_TICKETS_VIEW} without reading any of the tickets, and are fetched or
+ * removed in bulk by their ids through the asynchronous bucket.
+ * </p>
  *
  * @author Fredrik Jönsson "fjo@kth.se"
  * @author Misagh Moayyed
@@ -66,13 +72,18 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
     private static final long MAX_EXP_TIME_IN_DAYS = 30;
     private static final String END_TOKEN = "\u02ad";
 
+    /**
+     * Number of documents fetched or removed at the same time.
+     */
+    private static final int MAX_CONCURRENT_OPERATIONS = 64;
+
     private final TicketCatalog ticketCatalog;
     private final CouchbaseClientFactory couchbase;
 
-    private static int getViewRowCountFromViewResultIterator(final Iterator<ViewRow> iterator) {
+    private static long getViewRowCountFromViewResultIterator(final Iterator<ViewRow> iterator) {
         if (iterator.hasNext()) {
             val res = iterator.next();
-            val count = (Integer) res.value();
+            val count = ((Number) res.value()).longValue();
             LOGGER.debug("Found [{}] rows", count);
             return count;
         }
@@ -82,19 +93,25 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
 
     /**
      * Get the expiration policy value of the ticket in seconds.
+     * Couchbase considers any expiration time larger than {@value #MAX_EXP_TIME_IN_DAYS} days
+     * to be absolute (as in a Unix time stamp) and anything smaller to be relative in seconds,
+     * so longer expiration times are turned into the time at which the ticket expires.
      *
      * @param ticket the ticket
      * @return the exp value
      * @see <a href="http://docs.couchbase.com/developer/java-2.0/documents-basics.html">Couchbase Docs</a>
      */
     private static int getTimeToLive(final Ticket ticket) {
-        val expTime = ticket.getExpirationPolicy().getTimeToLive().intValue();
-        if (TimeUnit.SECONDS.toDays(expTime) >= MAX_EXP_TIME_IN_DAYS) {
-            LOGGER.warn("Any expiration time larger than [{}] days in seconds is considered absolute (as in a Unix time stamp) "
-                + "anything smaller is considered relative in seconds.", MAX_EXP_TIME_IN_DAYS);
-
+        val timeToLive = ticket.getExpirationPolicy().getTimeToLive();
+        if (timeToLive == null || timeToLive <= 0) {
+            return 0;
+        }
+        if (TimeUnit.SECONDS.toDays(timeToLive) < MAX_EXP_TIME_IN_DAYS) {
+            return timeToLive.intValue();
         }
-        return expTime;
+        val expirationTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + timeToLive;
+        LOGGER.trace("Ticket [{}] expires after [{}] seconds at [{}]", ticket.getId(), timeToLive, expirationTime);
+        return (int) Math.min(expirationTime, Integer.MAX_VALUE);
     }
 
     @Override
@@ -158,18 +175,24 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        return this.ticketCatalog.findAll().stream().flatMap(t -> getViewResultIteratorForPrefixedTickets(t.getPrefix() + '-').allRows().stream())
-            .filter(row -> StringUtils.isNotBlank(row.id())).map(row -> {
-                val ticket = (Ticket) row.document().content();
+        val bucket = this.couchbase.getBucket().async();
+        return getTicketIds()
+            .flatMap(id -> bucket.get(id, SerializableDocument.class), MAX_CONCURRENT_OPERATIONS)
+            .map(document -> {
+                val ticket = (Ticket) document.content();
                 LOGGER.debug("Got ticket [{}] from the registry.", ticket);
                 return decodeTicket(ticket);
-            }).map(decoded -> {
+            })
+            .filter(decoded -> {
                 if (decoded == null || decoded.isExpired()) {
                     LOGGER.warn("Ticket has expired or cannot be decoded");
-                    return null;
+                    return false;
                 }
-                return decoded;
-            }).collect(Collectors.toList());
+                return true;
+            })
+            .toList()
+            .toBlocking()
+            .single();
     }
 
     @Override
@@ -196,31 +219,37 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public long deleteAll() {
-        val remove = (Consumer<? super ViewRow>) t -> this.couchbase.getBucket().remove(t.document());
-        return this.ticketCatalog.findAll()
-            .stream()
-            .mapToLong(t -> {
-                val it = getViewResultIteratorForPrefixedTickets(t.getPrefix() + '-').iterator();
-                val count = getViewRowCountFromViewResultIterator(it);
-                it.forEachRemaining(remove);
-                return count;
-            })
-            .sum();
+        val bucket = this.couchbase.getBucket().async();
+        return getTicketIds()
+            .flatMap(id -> bucket.remove(id, SerializableDocument.class)
+                .onErrorResumeNext(e -> {
+                    LOGGER.debug("Failed deleting [{}]: [{}]", id, e.getMessage());
+                    return Observable.empty();
+                }), MAX_CONCURRENT_OPERATIONS)
+            .count()
+            .toBlocking()
+            .single();
     }
 
-    private int runQuery(final String prefix) {
-        val iterator = getViewResultIteratorForPrefixedTickets(prefix).iterator();
+    private long runQuery(final String prefix) {
+        val iterator = this.couchbase.getBucket().query(getViewQueryForPrefixedTickets(prefix).reduce(true)).iterator();
         return getViewRowCountFromViewResultIterator(iterator);
     }
 
-    private ViewResult getViewResultIteratorForPrefixedTickets(final String prefix) {
+    private Observable<String> getTicketIds() {
+        val bucket = this.couchbase.getBucket().async();
+        return Observable.from(this.ticketCatalog.findAll())
+            .concatMap(definition -> bucket.query(getViewQueryForPrefixedTickets(definition.getPrefix() + '-').reduce(false)))
+            .concatMap(AsyncViewResult::rows)
+            .map(AsyncViewRow::id)
+            .filter(StringUtils::isNotBlank);
+    }
+
+    private static ViewQuery getViewQueryForPrefixedTickets(final String prefix) {
         LOGGER.debug("Running query on document [{}] and view [{}] with prefix [{}]",
             UTIL_DOCUMENT, VIEW_NAME_ALL_TICKETS, prefix);
-        return this.couchbase.getBucket().query(
-            ViewQuery.from(UTIL_DOCUMENT, VIEW_NAME_ALL_TICKETS)
-                .startKey(prefix)
-                .endKey(prefix + END_TOKEN)
-                .reduce());
+        return ViewQuery.from(UTIL_DOCUMENT, VIEW_NAME_ALL_TICKETS)
+            .startKey(prefix)
+            .endKey(prefix + END_TOKEN);
     }
 }
-
@@ -0,0 +1,199 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.category.CouchbaseCategory;
+import org.apereo.cas.couchbase.core.CouchbaseClientFactory;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+
+import com.couchbase.client.java.AsyncBucket;
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.document.SerializableDocument;
+import com.couchbase.client.java.error.DocumentDoesNotExistException;
+import com.couchbase.client.java.view.AsyncViewResult;
+import com.couchbase.client.java.view.AsyncViewRow;
+import com.couchbase.client.java.view.ViewQuery;
+import com.couchbase.client.java.view.ViewResult;
+import com.couchbase.client.java.view.ViewRow;
+import lombok.val;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import rx.Observable;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CouchbaseTicketRegistryQueryTests} that runs the registry against a bucket
+ * that keeps documents in memory and answers view queries for the all tickets view.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Category(CouchbaseCategory.class)
+public class CouchbaseTicketRegistryQueryTests {
+    private static final int TICKETS_IN_REGISTRY = 500;
+
+    private static final Pattern START_KEY = Pattern.compile("startkey=\"([^\"]*)\"");
+
+    private static final Pattern END_KEY = Pattern.compile("endkey=\"([^\"]*)\"");
+
+    private final Map<String, SerializableDocument> documents = new ConcurrentSkipListMap<>();
+
+    private final AtomicInteger transferredRows = new AtomicInteger();
+
+    private Bucket bucket;
+
+    private AsyncBucket asyncBucket;
+
+    private CouchbaseTicketRegistry ticketRegistry;
+
+    @Before
+    public void initialize() {
+        this.bucket = mock(Bucket.class);
+        this.asyncBucket = mock(AsyncBucket.class);
+        when(bucket.async()).thenReturn(asyncBucket);
+        when(bucket.name()).thenReturn("testbucket");
+        when(bucket.upsert(any(SerializableDocument.class))).thenAnswer(args -> {
+            val document = (SerializableDocument) args.getArgument(0);
+            documents.put(document.id(), document);
+            return document;
+        });
+        when(bucket.query(any(ViewQuery.class))).thenAnswer(args -> {
+            val query = (ViewQuery) args.getArgument(0);
+            val ids = findDocumentIds(query);
+            val rows = isReduced(query) ? List.of(newViewRow(null, ids.size())) : ids.stream()
+                .map(id -> newViewRow(id, null))
+                .collect(Collectors.toList());
+            transferredRows.addAndGet(rows.size());
+            val result = mock(ViewResult.class);
+            when(result.iterator()).thenReturn(rows.iterator());
+            when(result.allRows()).thenReturn(rows);
+            return result;
+        });
+        when(asyncBucket.query(any(ViewQuery.class))).thenAnswer(args -> {
+            val query = (ViewQuery) args.getArgument(0);
+            assertFalse(isReduced(query));
+            val rows = findDocumentIds(query).stream().map(id -> {
+                val row = mock(AsyncViewRow.class);
+                when(row.id()).thenReturn(id);
+                return row;
+            }).collect(Collectors.toList());
+            transferredRows.addAndGet(rows.size());
+            val result = mock(AsyncViewResult.class);
+            when(result.rows()).thenReturn(Observable.from(rows));
+            return Observable.just(result);
+        });
+        when(asyncBucket.get(anyString(), eq(SerializableDocument.class))).thenAnswer(args -> {
+            val document = documents.get((String) args.getArgument(0));
+            return document == null ? Observable.empty() : Observable.just(document);
+        });
+        when(asyncBucket.remove(anyString(), eq(SerializableDocument.class))).thenAnswer(args -> {
+            val document = documents.remove((String) args.getArgument(0));
+            return document == null ? Observable.error(new DocumentDoesNotExistException()) : Observable.just(document);
+        });
+
+        val couchbase = mock(CouchbaseClientFactory.class);
+        when(couchbase.getBucket()).thenReturn(bucket);
+
+        val catalog = new DefaultTicketCatalog();
+        catalog.register(new DefaultTicketDefinition(TicketGrantingTicketImpl.class, TicketGrantingTicket.PREFIX, 0));
+        catalog.register(new DefaultTicketDefinition(ServiceTicketImpl.class, ServiceTicket.PREFIX, 1));
+        this.ticketRegistry = new CouchbaseTicketRegistry(catalog, couchbase);
+    }
+
+    @Test
+    public void verifyTicketsAreCountedByReduceFunction() {
+        IntStream.range(0, TICKETS_IN_REGISTRY).forEach(i -> ticketRegistry.addTicket(newTicketGrantingTicket(i, new NeverExpiresExpirationPolicy())));
+
+        assertEquals(TICKETS_IN_REGISTRY, ticketRegistry.sessionCount());
+        assertEquals(0, ticketRegistry.serviceTicketCount());
+        assertEquals(2, transferredRows.get());
+        verify(asyncBucket, never()).get(anyString(), any());
+        verify(bucket, never()).get(anyString(), any());
+    }
+
+    @Test
+    public void verifyTicketsAreFetchedAndRemovedInBulk() {
+        IntStream.range(0, TICKETS_IN_REGISTRY).forEach(i -> ticketRegistry.addTicket(newTicketGrantingTicket(i, new NeverExpiresExpirationPolicy())));
+        val expired = newTicketGrantingTicket(TICKETS_IN_REGISTRY, new NeverExpiresExpirationPolicy());
+        expired.markTicketExpired();
+        ticketRegistry.addTicket(expired);
+
+        val tickets = ticketRegistry.getTickets();
+        assertEquals(TICKETS_IN_REGISTRY, tickets.size());
+        assertFalse(tickets.stream().map(Ticket::getId).anyMatch(expired.getId()::equals));
+        verify(asyncBucket, times(TICKETS_IN_REGISTRY + 1)).get(anyString(), eq(SerializableDocument.class));
+
+        assertEquals(TICKETS_IN_REGISTRY + 1, ticketRegistry.deleteAll());
+        assertTrue(documents.isEmpty());
+        assertEquals(0, ticketRegistry.deleteAll());
+        verify(bucket, never()).remove(anyString());
+    }
+
+    @Test
+    public void verifyDocumentsExpireWithTickets() {
+        val now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        val shortLived = newTicketGrantingTicket(0, new HardTimeoutExpirationPolicy(TimeUnit.HOURS.toSeconds(8)));
+        ticketRegistry.addTicket(shortLived);
+        assertEquals(TimeUnit.HOURS.toSeconds(8), documents.get(shortLived.getId()).expiry());
+
+        val longLived = newTicketGrantingTicket(1, new HardTimeoutExpirationPolicy(TimeUnit.DAYS.toSeconds(60)));
+        ticketRegistry.addTicket(longLived);
+        val expiry = documents.get(longLived.getId()).expiry();
+        assertTrue(expiry >= now + TimeUnit.DAYS.toSeconds(60));
+        assertTrue(expiry <= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + TimeUnit.DAYS.toSeconds(60));
+
+        val neverExpires = newTicketGrantingTicket(2, new NeverExpiresExpirationPolicy());
+        ticketRegistry.addTicket(neverExpires);
+        assertEquals(Integer.MAX_VALUE, documents.get(neverExpires.getId()).expiry());
+    }
+
+    private List<String> findDocumentIds(final ViewQuery query) {
+        val parameters = URLDecoder.decode(query.toQueryString(), StandardCharsets.UTF_8);
+        val startKey = START_KEY.matcher(parameters);
+        val endKey = END_KEY.matcher(parameters);
+        assertTrue(startKey.find() && endKey.find());
+        return documents.keySet()
+            .stream()
+            .filter(id -> id.compareTo(startKey.group(1)) >= 0 && id.compareTo(endKey.group(1)) <= 0)
+            .collect(Collectors.toList());
+    }
+
+    private static boolean isReduced(final ViewQuery query) {
+        return !query.toQueryString().contains("reduce=false");
+    }
+
+    private static ViewRow newViewRow(final String id, final Object value) {
+        val row = mock(ViewRow.class);
+        when(row.id()).thenReturn(id);
+        when(row.value()).thenReturn(value);
+        return row;
+    }
+
+    private static TicketGrantingTicketImpl newTicketGrantingTicket(final int index, final ExpirationPolicy policy) {
+        return new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + "-" + index,
+            CoreAuthenticationTestUtils.getAuthentication(), policy);
+    }
+}
@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.registry.CouchDbTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import lombok.val;
@@ -33,6 +34,10 @@ public class CouchDbTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketSerializationCodec")
+    private ObjectProvider<TicketSerializationCodec> ticketSerializationCodec;
+
     @Autowired
     @Qualifier("defaultObjectMapperFactory")
     private ObjectProvider<ObjectMapperFactory> objectMapperFactory;
@@ -63,6 +68,7 @@ public class CouchDbTicketRegistryConfiguration {
         val couchDb = casProperties.getTicket().getRegistry().getCouchDb();
         val c = new CouchDbTicketRegistry(ticketCatalog, ticketRegistryCouchDbRepository(), couchDb.getRetries());
         c.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(couchDb.getCrypto(), "couchdb"));
+        ticketSerializationCodec.ifAvailable(c::setTicketSerializationCodec);
         return c;
     }
 
@@ -9,6 +9,8 @@ import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.impl.calcs.AuthenticationRiskProfileRepository;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
@@ -52,7 +54,6 @@ import java.util.HashSet;
 @EnableScheduling
 @Slf4j
 public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionPlanConfigurer {
-
     @Autowired
     @Qualifier("geoLocationService")
     private ObjectProvider<GeoLocationService> geoLocationService;
@@ -117,32 +118,41 @@ public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionP
         return new DefaultAuthenticationRiskMitigator(multifactorAuthenticationContingencyPlan());
     }
 
+    @ConditionalOnMissingBean(name = "authenticationRiskProfileRepository")
+    @Bean
+    public AuthenticationRiskProfileRepository authenticationRiskProfileRepository() {
+        val risk = casProperties.getAuthn().getAdaptive().getRisk();
+        val profiles = risk.getProfiles();
+        return new AuthenticationRiskProfileRepository(casEventRepository.getIfAvailable(), risk.getDaysInRecentHistory(),
+            risk.getGeoLocation().getPrecision(), profiles.getMaximumSize(), Beans.newDuration(profiles.getRebuildPeriod()));
+    }
+
     @ConditionalOnMissingBean(name = "ipAddressAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator() {
-        return new IpAddressAuthenticationRequestRiskCalculator(casEventRepository.getIfAvailable(), casProperties);
+        return new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "userAgentAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator() {
-        return new UserAgentAuthenticationRequestRiskCalculator(casEventRepository.getIfAvailable(), casProperties);
+        return new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "dateTimeAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator() {
-        return new DateTimeAuthenticationRequestRiskCalculator(casEventRepository.getIfAvailable(), casProperties);
+        return new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "geoLocationAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator geoLocationAuthenticationRequestRiskCalculator() {
-        return new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository.getIfAvailable(),
+        return new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository(),
             casProperties, geoLocationService.getIfAvailable());
     }
 
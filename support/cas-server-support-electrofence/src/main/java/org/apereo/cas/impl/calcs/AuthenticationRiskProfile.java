@@ -0,0 +1,186 @@
+package org.apereo.cas.impl.calcs;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the recent authentication
+ * events of a principal, by counting events per ip address, user agent, location
+ * and hour of the day. Risk calculators score a request against these counts, so
+ * the cost of scoring does not depend on how many events the principal has.
+ * Locations are counted per grid cell, by rounding latitude and longitude
+ * to the given number of decimal places.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@ToString
+public class AuthenticationRiskProfile {
+    /**
+     * Default number of decimal places for latitude and longitude, which makes grid cells of about a kilometer.
+     */
+    public static final int DEFAULT_GEO_LOCATION_PRECISION = 2;
+
+    private static final int HOURS_IN_DAY = 24;
+
+    private final int geoLocationPrecision;
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final Map<String, Long> ipAddresses = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> agents = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> geoLocations = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray hours = new AtomicLongArray(HOURS_IN_DAY);
+
+    public AuthenticationRiskProfile() {
+        this(DEFAULT_GEO_LOCATION_PRECISION);
+    }
+
+    public AuthenticationRiskProfile(final int geoLocationPrecision) {
+        this.geoLocationPrecision = geoLocationPrecision;
+    }
+
+    /**
+     * Build a profile from the given events.
+     *
+     * @param events               the events
+     * @param geoLocationPrecision the number of decimal places locations are rounded to
+     * @return the profile
+     */
+    public static AuthenticationRiskProfile from(final Collection<? extends CasEvent> events, final int geoLocationPrecision) {
+        val profile = new AuthenticationRiskProfile(geoLocationPrecision);
+        events.forEach(profile::record);
+        return profile;
+    }
+
+    /**
+     * Count the event in this profile.
+     *
+     * @param event the event
+     */
+    public void record(final CasEvent event) {
+        record(event.getClientIpAddress(), event.getAgent(), event.getGeoLocation(), event.getCreationZonedDateTime());
+    }
+
+    /**
+     * Count an event with the given details in this profile.
+     *
+     * @param clientIpAddress the client ip address
+     * @param agent           the user agent
+     * @param location        the location
+     * @param creationTime    the creation time
+     */
+    public void record(final String clientIpAddress, final String agent,
+                       final GeoLocationRequest location, final ZonedDateTime creationTime) {
+        increment(this.ipAddresses, toKey(clientIpAddress));
+        increment(this.agents, toKey(agent));
+        increment(this.geoLocations, toKey(location));
+        if (creationTime != null) {
+            this.hours.incrementAndGet(creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour());
+        }
+        this.count.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of events in this profile.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Gets the number of events from the given ip address, ignoring case.
+     *
+     * @param clientIpAddress the client ip address
+     * @return the count
+     */
+    public long getIpAddressCount(final String clientIpAddress) {
+        return getCount(this.ipAddresses, toKey(clientIpAddress));
+    }
+
+    /**
+     * Gets the number of events from the given user agent, ignoring case.
+     *
+     * @param agent the agent
+     * @return the count
+     */
+    public long getAgentCount(final String agent) {
+        return getCount(this.agents, toKey(agent));
+    }
+
+    /**
+     * Gets the number of events from the grid cell of the given location.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public long getGeoLocationCount(final GeoLocationRequest location) {
+        return getCount(this.geoLocations, toKey(location));
+    }
+
+    /**
+     * Gets the number of events created between the given hours of the day in UTC, inclusive.
+     *
+     * @param fromHour the first hour
+     * @param toHour   the last hour
+     * @return the count
+     */
+    public long getHourCount(final int fromHour, final int toHour) {
+        var total = 0L;
+        for (var hour = Math.max(0, fromHour); hour <= Math.min(HOURS_IN_DAY - 1, toHour); hour++) {
+            total += this.hours.get(hour);
+        }
+        return total;
+    }
+
+    private static void increment(final Map<String, Long> counts, final String key) {
+        if (key != null) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static long getCount(final Map<String, Long> counts, final String key) {
+        return key != null ? counts.getOrDefault(key, 0L) : 0;
+    }
+
+    private static String toKey(final String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+
+    private String toKey(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isBlank(location.getLatitude()) || StringUtils.isBlank(location.getLongitude())) {
+            return null;
+        }
+        try {
+            return toGridCoordinate(location.getLatitude()) + ',' + toGridCoordinate(location.getLongitude());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String toGridCoordinate(final String coordinate) {
+        return new BigDecimal(coordinate.trim())
+            .setScale(this.geoLocationPrecision, RoundingMode.HALF_UP)
+            .stripTrailingZeros()
+            .toPlainString();
+    }
+}
@@ -0,0 +1,105 @@
+package org.apereo.cas.impl.calcs;
+
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.web.support.WebUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository} that keeps the {@link AuthenticationRiskProfile}
+ * of recently seen principals in memory. A profile is built from the recent events of the principal
+ * in the {@link CasEventRepository} the first time it is needed, and is then kept up to date as new
+ * ticket-granting tickets are created. Profiles are built again after the given period, so that
+ * events that are no longer recent stop counting.
+ * <p>
+ * Profiles are only updated with ticket-granting tickets that are created on this node.
+ * When CAS is clustered, authentication events recorded by other nodes are not counted
+ * until the profile is built again from the shared event repository, so the rebuild
+ * period bounds how stale a profile may get.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class AuthenticationRiskProfileRepository {
+    private final CasEventRepository casEventRepository;
+
+    private final long daysInRecentHistory;
+
+    private final int geoLocationPrecision;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public AuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                               final long daysInRecentHistory,
+                                               final int geoLocationPrecision,
+                                               final long maximumSize,
+                                               final Duration rebuildAfter) {
+        this.casEventRepository = casEventRepository;
+        this.daysInRecentHistory = daysInRecentHistory;
+        this.geoLocationPrecision = geoLocationPrecision;
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(rebuildAfter)
+            .build();
+    }
+
+    /**
+     * Gets the risk profile of the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return this.profiles.get(principal, this::buildProfile);
+    }
+
+    /**
+     * Count the ticket-granting ticket in the risk profile of its principal,
+     * if that profile is kept in memory. Profiles that are not in memory are built
+     * from the event repository when needed, which records the event as well.
+     * Only tickets created on this node are seen here.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasTicketGrantingTicketCreatedEvent(final CasTicketGrantingTicketCreatedEvent event) {
+        val ticketGrantingTicket = event.getTicketGrantingTicket();
+        val principal = ticketGrantingTicket.getAuthentication().getPrincipal().getId();
+        val profile = this.profiles.getIfPresent(principal);
+        if (profile != null) {
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            profile.record(clientInfo != null ? clientInfo.getClientIpAddress() : null,
+                WebUtils.getHttpServletRequestUserAgentFromRequestContext(),
+                WebUtils.getHttpServletRequestGeoLocationFromRequestContext(),
+                ticketGrantingTicket.getCreationTime());
+            LOGGER.trace("Updated authentication risk profile of [{}] to [{}]", principal, profile);
+        }
+    }
+
+    /**
+     * Remove all profiles from memory.
+     */
+    public void invalidateAll() {
+        this.profiles.invalidateAll();
+    }
+
+    private AuthenticationRiskProfile buildProfile(final String principal) {
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
+        val date = ZonedDateTime.now().minusDays(this.daysInRecentHistory);
+        val events = this.casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
+        val profile = AuthenticationRiskProfile.from(events, this.geoLocationPrecision);
+        LOGGER.debug("Built authentication risk profile of [{}] from [{}] event(s)", principal, profile.getCount());
+        return profile;
+    }
+}
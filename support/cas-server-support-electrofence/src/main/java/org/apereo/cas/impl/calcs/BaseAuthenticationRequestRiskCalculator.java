@@ -5,9 +5,6 @@ import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +13,6 @@ import lombok.val;
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.ZonedDateTime;
-import java.util.Collection;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -31,9 +26,9 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
 
 
     /**
-     * CAS event repository instance.
+     * Repository of authentication risk profiles.
      */
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
 
     /**
      * Cas settings.
@@ -45,11 +40,11 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
-        if (events.isEmpty()) {
+        val profile = getAuthenticationRiskProfileFor(principal.getId());
+        if (profile.getCount() == 0) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
         }
-        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, events));
+        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), score);
         return score;
     }
@@ -60,47 +55,43 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param request        the request
      * @param authentication the authentication
      * @param service        the service
-     * @param events         the events
+     * @param profile        the risk profile of the principal
      * @return the authentication risk score
      */
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Collection<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return HIGHEST_RISK_SCORE;
     }
 
     /**
-     * Gets cas ticket granting ticket created events.
+     * Gets the risk profile built from recent cas ticket granting ticket created events.
      *
      * @param principal the principal
-     * @return the cas ticket granting ticket created events for
+     * @return the authentication risk profile
      */
-    protected Collection<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now()
-            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
+    protected AuthenticationRiskProfile getAuthenticationRiskProfileFor(final String principal) {
+        return authenticationRiskProfileRepository.getProfile(principal);
     }
 
     /**
      * Calculate score based on events count big decimal.
      *
      * @param authentication the authentication
-     * @param events         the events
+     * @param profile        the risk profile of the principal
      * @param count          the count
      * @return the big decimal
      */
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final Collection<? extends CasEvent> events,
+                                                          final AuthenticationRiskProfile profile,
                                                           final long count) {
-        if (count == events.size()) {
+        val total = profile.getCount();
+        if (count == total) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]", authentication.getPrincipal(), count);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, total);
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.impl.calcs.AuthenticationRiskProfileTests;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculatorTests;
@@ -18,6 +19,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+    AuthenticationRiskProfileTests.class,
     DateTimeAuthenticationRequestRiskCalculatorTests.class,
     GeoLocationAuthenticationRequestRiskCalculatorTests.class,
     IpAddressAuthenticationRequestRiskCalculatorTests.class,
@@ -0,0 +1,129 @@
+package org.apereo.cas.impl.calcs;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class AuthenticationRiskProfileTests {
+    private static final String IP_ADDRESS = "107.181.69.221";
+
+    private static final String AGENT = "Mozilla/5.0 (Windows NT 10.1; rv:10.0) Gecko/20100101 Firefox/10.0";
+
+    @After
+    public void tearDown() {
+        ClientInfoHolder.clear();
+    }
+
+    @Test
+    public void verifyEventsAreCounted() {
+        val time = ZonedDateTime.of(2019, 1, 1, 10, 30, 0, 0, ZoneOffset.UTC);
+        val profile = new AuthenticationRiskProfile();
+        profile.record(IP_ADDRESS, AGENT, new GeoLocationRequest(40.71, -74.005), time);
+        profile.record(IP_ADDRESS, AGENT.toUpperCase(), new GeoLocationRequest(), time.plusHours(2));
+        profile.record("85.90.227.224", null, null, null);
+
+        assertEquals(3, profile.getCount());
+        assertEquals(2, profile.getIpAddressCount(IP_ADDRESS));
+        assertEquals(1, profile.getIpAddressCount("85.90.227.224"));
+        assertEquals(0, profile.getIpAddressCount("127.0.0.1"));
+        assertEquals(2, profile.getAgentCount(AGENT.toLowerCase()));
+        assertEquals(0, profile.getAgentCount(null));
+        assertEquals(1, profile.getGeoLocationCount(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(0, profile.getGeoLocationCount(new GeoLocationRequest()));
+        assertEquals(1, profile.getHourCount(9, 11));
+        assertEquals(2, profile.getHourCount(0, 23));
+        assertEquals(0, profile.getHourCount(13, 11));
+    }
+
+    @Test
+    public void verifyLocationsAreCountedPerGridCell() {
+        val profile = new AuthenticationRiskProfile();
+        profile.record(IP_ADDRESS, AGENT, new GeoLocationRequest(40.7128, -74.0060), null);
+        profile.record(IP_ADDRESS, AGENT, new GeoLocationRequest(40.7149, -74.0051), null);
+        profile.record(IP_ADDRESS, AGENT, newGeoLocationRequest("40.70", "-74"), null);
+        profile.record(IP_ADDRESS, AGENT, newGeoLocationRequest("unknown", "-74"), null);
+
+        assertEquals(2, profile.getGeoLocationCount(new GeoLocationRequest(40.71, -74.01)));
+        assertEquals(1, profile.getGeoLocationCount(new GeoLocationRequest(40.7, -74.0)));
+        assertEquals(0, profile.getGeoLocationCount(new GeoLocationRequest(40.73, -74.01)));
+        assertEquals(0, profile.getGeoLocationCount(newGeoLocationRequest("unknown", "-74")));
+
+        val precise = new AuthenticationRiskProfile(4);
+        precise.record(IP_ADDRESS, AGENT, new GeoLocationRequest(40.7128, -74.0060), null);
+        assertEquals(1, precise.getGeoLocationCount(new GeoLocationRequest(40.71281, -74.00601)));
+        assertEquals(0, precise.getGeoLocationCount(new GeoLocationRequest(40.7149, -74.0051)));
+    }
+
+    @Test
+    public void verifyProfileIsBuiltOnceAndUpdated() {
+        val lookups = new AtomicInteger();
+        val events = new InMemoryCasEventRepository(Caffeine.newBuilder().build(key -> null)) {
+            @Override
+            public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                              final ZonedDateTime dateTime) {
+                lookups.incrementAndGet();
+                return super.getEventsOfTypeForPrincipal(type, principal, dateTime);
+            }
+        };
+        MockTicketGrantingTicketCreatedEventProducer.createEvents(events);
+        val repository = new AuthenticationRiskProfileRepository(events, 30,
+            AuthenticationRiskProfile.DEFAULT_GEO_LOCATION_PRECISION, 100, Duration.ofDays(1));
+
+        val profile = repository.getProfile("casuser");
+        assertEquals(999, profile.getCount());
+        for (var i = 0; i < 100; i++) {
+            assertSame(profile, repository.getProfile("casuser"));
+        }
+        assertEquals(1, lookups.get());
+
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.168.1.1");
+        request.setLocalAddr("127.0.0.1");
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+        val tgt = new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication("casuser"),
+            new NeverExpiresExpirationPolicy());
+        repository.handleCasTicketGrantingTicketCreatedEvent(new CasTicketGrantingTicketCreatedEvent(this, tgt));
+
+        assertEquals(1000, profile.getCount());
+        assertEquals(1, profile.getIpAddressCount("192.168.1.1"));
+        assertEquals(1, lookups.get());
+
+        repository.invalidateAll();
+        assertEquals(999, repository.getProfile("casuser").getCount());
+        assertEquals(2, lookups.get());
+    }
+
+    private static GeoLocationRequest newGeoLocationRequest(final String latitude, final String longitude) {
+        val location = new GeoLocationRequest();
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        return location;
+    }
+}
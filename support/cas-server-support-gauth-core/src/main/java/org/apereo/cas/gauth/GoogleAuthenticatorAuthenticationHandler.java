@@ -90,7 +90,9 @@ public class GoogleAuthenticatorAuthenticationHandler extends AbstractPreAndPost
 
         if (isCodeValid) {
             LOGGER.debug("Validated OTP token [{}] successfully for [{}]", otp, uid);
-            this.tokenRepository.store(new GoogleAuthenticatorToken(otp, uid));
+            if (!this.tokenRepository.storeIfAbsent(new GoogleAuthenticatorToken(otp, uid))) {
+                throw new AccountExpiredException(uid + " cannot reuse OTP " + otp + " as it may be expired/invalid");
+            }
             LOGGER.debug("Creating authentication result and building principal for [{}]", uid);
             return createHandlerResult(tokenCredential, this.principalFactory.createPrincipal(uid));
         }
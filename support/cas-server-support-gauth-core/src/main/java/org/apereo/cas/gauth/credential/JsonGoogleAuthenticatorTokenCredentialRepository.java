@@ -2,14 +2,15 @@ package org.apereo.cas.gauth.credential;
 
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.authentication.OneTimeTokenAccount;
+import org.apereo.cas.util.io.DebouncedFileWriter;
 import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
 import org.apereo.cas.util.serialization.StringSerializer;
 
 import com.warrenstrange.googleauth.IGoogleAuthenticator;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
@@ -18,19 +19,32 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link JsonGoogleAuthenticatorTokenCredentialRepository}.
+ * Accounts are read from the JSON file once and kept in memory by username,
+ * and read again when the file is changed. Changes are written back to the file
+ * shortly after they are made. Changes and reloads are serialized, so that a reload
+ * never replaces accounts that have changed but are not written yet.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
-@Getter
 @Slf4j
-public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository {
+public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository implements DisposableBean {
+    @Getter
     private final Resource location;
+
+    @Getter
     private final StringSerializer<Map<String, OneTimeTokenAccount>> serializer = new OneTimeAccountSerializer();
 
+    private final Object lock = new Object();
+
+    private volatile Map<String, OneTimeTokenAccount> accounts;
+
+    private DebouncedFileWriter writer;
+
     public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
                                                             final CipherExecutor<String, String> tokenCredentialCipher) {
         super(tokenCredentialCipher, googleAuthenticator);
@@ -40,22 +54,7 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public OneTimeTokenAccount get(final String username) {
         try {
-            if (!this.location.getFile().exists()) {
-                LOGGER.warn("JSON account repository file [{}] is not found.", this.location.getFile());
-                return null;
-            }
-
-            if (this.location.getFile().length() <= 0) {
-                LOGGER.warn("JSON account repository file location [{}] is empty.", this.location.getFile());
-                return null;
-            }
-            val map = this.serializer.from(this.location.getFile());
-            if (map == null) {
-                LOGGER.debug("JSON account repository file [{}] is empty.", this.location.getFile());
-                return null;
-            }
-
-            val account = map.get(username);
+            val account = getAccounts().get(username);
             if (account != null) {
                 return decode(account);
             }
@@ -80,13 +79,13 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public OneTimeTokenAccount update(final OneTimeTokenAccount account) {
         try {
-            val accounts = readAccountsFromJsonRepository();
-
-            LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]", accounts.size(), account.getUsername());
             val encoded = encode(account);
-            accounts.put(account.getUsername(), encoded);
-
-            writeAccountsToJsonRepository(accounts);
+            synchronized (this.lock) {
+                val accounts = getAccounts();
+                LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]", accounts.size(), account.getUsername());
+                accounts.put(account.getUsername(), encoded.clone());
+                writeAccountsToJsonRepository();
+            }
             return encoded;
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -96,15 +95,24 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public void deleteAll() {
-        writeAccountsToJsonRepository(new HashMap<>());
+        try {
+            synchronized (this.lock) {
+                getAccounts().clear();
+                writeAccountsToJsonRepository();
+            }
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
     }
 
     @Override
     public void delete(final String username) {
         try {
-            val accounts = readAccountsFromJsonRepository();
-            accounts.remove(username);
-            writeAccountsToJsonRepository(accounts);
+            synchronized (this.lock) {
+                if (getAccounts().remove(username) != null) {
+                    writeAccountsToJsonRepository();
+                }
+            }
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -113,8 +121,7 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public long count() {
         try {
-            val accounts = readAccountsFromJsonRepository();
-            return accounts.size();
+            return getAccounts().size();
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -124,17 +131,65 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public Collection<? extends OneTimeTokenAccount> load() {
         try {
-            return readAccountsFromJsonRepository().values();
+            return new ArrayList<>(getAccounts().values());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
         return new ArrayList<>(0);
     }
 
-    @SneakyThrows
-    private void writeAccountsToJsonRepository(final Map<String, OneTimeTokenAccount> accounts) {
-        LOGGER.debug("Saving [{}] google authenticator accounts back to the JSON file at [{}]", accounts.size(), this.location.getFile());
-        this.serializer.to(this.location.getFile(), accounts);
+    /**
+     * Reload accounts from the JSON file.
+     * Has no effect while changes are waiting to be written, since
+     * those would be lost and the pending write replaces the file anyway.
+     */
+    public void reload() {
+        try {
+            synchronized (this.lock) {
+                if (this.writer == null) {
+                    LOGGER.trace("Accounts are not loaded yet from [{}]", this.location);
+                    return;
+                }
+                if (this.writer.isPending()) {
+                    LOGGER.debug("Skipping reload of [{}] since changes are waiting to be written", this.location);
+                    return;
+                }
+                this.accounts = readAccountsFromJsonRepository();
+            }
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this.lock) {
+            if (this.writer != null) {
+                this.writer.close();
+            }
+        }
+    }
+
+    private Map<String, OneTimeTokenAccount> getAccounts() throws IOException {
+        var accounts = this.accounts;
+        if (accounts == null) {
+            synchronized (this.lock) {
+                if (this.accounts == null) {
+                    val loaded = readAccountsFromJsonRepository();
+                    this.writer = new DebouncedFileWriter(this.location.getFile(),
+                        out -> this.serializer.to(out, new HashMap<>(this.accounts)));
+                    this.accounts = loaded;
+                    this.writer.watch(file -> reload());
+                }
+                accounts = this.accounts;
+            }
+        }
+        return accounts;
+    }
+
+    private void writeAccountsToJsonRepository() {
+        LOGGER.debug("Saving google authenticator accounts back to the JSON file at [{}]", this.location);
+        this.writer.schedule();
     }
 
     private Map<String, OneTimeTokenAccount> readAccountsFromJsonRepository() throws IOException {
@@ -143,13 +198,16 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         if (result) {
             LOGGER.debug("Created JSON repository file at [{}]", this.location.getFile());
         }
+        val accounts = new ConcurrentHashMap<String, OneTimeTokenAccount>();
         if (this.location.getFile().length() > 0) {
             LOGGER.debug("Reading JSON repository file at [{}]", this.location.getFile());
-            val accounts = this.serializer.from(this.location.getFile());
+            val map = this.serializer.from(this.location.getFile());
+            if (map != null) {
+                accounts.putAll(map);
+            }
             LOGGER.debug("Read [{}] accounts from JSON repository file at [{}]", accounts.size(), this.location.getFile());
-            return accounts;
         }
-        return new HashMap<String, OneTimeTokenAccount>(0);
+        return accounts;
     }
 
     private static class OneTimeAccountSerializer extends AbstractJacksonBackedStringSerializer<Map<String, OneTimeTokenAccount>> {
@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.gauth.GoogleAuthenticatorAuthenticationHandlerTests;
 import org.apereo.cas.gauth.credential.InMemoryGoogleAuthenticatorTokenCredentialRepositoryTests;
+import org.apereo.cas.gauth.credential.JsonGoogleAuthenticatorTokenCredentialRepositoryLookupTests;
 import org.apereo.cas.gauth.credential.RestGoogleAuthenticatorTokenCredentialRepositoryTests;
 
 import org.junit.runner.RunWith;
@@ -17,7 +18,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     InMemoryGoogleAuthenticatorTokenCredentialRepositoryTests.class,
     RestGoogleAuthenticatorTokenCredentialRepositoryTests.class,
-    GoogleAuthenticatorAuthenticationHandlerTests.class
+    GoogleAuthenticatorAuthenticationHandlerTests.class,
+    JsonGoogleAuthenticatorTokenCredentialRepositoryLookupTests.class
 })
 public class CredentialRepositoryTestsSuite {
 }
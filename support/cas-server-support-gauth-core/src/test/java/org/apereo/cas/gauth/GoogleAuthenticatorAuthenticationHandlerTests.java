@@ -10,7 +10,6 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.web.support.WebUtils;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.warrenstrange.googleauth.GoogleAuthenticator;
 import com.warrenstrange.googleauth.GoogleAuthenticatorConfig;
 import com.warrenstrange.googleauth.GoogleAuthenticatorKey;
@@ -70,7 +69,7 @@ public class GoogleAuthenticatorAuthenticationHandlerTests {
             servicesManager,
             PrincipalFactoryUtils.newPrincipalFactory(),
             googleAuthenticator,
-            new CachingOneTimeTokenRepository(Caffeine.newBuilder().initialCapacity(10).build(s -> null)),
+            new CachingOneTimeTokenRepository(30, 3),
             new InMemoryGoogleAuthenticatorTokenCredentialRepository(CipherExecutor.noOpOfStringToString(), googleAuthenticator),
             null);
 
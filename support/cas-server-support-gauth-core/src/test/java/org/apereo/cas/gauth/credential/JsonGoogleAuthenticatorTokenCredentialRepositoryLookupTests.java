@@ -0,0 +1,121 @@
+package org.apereo.cas.gauth.credential;
+
+import org.apereo.cas.CipherExecutor;
+
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import lombok.val;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link JsonGoogleAuthenticatorTokenCredentialRepositoryLookupTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class JsonGoogleAuthenticatorTokenCredentialRepositoryLookupTests {
+    private static final int ACCOUNTS = 200;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verifyLookupsDoNotReadFile() throws Exception {
+        val file = folder.newFile("gauth.json");
+        val repository = newRepository(file);
+        repository.save("casuser", "secret", 123456, List.of(1, 2, 3));
+        repository.destroy();
+
+        val reloaded = newRepository(file);
+        try {
+            assertEquals("secret", reloaded.get("casuser").getSecretKey());
+            assertTrue(file.delete());
+            assertEquals("secret", reloaded.get("casuser").getSecretKey());
+            assertEquals(1, reloaded.count());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifySavedAccountsAreWritten() throws Exception {
+        val file = folder.newFile("gauth.json");
+        val repository = newRepository(file);
+        IntStream.range(0, ACCOUNTS).forEach(i -> repository.save("user" + i, "secret" + i, i, List.of(i)));
+        repository.delete("user0");
+        assertEquals(ACCOUNTS - 1, repository.count());
+        repository.destroy();
+
+        val reloaded = newRepository(file);
+        try {
+            assertEquals(ACCOUNTS - 1, reloaded.count());
+            assertNull(reloaded.get("user0"));
+            assertEquals("secret1", reloaded.get("user1").getSecretKey());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifyReloadPicksUpChangesToFile() throws Exception {
+        val file = folder.newFile("gauth.json");
+        val repository = newRepository(file);
+        repository.save("casuser", "secret", 123456, List.of(1, 2, 3));
+        repository.destroy();
+
+        val reloaded = newRepository(file);
+        try {
+            assertNotNull(reloaded.get("casuser"));
+            val other = newRepository(file);
+            other.delete("casuser");
+            other.save("newuser", "secret", 123456, List.of(1, 2, 3));
+            other.destroy();
+
+            reloaded.reload();
+            assertNull(reloaded.get("casuser"));
+            assertNotNull(reloaded.get("newuser"));
+            assertEquals(1, reloaded.count());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifyReloadDoesNotDropChangesNotWrittenYet() throws Exception {
+        val file = folder.newFile("gauth.json");
+        val repository = newRepository(file);
+        val executor = Executors.newFixedThreadPool(4);
+        try {
+            IntStream.range(0, ACCOUNTS).forEach(i -> executor.execute(() -> repository.save("user" + i, "secret", i, List.of(i))));
+            executor.shutdown();
+            while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+                repository.reload();
+            }
+            repository.reload();
+            assertEquals(ACCOUNTS, repository.count());
+        } finally {
+            repository.destroy();
+        }
+        val reloaded = newRepository(file);
+        try {
+            assertEquals(ACCOUNTS, reloaded.count());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    private static JsonGoogleAuthenticatorTokenCredentialRepository newRepository(final File file) {
+        return new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            new GoogleAuthenticator(), CipherExecutor.noOpOfStringToString());
+    }
+}
@@ -7,17 +7,23 @@ import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAut
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.services.ServicesManager;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import javax.security.auth.login.AccountNotFoundException;
 import javax.security.auth.login.FailedLoginException;
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Class designed to read data from a file in the format of USERNAME SEPARATOR
@@ -32,7 +38,8 @@ import java.util.ArrayList;
  * @author Marvin S. Addison
  * @since 3.0.0
  */
-public class FileAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
+@Slf4j
+public class FileAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler implements DisposableBean {
 
     /**
      * The default separator in the file.
@@ -45,57 +52,63 @@ public class FileAuthenticationHandler extends AbstractUsernamePasswordAuthentic
     private final String separator;
 
     /**
-     * The filename to read the list of usernames from.
+     * Passwords on record read from the file, keyed by username.
      */
-    private final Resource fileName;
+    private final ResourceAccountStore<String> accountStore;
 
     public FileAuthenticationHandler(final String name, final ServicesManager servicesManager,
                                      final PrincipalFactory principalFactory,
                                      final Resource fileName, final String separator) {
         super(name, servicesManager, principalFactory, null);
-        this.fileName = fileName;
         this.separator = separator;
+        this.accountStore = new ResourceAccountStore<>(fileName, this::readPasswordsOnRecord);
+    }
+
+    @Override
+    public void destroy() {
+        this.accountStore.close();
     }
 
     @Override
     protected AuthenticationHandlerExecutionResult authenticateUsernamePasswordInternal(final UsernamePasswordCredential transformedCredential,
                                                                                         final String originalPassword)
         throws GeneralSecurityException, PreventedException {
-        try {
-            if (this.fileName == null) {
-                throw new FileNotFoundException("Filename does not exist");
-            }
-            val username = transformedCredential.getUsername();
-            val passwordOnRecord = getPasswordOnRecord(username);
-            if (StringUtils.isBlank(passwordOnRecord)) {
-                throw new AccountNotFoundException(username + " not found in backing file.");
-            }
-            if (matches(originalPassword, passwordOnRecord)) {
-                return createHandlerResult(transformedCredential, this.principalFactory.createPrincipal(username), new ArrayList<>(0));
-            }
-        } catch (final IOException e) {
-            throw new PreventedException("IO error reading backing file", e);
+        val username = transformedCredential.getUsername();
+        val passwordOnRecord = accountStore.getAccount(username).orElse(null);
+        if (StringUtils.isBlank(passwordOnRecord)) {
+            throw new AccountNotFoundException(username + " not found in backing file.");
+        }
+        if (matches(originalPassword, passwordOnRecord)) {
+            return createHandlerResult(transformedCredential, this.principalFactory.createPrincipal(username), new ArrayList<>(0));
         }
         throw new FailedLoginException();
     }
 
     /**
-     * Gets the password on record.
+     * Read passwords on record, keyed by username.
+     * The first record of a username wins; lines without a password are skipped with a warning.
      *
-     * @param username the username
-     * @return the password on record
+     * @param stream the stream
+     * @return the passwords on record
      * @throws IOException Signals that an I/O exception has occurred.
      */
-    private String getPasswordOnRecord(final String username) throws IOException {
-        try (val stream = Files.lines(fileName.getFile().toPath())) {
-            return stream.map(line -> line.split(this.separator))
-                .filter(lineFields -> {
-                    val userOnRecord = lineFields[0];
-                    return username.equals(userOnRecord);
-                })
-                .map(lineFields -> lineFields[1])
-                .findFirst()
-                .orElse(null);
+    private Map<String, String> readPasswordsOnRecord(final InputStream stream) throws IOException {
+        val passwords = new HashMap<String, String>();
+        try (val reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            var lineNumber = 0;
+            var line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                val lineFields = line.split(this.separator);
+                if (lineFields.length > 1) {
+                    passwords.putIfAbsent(lineFields[0], lineFields[1]);
+                } else if (StringUtils.isNotBlank(line)) {
+                    LOGGER.warn("Line [{}] of the accounts file does not specify a password after the separator [{}] and is skipped",
+                        lineNumber, this.separator);
+                }
+                line = reader.readLine();
+            }
         }
+        return passwords;
     }
 }
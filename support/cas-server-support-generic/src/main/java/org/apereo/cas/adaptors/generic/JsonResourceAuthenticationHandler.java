@@ -16,12 +16,15 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import javax.security.auth.login.AccountExpiredException;
 import javax.security.auth.login.AccountLockedException;
 import javax.security.auth.login.AccountNotFoundException;
 import javax.security.auth.login.FailedLoginException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.security.GeneralSecurityException;
 import java.time.LocalDate;
@@ -37,32 +40,32 @@ import java.util.Map;
  * @since 5.3.0
  */
 @Slf4j
-public class JsonResourceAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
+public class JsonResourceAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler implements DisposableBean {
     private final ObjectMapper mapper;
-    private final Resource resource;
+    private final ResourceAccountStore<CasUserAccount> accountStore;
 
     public JsonResourceAuthenticationHandler(final String name, final ServicesManager servicesManager,
                                              final PrincipalFactory principalFactory,
                                              final Integer order, final Resource resource) {
         super(name, servicesManager, principalFactory, order);
-        this.resource = resource;
         this.mapper = new ObjectMapper()
             .findAndRegisterModules()
             .enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        this.accountStore = new ResourceAccountStore<>(resource, this::readAccounts);
+    }
+
+    @Override
+    public void destroy() {
+        this.accountStore.close();
     }
 
     @Override
     protected AuthenticationHandlerExecutionResult authenticateUsernamePasswordInternal(final UsernamePasswordCredential credential,
                                                                                         final String originalPassword)
         throws GeneralSecurityException, PreventedException {
-        val map = readAccountsFromResource();
         val username = credential.getUsername();
         val password = credential.getPassword();
-        if (!map.containsKey(username)) {
-            throw new AccountNotFoundException();
-        }
-
-        val account = map.get(username);
+        val account = accountStore.getAccount(username).orElseThrow(AccountNotFoundException::new);
         if (matches(password, account.getPassword())) {
             switch (account.getStatus()) {
                 case DISABLED:
@@ -103,14 +106,8 @@ public class JsonResourceAuthenticationHandler extends AbstractUsernamePasswordA
         throw new FailedLoginException();
     }
 
-    private Map<String, CasUserAccount> readAccountsFromResource() throws PreventedException {
-        try {
-            return mapper.readValue(resource.getInputStream(),
-                new TypeReference<Map<String, CasUserAccount>>() {
-                });
-        } catch (final Exception e) {
-            LOGGER.error(e.getMessage(), e);
-            throw new PreventedException(e);
-        }
+    private Map<String, CasUserAccount> readAccounts(final InputStream stream) throws IOException {
+        return mapper.readValue(stream, new TypeReference<Map<String, CasUserAccount>>() {
+        });
     }
 }
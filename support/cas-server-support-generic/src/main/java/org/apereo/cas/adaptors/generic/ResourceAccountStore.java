@@ -0,0 +1,139 @@
+package org.apereo.cas.adaptors.generic;
+
+import org.apereo.cas.authentication.PreventedException;
+import org.apereo.cas.util.io.FileWatcherService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.springframework.core.io.Resource;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link ResourceAccountStore} that reads accounts from a resource once
+ * and keeps them in memory, keyed by username. If the resource is a file, the file is
+ * watched for changes and accounts are reloaded as a whole once it changes.
+ * If the changed file cannot be read, accounts read previously remain in use.
+ * Owners of the store are expected to close it, which stops watching the file.
+ *
+ * @param <T> the account type
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceAccountStore<T> implements Closeable {
+    private final Resource resource;
+
+    private final AccountReader<T> reader;
+
+    private volatile Map<String, T> accounts;
+
+    private FileWatcherService watcherService;
+
+    /**
+     * Gets the account of the given username.
+     *
+     * @param username the username
+     * @return the account
+     * @throws PreventedException if accounts cannot be read
+     */
+    public Optional<T> getAccount(final String username) throws PreventedException {
+        return Optional.ofNullable(getAccounts().get(username));
+    }
+
+    /**
+     * Gets all accounts keyed by username.
+     * Accounts are read on first use.
+     *
+     * @return the accounts
+     * @throws PreventedException if accounts cannot be read
+     */
+    public Map<String, T> getAccounts() throws PreventedException {
+        var current = this.accounts;
+        if (current == null) {
+            synchronized (this) {
+                if (this.accounts == null) {
+                    this.accounts = readAccounts();
+                    watchResource();
+                }
+                current = this.accounts;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Read accounts from the resource again.
+     * Accounts read previously remain in use if the resource cannot be read.
+     *
+     * @return true if accounts are reloaded
+     */
+    public boolean reload() {
+        try {
+            this.accounts = readAccounts();
+            LOGGER.debug("Reloaded [{}] account(s) from [{}]", this.accounts.size(), this.resource);
+            return true;
+        } catch (final PreventedException e) {
+            LOGGER.warn("Unable to reload accounts from [{}]; Accounts read previously remain in use", this.resource);
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        IOUtils.closeQuietly(this.watcherService);
+        this.watcherService = null;
+    }
+
+    private Map<String, T> readAccounts() throws PreventedException {
+        if (this.resource == null) {
+            throw new PreventedException(new FileNotFoundException("Account resource is undefined"));
+        }
+        try (val stream = this.resource.getInputStream()) {
+            val results = this.reader.read(stream);
+            LOGGER.trace("Read [{}] account(s) from [{}]", results.size(), this.resource);
+            return Collections.unmodifiableMap(new HashMap<>(results));
+        } catch (final Exception e) {
+            LOGGER.error("Unable to read accounts from [{}]: [{}]", this.resource, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            throw new PreventedException(e);
+        }
+    }
+
+    private void watchResource() {
+        try {
+            if (this.watcherService == null && this.resource.isFile()) {
+                this.watcherService = new FileWatcherService(this.resource.getFile(), file -> reload());
+                this.watcherService.start(this.resource.getFilename());
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to watch [{}] for changes: [{}]", this.resource, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads accounts keyed by username from a stream.
+     *
+     * @param <T> the account type
+     */
+    @FunctionalInterface
+    public interface AccountReader<T> {
+        /**
+         * Read accounts.
+         *
+         * @param stream the stream
+         * @return the accounts
+         * @throws Exception the exception
+         */
+        Map<String, T> read(InputStream stream) throws Exception;
+    }
+}
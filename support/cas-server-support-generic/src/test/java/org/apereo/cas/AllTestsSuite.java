@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.adaptors.generic.FileAuthenticationHandlerTests;
 import org.apereo.cas.adaptors.generic.JsonResourceAuthenticationHandlerTests;
 import org.apereo.cas.adaptors.generic.RejectUsersAuthenticationHandlerTests;
+import org.apereo.cas.adaptors.generic.ResourceAccountStoreTests;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -17,7 +18,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     FileAuthenticationHandlerTests.class,
     RejectUsersAuthenticationHandlerTests.class,
-    JsonResourceAuthenticationHandlerTests.class
+    JsonResourceAuthenticationHandlerTests.class,
+    ResourceAccountStoreTests.class
 })
 public class AllTestsSuite {
 }
@@ -0,0 +1,102 @@
+package org.apereo.cas.adaptors.generic;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link ResourceAccountStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ResourceAccountStoreTests {
+    private static final int ACCOUNT_COUNT = 100_000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static Map<String, String> readAccounts(final String contents) {
+        val accounts = new HashMap<String, String>();
+        for (val line : contents.split("\\n")) {
+            val fields = line.split("::");
+            accounts.put(fields[0], fields[1]);
+        }
+        return accounts;
+    }
+
+    private static long timeLogins(final FileAuthenticationHandler handler, final String username, final String password) throws Exception {
+        val credential = CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword(username, password);
+        val startTime = System.nanoTime();
+        for (var i = 0; i < 1_000; i++) {
+            assertNotNull(handler.authenticate(credential));
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    @Test
+    public void verifyLoginLatencyDoesNotGrowWithAccounts() throws Exception {
+        val file = folder.newFile("accounts.txt");
+        FileUtils.write(file, IntStream.range(0, ACCOUNT_COUNT)
+            .mapToObj(i -> "user" + i + "::password" + i)
+            .collect(Collectors.joining("\n")), StandardCharsets.UTF_8);
+
+        val handler = new FileAuthenticationHandler("", null, new DefaultPrincipalFactory(),
+            new FileSystemResource(file), FileAuthenticationHandler.DEFAULT_SEPARATOR);
+        assertNotNull(handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword("user0", "password0")));
+
+        val first = timeLogins(handler, "user1", "password1");
+        val last = timeLogins(handler, "user" + (ACCOUNT_COUNT - 1), "password" + (ACCOUNT_COUNT - 1));
+        assertTrue(last < first * 10 + 1_000_000);
+        handler.destroy();
+    }
+
+    @Test
+    public void verifyAccountsAreReloaded() throws Exception {
+        val file = folder.newFile("accounts.txt");
+        FileUtils.write(file, "casuser::Mellon", StandardCharsets.UTF_8);
+
+        try (val store = new ResourceAccountStore<String>(new FileSystemResource(file),
+            stream -> readAccounts(new String(stream.readAllBytes(), StandardCharsets.UTF_8)))) {
+            assertEquals("Mellon", store.getAccount("casuser").get());
+
+            FileUtils.write(file, "casuser::Changed\nnewuser::Password", StandardCharsets.UTF_8);
+            assertTrue(store.reload());
+            assertEquals("Changed", store.getAccount("casuser").get());
+            assertTrue(store.getAccount("newuser").isPresent());
+
+            FileUtils.write(file, "malformed", StandardCharsets.UTF_8);
+            assertFalse(store.reload());
+            assertEquals("Changed", store.getAccount("casuser").get());
+        }
+    }
+
+    @Test
+    public void verifyLinesWithoutPasswordAreSkipped() throws Exception {
+        val file = folder.newFile("accounts.txt");
+        FileUtils.write(file, "casuser::Mellon\nmalformed\n\nnopassword::\notheruser::Password", StandardCharsets.UTF_8);
+
+        val handler = new FileAuthenticationHandler("", null, new DefaultPrincipalFactory(),
+            new FileSystemResource(file), FileAuthenticationHandler.DEFAULT_SEPARATOR);
+        try {
+            assertNotNull(handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword("casuser", "Mellon")));
+            assertNotNull(handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword("otheruser", "Password")));
+        } finally {
+            handler.destroy();
+        }
+    }
+}
@@ -2,10 +2,10 @@ package org.apereo.cas.support.geo.config;
 
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.geo.maxmind.MaxmindProperties;
 import org.apereo.cas.support.geo.maxmind.MaxmindDatabaseGeoLocationService;
+import org.apereo.cas.support.geo.maxmind.MaxmindDatabaseReader;
 
-import com.maxmind.db.CHMCache;
-import com.maxmind.geoip2.DatabaseReader;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,21 +34,29 @@ public class CasGeoLocationMaxmindConfiguration {
     @SneakyThrows
     public GeoLocationService geoLocationService() {
         val properties = casProperties.getMaxmind();
-        val cityDatabase = readDatabase(properties.getCityDatabase());
-        val countryDatabase = readDatabase(properties.getCountryDatabase());
+        val cityDatabase = readDatabase(properties.getCityDatabase(), properties);
+        val countryDatabase = readDatabase(properties.getCountryDatabase(), properties);
 
         if (cityDatabase == null && countryDatabase == null) {
             throw new IllegalArgumentException("No geolocation services have been defined for Maxmind");
         }
 
-        val svc = new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase);
+        val svc = new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase, properties.getCacheSize());
         svc.setIpStackAccessKey(properties.getIpStackApiAccessKey());
+        if (properties.isWatcherEnabled()) {
+            if (cityDatabase != null) {
+                cityDatabase.watch(svc::clearCache);
+            }
+            if (countryDatabase != null) {
+                countryDatabase.watch(svc::clearCache);
+            }
+        }
         return svc;
     }
 
-    private static DatabaseReader readDatabase(final Resource maxmindDatabase) throws IOException {
+    private static MaxmindDatabaseReader readDatabase(final Resource maxmindDatabase, final MaxmindProperties properties) throws IOException {
         if (maxmindDatabase != null && maxmindDatabase.exists()) {
-            return new DatabaseReader.Builder(maxmindDatabase.getFile()).withCache(new CHMCache()).build();
+            return new MaxmindDatabaseReader(maxmindDatabase, properties.isMemoryMapped());
         }
         return null;
     }
@@ -3,34 +3,134 @@ package org.apereo.cas.support.geo.maxmind;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
 import org.apereo.cas.support.geo.AbstractGeoLocationService;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.AddressNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.maxmind.geoip2.record.Country;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * This is {@link MaxmindDatabaseGeoLocationService} that reads geo data
  * from a maxmind database and constructs a geo location based on the ip address.
  * Default caching of the databases is enabled by default.
+ * <p>
+ * Locations are cached by network prefix of the address, which is the first
+ * 24 bits of an IPv4 address and the first 48 bits of an IPv6 address,
+ * in a cache of limited size. The cache is cleared when a database is reloaded.
+ * When the city database is available, the country of the address is taken
+ * from the same lookup, and the country database is consulted only if
+ * the city database has no country for the address.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService {
-    private final DatabaseReader cityDatabaseReader;
-    private final DatabaseReader countryDatabaseReader;
+public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService implements DisposableBean {
+    /**
+     * Default number of locations to cache.
+     */
+    public static final long DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final int IPV4_PREFIX_LENGTH_IN_BYTES = 3;
+
+    private static final int IPV6_PREFIX_LENGTH_IN_BYTES = 6;
+
+    private final MaxmindDatabaseReader cityDatabaseReader;
+
+    private final MaxmindDatabaseReader countryDatabaseReader;
+
+    private final Cache<String, Optional<GeoLocationResponse>> locations;
+
+    public MaxmindDatabaseGeoLocationService(final DatabaseReader cityDatabaseReader,
+                                             final DatabaseReader countryDatabaseReader) {
+        this(cityDatabaseReader != null ? new MaxmindDatabaseReader(cityDatabaseReader) : null,
+            countryDatabaseReader != null ? new MaxmindDatabaseReader(countryDatabaseReader) : null,
+            DEFAULT_CACHE_SIZE);
+    }
+
+    public MaxmindDatabaseGeoLocationService(final MaxmindDatabaseReader cityDatabaseReader,
+                                             final MaxmindDatabaseReader countryDatabaseReader,
+                                             final long cacheSize) {
+        this.cityDatabaseReader = cityDatabaseReader;
+        this.countryDatabaseReader = countryDatabaseReader;
+        this.locations = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
 
     @Override
     public GeoLocationResponse locate(final InetAddress address) {
+        try {
+            val key = getNetworkPrefix(address);
+            val cached = this.locations.getIfPresent(key);
+            if (cached != null) {
+                LOGGER.trace("Found cached geo location for [{}] under [{}]", address, key);
+                return cached.map(MaxmindDatabaseGeoLocationService::copy).orElse(null);
+            }
+            val location = lookup(address);
+            this.locations.put(key, Optional.ofNullable(location));
+            return location != null ? copy(location) : null;
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String address) {
+        try {
+            return locate(InetAddress.getByName(address));
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) {
+        LOGGER.warn("Geo-locating an address by latitude/longitude [{}]/[{}] is not supported", latitude, longitude);
+        return null;
+    }
+
+    /**
+     * Clear the cached locations.
+     */
+    public void clearCache() {
+        this.locations.invalidateAll();
+    }
+
+    /**
+     * Gets the number of cached locations.
+     *
+     * @return the cache size
+     */
+    public long getCacheSize() {
+        this.locations.cleanUp();
+        return this.locations.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        if (this.cityDatabaseReader != null) {
+            this.cityDatabaseReader.close();
+        }
+        if (this.countryDatabaseReader != null) {
+            this.countryDatabaseReader.close();
+        }
+    }
+
+    private GeoLocationResponse lookup(final InetAddress address) throws Exception {
         try {
             val location = new GeoLocationResponse();
+            Country country = null;
             if (this.cityDatabaseReader != null) {
-                val response = this.cityDatabaseReader.city(address);
+                val response = this.cityDatabaseReader.getReader().city(address);
                 location.addAddress(response.getCity().getName());
                 val loc = response.getLocation();
                 if (loc != null) {
@@ -41,34 +141,32 @@ public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationServic
                         location.setLongitude(loc.getLongitude());
                     }
                 }
+                country = response.getCountry();
+            }
+            if ((country == null || country.getName() == null) && this.countryDatabaseReader != null) {
+                country = this.countryDatabaseReader.getReader().country(address).getCountry();
             }
-            if (this.countryDatabaseReader != null) {
-                val response = this.countryDatabaseReader.country(address);
-                location.addAddress(response.getCountry().getName());
+            if (country != null) {
+                location.addAddress(country.getName());
             }
             LOGGER.debug("Geo location for [{}] is calculated as [{}]", address, location);
             return location;
         } catch (final AddressNotFoundException e) {
             LOGGER.info(e.getMessage(), e);
-        } catch (final Exception e) {
-            LOGGER.error(e.getMessage(), e);
         }
         return null;
     }
 
-    @Override
-    public GeoLocationResponse locate(final String address) {
-        try {
-            return locate(InetAddress.getByName(address));
-        } catch (final Exception e) {
-            LOGGER.error(e.getMessage(), e);
-        }
-        return null;
+    private static String getNetworkPrefix(final InetAddress address) {
+        val length = address instanceof Inet4Address ? IPV4_PREFIX_LENGTH_IN_BYTES : IPV6_PREFIX_LENGTH_IN_BYTES;
+        return Arrays.toString(Arrays.copyOf(address.getAddress(), length));
     }
 
-    @Override
-    public GeoLocationResponse locate(final Double latitude, final Double longitude) {
-        LOGGER.warn("Geo-locating an address by latitude/longitude [{}]/[{}] is not supported", latitude, longitude);
-        return null;
+    private static GeoLocationResponse copy(final GeoLocationResponse location) {
+        val response = new GeoLocationResponse();
+        response.setLatitude(location.getLatitude());
+        response.setLongitude(location.getLongitude());
+        response.getAddresses().addAll(location.getAddresses());
+        return response;
     }
 }
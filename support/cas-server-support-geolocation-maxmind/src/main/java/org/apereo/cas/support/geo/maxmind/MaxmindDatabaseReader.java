@@ -0,0 +1,140 @@
+package org.apereo.cas.support.geo.maxmind;
+
+import org.apereo.cas.util.io.PathWatcherService;
+
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Reader;
+import com.maxmind.geoip2.DatabaseReader;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.springframework.core.io.Resource;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link MaxmindDatabaseReader} that holds the {@link DatabaseReader} for a maxmind database.
+ * Databases on the file system are memory-mapped by default, so the operating system pages in
+ * only the parts of the database that are used, and are read again once the database file is
+ * replaced, if the file is watched for changes. Lookups that are in progress while the database
+ * is replaced finish with the previous reader.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class MaxmindDatabaseReader implements Closeable {
+    private final Resource resource;
+
+    private final Reader.FileMode fileMode;
+
+    private final Object lock = new Object();
+
+    private volatile DatabaseReader reader;
+
+    private PathWatcherService watcherService;
+
+    public MaxmindDatabaseReader(final DatabaseReader reader) {
+        this.resource = null;
+        this.fileMode = null;
+        this.reader = reader;
+    }
+
+    public MaxmindDatabaseReader(final Resource resource, final boolean memoryMapped) throws IOException {
+        this.resource = resource;
+        this.fileMode = memoryMapped ? Reader.FileMode.MEMORY_MAPPED : Reader.FileMode.MEMORY;
+        this.reader = readDatabase();
+    }
+
+    /**
+     * Gets the current reader of the database.
+     *
+     * @return the reader
+     */
+    public DatabaseReader getReader() {
+        return this.reader;
+    }
+
+    /**
+     * Read the database again, and replace the current reader
+     * if the database could be read.
+     *
+     * @return true if the database was read again
+     */
+    public boolean reload() {
+        if (this.resource == null) {
+            return false;
+        }
+        synchronized (this.lock) {
+            try {
+                val previous = this.reader;
+                this.reader = readDatabase();
+                IOUtils.closeQuietly(previous);
+                LOGGER.info("Reloaded maxmind database [{}]", this.resource);
+                return true;
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to reload maxmind database [{}]; the previous database remains in use: [{}]", this.resource, e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Watch the database file and read it again when it is replaced or modified.
+     * Databases that are not found on the file system are not watched.
+     *
+     * @param onReload called after the database is read again
+     * @throws IOException the exception
+     */
+    public void watch(final Runnable onReload) throws IOException {
+        if (this.resource == null || !this.resource.isFile()) {
+            LOGGER.debug("Maxmind database [{}] is not a file and cannot be watched for changes", this.resource);
+            return;
+        }
+        synchronized (this.lock) {
+            if (this.watcherService != null) {
+                return;
+            }
+            val file = this.resource.getFile().getAbsoluteFile();
+            val consumer = (Consumer<File>) changed -> {
+                if (changed.getAbsolutePath().equals(file.getPath()) && reload()) {
+                    onReload.run();
+                }
+            };
+            this.watcherService = new PathWatcherService(file.getParentFile().toPath(), consumer, consumer, changed -> {
+            });
+            this.watcherService.start(file.getName());
+            LOGGER.debug("Watching maxmind database [{}] for changes", file);
+        }
+    }
+
+    /**
+     * Stop watching the database and close the reader.
+     */
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            if (this.watcherService != null) {
+                this.watcherService.close();
+                this.watcherService = null;
+            }
+            IOUtils.closeQuietly(this.reader);
+        }
+    }
+
+    private DatabaseReader readDatabase() throws IOException {
+        if (this.resource.isFile()) {
+            return new DatabaseReader.Builder(this.resource.getFile())
+                .fileMode(this.fileMode)
+                .withCache(new CHMCache())
+                .build();
+        }
+        try (val is = this.resource.getInputStream()) {
+            return new DatabaseReader.Builder(is).withCache(new CHMCache()).build();
+        }
+    }
+}
@@ -12,7 +12,10 @@ import com.maxmind.geoip2.record.Postal;
 import com.maxmind.geoip2.record.RepresentedCountry;
 import com.maxmind.geoip2.record.Traits;
 import lombok.val;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResource;
 
 import java.net.InetAddress;
 import java.util.ArrayList;
@@ -27,6 +30,10 @@ import static org.mockito.Mockito.*;
  * @since 5.3.0
  */
 public class MaxmindDatabaseGeoLocationServiceTests {
+    private static final int CACHE_SIZE = 1_000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void verifyOperation() throws Exception {
@@ -48,4 +55,43 @@ public class MaxmindDatabaseGeoLocationServiceTests {
         val response2 = service.locate(100D, 100D);
         assertNull(response2);
     }
+
+    @Test
+    public void verifyCityAndCountryFromSingleLookup() throws Exception {
+        val file = folder.newFile("GeoLite2-City.mmdb");
+        MaxmindTestDatabases.writeCityDatabase(file, "New York", "Paris", "United States");
+        val country = mock(DatabaseReader.class);
+        val service = new MaxmindDatabaseGeoLocationService(new MaxmindDatabaseReader(new FileSystemResource(file), true),
+            new MaxmindDatabaseReader(country), CACHE_SIZE);
+        try {
+            val response = service.locate("10.1.2.3");
+            assertNotNull(response);
+            assertTrue(response.getAddresses().contains("New York"));
+            assertTrue(response.getAddresses().contains("United States"));
+            assertEquals(40.71, response.getLatitude(), 0);
+            assertEquals("Paris", service.locate("200.1.2.3").getAddresses().iterator().next());
+            verify(country, never()).country(any(InetAddress.class));
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void verifyCacheIsBoundedForManyAddresses() throws Exception {
+        val file = folder.newFile("GeoLite2-City.mmdb");
+        MaxmindTestDatabases.writeCityDatabase(file, "New York", "Paris", "United States");
+        val service = new MaxmindDatabaseGeoLocationService(new MaxmindDatabaseReader(new FileSystemResource(file), true),
+            null, CACHE_SIZE);
+        try {
+            val addresses = 2_000_000;
+            for (var i = 0; i < addresses; i++) {
+                val address = InetAddress.getByAddress(new byte[]{(byte) (i >>> 19), (byte) (i >>> 11), (byte) (i >>> 3), (byte) (i << 5)});
+                assertNotNull(service.locate(address));
+            }
+            assertTrue(service.getCacheSize() <= CACHE_SIZE);
+            assertTrue(service.locate("200.1.2.3").getAddresses().contains("Paris"));
+        } finally {
+            service.destroy();
+        }
+    }
 }
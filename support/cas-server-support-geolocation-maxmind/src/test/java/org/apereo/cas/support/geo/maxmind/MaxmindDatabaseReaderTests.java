@@ -0,0 +1,80 @@
+package org.apereo.cas.support.geo.maxmind;
+
+import lombok.val;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link MaxmindDatabaseReaderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class MaxmindDatabaseReaderTests {
+    private static final String ADDRESS = "10.1.2.3";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verifyDatabaseIsReloaded() throws Exception {
+        val file = folder.newFile("GeoLite2-City.mmdb");
+        MaxmindTestDatabases.writeCityDatabase(file, "Boston", "Paris", "United States");
+        for (val memoryMapped : new boolean[]{true, false}) {
+            try (val reader = new MaxmindDatabaseReader(new FileSystemResource(file), memoryMapped)) {
+                val service = new MaxmindDatabaseGeoLocationService(reader, null, 10);
+                assertTrue(service.locate(ADDRESS).getAddresses().contains("Boston"));
+
+                val replacement = folder.newFile();
+                MaxmindTestDatabases.writeCityDatabase(replacement, "Dallas", "Paris", "United States");
+                Files.move(replacement.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                assertTrue(reader.reload());
+                service.clearCache();
+                assertTrue(service.locate(ADDRESS).getAddresses().contains("Dallas"));
+            }
+            MaxmindTestDatabases.writeCityDatabase(file, "Boston", "Paris", "United States");
+        }
+    }
+
+    @Test
+    public void verifyBrokenDatabaseKeepsPreviousReader() throws Exception {
+        val file = folder.newFile("GeoLite2-City.mmdb");
+        MaxmindTestDatabases.writeCityDatabase(file, "Boston", "Paris", "United States");
+        try (val reader = new MaxmindDatabaseReader(new FileSystemResource(file), false)) {
+            val previous = reader.getReader();
+            Files.write(file.toPath(), new byte[]{1, 2, 3});
+            assertFalse(reader.reload());
+            assertSame(previous, reader.getReader());
+            assertEquals("Boston", reader.getReader().city(InetAddress.getByName(ADDRESS)).getCity().getName());
+        }
+    }
+
+    @Test
+    public void verifyReplacedDatabaseIsObserved() throws Exception {
+        val file = folder.newFile("GeoLite2-City.mmdb");
+        MaxmindTestDatabases.writeCityDatabase(file, "Boston", "Paris", "United States");
+        val reloaded = new CountDownLatch(1);
+        try (val reader = new MaxmindDatabaseReader(new FileSystemResource(file), true)) {
+            reader.watch(reloaded::countDown);
+
+            Thread.sleep(1000);
+            val replacement = folder.newFile();
+            MaxmindTestDatabases.writeCityDatabase(replacement, "Dallas", "Paris", "United States");
+            Files.move(replacement.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS));
+            val service = new MaxmindDatabaseGeoLocationService(reader, null, 10);
+            assertTrue(service.locate(ADDRESS).getAddresses().contains("Dallas"));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.apereo.cas.support.geo.maxmind;
+
+import lombok.val;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link MaxmindTestDatabases} that writes small city databases in the maxmind
+ * database format for tests. The search tree of a database has a single node,
+ * so addresses in the lower and upper half of the IPv4 address space each resolve
+ * to their own city.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public final class MaxmindTestDatabases {
+    private static final int RECORD_SIZE_IN_BYTES = 3;
+
+    private static final int DATA_SECTION_SEPARATOR_SIZE = 16;
+
+    private static final byte[] METADATA_MARKER = {(byte) 0xAB, (byte) 0xCD, (byte) 0xEF,
+        'M', 'a', 'x', 'M', 'i', 'n', 'd', '.', 'c', 'o', 'm'};
+
+    private static final int TYPE_STRING = 2;
+
+    private static final int TYPE_DOUBLE = 3;
+
+    private static final int TYPE_UINT16 = 5;
+
+    private static final int TYPE_UINT32 = 6;
+
+    private static final int TYPE_MAP = 7;
+
+    private static final int TYPE_UINT64 = 9;
+
+    private static final int TYPE_ARRAY = 11;
+
+    private MaxmindTestDatabases() {
+    }
+
+    /**
+     * Write a city database.
+     *
+     * @param file      the file
+     * @param lowerCity the city of addresses below 128.0.0.0
+     * @param upperCity the city of addresses from 128.0.0.0
+     * @param country   the country of all addresses
+     * @throws IOException the exception
+     */
+    public static void writeCityDatabase(final File file, final String lowerCity,
+                                         final String upperCity, final String country) throws IOException {
+        val data = new ByteArrayOutputStream();
+        val lowerOffset = data.size();
+        encode(data, newCityRecord(lowerCity, country, 40.71, -74.005));
+        val upperOffset = data.size();
+        encode(data, newCityRecord(upperCity, country, 48.85, 2.35));
+
+        val nodeCount = 1;
+        val out = new ByteArrayOutputStream();
+        writeRecord(out, nodeCount + DATA_SECTION_SEPARATOR_SIZE + lowerOffset);
+        writeRecord(out, nodeCount + DATA_SECTION_SEPARATOR_SIZE + upperOffset);
+        out.write(new byte[DATA_SECTION_SEPARATOR_SIZE]);
+        data.writeTo(out);
+
+        out.write(METADATA_MARKER);
+        val metadata = new LinkedHashMap<String, Object>();
+        metadata.put("binary_format_major_version", new Uint(TYPE_UINT16, 2));
+        metadata.put("binary_format_minor_version", new Uint(TYPE_UINT16, 0));
+        metadata.put("build_epoch", new Uint(TYPE_UINT64, System.currentTimeMillis() / 1000));
+        metadata.put("database_type", "GeoIP2-City");
+        metadata.put("description", Map.of("en", "Test City Database"));
+        metadata.put("ip_version", new Uint(TYPE_UINT16, 4));
+        metadata.put("languages", List.of("en"));
+        metadata.put("node_count", new Uint(TYPE_UINT32, nodeCount));
+        metadata.put("record_size", new Uint(TYPE_UINT16, RECORD_SIZE_IN_BYTES * Byte.SIZE));
+        encode(out, metadata);
+
+        Files.write(file.toPath(), out.toByteArray());
+    }
+
+    private static Map<String, Object> newCityRecord(final String city, final String country,
+                                                     final double latitude, final double longitude) {
+        val location = new LinkedHashMap<String, Object>();
+        location.put("latitude", latitude);
+        location.put("longitude", longitude);
+
+        val countryRecord = new LinkedHashMap<String, Object>();
+        countryRecord.put("iso_code", "US");
+        countryRecord.put("names", Map.of("en", country));
+
+        val record = new LinkedHashMap<String, Object>();
+        record.put("city", Map.of("names", Map.of("en", city)));
+        record.put("country", countryRecord);
+        record.put("location", location);
+        return record;
+    }
+
+    private static void writeRecord(final ByteArrayOutputStream out, final int value) {
+        for (var i = RECORD_SIZE_IN_BYTES - 1; i >= 0; i--) {
+            out.write(value >>> (i * Byte.SIZE));
+        }
+    }
+
+    private static void encode(final ByteArrayOutputStream out, final Object value) throws IOException {
+        if (value instanceof String) {
+            val bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            writeControl(out, TYPE_STRING, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Double) {
+            writeControl(out, TYPE_DOUBLE, Double.BYTES);
+            val bits = Double.doubleToLongBits((Double) value);
+            for (var i = Double.BYTES - 1; i >= 0; i--) {
+                out.write((int) (bits >>> (i * Byte.SIZE)));
+            }
+        } else if (value instanceof Uint) {
+            val uint = (Uint) value;
+            val bytes = uint.value == 0 ? new byte[0] : BigInteger.valueOf(uint.value).toByteArray();
+            val start = bytes.length > 0 && bytes[0] == 0 ? 1 : 0;
+            writeControl(out, uint.type, bytes.length - start);
+            out.write(bytes, start, bytes.length - start);
+        } else if (value instanceof Map) {
+            val map = (Map<?, ?>) value;
+            writeControl(out, TYPE_MAP, map.size());
+            for (val entry : map.entrySet()) {
+                encode(out, entry.getKey());
+                encode(out, entry.getValue());
+            }
+        } else if (value instanceof List) {
+            val list = (List<?>) value;
+            writeControl(out, TYPE_ARRAY, list.size());
+            for (val item : list) {
+                encode(out, item);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value " + value);
+        }
+    }
+
+    private static void writeControl(final ByteArrayOutputStream out, final int type, final int size) {
+        if (size >= 29) {
+            throw new IllegalArgumentException("Unsupported size " + size);
+        }
+        if (type <= TYPE_MAP) {
+            out.write((type << 5) | size);
+        } else {
+            out.write(size);
+            out.write(type - TYPE_MAP);
+        }
+    }
+
+    private static class Uint {
+        private final int type;
+
+        private final long value;
+
+        Uint(final int type, final long value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
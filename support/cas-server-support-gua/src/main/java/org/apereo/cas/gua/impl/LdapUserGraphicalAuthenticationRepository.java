@@ -6,27 +6,35 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapUtils;
 
 import com.google.common.io.ByteSource;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapException;
 import org.ldaptive.Response;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchResult;
+import org.springframework.beans.factory.DisposableBean;
 
 /**
  * This is {@link LdapUserGraphicalAuthenticationRepository}.
+ * Lookups share one pooled connection factory that is created once with the repository.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class LdapUserGraphicalAuthenticationRepository implements UserGraphicalAuthenticationRepository {
+public class LdapUserGraphicalAuthenticationRepository implements UserGraphicalAuthenticationRepository, DisposableBean {
     private static final long serialVersionUID = 421732017215881244L;
 
     private final CasConfigurationProperties casProperties;
 
+    private final transient ConnectionFactory connectionFactory;
+
+    public LdapUserGraphicalAuthenticationRepository(final CasConfigurationProperties casProperties) {
+        this.casProperties = casProperties;
+        this.connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(casProperties.getAuthn().getGua().getLdap());
+    }
+
     @Override
     public ByteSource getGraphics(final String username) {
         try {
@@ -51,10 +59,13 @@ public class LdapUserGraphicalAuthenticationRepository implements UserGraphicalA
             LdapUtils.LDAP_SEARCH_FILTER_DEFAULT_PARAM_NAME,
             CollectionUtils.wrap(id));
         return LdapUtils.executeSearchOperation(
-            LdapUtils.newLdaptiveConnectionFactory(gua.getLdap()),
-            gua.getLdap().getBaseDn(), filter,
+            connectionFactory, gua.getLdap().getBaseDn(), filter,
             new String[]{gua.getLdap().getImageAttribute()},
             ReturnAttributes.ALL_USER.value());
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
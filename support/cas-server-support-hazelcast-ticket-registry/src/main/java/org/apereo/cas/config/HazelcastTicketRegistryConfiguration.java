@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import com.hazelcast.core.HazelcastInstance;
@@ -41,6 +42,10 @@ public class HazelcastTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketSerializationCodec")
+    private ObjectProvider<TicketSerializationCodec> ticketSerializationCodec;
+
     @Autowired
     @Qualifier("casHazelcastInstance")
     private ObjectProvider<HazelcastInstance> hazelcastInstance;
@@ -62,6 +67,7 @@ public class HazelcastTicketRegistryConfiguration {
             ticketCatalog.getIfAvailable(),
             hz.getPageSize());
         r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(hz.getCrypto(), "hazelcast"));
+        ticketSerializationCodec.ifAvailable(r::setTicketSerializationCodec);
         return r;
     }
 
@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.TicketDefinition;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +19,7 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Hazelcast-based implementation of a {@link TicketRegistry}.
@@ -43,12 +45,17 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return ticket;
     }
 
-    @Override
-    public void addTicket(final Ticket ticket) {
+    private static long getTimeToLive(final Ticket ticket) {
         val ttl = ticket.getExpirationPolicy().getTimeToLive();
         if (ttl < 0) {
             throw new IllegalArgumentException("The expiration policy of ticket " + ticket.getId() + "is set to use a negative ttl");
         }
+        return ttl;
+    }
+
+    @Override
+    public void addTicket(final Ticket ticket) {
+        val ttl = getTimeToLive(ticket);
 
         LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), ttl);
         val encTicket = encodeTicket(ticket);
@@ -60,6 +67,31 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         LOGGER.debug("Added ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
     }
 
+    /**
+     * Sends every ticket of the batch to its map before waiting on any of them, so the
+     * batch costs a single round-trip. {@link IMap#putAll(java.util.Map)} is not used,
+     * because it cannot carry the time-to-live of each ticket.
+     *
+     * @param toSave the tickets to add
+     */
+    @Override
+    @SneakyThrows
+    public void addTicket(final Stream<? extends Ticket> toSave) {
+        val results = toSave
+            .map(ticket -> {
+                val ttl = getTimeToLive(ticket);
+                val encTicket = encodeTicket(ticket);
+                val ticketMap = getTicketMapInstanceByMetadata(this.ticketCatalog.find(ticket));
+                LOGGER.debug("Adding ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
+                return ticketMap.setAsync(encTicket.getId(), encTicket, ttl, TimeUnit.SECONDS);
+            })
+            .collect(Collectors.toList());
+        for (val result : results) {
+            result.get();
+        }
+        LOGGER.debug("Added batch of [{}] ticket(s)", results.size());
+    }
+
     private IMap<String, Ticket> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
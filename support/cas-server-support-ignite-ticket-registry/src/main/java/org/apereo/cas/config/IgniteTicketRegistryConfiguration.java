@@ -4,8 +4,10 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.IgniteTicketDocument;
 import org.apereo.cas.ticket.registry.IgniteTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
 import org.apache.ignite.ssl.SslContextFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -48,6 +51,10 @@ public class IgniteTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketSerializationCodec")
+    private ObjectProvider<TicketSerializationCodec> ticketSerializationCodec;
+
     private static Collection<CacheConfiguration> buildIgniteTicketCaches(final IgniteProperties ignite,
                                                                           final TicketCatalog ticketCatalog) {
         val definitions = ticketCatalog.findAll();
@@ -63,6 +70,7 @@ public class IgniteTicketRegistryConfiguration {
                 ticketsCache.setWriteSynchronizationMode(writeSync);
                 val duration = new Duration(TimeUnit.SECONDS, t.getProperties().getStorageTimeout());
                 ticketsCache.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(duration));
+                ticketsCache.setIndexedTypes(String.class, IgniteTicketDocument.class);
                 return ticketsCache;
             })
             .collect(Collectors.toSet());
@@ -136,6 +144,7 @@ public class IgniteTicketRegistryConfiguration {
         val igniteConfiguration = igniteConfiguration(ticketCatalog);
         val r = new IgniteTicketRegistry(ticketCatalog, igniteConfiguration, igniteProperties);
         r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(igniteProperties.getCrypto(), "ignite"));
+        ticketSerializationCodec.ifAvailable(r::setTicketSerializationCodec);
         r.initialize();
         return r;
     }
@@ -0,0 +1,50 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link IgniteTicketDocument} that holds a ticket in the ignite ticket registry,
+ * along with the fields that are indexed for queries.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class IgniteTicketDocument implements Serializable {
+    private static final long serialVersionUID = -5380463466428711302L;
+
+    /**
+     * The ticket prefix.
+     */
+    @QuerySqlField(index = true)
+    private String type;
+
+    /**
+     * The principal id of ticket-granting tickets, in lower case.
+     * Encoded the same way as ticket ids when the registry encrypts tickets.
+     */
+    @QuerySqlField(index = true)
+    private String principal;
+
+    /**
+     * The time in milliseconds since the epoch after which the ticket may be expired.
+     */
+    @QuerySqlField(index = true)
+    private long expirationTime;
+
+    /**
+     * The ticket, encoded if the registry encrypts tickets.
+     */
+    private Ticket ticket;
+}
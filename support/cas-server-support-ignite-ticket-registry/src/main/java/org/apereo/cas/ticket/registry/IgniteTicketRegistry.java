@@ -2,9 +2,12 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketState;
 
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -14,19 +17,25 @@ import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteState;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.springframework.beans.factory.DisposableBean;
 
 import javax.cache.Cache;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -39,6 +48,12 @@ import java.util.stream.Collectors;
  * <li>Tuning: use cache level time to live with different values for TGT an ST.</li>
  * <li>Monitoring: follow separately the number of TGT and ST.</li>
  * </ul>
+ * <p>
+ * Tickets are stored in {@link IgniteTicketDocument}s whose ticket type, principal id and
+ * expiration time are indexed, so that counting sessions, looking up the sessions of a principal
+ * and finding expired tickets only read the matching entries. Tickets are read in pages
+ * as the returned streams are consumed.
+ * </p>
  *
  * @author Timur Duehr timur.duehr@nccgroup.trust
  * @since 5.0.0
@@ -46,6 +61,7 @@ import java.util.stream.Collectors;
 @Slf4j
 @ToString(callSuper = true)
 public class IgniteTicketRegistry extends AbstractTicketRegistry implements DisposableBean {
+    private static final String TABLE_NAME = IgniteTicketDocument.class.getSimpleName();
 
     private final IgniteConfiguration igniteConfiguration;
 
@@ -68,8 +84,9 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val cache = getIgniteCacheFromMetadata(metadata);
         val policy = new IgniteInternalTicketExpiryPolicy(ticket.getExpirationPolicy());
         LOGGER.debug("Adding ticket [{}] to the cache [{}] with policy [{}]", ticket.getId(), cache.getName(), policy);
+        val document = new IgniteTicketDocument(metadata.getPrefix(), getPrincipalId(ticket), getExpirationTime(ticket), encodedTicket);
         val entries = cache.withExpiryPolicy(policy);
-        entries.put(encodedTicket.getId(), encodedTicket);
+        entries.put(encodedTicket.getId(), document);
     }
 
     @Override
@@ -110,12 +127,13 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
         val cache = getIgniteCacheFromMetadata(metadata);
         LOGGER.trace("Located ignite cache [{}] for ticket id [{}]", cache.getName(), ticketId);
-        val ticket = cache.get(ticketId);
-        LOGGER.trace("Located ticket from cache for ticket id [{}] is [{}]", ticketId, ticket);
-        if (ticket == null) {
+        val document = cache.get(ticketId);
+        LOGGER.trace("Located ticket from cache for ticket id [{}] is [{}]", ticketId, document);
+        if (document == null) {
             LOGGER.debug("No ticket by id [{}] is found in the ignite ticket registry", ticketId);
             return null;
         }
+        val ticket = document.getTicket();
         val result = decodeTicket(ticket);
         if (predicate.test(result)) {
             return result;
@@ -126,9 +144,52 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        return this.ticketCatalog.findAll().stream().map(this::getIgniteCacheFromMetadata)
-            .map(cache -> cache.query(new ScanQuery<>()).getAll().stream()).flatMap(Function.identity())
-            .map(Cache.Entry::getValue).map(object -> decodeTicket((Ticket) object)).collect(Collectors.toSet());
+        try (val tickets = getTicketsStream()) {
+            return tickets.collect(Collectors.toSet());
+        }
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTicketsStream() {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .flatMap(definition -> {
+                val query = new ScanQuery<String, IgniteTicketDocument>().setPageSize(getQueryPageSize());
+                return stream(getIgniteCacheFromMetadata(definition).query(query));
+            })
+            .map(Cache.Entry::getValue)
+            .map(document -> decodeTicket(document.getTicket()));
+    }
+
+    @Override
+    public Stream<? extends TicketGrantingTicket> getSessionsFor(final String principalId) {
+        val principal = encodePrincipalId(principalId);
+        return this.ticketCatalog.findAll()
+            .stream()
+            .filter(definition -> TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass()))
+            .flatMap(definition -> queryTickets(definition, "principal = ?", principal))
+            .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired())
+            .map(TicketGrantingTicket.class::cast)
+            .filter(ticket -> ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        val now = System.currentTimeMillis();
+        return this.ticketCatalog.findAll()
+            .stream()
+            .flatMap(definition -> queryTickets(definition, "expirationTime <= ?", now))
+            .filter(Ticket::isExpired);
+    }
+
+    @Override
+    public long sessionCount() {
+        return countTickets(TicketGrantingTicket.class);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return countTickets(ServiceTicket.class);
     }
 
     @Override
@@ -163,13 +224,93 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
+    private Stream<Ticket> queryTickets(final TicketDefinition definition, final String condition, final Object... arguments) {
+        val query = new SqlFieldsQuery("SELECT _val FROM " + TABLE_NAME + " WHERE " + condition)
+            .setArgs(arguments)
+            .setPageSize(getQueryPageSize())
+            .setLazy(true);
+        return stream(getIgniteCacheFromMetadata(definition).query(query))
+            .map(row -> (IgniteTicketDocument) row.get(0))
+            .map(document -> decodeTicket(document.getTicket()));
+    }
+
+    private long countTickets(final Class<? extends Ticket> type) {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .filter(definition -> type.isAssignableFrom(definition.getImplementationClass()))
+            .mapToLong(definition -> {
+                val query = new SqlFieldsQuery("SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE type = ?").setArgs(definition.getPrefix());
+                try (val cursor = getIgniteCacheFromMetadata(definition).query(query)) {
+                    val rows = cursor.getAll();
+                    return rows.isEmpty() ? 0 : ((Number) rows.get(0).get(0)).longValue();
+                }
+            })
+            .sum();
+    }
+
+    private int getQueryPageSize() {
+        return this.properties.getTicketsCache().getQueryPageSize();
+    }
+
+    private String getPrincipalId(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return encodePrincipalId(authentication.getPrincipal().getId());
+            }
+        }
+        return null;
+    }
+
+    private String encodePrincipalId(final String principalId) {
+        return encodeTicketId(StringUtils.lowerCase(principalId));
+    }
+
+    /**
+     * Gets the time after which the ticket may be expired according to its expiration policy,
+     * which is the earliest of its creation time plus its time to live and its last use plus
+     * its time to idle. Tickets that are expired already, or whose policy does not describe
+     * either duration, may be expired at any time.
+     *
+     * @param ticket the ticket
+     * @return the expiration time in milliseconds since the epoch
+     */
+    private static long getExpirationTime(final Ticket ticket) {
+        val now = System.currentTimeMillis();
+        val policy = ticket.getExpirationPolicy();
+        if (ticket.isExpired() || policy == null) {
+            return now;
+        }
+        val state = ticket instanceof TicketState ? (TicketState) ticket : null;
+        val timeToLive = state != null ? policy.getTimeToLive(state) : policy.getTimeToLive();
+        var expirationTime = Long.MAX_VALUE;
+        if (timeToLive != null && timeToLive > 0 && ticket.getCreationTime() != null) {
+            expirationTime = plusSeconds(ticket.getCreationTime(), timeToLive);
+        }
+        val timeToIdle = policy.getTimeToIdle();
+        if (timeToIdle != null && timeToIdle > 0 && state != null && state.getLastTimeUsed() != null) {
+            expirationTime = Math.min(expirationTime, plusSeconds(state.getLastTimeUsed(), timeToIdle));
+        }
+        return expirationTime == Long.MAX_VALUE ? now : expirationTime;
+    }
+
+    private static long plusSeconds(final ZonedDateTime time, final long seconds) {
+        val millis = time.toInstant().toEpochMilli();
+        return seconds >= (Long.MAX_VALUE - millis) / 1000 ? Long.MAX_VALUE - 1 : millis + TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private static <T> Stream<T> stream(final QueryCursor<T> cursor) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor.iterator(), Spliterator.ORDERED), false)
+            .onClose(cursor::close);
+    }
+
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.trace("Locating cache name [{}] for ticket definition [{}]", mapName, metadata);
         return getIgniteCacheInstanceByName(mapName);
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheInstanceByName(final String name) {
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheInstanceByName(final String name) {
         LOGGER.trace("Attempting to get/create cache [{}]", name);
         return this.ignite.getOrCreateCache(name);
     }
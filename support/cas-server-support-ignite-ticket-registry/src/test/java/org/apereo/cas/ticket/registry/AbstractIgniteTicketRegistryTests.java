@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.category.IgniteCategory;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
@@ -21,10 +22,18 @@ import org.apereo.cas.config.IgniteTicketRegistryConfiguration;
 import org.apereo.cas.config.IgniteTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import org.apereo.cas.util.junit.ConditionalIgnoreRule;
 
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.ClassRule;
 import org.junit.Rule;
+import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -33,6 +42,15 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * This is {@link AbstractIgniteTicketRegistryTests}.
@@ -72,6 +90,7 @@ import org.springframework.test.context.junit4.rules.SpringMethodRule;
     "cas.ticket.registry.ignite.igniteAddress[0]=localhost:47500"
 })
 public abstract class AbstractIgniteTicketRegistryTests extends BaseTicketRegistryTests {
+    private static final int TICKETS_IN_REGISTRY = 200;
 
     @ClassRule
     public static final SpringClassRule SPRING_CLASS_RULE = new SpringClassRule();
@@ -94,4 +113,41 @@ public abstract class AbstractIgniteTicketRegistryTests extends BaseTicketRegist
     protected TicketRegistry getNewTicketRegistry() {
         return ticketRegistry;
     }
+
+    @Test
+    public void verifyExpiredTicketsAreQueriedByExpirationTime() {
+        val registry = spy((IgniteTicketRegistry) AopTestUtils.getTargetObject(ticketRegistry));
+        IntStream.range(0, TICKETS_IN_REGISTRY).forEach(i -> registry.addTicket(newTicketGrantingTicket("user" + i)));
+        val expired = newTicketGrantingTicket("casuser");
+        expired.markTicketExpired();
+        registry.addTicket(expired);
+
+        clearInvocations(registry);
+        try (val tickets = registry.getExpiredTickets()) {
+            assertEquals(List.of(expired.getId()), tickets.map(Ticket::getId).collect(Collectors.toList()));
+        }
+        verify(registry, times(1)).decodeTicket(any(Ticket.class));
+    }
+
+    @Test
+    public void verifySessionsAreQueriedByPrincipal() {
+        val registry = spy((IgniteTicketRegistry) AopTestUtils.getTargetObject(ticketRegistry));
+        IntStream.range(0, TICKETS_IN_REGISTRY).forEach(i -> registry.addTicket(newTicketGrantingTicket("user" + i)));
+        registry.addTicket(newTicketGrantingTicket("casuser"));
+        registry.addTicket(newTicketGrantingTicket("CasUser"));
+
+        clearInvocations(registry);
+        assertEquals(TICKETS_IN_REGISTRY + 2, registry.sessionCount());
+        verify(registry, never()).decodeTicket(any(Ticket.class));
+
+        try (val sessions = registry.getSessionsFor("casuser")) {
+            assertEquals(2, sessions.count());
+        }
+        verify(registry, times(2)).decodeTicket(any(Ticket.class));
+    }
+
+    private static TicketGrantingTicketImpl newTicketGrantingTicket(final String principal) {
+        val id = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(principal), new NeverExpiresExpirationPolicy());
+    }
 }
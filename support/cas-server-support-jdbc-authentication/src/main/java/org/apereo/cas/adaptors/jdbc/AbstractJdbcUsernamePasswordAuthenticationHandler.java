@@ -1,13 +1,19 @@
 package org.apereo.cas.adaptors.jdbc;
 
+import org.apereo.cas.authentication.AuthenticationHandlerExecutionResult;
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.PreventedException;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.services.ServicesManager;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import javax.sql.DataSource;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Abstract class for database authentication handlers.
@@ -15,6 +21,7 @@ import javax.sql.DataSource;
  * @author Scott Battaglia
  * @since 3.0.0.3
  */
+@Slf4j
 public abstract class AbstractJdbcUsernamePasswordAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
 
     private final JdbcTemplate jdbcTemplate;
@@ -29,6 +36,25 @@ public abstract class AbstractJdbcUsernamePasswordAuthenticationHandler extends
         this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate);
     }
 
+    /**
+     * Passwords are hashed on a bounded executor that rejects work once its queue is full.
+     * Such a rejection fails the authentication attempt as prevented, rather than as an error.
+     *
+     * @param credential the credential
+     * @return the result
+     * @throws GeneralSecurityException on authentication failure
+     * @throws PreventedException       if the password could not be hashed
+     */
+    @Override
+    protected AuthenticationHandlerExecutionResult doAuthentication(final Credential credential) throws GeneralSecurityException, PreventedException {
+        try {
+            return super.doAuthentication(credential);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Authentication for [{}] is rejected since too many passwords are waiting to be hashed", credential.getId());
+            throw new PreventedException("Password hashing is at capacity and authentication cannot proceed", e);
+        }
+    }
+
     /**
      * Method to return the jdbcTemplate.
      *
@@ -5,6 +5,8 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.PreventedException;
 import org.apereo.cas.authentication.exceptions.AccountDisabledException;
 import org.apereo.cas.authentication.exceptions.AccountPasswordMustChangeException;
+import org.apereo.cas.authentication.support.password.HashingExecutorPasswordEncoder;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RandomUtils;
 
@@ -194,6 +196,20 @@ public class QueryDatabaseAuthenticationHandlerTests {
         assertNotNull(q.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword("user3", "pswbc2")));
     }
 
+    @Test
+    public void verifyRejectedPasswordHashingPreventsAuthentication() throws Exception {
+        val bcrypt = new BCryptPasswordEncoder(6, RandomUtils.getNativeInstance());
+        val sql = SQL.replace("*", '\'' + bcrypt.encode("pswbc2") + "' password");
+        val q = new QueryDatabaseAuthenticationHandler("", null, null, null, this.dataSource, sql, PASSWORD_FIELD,
+            null, null, new HashMap<>(0));
+
+        val executor = new PasswordHashingExecutor(1, 1);
+        executor.close();
+        q.setPasswordEncoder(new HashingExecutorPasswordEncoder(bcrypt, executor));
+        this.thrown.expect(PreventedException.class);
+        q.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword("user3", "pswbc2"));
+    }
+
     @Entity(name = "casusers")
     public static class UsersTable {
         @Id
@@ -70,6 +70,18 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         LOGGER.debug("Added ticket [{}] to registry.", ticket);
     }
 
+    /**
+     * Persists the tickets within a single transaction, so the batch
+     * is flushed and committed once instead of once per ticket.
+     *
+     * @param toSave the tickets to add
+     */
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) {
+        toSave.forEach(this.entityManager::persist);
+        LOGGER.debug("Added batch of tickets to registry.");
+    }
+
     @Override
     public long deleteAll() {
         return this.ticketCatalog.findAll().stream()
@@ -0,0 +1,54 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.ComponentSerializationPlan;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.kryo.CasKryoPool;
+import org.apereo.cas.kryo.KryoTicketSerializationCodec;
+import org.apereo.cas.ticket.registry.DefaultTicketSerializationCodec;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
+
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is {@link CasKryoTicketSerializationConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Configuration("casKryoTicketSerializationConfiguration")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@AutoConfigureBefore(CasCoreTicketsConfiguration.class)
+@ConditionalOnProperty(prefix = "cas.ticket.registry.serialization", name = "type", havingValue = "KRYO")
+public class CasKryoTicketSerializationConfiguration {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier("componentSerializationPlan")
+    private ObjectProvider<ComponentSerializationPlan> componentSerializationPlan;
+
+    @Bean
+    public CasKryoPool ticketSerializationKryoPool() {
+        val serialization = casProperties.getTicket().getRegistry().getSerialization();
+        return new CasKryoPool(componentSerializationPlan.getObject().getRegisteredClasses(), true,
+            serialization.isKryoRegistrationRequired(),
+            serialization.isKryoObjectsByReference(),
+            serialization.isKryoAutoReset());
+    }
+
+    @Bean
+    public TicketSerializationCodec ticketSerializationCodec() {
+        val serialization = casProperties.getTicket().getRegistry().getSerialization();
+        return new KryoTicketSerializationCodec(ticketSerializationKryoPool(),
+            new DefaultTicketSerializationCodec(), serialization.isWriteLegacyFormat());
+    }
+}
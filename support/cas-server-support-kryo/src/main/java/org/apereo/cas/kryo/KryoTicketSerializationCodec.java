@@ -0,0 +1,90 @@
+package org.apereo.cas.kryo;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
+
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link KryoTicketSerializationCodec} that serializes tickets using a pool of Kryo instances.
+ * <p>
+ * Every payload is prefixed with a small header that carries the codec format version.
+ * Payloads that do not carry the header, such as those written by older CAS nodes via
+ * native java serialization, are handed off to the fallback codec so that nodes
+ * running different versions may share the same ticket registry during an upgrade.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KryoTicketSerializationCodec implements TicketSerializationCodec {
+    /**
+     * Current version of the serialized format produced by this codec.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte[] HEADER = {(byte) 0xCA, (byte) 0x5F};
+
+    private static final int BUFFER_SIZE = 2048;
+
+    private final CasKryoPool kryoPool;
+
+    private final TicketSerializationCodec fallbackCodec;
+
+    private final boolean writeLegacyFormat;
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        if (writeLegacyFormat) {
+            LOGGER.trace("Encoding ticket [{}] using legacy codec [{}]", ticket.getId(), fallbackCodec.getClass().getSimpleName());
+            return fallbackCodec.encode(ticket);
+        }
+        try (val kryo = this.kryoPool.borrow();
+             val output = new Output(BUFFER_SIZE, -1)) {
+            output.writeBytes(HEADER);
+            output.writeByte(FORMAT_VERSION);
+            kryo.writeClassAndObject(output, ticket);
+            output.flush();
+            return output.toBytes();
+        }
+    }
+
+    @Override
+    public Ticket decode(final byte[] serializedTicket) {
+        if (!supports(serializedTicket)) {
+            if (fallbackCodec.supports(serializedTicket)) {
+                LOGGER.trace("Payload is not produced by Kryo; decoding ticket using [{}]", fallbackCodec.getClass().getSimpleName());
+                return fallbackCodec.decode(serializedTicket);
+            }
+            throw new KryoException("Unable to recognize the format of the serialized ticket payload");
+        }
+        val version = serializedTicket[HEADER.length];
+        if (version > FORMAT_VERSION) {
+            throw new KryoException("Ticket is serialized using format version " + version
+                + " which is newer than the supported version " + FORMAT_VERSION);
+        }
+        try (val kryo = this.kryoPool.borrow();
+             val input = new Input(serializedTicket, HEADER.length + 1, serializedTicket.length - HEADER.length - 1)) {
+            val result = kryo.readClassAndObject(input);
+            if (!(result instanceof Ticket)) {
+                throw new ClassCastException("Decoded object [" + result + "] is not of the expected type " + Ticket.class);
+            }
+            return (Ticket) result;
+        }
+    }
+
+    @Override
+    public boolean supports(final byte[] serializedTicket) {
+        return serializedTicket != null
+            && serializedTicket.length > HEADER.length
+            && serializedTicket[0] == HEADER[0]
+            && serializedTicket[1] == HEADER[1];
+    }
+}
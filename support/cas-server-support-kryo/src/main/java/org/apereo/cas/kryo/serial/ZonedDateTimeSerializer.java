@@ -1,4 +1,4 @@
-package org.apereo.cas.memcached.kryo.serial;
+package org.apereo.cas.kryo.serial;
 
 import org.apereo.cas.util.DateTimeUtils;
 
@@ -23,13 +23,13 @@ public class ZonedDateTimeSerializer extends Serializer<ZonedDateTime> {
 
     @Override
     public void write(final Kryo kryo, final Output output, final ZonedDateTime dateTime) {
-        LOGGER.trace("Writing date/time [{}] to memcached", dateTime);
+        LOGGER.trace("Writing date/time [{}] to Kryo output", dateTime);
         val epochMilli = dateTime.toInstant().toEpochMilli();
-        LOGGER.trace("Writing date/time epoch milliseconds [{}] to memcached", epochMilli);
+        LOGGER.trace("Writing date/time epoch milliseconds [{}] to Kryo output", epochMilli);
         kryo.writeObject(output, epochMilli);
 
         val id = dateTime.getZone().getId();
-        LOGGER.trace("Writing date/time zone id [{}] to memcached", id);
+        LOGGER.trace("Writing date/time zone id [{}] to Kryo output", id);
         kryo.writeObject(output, id);
     }
 
@@ -0,0 +1,21 @@
+package org.apereo.cas;
+
+import org.apereo.cas.kryo.KryoTicketSerializationCodecTests;
+import org.apereo.cas.kryo.ZonedDateTimeSerializerTests;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * This is {@link KryoTestsSuite}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    KryoTicketSerializationCodecTests.class,
+    ZonedDateTimeSerializerTests.class
+})
+public class KryoTestsSuite {
+}
@@ -0,0 +1,77 @@
+package org.apereo.cas.kryo;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.registry.DefaultTicketSerializationCodec;
+
+import com.esotericsoftware.kryo.KryoException;
+import lombok.val;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link KryoTicketSerializationCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class KryoTicketSerializationCodecTests {
+    private static final String ST_ID = "ST-1234567890ABCDEFGHIJKLMNOPQRSTUVWXYZ01234567890ABCDEFGHIJK";
+    private static final String USERNAME = "casuser";
+
+    private static CasKryoPool newKryoPool() {
+        val classesToRegister = new ArrayList<Class>();
+        classesToRegister.add(MockServiceTicket.class);
+        classesToRegister.add(MockTicketGrantingTicket.class);
+        return new CasKryoPool(classesToRegister);
+    }
+
+    @Test
+    public void verifyEncodeDecode() {
+        val codec = new KryoTicketSerializationCodec(newKryoPool(), new DefaultTicketSerializationCodec(), false);
+        val tgt = new MockTicketGrantingTicket(USERNAME);
+        val st = new MockServiceTicket(ST_ID, RegisteredServiceTestUtils.getService(), tgt);
+        val encoded = codec.encode(st);
+        assertTrue(codec.supports(encoded));
+        assertEquals(st, codec.decode(encoded));
+        assertEquals(tgt, codec.decode(codec.encode(tgt)));
+    }
+
+    @Test
+    public void verifyLegacyPayloadIsDecoded() {
+        val legacyCodec = new DefaultTicketSerializationCodec();
+        val codec = new KryoTicketSerializationCodec(newKryoPool(), legacyCodec, false);
+        val tgt = new MockTicketGrantingTicket(USERNAME);
+        val legacy = legacyCodec.encode(tgt);
+        assertFalse(codec.supports(legacy));
+        assertEquals(tgt, codec.decode(legacy));
+    }
+
+    @Test
+    public void verifyLegacyFormatIsWritten() {
+        val legacyCodec = new DefaultTicketSerializationCodec();
+        val codec = new KryoTicketSerializationCodec(newKryoPool(), legacyCodec, true);
+        val tgt = new MockTicketGrantingTicket(USERNAME);
+        val encoded = codec.encode(tgt);
+        assertTrue(legacyCodec.supports(encoded));
+        assertEquals(tgt, legacyCodec.decode(encoded));
+    }
+
+    @Test(expected = KryoException.class)
+    public void verifyNewerFormatVersionIsRejected() {
+        val codec = new KryoTicketSerializationCodec(newKryoPool(), new DefaultTicketSerializationCodec(), false);
+        val encoded = codec.encode(new MockTicketGrantingTicket(USERNAME));
+        encoded[2] = (byte) (KryoTicketSerializationCodec.FORMAT_VERSION + 1);
+        codec.decode(encoded);
+    }
+
+    @Test(expected = KryoException.class)
+    public void verifyUnknownPayloadIsRejected() {
+        val codec = new KryoTicketSerializationCodec(newKryoPool(), new DefaultTicketSerializationCodec(), false);
+        codec.decode(new byte[]{1, 2, 3, 4});
+    }
+}
@@ -0,0 +1,30 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.util.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.LdapConnectionPoolRegistryMetrics;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is {@link LdapConnectionPoolConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Configuration("ldapConnectionPoolConfiguration")
+public class LdapConnectionPoolConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = LdapConnectionPoolRegistry.BEAN_NAME)
+    public LdapConnectionPoolRegistry ldapConnectionPoolRegistry() {
+        return new LdapConnectionPoolRegistry();
+    }
+
+    @Bean
+    public MeterBinder ldapConnectionPoolRegistryMetrics() {
+        return new LdapConnectionPoolRegistryMetrics(ldapConnectionPoolRegistry());
+    }
+}
@@ -0,0 +1,225 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.pool.ConnectionPool;
+import org.ldaptive.pool.PooledConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LdapConnectionPoolRegistry} that keeps one LDAP connection pool
+ * per distinct set of connection and pool settings, so that components configured
+ * against the same directory with the same settings share connections.
+ * Each connection factory handed out counts as a consumer of its pool; once
+ * all consumers have closed their factories, the pool is closed as well.
+ * Pools that are still in use are closed when the registry bean is destroyed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class LdapConnectionPoolRegistry implements AutoCloseable, DisposableBean {
+    /**
+     * Bean name of the registry.
+     */
+    public static final String BEAN_NAME = "ldapConnectionPoolRegistry";
+
+    /**
+     * Pool purpose for connections that may be used to run any operation.
+     */
+    public static final String PURPOSE_DEFAULT = "default";
+
+    /**
+     * Pool purpose for connections that are used to bind as end users.
+     * Such connections are never shared with pools that search or modify entries.
+     */
+    public static final String PURPOSE_BIND = "bind";
+
+    private final Map<String, ManagedConnectionPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Build the key that identifies the effective connection and pool settings.
+     *
+     * @param l       the ldap properties
+     * @param purpose the purpose of the pool
+     * @return the key
+     */
+    public static String getKey(final AbstractLdapProperties l, final String purpose) {
+        val validator = l.getValidator();
+        val settings = new Object[]{
+            purpose,
+            l.getLdapUrl(), l.getBindDn(), l.getBindCredential(),
+            l.isUseSsl(), l.isUseStartTls(), l.getTrustCertificates(), l.getKeystore(),
+            l.getKeystorePassword(), l.getKeystoreType(), l.getHostnameVerifier(),
+            l.getSaslMechanism(), l.getSaslRealm(), l.getSaslAuthorizationId(), l.getSaslMutualAuth(),
+            l.getSaslQualityOfProtection(), l.getSaslSecurityStrength(),
+            l.getProviderClass(), l.getConnectionStrategy(), l.getConnectTimeout(), l.getResponseTimeout(),
+            l.getMinPoolSize(), l.getMaxPoolSize(), l.isValidateOnCheckout(), l.isValidatePeriodically(),
+            l.getValidatePeriod(), l.getValidateTimeout(), l.isFailFast(), l.getIdleTime(), l.getPrunePeriod(),
+            l.getBlockWaitTime(), l.getPoolPassivator(), l.isFollowReferrals(),
+            validator.getType(), validator.getBaseDn(), validator.getSearchFilter(), validator.getScope(),
+            validator.getDn(), validator.getAttributeName(), validator.getAttributeValues()
+        };
+        val data = Arrays.stream(settings)
+            .map(Objects::toString)
+            .collect(Collectors.joining("|"));
+        return DigestUtils.sha256(data);
+    }
+
+    /**
+     * Gets a connection factory backed by the pool that matches the given settings,
+     * creating the pool if none exists yet. The factory must be closed once it is
+     * no longer used, so that the pool can be closed after its last consumer is gone.
+     *
+     * @param l           the ldap properties
+     * @param purpose     the purpose of the pool
+     * @param poolFactory the function that creates and initializes a new pool
+     * @return the pooled connection factory
+     */
+    public SharedPooledConnectionFactory getConnectionFactory(final AbstractLdapProperties l, final String purpose,
+                                                              final Function<AbstractLdapProperties, ConnectionPool> poolFactory) {
+        val key = getKey(l, purpose);
+        val pool = pools.compute(key, (k, existing) -> {
+            val managed = existing == null ? newManagedConnectionPool(l, purpose, poolFactory) : existing;
+            managed.getConsumers().incrementAndGet();
+            return managed;
+        });
+        LOGGER.debug("LDAP connection pool [{}] is now shared by [{}] consumer(s)", pool.getName(), pool.getConsumers().get());
+        return new SharedPooledConnectionFactory(this, key, pool.getConnectionPool());
+    }
+
+    /**
+     * Release one consumer of the pool identified by the key.
+     * The pool is closed once it has no consumers left. Pools that are
+     * already closed, and replaced by a new pool since, are left alone.
+     *
+     * @param key            the key
+     * @param connectionPool the connection pool that is released
+     */
+    protected void release(final String key, final ConnectionPool connectionPool) {
+        pools.computeIfPresent(key, (k, pool) -> {
+            if (pool.getConnectionPool() != connectionPool) {
+                return pool;
+            }
+            val consumers = pool.getConsumers().decrementAndGet();
+            if (consumers > 0) {
+                LOGGER.debug("LDAP connection pool [{}] is now shared by [{}] consumer(s)", pool.getName(), consumers);
+                return pool;
+            }
+            closeConnectionPool(pool);
+            return null;
+        });
+    }
+
+    /**
+     * Gets statistics for all pools that are managed by this registry.
+     *
+     * @return the statistics
+     */
+    public Collection<LdapConnectionPoolStatistics> getStatistics() {
+        val statistics = new ArrayList<LdapConnectionPoolStatistics>(pools.size());
+        pools.values().forEach(pool -> statistics.add(new LdapConnectionPoolStatistics(pool.getName(),
+            pool.getConsumers().get(), pool.getConnectionPool().activeCount(), pool.getConnectionPool().availableCount())));
+        return statistics;
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    /**
+     * Close all pools and forget about them.
+     */
+    @Override
+    public void close() {
+        pools.keySet().forEach(key -> pools.computeIfPresent(key, (k, pool) -> {
+            closeConnectionPool(pool);
+            return null;
+        }));
+    }
+
+    private static ManagedConnectionPool newManagedConnectionPool(final AbstractLdapProperties l, final String purpose,
+                                                                  final Function<AbstractLdapProperties, ConnectionPool> poolFactory) {
+        val name = String.format("%s@%s[%s]", StringUtils.defaultIfBlank(l.getBindDn(), "anonymous"), l.getLdapUrl(), purpose);
+        LOGGER.debug("Creating shared LDAP connection pool [{}]", name);
+        return new ManagedConnectionPool(name, poolFactory.apply(l));
+    }
+
+    private static void closeConnectionPool(final ManagedConnectionPool pool) {
+        try {
+            LOGGER.debug("Closing shared LDAP connection pool [{}]", pool.getName());
+            pool.getConnectionPool().close();
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to close LDAP connection pool [{}]: [{}]", pool.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Connection factory backed by a shared pool.
+     * Closing the factory releases the pool, instead of closing it right away.
+     */
+    public static class SharedPooledConnectionFactory extends PooledConnectionFactory implements AutoCloseable {
+        private final LdapConnectionPoolRegistry registry;
+
+        private final String key;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SharedPooledConnectionFactory(final LdapConnectionPoolRegistry registry, final String key, final ConnectionPool pool) {
+            super(pool);
+            this.registry = registry;
+            this.key = key;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                registry.release(key, getConnectionPool());
+            }
+        }
+    }
+
+    /**
+     * Statistics of a shared connection pool.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class LdapConnectionPoolStatistics {
+        private final String name;
+
+        private final int consumers;
+
+        private final int activeCount;
+
+        private final int availableCount;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ManagedConnectionPool {
+        private final String name;
+
+        private final ConnectionPool connectionPool;
+
+        private final AtomicInteger consumers = new AtomicInteger();
+    }
+}
@@ -0,0 +1,48 @@
+package org.apereo.cas.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * This is {@link LdapConnectionPoolRegistryMetrics} that exposes the number of shared
+ * LDAP connection pools, their consumers and their active and available connections,
+ * summed across all pools in the {@link LdapConnectionPoolRegistry}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class LdapConnectionPoolRegistryMetrics implements MeterBinder {
+    private final LdapConnectionPoolRegistry connectionPoolRegistry;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("cas.ldap.pools", connectionPoolRegistry, r -> r.getStatistics().size())
+            .description("Number of shared LDAP connection pools")
+            .register(registry);
+
+        Gauge.builder("cas.ldap.pools.consumers", connectionPoolRegistry,
+            r -> sum(r, LdapConnectionPoolRegistry.LdapConnectionPoolStatistics::getConsumers))
+            .description("Number of connection factories that use a shared LDAP connection pool")
+            .register(registry);
+
+        Gauge.builder("cas.ldap.pools.connections.active", connectionPoolRegistry,
+            r -> sum(r, LdapConnectionPoolRegistry.LdapConnectionPoolStatistics::getActiveCount))
+            .description("Number of connections checked out of shared LDAP connection pools")
+            .register(registry);
+
+        Gauge.builder("cas.ldap.pools.connections.available", connectionPoolRegistry,
+            r -> sum(r, LdapConnectionPoolRegistry.LdapConnectionPoolStatistics::getAvailableCount))
+            .description("Number of idle connections in shared LDAP connection pools")
+            .register(registry);
+    }
+
+    private static double sum(final LdapConnectionPoolRegistry registry,
+                              final ToIntFunction<LdapConnectionPoolRegistry.LdapConnectionPoolStatistics> statistic) {
+        return registry.getStatistics().stream().mapToInt(statistic).sum();
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas.util;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -73,6 +74,7 @@ import org.ldaptive.pool.ConnectionPool;
 import org.ldaptive.pool.IdlePruneStrategy;
 import org.ldaptive.pool.PoolConfig;
 import org.ldaptive.pool.PooledConnectionFactory;
+import org.ldaptive.pool.PooledConnectionFactoryManager;
 import org.ldaptive.pool.SearchValidator;
 import org.ldaptive.provider.Provider;
 import org.ldaptive.referral.DeleteReferralHandler;
@@ -103,6 +105,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Utilities related to LDAP functions.
@@ -670,7 +673,8 @@ public class LdapUtils {
         }
 
         val auth = StringUtils.isBlank(l.getPrincipalAttributePassword())
-            ? new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)))
+            ? new Authenticator(resolver, getPooledBindAuthenticationHandler(l,
+                newLdaptivePooledConnectionFactory(l, LdapConnectionPoolRegistry.PURPOSE_BIND)))
             : new Authenticator(resolver, getPooledCompareAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
@@ -695,7 +699,8 @@ public class LdapUtils {
 
     private static Authenticator getAuthenticatorViaDnFormat(final AbstractLdapAuthenticationProperties l) {
         val resolver = new FormatDnResolver(l.getDnFormat());
-        val authenticator = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
+        val authenticator = new Authenticator(resolver, getPooledBindAuthenticationHandler(l,
+            newLdaptivePooledConnectionFactory(l, LdapConnectionPoolRegistry.PURPOSE_BIND)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptivePooledConnectionFactory(l)));
@@ -719,15 +724,77 @@ public class LdapUtils {
 
     /**
      * New pooled connection factory pooled connection factory.
+     * Unless disabled by the settings, the connection pool is shared with
+     * all other factories that are created with the same settings.
      *
      * @param l the ldap properties
      * @return the pooled connection factory
      */
     public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l) {
+        return newLdaptivePooledConnectionFactory(l, LdapConnectionPoolRegistry.PURPOSE_DEFAULT);
+    }
+
+    /**
+     * New pooled connection factory pooled connection factory, whose pool
+     * is only shared with factories created for the same purpose.
+     *
+     * @param l       the ldap properties
+     * @param purpose the purpose of the pool
+     * @return the pooled connection factory
+     */
+    public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l, final String purpose) {
+        if (l.isSharedPool()) {
+            val registry = getConnectionPoolRegistry();
+            if (registry != null) {
+                return registry.getConnectionFactory(l, purpose, LdapUtils::newLdaptiveBlockingConnectionPool);
+            }
+            LOGGER.debug("No LDAP connection pool registry is available; Connection pool for [{}] will not be shared", l.getLdapUrl());
+        }
         val cp = newLdaptiveBlockingConnectionPool(l);
         return new PooledConnectionFactory(cp);
     }
 
+    /**
+     * Close the connection factory once it is no longer used.
+     * Shared pools are released, and only closed once no other factory uses them.
+     *
+     * @param connectionFactory the connection factory
+     */
+    public static void closeConnectionFactory(final ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof LdapConnectionPoolRegistry.SharedPooledConnectionFactory) {
+            ((LdapConnectionPoolRegistry.SharedPooledConnectionFactory) connectionFactory).close();
+        } else if (connectionFactory instanceof PooledConnectionFactory) {
+            val pool = ((PooledConnectionFactory) connectionFactory).getConnectionPool();
+            if (pool != null) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * Close the connection factories used by the authenticator to resolve, authenticate and look up users.
+     *
+     * @param authenticator the authenticator
+     */
+    public static void closeAuthenticator(final Authenticator authenticator) {
+        if (authenticator == null) {
+            return;
+        }
+        Stream.of(authenticator.getDnResolver(), authenticator.getAuthenticationHandler(), authenticator.getEntryResolver())
+            .filter(PooledConnectionFactoryManager.class::isInstance)
+            .map(manager -> ((PooledConnectionFactoryManager) manager).getConnectionFactory())
+            .distinct()
+            .forEach(LdapUtils::closeConnectionFactory);
+    }
+
+    private static LdapConnectionPoolRegistry getConnectionPoolRegistry() {
+        val applicationContext = ApplicationContextProvider.getApplicationContext();
+        if (applicationContext != null && applicationContext.containsBean(LdapConnectionPoolRegistry.BEAN_NAME)) {
+            return applicationContext.getBean(LdapConnectionPoolRegistry.BEAN_NAME, LdapConnectionPoolRegistry.class);
+        }
+        return null;
+    }
+
     /**
      * New connection config connection config.
      *
@@ -1,9 +1,12 @@
 package org.apereo.cas.monitor;
 
+import org.apereo.cas.util.LdapUtils;
+
 import lombok.val;
 import org.ldaptive.Connection;
 import org.ldaptive.pool.PooledConnectionFactory;
 import org.ldaptive.pool.Validator;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.actuate.health.Health;
 
 import java.util.concurrent.ExecutorService;
@@ -14,7 +17,7 @@ import java.util.concurrent.ExecutorService;
  * @author Marvin S. Addison
  * @since 4.0.0
  */
-public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHealthIndicator {
+public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHealthIndicator implements DisposableBean {
 
     /**
      * Source of connections to validate.
@@ -54,4 +57,9 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
     protected int getActiveCount() {
         return this.connectionFactory.getConnectionPool().activeCount();
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
@@ -15,6 +15,7 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapException;
 import org.ldaptive.Response;
 import org.ldaptive.SearchResult;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
@@ -30,7 +31,7 @@ import java.util.Objects;
  */
 @Slf4j
 @ToString
-public class LdapServiceRegistry extends AbstractServiceRegistry {
+public class LdapServiceRegistry extends AbstractServiceRegistry implements DisposableBean {
 
     private final ConnectionFactory connectionFactory;
 
@@ -210,4 +211,9 @@ public class LdapServiceRegistry extends AbstractServiceRegistry {
             LdapUtils.LDAP_SEARCH_FILTER_DEFAULT_PARAM_NAME, CollectionUtils.wrap(id.toString()));
         return LdapUtils.executeSearchOperation(this.connectionFactory, this.baseDn, filter);
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.LdapUtils;
 
 import com.google.common.collect.Maps;
 import lombok.Setter;
@@ -20,6 +21,7 @@ import org.ldaptive.auth.AuthenticationRequest;
 import org.ldaptive.auth.AuthenticationResponse;
 import org.ldaptive.auth.AuthenticationResultCode;
 import org.ldaptive.auth.Authenticator;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.security.auth.login.AccountNotFoundException;
 import javax.security.auth.login.FailedLoginException;
@@ -40,7 +42,7 @@ import java.util.Map;
  */
 @Slf4j
 @Setter
-public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
+public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler implements DisposableBean {
 
     /**
      * Mapping of LDAP attribute name to principal attribute name.
@@ -257,4 +259,9 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         this.authenticatedEntryAttributes = attributes.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
         LOGGER.debug("LDAP authentication entry attributes for the authentication request are [{}]", (Object[]) this.authenticatedEntryAttributes);
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeAuthenticator(this.authenticator);
+    }
 }
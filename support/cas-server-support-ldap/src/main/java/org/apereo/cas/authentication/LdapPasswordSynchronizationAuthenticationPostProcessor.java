@@ -14,6 +14,7 @@ import org.ldaptive.ModifyOperation;
 import org.ldaptive.ModifyRequest;
 import org.ldaptive.ResultCode;
 import org.ldaptive.ad.UnicodePwdAttribute;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.Collections;
 
@@ -24,7 +25,7 @@ import java.util.Collections;
  * @since 6.1.0
  */
 @Slf4j
-public class LdapPasswordSynchronizationAuthenticationPostProcessor implements AuthenticationPostProcessor {
+public class LdapPasswordSynchronizationAuthenticationPostProcessor implements AuthenticationPostProcessor, DisposableBean {
     private final ConnectionFactory searchFactory;
     private final AbstractLdapSearchProperties ldapProperties;
 
@@ -89,4 +90,9 @@ public class LdapPasswordSynchronizationAuthenticationPostProcessor implements A
     protected LdapAttribute getLdapPasswordAttribute(final UsernamePasswordCredential credential) {
         return new UnicodePwdAttribute(credential.getPassword());
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.searchFactory);
+    }
 }
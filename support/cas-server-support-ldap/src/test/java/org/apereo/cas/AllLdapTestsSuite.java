@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.AuthenticatedLdapAuthenticationHandlerTests
 import org.apereo.cas.authentication.DirectLdapAuthenticationHandlerTests;
 import org.apereo.cas.authentication.LdapPasswordSynchronizationAuthenticationPostProcessorTests;
 import org.apereo.cas.authentication.principal.PersonDirectoryPrincipalResolverLdaptiveTests;
+import org.apereo.cas.util.LdapConnectionPoolRegistryTests;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -19,7 +20,8 @@ import org.junit.runners.Suite;
     AuthenticatedLdapAuthenticationHandlerTests.class,
     PersonDirectoryPrincipalResolverLdaptiveTests.class,
     DirectLdapAuthenticationHandlerTests.class,
-    LdapPasswordSynchronizationAuthenticationPostProcessorTests.class
+    LdapPasswordSynchronizationAuthenticationPostProcessorTests.class,
+    LdapConnectionPoolRegistryTests.class
 })
 public class AllLdapTestsSuite {
 }
@@ -0,0 +1,204 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.adaptors.ldap.LdapIntegrationTestsOperations;
+import org.apereo.cas.category.LdapCategory;
+import org.apereo.cas.configuration.model.core.authentication.LdapPrincipalAttributesProperties;
+import org.apereo.cas.configuration.model.core.authentication.passwordsync.LdapPasswordSynchronizationProperties;
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapSearchProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
+import org.apereo.cas.configuration.model.support.ldap.serviceregistry.LdapServiceRegistryProperties;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.ldaptive.auth.PooledBindAuthenticationHandler;
+import org.ldaptive.auth.PooledSearchDnResolver;
+import org.ldaptive.auth.PooledSearchEntryResolver;
+import org.ldaptive.pool.ConnectionPool;
+import org.ldaptive.pool.PooledConnectionFactory;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link LdapConnectionPoolRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Category(LdapCategory.class)
+public class LdapConnectionPoolRegistryTests {
+    private static final int LDAP_PORT = 1391;
+
+    private static final String LDAP_URL = "ldap://localhost:" + LDAP_PORT;
+
+    private static final int MIN_POOL_SIZE = 3;
+
+    @BeforeClass
+    public static void bootstrap() throws Exception {
+        LdapIntegrationTestsOperations.initDirectoryServer(LDAP_PORT);
+    }
+
+    private LdapConnectionPoolRegistry registry;
+
+    @Before
+    public void initialize() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        this.registry = new LdapConnectionPoolRegistry();
+        applicationContext.getBeanFactory().registerSingleton(LdapConnectionPoolRegistry.BEAN_NAME, this.registry);
+        ApplicationContextProvider.holdApplicationContext(applicationContext);
+    }
+
+    @After
+    public void shutdown() {
+        this.registry.destroy();
+    }
+
+    private static <T extends AbstractLdapProperties> T configure(final T properties, final boolean sharedPool) {
+        properties.setLdapUrl(LDAP_URL);
+        properties.setUseSsl(false);
+        properties.setBindDn("cn=Directory Manager,dc=example,dc=org");
+        properties.setBindCredential("Password");
+        properties.setMinPoolSize(MIN_POOL_SIZE);
+        properties.setSharedPool(sharedPool);
+        if (properties instanceof AbstractLdapSearchProperties) {
+            val search = (AbstractLdapSearchProperties) properties;
+            search.setBaseDn("dc=example,dc=org");
+            search.setSearchFilter("cn={user}");
+        }
+        return properties;
+    }
+
+    /**
+     * Create the connection factories of a typical deployment, where authentication,
+     * two attribute repositories, password synchronization and the service registry
+     * all talk to the same directory.
+     */
+    private static List<PooledConnectionFactory> createConnectionFactories(final boolean sharedPool) {
+        val factories = new ArrayList<PooledConnectionFactory>();
+        val authenticator = LdapUtils.newLdaptiveAuthenticator(configure(new LdapAuthenticationProperties(), sharedPool));
+        factories.add(((PooledSearchDnResolver) authenticator.getDnResolver()).getConnectionFactory());
+        factories.add(((PooledBindAuthenticationHandler) authenticator.getAuthenticationHandler()).getConnectionFactory());
+        factories.add(((PooledSearchEntryResolver) authenticator.getEntryResolver()).getConnectionFactory());
+
+        factories.add(LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapPrincipalAttributesProperties(), sharedPool)));
+        factories.add(LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapPasswordSynchronizationProperties(), sharedPool)));
+        factories.add(LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapServiceRegistryProperties(), sharedPool)));
+        factories.add(LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapPrincipalAttributesProperties(), sharedPool)));
+        return factories;
+    }
+
+    private static Set<ConnectionPool> getConnectionPools(final List<PooledConnectionFactory> factories) {
+        val pools = Collections.newSetFromMap(new IdentityHashMap<ConnectionPool, Boolean>());
+        factories.forEach(factory -> pools.add(factory.getConnectionPool()));
+        return pools;
+    }
+
+    private static int countOpenConnections(final Set<ConnectionPool> pools) {
+        return pools.stream().mapToInt(pool -> pool.activeCount() + pool.availableCount()).sum();
+    }
+
+    @Test
+    public void verifyOpenConnectionsCollapseWhenShared() {
+        val dedicatedPools = getConnectionPools(createConnectionFactories(false));
+        val sharedPools = getConnectionPools(createConnectionFactories(true));
+        try {
+            assertEquals(7, dedicatedPools.size());
+            assertEquals(7 * MIN_POOL_SIZE, countOpenConnections(dedicatedPools));
+
+            assertEquals(2, sharedPools.size());
+            assertEquals(2 * MIN_POOL_SIZE, countOpenConnections(sharedPools));
+        } finally {
+            dedicatedPools.forEach(ConnectionPool::close);
+        }
+    }
+
+    @Test
+    public void verifyBindPoolsAreNotSharedWithSearches() {
+        val properties = configure(new LdapAuthenticationProperties(), true);
+        val search = LdapUtils.newLdaptivePooledConnectionFactory(properties);
+        val bind = LdapUtils.newLdaptivePooledConnectionFactory(properties, LdapConnectionPoolRegistry.PURPOSE_BIND);
+        assertNotSame(search.getConnectionPool(), bind.getConnectionPool());
+        assertSame(bind.getConnectionPool(),
+            LdapUtils.newLdaptivePooledConnectionFactory(properties, LdapConnectionPoolRegistry.PURPOSE_BIND).getConnectionPool());
+    }
+
+    @Test
+    public void verifyDifferentSettingsUseDifferentPools() {
+        val first = configure(new LdapPrincipalAttributesProperties(), true);
+        val second = configure(new LdapPrincipalAttributesProperties(), true);
+        second.setMaxPoolSize(first.getMaxPoolSize() + 1);
+        assertNotEquals(LdapConnectionPoolRegistry.getKey(first, LdapConnectionPoolRegistry.PURPOSE_DEFAULT),
+            LdapConnectionPoolRegistry.getKey(second, LdapConnectionPoolRegistry.PURPOSE_DEFAULT));
+        assertNotSame(LdapUtils.newLdaptivePooledConnectionFactory(first).getConnectionPool(),
+            LdapUtils.newLdaptivePooledConnectionFactory(second).getConnectionPool());
+    }
+
+    @Test
+    public void verifyStatisticsAndShutdown() throws Exception {
+        val factory = LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapServiceRegistryProperties(), true));
+        try (val connection = LdapUtils.createConnection(factory)) {
+            val statistics = registry.getStatistics();
+            assertTrue(statistics.stream().anyMatch(s -> s.getName().contains(LDAP_URL) && s.getActiveCount() == 1));
+        }
+        val pool = factory.getConnectionPool();
+        assertEquals(MIN_POOL_SIZE, pool.availableCount());
+        registry.destroy();
+        assertTrue(registry.getStatistics().isEmpty());
+        assertEquals(0, pool.availableCount());
+    }
+
+    @Test
+    public void verifyPoolIsClosedOnceReleasedByAllConsumers() {
+        val first = LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapServiceRegistryProperties(), true));
+        val second = LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapServiceRegistryProperties(), true));
+        val pool = first.getConnectionPool();
+        assertSame(pool, second.getConnectionPool());
+        assertEquals(2, registry.getStatistics().iterator().next().getConsumers());
+
+        LdapUtils.closeConnectionFactory(first);
+        LdapUtils.closeConnectionFactory(first);
+        assertEquals(1, registry.getStatistics().iterator().next().getConsumers());
+        assertEquals(MIN_POOL_SIZE, pool.availableCount());
+
+        LdapUtils.closeConnectionFactory(second);
+        assertTrue(registry.getStatistics().isEmpty());
+        assertEquals(0, pool.availableCount());
+
+        val renewed = LdapUtils.newLdaptivePooledConnectionFactory(configure(new LdapServiceRegistryProperties(), true));
+        assertNotSame(pool, renewed.getConnectionPool());
+        assertEquals(MIN_POOL_SIZE, renewed.getConnectionPool().availableCount());
+    }
+
+    @Test
+    public void verifyAuthenticatorReleasesPools() {
+        val authenticator = LdapUtils.newLdaptiveAuthenticator(configure(new LdapAuthenticationProperties(), true));
+        assertEquals(2, registry.getStatistics().size());
+        LdapUtils.closeAuthenticator(authenticator);
+        assertTrue(registry.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void verifyMetrics() {
+        val meterRegistry = new SimpleMeterRegistry();
+        new LdapConnectionPoolRegistryMetrics(registry).bindTo(meterRegistry);
+        createConnectionFactories(true);
+        assertEquals(2, meterRegistry.get("cas.ldap.pools").gauge().value(), 0);
+        assertEquals(7, meterRegistry.get("cas.ldap.pools.consumers").gauge().value(), 0);
+        assertEquals(2 * MIN_POOL_SIZE, meterRegistry.get("cas.ldap.pools.connections.available").gauge().value(), 0);
+        assertEquals(0, meterRegistry.get("cas.ldap.pools.connections.active").gauge().value(), 0);
+    }
+}
@@ -1,7 +1,6 @@
 package org.apereo.cas.memcached;
 
 import org.apereo.cas.memcached.kryo.CasKryoTranscoderTests;
-import org.apereo.cas.memcached.kryo.ZonedDateTimeSerializerTests;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -14,8 +13,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-    CasKryoTranscoderTests.class,
-    ZonedDateTimeSerializerTests.class
+    CasKryoTranscoderTests.class
 })
 public class MemcachedCoreTestsSuite {
 }
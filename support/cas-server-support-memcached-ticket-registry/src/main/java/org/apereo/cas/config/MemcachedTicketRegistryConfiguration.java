@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.registry.MemcachedTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketSerializationCodec;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import lombok.val;
@@ -38,6 +39,10 @@ public class MemcachedTicketRegistryConfiguration {
     @Qualifier("componentSerializationPlan")
     private ObjectProvider<ComponentSerializationPlan> componentSerializationPlan;
 
+    @Autowired
+    @Qualifier("ticketSerializationCodec")
+    private ObjectProvider<TicketSerializationCodec> ticketSerializationCodec;
+
     @ConditionalOnMissingBean(name = "memcachedTicketRegistryTranscoder")
     @RefreshScope
     @Bean
@@ -61,6 +66,7 @@ public class MemcachedTicketRegistryConfiguration {
         val registry = new MemcachedTicketRegistry(factory.getObjectPool());
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
         registry.setCipherExecutor(cipherExecutor);
+        ticketSerializationCodec.ifAvailable(registry::setTicketSerializationCodec);
         return registry;
     }
 
@@ -562,8 +562,8 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @Bean
     public LoadingCache<OidcRegisteredService, Optional<RsaJsonWebKey>> oidcServiceJsonWebKeystoreCache() {
         val oidc = casProperties.getAuthn().getOidc();
-        return Caffeine.newBuilder().maximumSize(1)
-            .expireAfterWrite(oidc.getJwksCacheInMinutes(), TimeUnit.MINUTES)
+        return Caffeine.newBuilder().maximumSize(oidc.getJwksCacheMaximumSize())
+            .refreshAfterWrite(oidc.getJwksCacheInMinutes(), TimeUnit.MINUTES)
             .build(oidcServiceJsonWebKeystoreCacheLoader());
     }
 
@@ -571,7 +571,7 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     public LoadingCache<String, Optional<RsaJsonWebKey>> oidcDefaultJsonWebKeystoreCache() {
         val oidc = casProperties.getAuthn().getOidc();
         return Caffeine.newBuilder().maximumSize(1)
-            .expireAfterWrite(oidc.getJwksCacheInMinutes(), TimeUnit.MINUTES)
+            .refreshAfterWrite(oidc.getJwksCacheInMinutes(), TimeUnit.MINUTES)
             .build(oidcDefaultJsonWebKeystoreCacheLoader());
     }
 
@@ -114,5 +114,22 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
         return Optional.of(key);
     }
 
-
+    /**
+     * Reload the JSON web key in the background once the cached key is due for refresh.
+     * If the keystore cannot be read, the previously loaded key remains in use
+     * until a later refresh succeeds.
+     *
+     * @param issuer   the issuer
+     * @param oldValue the previously loaded key
+     * @return the reloaded key, or the previously loaded key if reloading fails
+     */
+    @Override
+    public Optional<RsaJsonWebKey> reload(final String issuer, final Optional<RsaJsonWebKey> oldValue) {
+        val key = load(issuer);
+        if (key.isEmpty() && oldValue.isPresent()) {
+            LOGGER.warn("Unable to reload JSON web key for [{}]; Previously loaded key remains in use", issuer);
+            return oldValue;
+        }
+        return key;
+    }
 }
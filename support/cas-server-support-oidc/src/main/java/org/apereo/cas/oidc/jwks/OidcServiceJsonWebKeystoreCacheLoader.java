@@ -113,4 +113,23 @@ public class OidcServiceJsonWebKeystoreCacheLoader implements CacheLoader<OidcRe
         }
         return Optional.of(key);
     }
+
+    /**
+     * Reload the JSON web key in the background once the cached key is due for refresh.
+     * If the keystore cannot be read, the previously loaded key remains in use
+     * until a later refresh succeeds.
+     *
+     * @param svc      the service
+     * @param oldValue the previously loaded key
+     * @return the reloaded key, or the previously loaded key if reloading fails
+     */
+    @Override
+    public Optional<RsaJsonWebKey> reload(final OidcRegisteredService svc, final Optional<RsaJsonWebKey> oldValue) {
+        val key = load(svc);
+        if (key.isEmpty() && oldValue.isPresent()) {
+            LOGGER.warn("Unable to reload JSON web key for [{}]; Previously loaded key remains in use", svc);
+            return oldValue;
+        }
+        return key;
+    }
 }
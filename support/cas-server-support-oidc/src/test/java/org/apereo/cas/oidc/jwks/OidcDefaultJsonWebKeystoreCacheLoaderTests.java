@@ -2,7 +2,9 @@ package org.apereo.cas.oidc.jwks;
 
 import org.apereo.cas.oidc.AbstractOidcTests;
 
+import lombok.val;
 import org.junit.Test;
+import org.springframework.core.io.FileSystemResource;
 
 import static org.junit.Assert.*;
 
@@ -18,4 +20,13 @@ public class OidcDefaultJsonWebKeystoreCacheLoaderTests extends AbstractOidcTest
         assertTrue(oidcDefaultJsonWebKeystoreCache.get("https://sso.example.org/cas/oidc").isPresent());
         assertTrue(oidcDefaultJsonWebKeystoreCache.get("https://sso.example.org/cas/oidc").isPresent());
     }
+
+    @Test
+    public void verifyPreviousKeyIsKeptWhenReloadFails() {
+        val key = oidcDefaultJsonWebKeystoreCache.get("https://sso.example.org/cas/oidc");
+        assertTrue(key.isPresent());
+        val loader = new OidcDefaultJsonWebKeystoreCacheLoader(new FileSystemResource("/does/not/exist.jwks"));
+        assertFalse(loader.load("https://sso.example.org/cas/oidc").isPresent());
+        assertSame(key.get(), loader.reload("https://sso.example.org/cas/oidc", key).get());
+    }
 }
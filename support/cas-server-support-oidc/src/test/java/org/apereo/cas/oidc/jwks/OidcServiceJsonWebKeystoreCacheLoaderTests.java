@@ -4,6 +4,7 @@ import org.apereo.cas.oidc.AbstractOidcTests;
 
 import lombok.val;
 import org.junit.Test;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import static org.junit.Assert.*;
 
@@ -20,4 +21,15 @@ public class OidcServiceJsonWebKeystoreCacheLoaderTests extends AbstractOidcTest
         assertTrue(oidcServiceJsonWebKeystoreCache.get(service).isPresent());
         assertTrue(oidcServiceJsonWebKeystoreCache.get(service).isPresent());
     }
+
+    @Test
+    public void verifyPreviousKeyIsKeptWhenReloadFails() {
+        val service = getOidcRegisteredService();
+        val key = oidcServiceJsonWebKeystoreCache.get(service);
+        assertTrue(key.isPresent());
+        service.setJwks("file:/does/not/exist.jwks");
+        val loader = new OidcServiceJsonWebKeystoreCacheLoader(new DefaultResourceLoader());
+        assertFalse(loader.load(service).isPresent());
+        assertSame(key.get(), loader.reload(service, key).get());
+    }
 }
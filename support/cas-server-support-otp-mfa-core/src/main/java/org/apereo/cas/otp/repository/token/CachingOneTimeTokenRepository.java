@@ -2,111 +2,186 @@ package org.apereo.cas.otp.repository.token;
 
 import org.apereo.cas.authentication.OneTimeToken;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * This is {@link CachingOneTimeTokenRepository}.
+ * This is {@link CachingOneTimeTokenRepository} that keeps used tokens in memory.
+ * Tokens are grouped by the time step in which they were used, and then by user,
+ * where the used tokens of a user are kept as plain numbers. A token cannot be accepted
+ * again once the validation window that started with its time step has passed, so all
+ * tokens of a time step expire together, and the whole group is dropped at once rather
+ * than going through tokens one by one.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CachingOneTimeTokenRepository extends BaseOneTimeTokenRepository {
-    private final LoadingCache<String, Collection<OneTimeToken>> storage;
+    private static final int LOCK_STRIPES = 64;
+
+    @Getter
+    private final long timeStepSizeInMillis;
+
+    @Getter
+    private final int windowSize;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<Long, ConcurrentMap<String, int[]>> tokensByTimeStep = new ConcurrentHashMap<>();
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public CachingOneTimeTokenRepository(final long timeStepSizeInSeconds, final int windowSize) {
+        this(timeStepSizeInSeconds, windowSize, Clock.systemUTC());
+    }
+
+    public CachingOneTimeTokenRepository(final long timeStepSizeInSeconds, final int windowSize, final Clock clock) {
+        this.timeStepSizeInMillis = TimeUnit.SECONDS.toMillis(Math.max(1, timeStepSizeInSeconds));
+        this.windowSize = Math.max(1, windowSize);
+        this.clock = clock;
+        Arrays.setAll(this.locks, i -> new Object());
+    }
 
     @Override
     public void removeAll() {
-        this.storage.invalidateAll();
+        this.tokensByTimeStep.clear();
     }
 
     @Override
     public void cleanInternal() {
-        LOGGER.debug("Beginning to clean up the cache storage to remove expiring tokens");
-        this.storage.cleanUp();
-        LOGGER.debug("Estimated total of [{}] token(s) remain in the cache and may be removed in future iterations", this.storage.estimatedSize());
+        val currentTimeStep = getCurrentTimeStep();
+        val removed = this.tokensByTimeStep.keySet().removeIf(step -> isExpired(step, currentTimeStep));
+        LOGGER.debug("Removed expired time steps [{}]; [{}] time step(s) remain with used tokens", removed, this.tokensByTimeStep.size());
     }
 
     @Override
     public void store(final OneTimeToken token) {
-        if (exists(token.getUserId(), token.getToken())) {
-            try {
-                val tokens = this.storage.get(token.getUserId());
-                tokens.add(token);
-
-                LOGGER.debug("Storing previously used tokens [{}] for user [{}]", tokens, token.getUserId());
-                this.storage.put(token.getUserId(), tokens);
-            } catch (final Exception e) {
-                LOGGER.warn(e.getMessage(), e);
-            }
-        } else {
-            val tokens = new ArrayList<OneTimeToken>();
-            tokens.add(token);
+        synchronized (getLock(token.getUserId())) {
+            storeToken(token);
+        }
+    }
 
-            LOGGER.debug("Storing previously used token [{}] for user [{}]", token, token.getUserId());
-            this.storage.put(token.getUserId(), tokens);
+    @Override
+    public boolean storeIfAbsent(final OneTimeToken token) {
+        synchronized (getLock(token.getUserId())) {
+            if (get(token.getUserId(), token.getToken()) != null) {
+                LOGGER.debug("Token [{}] for user [{}] has been used already", token.getToken(), token.getUserId());
+                return false;
+            }
+            storeToken(token);
+            return true;
         }
     }
 
     @Override
     public OneTimeToken get(final String uid, final Integer otp) {
-        try {
-            val tokens = this.storage.getIfPresent(uid);
-            LOGGER.debug("Found used tokens [{}]", tokens);
-            if (tokens != null) {
-                return tokens
-                    .stream()
-                    .filter(t -> t.getToken().equals(otp))
-                    .findFirst()
-                    .orElse(null);
+        val currentTimeStep = getCurrentTimeStep();
+        for (val entry : this.tokensByTimeStep.entrySet()) {
+            if (!isExpired(entry.getKey(), currentTimeStep)) {
+                val tokens = entry.getValue().get(uid);
+                if (tokens != null && contains(tokens, otp)) {
+                    val token = new OneTimeToken(otp, uid);
+                    token.setIssuedDateTime(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(entry.getKey() * this.timeStepSizeInMillis), ZoneId.systemDefault()));
+                    return token;
+                }
             }
-        } catch (final Exception e) {
-            LOGGER.warn(e.getMessage(), e);
         }
         return null;
     }
 
     @Override
     public void remove(final String uid, final Integer otp) {
-        val dataset = this.storage.asMap();
-        if (dataset.containsKey(uid)) {
-            val tokens = dataset.get(uid);
-            tokens.removeIf(t -> otp.intValue() == t.getId());
-            this.storage.put(uid, tokens);
-            this.storage.refresh(uid);
+        synchronized (getLock(uid)) {
+            this.tokensByTimeStep.values().forEach(tokens -> tokens.computeIfPresent(uid, (key, used) -> without(used, otp)));
         }
     }
 
     @Override
     public void remove(final String uid) {
-        this.storage.invalidate(uid);
-        this.storage.refresh(uid);
+        synchronized (getLock(uid)) {
+            this.tokensByTimeStep.values().forEach(tokens -> tokens.remove(uid));
+        }
     }
 
     @Override
     public void remove(final Integer otp) {
-        val dataset = this.storage.asMap();
-        dataset.values().forEach(tokens -> tokens.removeIf(t -> otp.intValue() == t.getId()));
+        this.tokensByTimeStep.values().forEach(tokens -> tokens.keySet().forEach(uid -> remove(uid, otp)));
     }
 
     @Override
     public long count(final String uid) {
-        val tokens = this.storage.getIfPresent(uid);
-        LOGGER.debug("Found used tokens [{}]", tokens);
-        if (tokens != null) {
-            return tokens.size();
-        }
-        return 0;
+        val currentTimeStep = getCurrentTimeStep();
+        return this.tokensByTimeStep.entrySet()
+            .stream()
+            .filter(entry -> !isExpired(entry.getKey(), currentTimeStep))
+            .map(entry -> entry.getValue().get(uid))
+            .filter(Objects::nonNull)
+            .mapToLong(tokens -> tokens.length)
+            .sum();
     }
 
     @Override
     public long count() {
-        return this.storage.estimatedSize();
+        val currentTimeStep = getCurrentTimeStep();
+        return this.tokensByTimeStep.entrySet()
+            .stream()
+            .filter(entry -> !isExpired(entry.getKey(), currentTimeStep))
+            .map(Map.Entry::getValue)
+            .flatMap(tokens -> tokens.values().stream())
+            .mapToLong(tokens -> tokens.length)
+            .sum();
+    }
+
+    private void storeToken(final OneTimeToken token) {
+        val currentTimeStep = getCurrentTimeStep();
+        this.tokensByTimeStep.keySet().removeIf(step -> isExpired(step, currentTimeStep));
+        val tokens = this.tokensByTimeStep.computeIfAbsent(currentTimeStep, step -> new ConcurrentHashMap<>());
+        val otp = token.getToken();
+        tokens.merge(token.getUserId(), new int[]{otp}, (used, added) -> {
+            val merged = Arrays.copyOf(used, used.length + 1);
+            merged[used.length] = otp;
+            return merged;
+        });
+        LOGGER.debug("Stored used token [{}] for user [{}] in time step [{}]", otp, token.getUserId(), currentTimeStep);
+    }
+
+    private long getCurrentTimeStep() {
+        return this.clock.millis() / this.timeStepSizeInMillis;
+    }
+
+    private boolean isExpired(final long timeStep, final long currentTimeStep) {
+        return timeStep + this.windowSize < currentTimeStep;
+    }
+
+    private Object getLock(final String uid) {
+        return this.locks[Math.floorMod(uid.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static boolean contains(final int[] tokens, final int otp) {
+        for (val token : tokens) {
+            if (token == otp) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] without(final int[] tokens, final int otp) {
+        val remaining = Arrays.stream(tokens).filter(token -> token != otp).toArray();
+        return remaining.length == 0 ? null : remaining;
     }
 }
@@ -23,6 +23,22 @@ public interface OneTimeTokenRepository {
      */
     void store(OneTimeToken token);
 
+    /**
+     * Store token/code in the repository unless the user has used it already.
+     * Implementations should check and store the token in one step, so that
+     * concurrent requests cannot both use the same token.
+     *
+     * @param token the token
+     * @return true if the token is stored, or false if it was used already.
+     */
+    default boolean storeIfAbsent(final OneTimeToken token) {
+        if (exists(token.getUserId(), token.getToken())) {
+            return false;
+        }
+        store(token);
+        return true;
+    }
+
     /**
      * Determine if the otp for user exists in repository.
      *
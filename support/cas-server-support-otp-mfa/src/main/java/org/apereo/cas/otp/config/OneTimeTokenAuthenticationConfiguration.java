@@ -4,7 +4,6 @@ import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.AuthenticationSystemSupport;
 import org.apereo.cas.authentication.MultifactorAuthenticationProviderSelector;
-import org.apereo.cas.authentication.OneTimeToken;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.otp.repository.token.CachingOneTimeTokenRepository;
 import org.apereo.cas.otp.repository.token.OneTimeTokenRepository;
@@ -16,9 +15,7 @@ import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.web.flow.authentication.RankedMultifactorAuthenticationProviderSelector;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -33,9 +30,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.util.CookieGenerator;
 import org.springframework.webflow.execution.Action;
 
-import java.util.Collection;
-import java.util.concurrent.TimeUnit;
-
 /**
  * This is {@link OneTimeTokenAuthenticationConfiguration}.
  *
@@ -45,12 +39,9 @@ import java.util.concurrent.TimeUnit;
 @Configuration("oneTimeTokenAuthenticationConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @EnableScheduling
-@Slf4j
 public class OneTimeTokenAuthenticationConfiguration {
-    private static final int EXPIRE_TOKENS_IN_SECONDS = 30;
-
-    private static final int INITIAL_CACHE_SIZE = 50;
-    private static final long MAX_CACHE_SIZE = 1_000_000;
+    @Autowired
+    private CasConfigurationProperties casProperties;
 
     @Autowired
     @Qualifier("centralAuthenticationService")
@@ -113,16 +104,8 @@ public class OneTimeTokenAuthenticationConfiguration {
     @ConditionalOnMissingBean(name = "oneTimeTokenAuthenticatorTokenRepository")
     @Bean
     public OneTimeTokenRepository oneTimeTokenAuthenticatorTokenRepository() {
-        final LoadingCache<String, Collection<OneTimeToken>> storage = Caffeine.newBuilder()
-            .initialCapacity(INITIAL_CACHE_SIZE)
-            .maximumSize(MAX_CACHE_SIZE)
-            .recordStats()
-            .expireAfterWrite(EXPIRE_TOKENS_IN_SECONDS, TimeUnit.SECONDS)
-            .build(s -> {
-                LOGGER.error("Load operation of the cache is not supported.");
-                return null;
-            });
-        return new CachingOneTimeTokenRepository(storage);
+        val gauth = casProperties.getAuthn().getMfa().getGauth();
+        return new CachingOneTimeTokenRepository(gauth.getTimeStepSize(), gauth.getWindowSize());
     }
 }
 
@@ -1,5 +1,6 @@
 package org.apereo.cas.otp.repository.token;
 
+import org.apereo.cas.authentication.OneTimeToken;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationMetadataConfiguration;
@@ -22,12 +23,30 @@ import org.apereo.cas.otp.config.OneTimeTokenAuthenticationConfiguration;
 import org.apereo.cas.web.config.CasCookieConfiguration;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
 /**
  * This is {@link CachingOneTimeTokenRepositoryTests}.
  *
@@ -59,10 +78,114 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
     CasCoreWebConfiguration.class
 })
 @Getter
+@Slf4j
 public class CachingOneTimeTokenRepositoryTests extends BaseOneTimeTokenRepositoryTests {
+    private static final int REPLAY_ATTEMPTS = 1000;
+
+    private static final int ACTIVE_USERS = 200_000;
+
+    /**
+     * Each used token is expected to cost a map entry and a one-element array, well under
+     * a hundred bytes. Heap measurements are noisy, so the bound only catches gross regressions.
+     */
+    private static final int MAXIMUM_BYTES_PER_USER = 512;
 
     @Autowired
     @Qualifier("oneTimeTokenAuthenticatorTokenRepository")
     private OneTimeTokenRepository repository;
 
+    @Test
+    public void verifyTokensExpireAfterWindow() {
+        val clock = new MutableClock();
+        val tokenRepository = new CachingOneTimeTokenRepository(30, 3, clock);
+        tokenRepository.store(new OneTimeToken(1234, CASUSER));
+        assertTrue(tokenRepository.exists(CASUSER, 1234));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(90));
+        assertTrue(tokenRepository.exists(CASUSER, 1234));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(60));
+        assertFalse(tokenRepository.exists(CASUSER, 1234));
+        assertEquals(0, tokenRepository.count());
+        tokenRepository.clean();
+        assertEquals(0, tokenRepository.count(CASUSER));
+    }
+
+    @Test
+    public void verifyConcurrentReplayIsRejected() throws Exception {
+        val tokenRepository = new CachingOneTimeTokenRepository(30, 3);
+        val executor = Executors.newFixedThreadPool(32);
+        try {
+            val start = new CountDownLatch(1);
+            val accepted = new AtomicInteger();
+            val attempts = new ArrayList<Future<?>>(REPLAY_ATTEMPTS);
+            for (var i = 0; i < REPLAY_ATTEMPTS; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    if (tokenRepository.storeIfAbsent(new OneTimeToken(987654, CASUSER))) {
+                        accepted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (val attempt : attempts) {
+                attempt.get(1, TimeUnit.MINUTES);
+            }
+            assertEquals(1, accepted.get());
+            assertEquals(1, tokenRepository.count(CASUSER));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyMemoryPerActiveUser() throws Exception {
+        val users = IntStream.range(0, ACTIVE_USERS).mapToObj(i -> "user" + i).toArray(String[]::new);
+        val tokenRepository = new CachingOneTimeTokenRepository(30, 3, new MutableClock());
+        val before = getUsedMemory();
+        for (var i = 0; i < users.length; i++) {
+            tokenRepository.store(new OneTimeToken(100_000 + i, users[i]));
+        }
+        val after = getUsedMemory();
+        assertEquals(ACTIVE_USERS, tokenRepository.count());
+
+        val bytesPerUser = (after - before) / (double) ACTIVE_USERS;
+        LOGGER.info("Used tokens of [{}] active users take about [{}] bytes per user", ACTIVE_USERS, bytesPerUser);
+        assertTrue(bytesPerUser < MAXIMUM_BYTES_PER_USER);
+        assertEquals(1, tokenRepository.count(users[0]));
+        assertEquals(1, tokenRepository.count(users[ACTIVE_USERS - 1]));
+    }
+
+    private static long getUsedMemory() throws InterruptedException {
+        val runtime = Runtime.getRuntime();
+        for (var i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(TimeUnit.SECONDS.toMillis(1_500_000_000));
+
+        void advance(final long amount) {
+            millis.addAndGet(amount);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
 }
@@ -4,13 +4,21 @@ import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
 import org.apereo.cas.configuration.model.support.pm.PasswordManagementProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
+import org.ldaptive.SearchFilter;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -18,16 +26,36 @@ import java.util.Map;
 
 /**
  * This is {@link LdapPasswordManagementService}.
+ * All operations share one pooled connection factory that is created once with the service.
+ * Account entries may optionally be remembered for a short while, so that the steps
+ * of a single password reset flow do not look up the same entry over and over again.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-public class LdapPasswordManagementService extends BasePasswordManagementService {
+public class LdapPasswordManagementService extends BasePasswordManagementService implements DisposableBean {
+    private final ConnectionFactory connectionFactory;
+
+    private final Cache<String, LdapEntry> entryCache;
+
     public LdapPasswordManagementService(final CipherExecutor<Serializable, String> cipherExecutor,
                                          final String issuer,
                                          final PasswordManagementProperties passwordManagementProperties) {
         super(passwordManagementProperties, cipherExecutor, issuer);
+        val ldap = passwordManagementProperties.getLdap();
+        this.connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+
+        val expiration = Beans.newDuration(ldap.getEntryCacheExpiration());
+        if (expiration.isZero() || expiration.isNegative()) {
+            this.entryCache = null;
+        } else {
+            LOGGER.debug("LDAP entries for password management are cached for [{}]", expiration);
+            this.entryCache = Caffeine.newBuilder()
+                .maximumSize(ldap.getEntryCacheSize())
+                .expireAfterWrite(expiration)
+                .build();
+        }
     }
 
     @Override
@@ -39,12 +67,8 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(email));
             LOGGER.debug("Constructed LDAP filter [{}] to locate user account", filter);
 
-            val factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
-            val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
-            LOGGER.debug("LDAP response to locate user account is [{}]", response);
-
-            if (LdapUtils.containsResultEntry(response)) {
-                val entry = response.getResult().getEntry();
+            val entry = findEntry(filter);
+            if (entry != null) {
                 LOGGER.debug("Found LDAP entry [{}] to use for the account email", entry);
 
                 val attributeName = ldap.getUsernameAttribute();
@@ -75,12 +99,8 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(username));
             LOGGER.debug("Constructed LDAP filter [{}] to locate account email", filter);
 
-            val factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
-            val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
-            LOGGER.debug("LDAP response to locate account email is [{}]", response);
-
-            if (LdapUtils.containsResultEntry(response)) {
-                val entry = response.getResult().getEntry();
+            val entry = findEntry(filter);
+            if (entry != null) {
                 LOGGER.debug("Found LDAP entry [{}] to use for the account email", entry);
 
                 val attributeName = properties.getReset().getMail().getAttributeName();
@@ -117,16 +137,14 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(c.getId()));
             LOGGER.debug("Constructed LDAP filter [{}] to update account password", filter);
 
-            val factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
-            val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
-            LOGGER.debug("LDAP response to update password is [{}]", response);
-
-            if (LdapUtils.containsResultEntry(response)) {
-                val dn = response.getResult().getEntry().getDn();
+            val entry = findEntry(filter);
+            if (entry != null) {
+                val dn = entry.getDn();
                 LOGGER.debug("Updating account password for [{}]", dn);
-                if (LdapUtils.executePasswordModifyOperation(dn, factory, c.getPassword(), bean.getPassword(),
+                if (LdapUtils.executePasswordModifyOperation(dn, connectionFactory, c.getPassword(), bean.getPassword(),
                     properties.getLdap().getType())) {
                     LOGGER.debug("Successfully updated the account password for [{}]", dn);
+                    evictEntry(filter);
                     return true;
                 }
                 LOGGER.error("Could not update the LDAP entry's password for [{}] and base DN [{}]", filter.format(), ldap.getBaseDn());
@@ -149,12 +167,8 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(username));
             LOGGER.debug("Constructed LDAP filter [{}] to locate security questions", filter);
 
-            val factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
-            val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
-            LOGGER.debug("LDAP response for security questions [{}]", response);
-
-            if (LdapUtils.containsResultEntry(response)) {
-                val entry = response.getResult().getEntry();
+            val entry = findEntry(filter);
+            if (entry != null) {
                 LOGGER.debug("Located LDAP entry [{}] in the response", entry);
                 val questionsAndAnswers = properties.getLdap().getSecurityQuestionsAttributes();
                 LOGGER.debug("Security question attributes are defined to be [{}]", questionsAndAnswers);
@@ -179,4 +193,44 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
         }
         return set;
     }
+
+    /**
+     * Find the entry that matches the filter, from the cache if it was looked up recently.
+     *
+     * @param filter the filter
+     * @return the entry, or null if none is found
+     * @throws LdapException the ldap exception
+     */
+    protected LdapEntry findEntry(final SearchFilter filter) throws LdapException {
+        val key = filter.format();
+        if (entryCache != null) {
+            val cached = entryCache.getIfPresent(key);
+            if (cached != null) {
+                LOGGER.debug("Found cached LDAP entry [{}] for [{}]", cached.getDn(), key);
+                return cached;
+            }
+        }
+        val ldap = properties.getLdap();
+        val response = LdapUtils.executeSearchOperation(connectionFactory, ldap.getBaseDn(), filter);
+        LOGGER.debug("LDAP response for [{}] is [{}]", key, response);
+        if (LdapUtils.containsResultEntry(response)) {
+            val entry = response.getResult().getEntry();
+            if (entryCache != null) {
+                entryCache.put(key, entry);
+            }
+            return entry;
+        }
+        return null;
+    }
+
+    private void evictEntry(final SearchFilter filter) {
+        if (entryCache != null) {
+            entryCache.invalidate(filter.format());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
@@ -0,0 +1,148 @@
+package org.apereo.cas.pm;
+
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.adaptors.ldap.LdapIntegrationTestsOperations;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.category.LdapCategory;
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.configuration.model.support.pm.PasswordManagementProperties;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import lombok.val;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link LdapPasswordManagementServiceConnectionTests}. Connections and searches
+ * for the account entry are counted from the access log of an embedded directory server.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Category(LdapCategory.class)
+public class LdapPasswordManagementServiceConnectionTests {
+    private static final int LDAP_PORT = 1392;
+
+    private static final String USERNAME = "caspm";
+
+    private static final String PASSWORD = "123456";
+
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+
+    private static final AtomicInteger SEARCHES = new AtomicInteger();
+
+    private static InMemoryDirectoryServer directoryServer;
+
+    @BeforeClass
+    public static void bootstrap() throws Exception {
+        val config = new InMemoryDirectoryServerConfig("dc=example,dc=org");
+        config.addAdditionalBindCredentials("cn=Directory Manager", "password");
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", LDAP_PORT));
+        config.setSchema(null);
+        config.setAccessLogHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                val message = record.getMessage();
+                if (message.contains(" CONNECT conn=")) {
+                    CONNECTIONS.incrementAndGet();
+                } else if (message.contains(" SEARCH REQUEST ") && message.contains("filter=\"(cn=" + USERNAME + ")\"")) {
+                    SEARCHES.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.startListening();
+        directoryServer.add("dn: dc=example,dc=org", "objectClass: top", "objectClass: domain", "dc: example");
+        directoryServer.add("dn: ou=people,dc=example,dc=org", "objectClass: top", "objectClass: organizationalUnit", "ou: people");
+        try (val connection = directoryServer.getConnection()) {
+            LdapIntegrationTestsOperations.populateEntries(connection,
+                new ClassPathResource("ldif/ldap-pm.ldif").getInputStream(),
+                "ou=people,dc=example,dc=org");
+        }
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        directoryServer.shutDown(true);
+    }
+
+    private static PasswordManagementService getPasswordManagementService(final String entryCacheExpiration) {
+        val properties = new PasswordManagementProperties();
+        val ldap = properties.getLdap();
+        ldap.setLdapUrl("ldap://localhost:" + LDAP_PORT);
+        ldap.setUseSsl(false);
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setSearchFilter("cn={user}");
+        ldap.setType(AbstractLdapProperties.LdapType.GENERIC);
+        ldap.setSharedPool(false);
+        ldap.setEntryCacheExpiration(entryCacheExpiration);
+        ldap.getSecurityQuestionsAttributes().put("registeredAddress", "roomNumber");
+        ldap.getSecurityQuestionsAttributes().put("postalCode", "teletexTerminalIdentifier");
+        return new LdapPasswordManagementService(CipherExecutor.noOpOfSerializableToString(), "https://sso.example.org", properties);
+    }
+
+    /**
+     * Run the steps of a password reset flow, where the account email is located,
+     * security questions are answered and the password is finally changed.
+     */
+    private static void resetPassword(final PasswordManagementService service, final String password, final String newPassword) {
+        assertEquals("caspm@example.org", service.findEmail(USERNAME));
+        assertEquals(2, service.getSecurityQuestions(USERNAME).size());
+        val bean = new PasswordChangeBean();
+        bean.setPassword(newPassword);
+        bean.setConfirmedPassword(newPassword);
+        assertTrue(service.change(new UsernamePasswordCredential(USERNAME, password), bean));
+    }
+
+    private static void resetPasswords(final PasswordManagementService service, final int flows) {
+        for (var i = 0; i < flows; i++) {
+            resetPassword(service, PASSWORD, "Mellon");
+            resetPassword(service, "Mellon", PASSWORD);
+        }
+    }
+
+    @Test
+    public void verifyResetFlowOpensNoConnectionsAfterWarmUp() {
+        val service = getPasswordManagementService("PT0S");
+        resetPasswords(service, 1);
+
+        val connections = CONNECTIONS.get();
+        val searches = SEARCHES.get();
+        resetPasswords(service, 5);
+        assertEquals(0, CONNECTIONS.get() - connections);
+        assertEquals(10 * 3, SEARCHES.get() - searches);
+    }
+
+    @Test
+    public void verifyResetFlowSearchesOnceWithEntryCache() {
+        val service = getPasswordManagementService("PT1M");
+        resetPasswords(service, 1);
+
+        val connections = CONNECTIONS.get();
+        val searches = SEARCHES.get();
+        resetPasswords(service, 5);
+        assertEquals(0, CONNECTIONS.get() - connections);
+        assertEquals(10, SEARCHES.get() - searches);
+    }
+}
@@ -0,0 +1,147 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.jradius.client.RadiusClient;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Produces RADIUS clients from a bounded pool of open UDP sockets for a single RADIUS server.
+ * A client carries one outstanding request at a time and is returned to the pool once
+ * its request completes, so sockets are reused across authentication requests instead
+ * of being opened and closed for each one. Clients whose request failed are closed rather
+ * than reused, so that a late reply to a failed request can never be read by a later request.
+ * Clients that point to an address that no longer matches the resolved server address are
+ * closed as well. Once the factory is destroyed, idle clients are closed and clients
+ * that are released afterwards are closed instead of being returned to the pool.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@ToString(callSuper = true)
+public class PooledRadiusClientFactory extends RadiusClientFactory implements DisposableBean {
+    private static final long serialVersionUID = -3161453981467025710L;
+
+    private final int poolSize;
+
+    @ToString.Exclude
+    private transient volatile Pool pool;
+
+    public PooledRadiusClientFactory(final int accountingPort, final int authenticationPort, final int socketTimeout,
+                                     final String inetAddress, final String sharedSecret,
+                                     final Duration dnsCacheExpiration, final int poolSize) {
+        super(accountingPort, authenticationPort, socketTimeout, inetAddress, sharedSecret, dnsCacheExpiration);
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    @SneakyThrows
+    public RadiusClient newInstance() {
+        val pool = getPool();
+        val timeout = getSocketTimeout() > 0 ? getSocketTimeout() : TimeUnit.MINUTES.toSeconds(1);
+        if (!pool.getPermits().tryAcquire(timeout, TimeUnit.SECONDS)) {
+            throw new TimeoutException("No RADIUS client became available within " + timeout + " second(s)");
+        }
+        try {
+            val client = pool.getIdleClients().poll();
+            if (client != null) {
+                return client;
+            }
+            LOGGER.trace("Opening RADIUS client socket for [{}]", resolveInetAddress());
+            pool.getCreated().increment();
+            return super.newInstance();
+        } catch (final Exception e) {
+            pool.getPermits().release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(final RadiusClient client, final boolean reusable) {
+        val pool = getPool();
+        try {
+            if (reusable && !pool.isClosed() && isCurrent(client) && pool.getIdleClients().offer(client)) {
+                if (!pool.isClosed() || !pool.getIdleClients().remove(client)) {
+                    return;
+                }
+            }
+            LOGGER.trace("Closing RADIUS client socket for [{}]", client.getRemoteInetAddress());
+            client.close();
+        } finally {
+            pool.getPermits().release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        val pool = getPool();
+        pool.setClosed(true);
+        var client = pool.getIdleClients().poll();
+        while (client != null) {
+            LOGGER.trace("Closing pooled RADIUS client socket for [{}]", client.getRemoteInetAddress());
+            client.close();
+            client = pool.getIdleClients().poll();
+        }
+    }
+
+    /**
+     * Gets the number of client sockets opened by this factory.
+     *
+     * @return the number of opened sockets
+     */
+    public long getOpenedCount() {
+        return getPool().getCreated().sum();
+    }
+
+    private boolean isCurrent(final RadiusClient client) {
+        try {
+            return client.getRemoteInetAddress().equals(resolveInetAddress());
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to resolve RADIUS server address: [{}]", e.getMessage());
+            return false;
+        }
+    }
+
+    private Pool getPool() {
+        var current = this.pool;
+        if (current == null) {
+            synchronized (this) {
+                if (this.pool == null) {
+                    this.pool = new Pool(this.poolSize);
+                }
+                current = this.pool;
+            }
+        }
+        return current;
+    }
+
+    @Getter
+    private static class Pool {
+        private final BlockingQueue<RadiusClient> idleClients;
+
+        private final Semaphore permits;
+
+        private final LongAdder created = new LongAdder();
+
+        @Setter
+        private volatile boolean closed;
+
+        Pool(final int size) {
+            this.idleClients = new ArrayBlockingQueue<>(size);
+            this.permits = new Semaphore(size, true);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package org.apereo.cas.adaptors.radius;
 
-import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.ToString;
+import lombok.val;
 import net.jradius.client.RadiusClient;
 
 import java.io.Serializable;
 import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
 
 /**
  * Factory for creating RADIUS client instances.
@@ -15,10 +17,10 @@ import java.net.InetAddress;
  * @since 4.0.0
  */
 @ToString
-@AllArgsConstructor
 public class RadiusClientFactory implements Serializable {
 
     private static final int DEFAULT_SOCKET_TIMEOUT = 60;
+    private static final Duration DEFAULT_DNS_CACHE_EXPIRATION = Duration.ofMinutes(5);
     private static final long serialVersionUID = 8226097527127614276L;
     /**
      * The port to do accounting on.
@@ -42,6 +44,32 @@ public class RadiusClientFactory implements Serializable {
      */
     private final String sharedSecret;
 
+    /**
+     * How long the resolved RADIUS server address is reused before resolving it again.
+     */
+    private final Duration dnsCacheExpiration;
+
+    @ToString.Exclude
+    private transient volatile InetAddress resolvedInetAddress;
+
+    @ToString.Exclude
+    private transient volatile long resolvedInetAddressExpiration;
+
+    public RadiusClientFactory(final int accountingPort, final int authenticationPort, final int socketTimeout,
+                               final String inetAddress, final String sharedSecret, final Duration dnsCacheExpiration) {
+        this.accountingPort = accountingPort;
+        this.authenticationPort = authenticationPort;
+        this.socketTimeout = socketTimeout;
+        this.inetAddress = inetAddress;
+        this.sharedSecret = sharedSecret;
+        this.dnsCacheExpiration = dnsCacheExpiration;
+    }
+
+    public RadiusClientFactory(final int accountingPort, final int authenticationPort, final int socketTimeout,
+                               final String inetAddress, final String sharedSecret) {
+        this(accountingPort, authenticationPort, socketTimeout, inetAddress, sharedSecret, DEFAULT_DNS_CACHE_EXPIRATION);
+    }
+
     public RadiusClientFactory(final int accountingPort, final int authenticationPort,
                                final String inetAddress, final String sharedSecret) {
         this(accountingPort, authenticationPort, DEFAULT_SOCKET_TIMEOUT, inetAddress, sharedSecret);
@@ -60,7 +88,48 @@ public class RadiusClientFactory implements Serializable {
      */
     @SneakyThrows
     public RadiusClient newInstance() {
-        return new RadiusClient(InetAddress.getByName(this.inetAddress), this.sharedSecret,
+        return new RadiusClient(resolveInetAddress(), this.sharedSecret,
             this.authenticationPort, this.accountingPort, this.socketTimeout);
     }
+
+    /**
+     * Release the radius client once the request is complete.
+     *
+     * @param client   the radius client
+     * @param reusable whether the client completed its request and may be used again
+     */
+    public void release(final RadiusClient client, final boolean reusable) {
+        client.close();
+    }
+
+    /**
+     * Resolve the address of the RADIUS server. The resolved address
+     * is reused until the dns cache expiration elapses.
+     *
+     * @return the address
+     * @throws UnknownHostException if the address cannot be resolved
+     */
+    public InetAddress resolveInetAddress() throws UnknownHostException {
+        val now = System.currentTimeMillis();
+        var address = this.resolvedInetAddress;
+        if (address == null || now >= this.resolvedInetAddressExpiration) {
+            address = InetAddress.getByName(this.inetAddress);
+            this.resolvedInetAddress = address;
+            this.resolvedInetAddressExpiration = now + getDnsCacheExpiration().toMillis();
+        }
+        return address;
+    }
+
+    /**
+     * Gets the socket timeout in seconds.
+     *
+     * @return the socket timeout
+     */
+    protected int getSocketTimeout() {
+        return this.socketTimeout;
+    }
+
+    private Duration getDnsCacheExpiration() {
+        return this.dnsCacheExpiration == null ? DEFAULT_DNS_CACHE_EXPIRATION : this.dnsCacheExpiration;
+    }
 }
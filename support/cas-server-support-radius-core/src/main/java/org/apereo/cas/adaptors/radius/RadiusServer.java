@@ -50,4 +50,13 @@ public interface RadiusServer extends Serializable {
      */
     CasRadiusResponse authenticate(String username, String password, Optional state) throws Exception;
 
+    /**
+     * Score that reflects how reliably this server has responded to recent requests,
+     * between zero and one. Higher is healthier. Servers are tried in order of their score.
+     *
+     * @return the health score
+     */
+    default double getHealthScore() {
+        return 1;
+    }
 }
@@ -0,0 +1,56 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.ToString;
+import lombok.val;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link RadiusServerHealth} that scores how reliably a RADIUS server
+ * has responded to recent requests. The score is a smoothed success rate; after a failure,
+ * the score gradually recovers over time so that the server is tried again eventually.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@ToString
+public class RadiusServerHealth implements Serializable {
+    private static final long serialVersionUID = 5342908125628717011L;
+
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    private static final long RECOVERY_PERIOD_IN_MILLIS = 30_000;
+
+    private double successRate = 1;
+
+    private long lastFailureTime;
+
+    /**
+     * Record a request that received a response.
+     */
+    public synchronized void recordSuccess() {
+        this.successRate = this.successRate * (1 - SMOOTHING_FACTOR) + SMOOTHING_FACTOR;
+    }
+
+    /**
+     * Record a request that failed to receive a response.
+     */
+    public synchronized void recordFailure() {
+        this.successRate = this.successRate * (1 - SMOOTHING_FACTOR);
+        this.lastFailureTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the health score, between zero and one. Higher is healthier.
+     *
+     * @return the score
+     */
+    public synchronized double getScore() {
+        if (this.successRate >= 1) {
+            return 1;
+        }
+        val elapsed = System.currentTimeMillis() - this.lastFailureTime;
+        val recovered = Math.min(1, (double) elapsed / RECOVERY_PERIOD_IN_MILLIS);
+        return this.successRate + (1 - this.successRate) * recovered;
+    }
+}
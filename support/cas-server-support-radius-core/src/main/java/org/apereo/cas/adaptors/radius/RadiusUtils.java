@@ -6,10 +6,12 @@ import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.security.auth.login.FailedLoginException;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link RadiusUtils}.
@@ -39,7 +41,7 @@ public class RadiusUtils {
                                                                             final boolean failoverOnAuthenticationFailure,
                                                                             final boolean failoverOnException,
                                                                             final Optional state) throws Exception {
-        for (val radiusServer : servers) {
+        for (val radiusServer : orderByHealth(servers)) {
             LOGGER.debug("Attempting to authenticate [{}] at [{}]", username, radiusServer);
             try {
                 val response = radiusServer.authenticate(username, password, state);
@@ -62,4 +64,21 @@ public class RadiusUtils {
         }
         return Pair.of(Boolean.FALSE, Optional.empty());
     }
+
+    /**
+     * Order servers by their health score, healthiest first.
+     * Servers with equal scores remain in the order in which they are defined.
+     *
+     * @param servers the servers
+     * @return the ordered servers
+     */
+    private static List<RadiusServer> orderByHealth(final List<RadiusServer> servers) {
+        if (servers.size() < 2) {
+            return servers;
+        }
+        return servers
+            .stream()
+            .sorted(Comparator.comparingDouble(RadiusServer::getHealthScore).reversed())
+            .collect(Collectors.toList());
+    }
 }
@@ -4,6 +4,7 @@ import org.apereo.cas.adaptors.radius.CasRadiusResponse;
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 import org.apereo.cas.adaptors.radius.RadiusServer;
+import org.apereo.cas.adaptors.radius.RadiusServerHealth;
 
 import lombok.Getter;
 import lombok.ToString;
@@ -31,6 +32,7 @@ import net.jradius.packet.attribute.AttributeList;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.Serializable;
 import java.security.Security;
@@ -48,7 +50,7 @@ import java.util.Optional;
 @Slf4j
 @ToString
 @Getter
-public abstract class AbstractRadiusServer implements RadiusServer {
+public abstract class AbstractRadiusServer implements RadiusServer, DisposableBean {
 
     /**
      * Default retry count, {@value}.
@@ -87,6 +89,8 @@ public abstract class AbstractRadiusServer implements RadiusServer {
 
     private final long nasPortType;
 
+    private final RadiusServerHealth health = new RadiusServerHealth();
+
     public AbstractRadiusServer(final RadiusProtocol protocol, final RadiusClientFactory radiusClientFactory) {
         this(protocol, radiusClientFactory, 1, null,
             null, -1, -1, null, -1, -1);
@@ -151,12 +155,14 @@ public abstract class AbstractRadiusServer implements RadiusServer {
             attributeList.add(new Attr_NASPortType(this.nasPortType));
         }
         val client = this.radiusClientFactory.newInstance();
+        var reusable = false;
         try {
             val request = new AccessRequest(client, attributeList);
             LOGGER.debug("RADIUS access request prepared as [{}]", request.toString(true, true));
 
-            val response = authenticateRequest(client, request);
-            LOGGER.debug("RADIUS response from [{}]: [{}] as [{}]", client.getRemoteInetAddress().getCanonicalHostName(),
+            val response = sendRequest(client, request);
+            reusable = response != null;
+            LOGGER.debug("RADIUS response from [{}]: [{}] as [{}]", client.getRemoteInetAddress(),
                 response.getClass().getName(), response.toString(true, true));
 
             if (response instanceof AccessAccept || response instanceof AccessChallenge) {
@@ -167,12 +173,24 @@ public abstract class AbstractRadiusServer implements RadiusServer {
             LOGGER.warn("Response is not recognized");
         } finally {
             if (client != null) {
-                client.close();
+                this.radiusClientFactory.release(client, reusable);
             }
         }
         return null;
     }
 
+    @Override
+    public double getHealthScore() {
+        return this.health.getScore();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.radiusClientFactory instanceof DisposableBean) {
+            ((DisposableBean) this.radiusClientFactory).destroy();
+        }
+    }
+
     /**
      * Gets radius authenticator.
      *
@@ -192,4 +210,15 @@ public abstract class AbstractRadiusServer implements RadiusServer {
      */
     protected abstract RadiusResponse authenticateRequest(RadiusClient client, AccessRequest accessRequest) throws Exception;
 
+    private RadiusResponse sendRequest(final RadiusClient client, final AccessRequest accessRequest) throws Exception {
+        try {
+            val response = authenticateRequest(client, accessRequest);
+            this.health.recordSuccess();
+            return response;
+        } catch (final Exception e) {
+            this.health.recordFailure();
+            throw e;
+        }
+    }
+
 }
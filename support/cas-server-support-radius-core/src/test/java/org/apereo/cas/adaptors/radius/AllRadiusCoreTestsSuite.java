@@ -13,6 +13,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     BlockingRadiusServerTests.class,
     NonBlockingRadiusServerTests.class,
+    PooledRadiusClientFactoryTests.class,
     RadiusUtilsTests.class
 })
 public class AllRadiusCoreTestsSuite {
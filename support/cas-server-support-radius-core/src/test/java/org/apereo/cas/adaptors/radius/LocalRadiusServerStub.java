@@ -0,0 +1,96 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Closeable;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local RADIUS server that accepts every access request it receives over UDP.
+ * It records the client ports requests arrive from, so tests can tell how many
+ * client sockets were used.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@Getter
+public class LocalRadiusServerStub implements Closeable {
+    private static final int CODE_ACCESS_ACCEPT = 2;
+
+    private static final int HEADER_LENGTH = 20;
+
+    private static final int AUTHENTICATOR_OFFSET = 4;
+
+    private static final int MAX_PACKET_LENGTH = 4096;
+
+    private final DatagramSocket socket;
+
+    private final String secret;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final Thread thread;
+
+    @SneakyThrows
+    public LocalRadiusServerStub(final String secret) {
+        this.secret = secret;
+        this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        this.thread = new Thread(this::serve, "radius-stub");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void serve() {
+        val buffer = new byte[MAX_PACKET_LENGTH];
+        while (!socket.isClosed()) {
+            try {
+                val request = new DatagramPacket(buffer, buffer.length);
+                socket.receive(request);
+                requests.incrementAndGet();
+                clientPorts.add(request.getPort());
+                val reply = accept(request.getData());
+                socket.send(new DatagramPacket(reply, reply.length, request.getAddress(), request.getPort()));
+            } catch (final Exception e) {
+                LOGGER.trace(e.getMessage(), e);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private byte[] accept(final byte[] request) {
+        val reply = new byte[HEADER_LENGTH];
+        reply[0] = CODE_ACCESS_ACCEPT;
+        reply[1] = request[1];
+        reply[2] = 0;
+        reply[3] = HEADER_LENGTH;
+        System.arraycopy(request, AUTHENTICATOR_OFFSET, reply, AUTHENTICATOR_OFFSET, HEADER_LENGTH - AUTHENTICATOR_OFFSET);
+        val digest = MessageDigest.getInstance("MD5");
+        digest.update(reply);
+        digest.update(secret.getBytes(StandardCharsets.UTF_8));
+        val authenticator = digest.digest();
+        System.arraycopy(authenticator, 0, reply, AUTHENTICATOR_OFFSET, authenticator.length);
+        return reply;
+    }
+}
@@ -0,0 +1,115 @@
+package org.apereo.cas.adaptors.radius;
+
+import org.apereo.cas.adaptors.radius.server.NonBlockingRadiusServer;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link PooledRadiusClientFactoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class PooledRadiusClientFactoryTests {
+    private static final String SECRET = "testing123";
+
+    private static final int ACCESS_ACCEPT = 2;
+
+    private static final int POOL_SIZE = 20;
+
+    private static final int CONCURRENT_AUTHENTICATIONS = 500;
+
+    private static final int SOCKET_TIMEOUT = 5;
+
+    private LocalRadiusServerStub stub;
+
+    @Before
+    public void initialize() {
+        stub = new LocalRadiusServerStub(SECRET);
+    }
+
+    @After
+    public void shutdown() {
+        stub.close();
+    }
+
+    @Test
+    public void verifyUnpooledClientsOpenSocketPerRequest() throws Exception {
+        val factory = new RadiusClientFactory(RadiusServer.DEFAULT_PORT_ACCOUNTING, stub.getPort(), SOCKET_TIMEOUT,
+            "127.0.0.1", SECRET);
+        val server = new NonBlockingRadiusServer(RadiusProtocol.PAP, factory);
+        for (var i = 0; i < POOL_SIZE; i++) {
+            assertEquals(ACCESS_ACCEPT, server.authenticate("casuser", "Mellon").getCode());
+        }
+        assertEquals(POOL_SIZE, stub.getClientPorts().size());
+    }
+
+    @Test
+    public void verifyPooledClientsReuseSockets() throws Exception {
+        val factory = new PooledRadiusClientFactory(RadiusServer.DEFAULT_PORT_ACCOUNTING, stub.getPort(), SOCKET_TIMEOUT,
+            "127.0.0.1", SECRET, Duration.ofMinutes(5), POOL_SIZE);
+        val server = new NonBlockingRadiusServer(RadiusProtocol.PAP, factory);
+
+        val tasks = new ArrayList<Callable<CasRadiusResponse>>();
+        for (var i = 0; i < CONCURRENT_AUTHENTICATIONS; i++) {
+            val username = "casuser" + i;
+            tasks.add(() -> server.authenticate(username, "Mellon"));
+        }
+        val executor = Executors.newFixedThreadPool(CONCURRENT_AUTHENTICATIONS);
+        try {
+            val startTime = System.nanoTime();
+            val results = executor.invokeAll(tasks);
+            for (val result : results) {
+                assertEquals(ACCESS_ACCEPT, result.get().getCode());
+            }
+            val elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            LOGGER.info("Completed [{}] concurrent authentications in [{}] ms over [{}] socket(s)",
+                CONCURRENT_AUTHENTICATIONS, elapsed, factory.getOpenedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(CONCURRENT_AUTHENTICATIONS, stub.getRequests().get());
+        assertTrue(factory.getOpenedCount() <= POOL_SIZE);
+        assertTrue(stub.getClientPorts().size() <= POOL_SIZE);
+        assertEquals(1.0, server.getHealthScore(), 0.01);
+    }
+
+    @Test
+    public void verifyDestroyClosesPooledClients() throws Exception {
+        val factory = new PooledRadiusClientFactory(RadiusServer.DEFAULT_PORT_ACCOUNTING, stub.getPort(), SOCKET_TIMEOUT,
+            "127.0.0.1", SECRET, Duration.ofMinutes(5), POOL_SIZE);
+        val server = new NonBlockingRadiusServer(RadiusProtocol.PAP, factory);
+        val idle = spy(factory.newInstance());
+        val inUse = spy(factory.newInstance());
+        factory.release(idle, true);
+        verify(idle, never()).close();
+
+        server.destroy();
+        verify(idle).close();
+        verify(inUse, never()).close();
+
+        factory.release(inUse, true);
+        verify(inUse).close();
+    }
+
+    @Test
+    public void verifyDnsResolutionIsCached() throws Exception {
+        val factory = new RadiusClientFactory(RadiusServer.DEFAULT_PORT_ACCOUNTING, stub.getPort(), SOCKET_TIMEOUT,
+            "localhost", SECRET, Duration.ofMinutes(5));
+        assertSame(factory.resolveInetAddress(), factory.resolveInetAddress());
+    }
+}
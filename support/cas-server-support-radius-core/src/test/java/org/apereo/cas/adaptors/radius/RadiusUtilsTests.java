@@ -54,4 +54,31 @@ public class RadiusUtilsTests {
         RadiusUtils.authenticate("casuser", "Mellon",
             CollectionUtils.wrapList(server), false, false, Optional.empty());
     }
+
+    @Test
+    public void verifyHealthiestServerIsTriedFirst() throws Exception {
+        val unhealthy = mock(RadiusServer.class);
+        when(unhealthy.getHealthScore()).thenReturn(0.2);
+        when(unhealthy.authenticate(anyString(), anyString(), any())).thenReturn(null);
+
+        val healthy = mock(RadiusServer.class);
+        when(healthy.getHealthScore()).thenReturn(0.9);
+        val response = new CasRadiusResponse(100, 100, CollectionUtils.wrapList(new Attr_ClientId("client_id")));
+        when(healthy.authenticate(anyString(), anyString(), any())).thenReturn(response);
+
+        val result = RadiusUtils.authenticate("casuser", "Mellon",
+            CollectionUtils.wrapList(unhealthy, healthy), false, false, Optional.empty());
+        assertTrue(result.getKey());
+        verify(unhealthy, never()).authenticate(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void verifyHealthScoreDropsOnFailure() {
+        val health = new RadiusServerHealth();
+        assertEquals(1.0, health.getScore(), 0);
+        health.recordFailure();
+        assertTrue(health.getScore() < 1);
+        health.recordSuccess();
+        assertTrue(health.getScore() > 0.7);
+    }
 }
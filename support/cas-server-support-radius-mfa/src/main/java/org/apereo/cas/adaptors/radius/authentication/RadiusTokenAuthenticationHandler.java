@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.jradius.dictionary.Attr_State;
 import net.jradius.packet.attribute.value.AttributeValue;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
@@ -28,7 +29,7 @@ import java.util.Optional;
  * @since 5.0.0
  */
 @Slf4j
-public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessingAuthenticationHandler {
+public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessingAuthenticationHandler implements DisposableBean {
 
 
     private final List<RadiusServer> servers;
@@ -94,4 +95,13 @@ public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessi
             throw new FailedLoginException("Radius authentication failed " + e.getMessage());
         }
     }
+
+    @Override
+    public void destroy() throws Exception {
+        for (val server : this.servers) {
+            if (server instanceof DisposableBean) {
+                ((DisposableBean) server).destroy();
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.config.support.authentication;
 
+import org.apereo.cas.adaptors.radius.PooledRadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 import org.apereo.cas.adaptors.radius.RadiusServer;
@@ -17,6 +18,7 @@ import org.apereo.cas.authentication.metadata.AuthenticationContextAttributeMeta
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 
 import lombok.val;
@@ -76,8 +78,12 @@ public class RadiusTokenAuthenticationEventExecutionPlanConfiguration {
         val client = radius.getClient();
         val server = radius.getServer();
 
-        val factory = new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(), client.getSocketTimeout(),
-            client.getInetAddress(), client.getSharedSecret());
+        val dnsCacheExpiration = Beans.newDuration(client.getDnsCacheExpiration());
+        val factory = client.getPoolSize() > 0
+            ? new PooledRadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(), client.getSocketTimeout(),
+            client.getInetAddress(), client.getSharedSecret(), dnsCacheExpiration, client.getPoolSize())
+            : new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(), client.getSocketTimeout(),
+            client.getInetAddress(), client.getSharedSecret(), dnsCacheExpiration);
 
         val protocol = RadiusProtocol.valueOf(server.getProtocol());
         val impl = new NonBlockingRadiusServer(protocol, factory, server.getRetries(),
@@ -10,6 +10,7 @@ import org.apereo.cas.services.ServicesManager;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
@@ -24,7 +25,7 @@ import java.util.Optional;
  * @since 3.0.0
  */
 @Slf4j
-public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
+public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler implements DisposableBean {
 
 
     /**
@@ -71,4 +72,13 @@ public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthent
             throw new FailedLoginException("Radius authentication failed " + e.getMessage());
         }
     }
+
+    @Override
+    public void destroy() throws Exception {
+        for (val server : this.servers) {
+            if (server instanceof DisposableBean) {
+                ((DisposableBean) server).destroy();
+            }
+        }
+    }
 }
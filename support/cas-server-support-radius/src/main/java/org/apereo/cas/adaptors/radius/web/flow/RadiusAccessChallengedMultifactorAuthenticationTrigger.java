@@ -58,7 +58,8 @@ public class RadiusAccessChallengedMultifactorAuthenticationTrigger implements M
         if (attributes.containsKey(Attr_ReplyMessage.NAME) && attributes.containsKey(Attr_State.NAME)) {
             val id = casProperties.getAuthn().getMfa().getRadius().getId();
             LOGGER.debug("Authentication requires multifactor authentication via provider [{}]", id);
-            return MultifactorAuthenticationUtils.resolveProvider(providerMap, id);
+            return MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(id,
+                ApplicationContextProvider.getApplicationContext());
         }
         return Optional.empty();
     }
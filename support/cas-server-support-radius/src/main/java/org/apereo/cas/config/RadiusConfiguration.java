@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.adaptors.radius.PooledRadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 import org.apereo.cas.adaptors.radius.RadiusServer;
@@ -19,10 +20,12 @@ import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
 import org.apereo.cas.authentication.support.password.PasswordPolicyConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.radius.RadiusClientProperties;
 import org.apereo.cas.configuration.model.support.radius.RadiusServerProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
@@ -68,6 +71,10 @@ public class RadiusConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ObjectProvider<PasswordHashingExecutor> passwordHashingExecutor;
+
     @Autowired
     private ConfigurableApplicationContext applicationContext;
 
@@ -147,7 +154,7 @@ public class RadiusConfiguration {
             radiusPrincipalFactory(), radiusServers(),
             radius.isFailoverOnException(), radius.isFailoverOnAuthenticationFailure());
 
-        h.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(radius.getPasswordEncoder()));
+        h.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(radius.getPasswordEncoder(), passwordHashingExecutor.getIfAvailable()));
         h.setPrincipalNameTransformer(PrincipalNameTransformerUtils.newPrincipalNameTransformer(radius.getPrincipalTransformation()));
         h.setPasswordPolicyConfiguration(radiusPasswordPolicyConfiguration());
         return h;
@@ -200,8 +207,12 @@ public class RadiusConfiguration {
     }
 
     private static AbstractRadiusServer getSingleRadiusServer(final RadiusClientProperties client, final RadiusServerProperties server, final String clientInetAddress) {
-        val factory = new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(),
-            client.getSocketTimeout(), clientInetAddress, client.getSharedSecret());
+        val dnsCacheExpiration = Beans.newDuration(client.getDnsCacheExpiration());
+        val factory = client.getPoolSize() > 0
+            ? new PooledRadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(),
+            client.getSocketTimeout(), clientInetAddress, client.getSharedSecret(), dnsCacheExpiration, client.getPoolSize())
+            : new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(),
+            client.getSocketTimeout(), clientInetAddress, client.getSharedSecret(), dnsCacheExpiration);
 
         val protocol = RadiusProtocol.valueOf(server.getProtocol());
 
@@ -5,8 +5,10 @@ import org.apereo.cas.ticket.Ticket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -92,6 +94,31 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         }
     }
 
+    /**
+     * Writes the tickets of the batch in a single pipeline, so the batch costs one round-trip.
+     *
+     * @param toSave the tickets to add
+     */
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) {
+        val tickets = toSave.collect(Collectors.toList());
+        try {
+            LOGGER.debug("Adding batch of [{}] ticket(s)", tickets.size());
+            this.client.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                    val ops = ((RedisOperations<String, Ticket>) operations).opsForValue();
+                    tickets.forEach(ticket -> ops.set(getTicketRedisKey(ticket.getId()), encodeTicket(ticket),
+                        getTimeout(ticket).longValue(), TimeUnit.SECONDS));
+                    return null;
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.error("Failed to add [{}]", tickets, e);
+        }
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         try {
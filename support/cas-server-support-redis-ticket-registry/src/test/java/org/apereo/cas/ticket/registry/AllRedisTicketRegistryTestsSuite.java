@@ -12,7 +12,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     RedisEmbeddedTicketRegistryTests.class,
-    RedisServerTicketRegistryTests.class
+    RedisServerTicketRegistryTests.class,
+    RedisTicketRegistryPipelineTests.class
 })
 public class AllRedisTicketRegistryTestsSuite {
 }
@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+
+import lombok.val;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RedisTicketRegistryPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@SuppressWarnings("unchecked")
+public class RedisTicketRegistryPipelineTests {
+    private static final int BATCH_SIZE = 10;
+
+    private static final long TIME_TO_LIVE = 60;
+
+    @Test
+    public void verifyBatchIsWrittenInOnePipeline() {
+        val template = (RedisTemplate<String, Ticket>) mock(RedisTemplate.class);
+        val registry = new RedisTicketRegistry(template);
+        val tickets = IntStream.range(0, BATCH_SIZE)
+            .mapToObj(i -> new TicketGrantingTicketImpl("TGT-" + i, CoreAuthenticationTestUtils.getAuthentication(),
+                new HardTimeoutExpirationPolicy(TIME_TO_LIVE)))
+            .collect(Collectors.toList());
+
+        registry.addTicket(tickets.stream());
+
+        val callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(template, times(1)).executePipelined(callback.capture());
+        verify(template, never()).boundValueOps(anyString());
+
+        val operations = mock(RedisOperations.class);
+        val valueOperations = mock(ValueOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        callback.getValue().execute(operations);
+        tickets.forEach(ticket -> verify(valueOperations).set("CAS_TICKET:" + ticket.getId(), ticket, TIME_TO_LIVE, TimeUnit.SECONDS));
+    }
+}
@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
+import org.apereo.cas.authentication.support.password.PasswordHashingExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
 
@@ -46,6 +47,10 @@ public class CasRestAuthenticationConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ObjectProvider<PasswordHashingExecutor> passwordHashingExecutor;
+
     @Bean
     @RefreshScope
     @SneakyThrows
@@ -72,7 +77,7 @@ public class CasRestAuthenticationConfiguration {
         val rest = casProperties.getAuthn().getRest();
         val r = new RestAuthenticationHandler(rest.getName(), restAuthenticationApi(),
             servicesManager.getIfAvailable(), restAuthenticationPrincipalFactory());
-        r.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(rest.getPasswordEncoder()));
+        r.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(rest.getPasswordEncoder(), passwordHashingExecutor.getIfAvailable()));
         return r;
     }
 
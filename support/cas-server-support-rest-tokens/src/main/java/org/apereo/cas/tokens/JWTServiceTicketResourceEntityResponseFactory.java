@@ -14,6 +14,10 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * This is {@link JWTServiceTicketResourceEntityResponseFactory}.
  *
@@ -61,6 +65,19 @@ public class JWTServiceTicketResourceEntityResponseFactory extends CasProtocolSe
         return jwt;
     }
 
+    /**
+     * Tokens are built from each service ticket along with the service definition,
+     * so service tickets are granted one service at a time.
+     */
+    @Override
+    protected List<String> grantServiceTickets(final String ticketGrantingTicket, final Collection<Service> services,
+                                               final AuthenticationResult authenticationResult) {
+        return services
+            .stream()
+            .map(service -> grantServiceTicket(ticketGrantingTicket, service, authenticationResult))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public int getOrder() {
         return super.getOrder() - 1;
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.AuthenticationCredentialsThreadLocalBinder;
 import org.apereo.cas.authentication.AuthenticationException;
 import org.apereo.cas.authentication.AuthenticationSystemSupport;
 import org.apereo.cas.authentication.DefaultAuthenticationResultBuilder;
+import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.rest.BadRestRequestException;
 import org.apereo.cas.rest.factory.RestHttpRequestCredentialFactory;
 import org.apereo.cas.rest.factory.ServiceTicketResourceEntityResponseFactory;
@@ -12,11 +13,14 @@ import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +31,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * {@link RestController} implementation of CAS' REST API.
@@ -36,6 +46,7 @@ import javax.servlet.http.HttpServletRequest;
  * <ul>
  * <li>{@code POST /v1/tickets}</li>
  * <li>{@code POST /v1/tickets/{TGT-id}}</li>
+ * <li>{@code POST /v1/tickets/{TGT-id}/services}</li>
  * <li>{@code GET /v1/tickets/{TGT-id}}</li>
  * <li>{@code DELETE /v1/tickets/{TGT-id}}</li>
  * </ul>
@@ -47,6 +58,8 @@ import javax.servlet.http.HttpServletRequest;
 @Slf4j
 @RequiredArgsConstructor
 public class ServiceTicketResource {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final AuthenticationSystemSupport authenticationSystemSupport;
     private final TicketRegistrySupport ticketRegistrySupport;
     private final ArgumentExtractor argumentExtractor;
@@ -106,4 +119,81 @@ public class ServiceTicketResource {
             AuthenticationCredentialsThreadLocalBinder.clear();
         }
     }
+
+    /**
+     * Create new service tickets for a number of services, passed as repeated {@code service} parameters,
+     * using the single sign-on session of the ticket-granting ticket. The ticket-granting ticket is fetched
+     * once and all service tickets are written to the registry as one batch. The response is a JSON object
+     * that maps each service to its ticket.
+     *
+     * @param httpServletRequest http request
+     * @param tgtId              ticket granting ticket id URI path param
+     * @return {@link ResponseEntity} representing RESTful response
+     */
+    @PostMapping(value = "/v1/tickets/{tgtId:.+}/services", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ResponseEntity<String> createServiceTickets(final HttpServletRequest httpServletRequest,
+                                                       @PathVariable("tgtId") final String tgtId) {
+        try {
+            val authn = this.ticketRegistrySupport.getAuthenticationFrom(tgtId);
+            AuthenticationCredentialsThreadLocalBinder.bindCurrent(authn);
+            if (authn == null) {
+                throw new InvalidTicketException(tgtId);
+            }
+            if (BooleanUtils.toBoolean(httpServletRequest.getParameter(CasProtocolConstants.PARAMETER_RENEW))) {
+                throw new BadRestRequestException("Service tickets for multiple services can only be issued from the single sign-on session");
+            }
+            val serviceIds = getServiceIds(httpServletRequest);
+            if (serviceIds.isEmpty()) {
+                throw new IllegalArgumentException("Target services/applications are unspecified in the request");
+            }
+            val services = serviceIds
+                .stream()
+                .map(this::createService)
+                .collect(Collectors.toList());
+            val authenticationResult = new DefaultAuthenticationResultBuilder()
+                .collect(authn)
+                .build(this.authenticationSystemSupport.getPrincipalElectionStrategy(), services.get(0));
+            val tickets = this.serviceTicketResourceEntityResponseFactory.build(tgtId, services, authenticationResult);
+
+            val results = new LinkedHashMap<String, String>(serviceIds.size());
+            for (var i = 0; i < serviceIds.size(); i++) {
+                results.put(serviceIds.get(i), tickets.get(i));
+            }
+            val headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+            return new ResponseEntity<>(MAPPER.writeValueAsString(results), headers, HttpStatus.OK);
+        } catch (final InvalidTicketException e) {
+            return new ResponseEntity<>(tgtId + " could not be found or is considered invalid", HttpStatus.NOT_FOUND);
+        } catch (final AuthenticationException e) {
+            return RestResourceUtils.createResponseEntityForAuthnFailure(e, httpServletRequest, applicationContext);
+        } catch (final BadRestRequestException e) {
+            LOGGER.error(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            AuthenticationCredentialsThreadLocalBinder.clear();
+        }
+    }
+
+    private static List<String> getServiceIds(final HttpServletRequest httpServletRequest) {
+        val serviceIds = httpServletRequest.getParameterValues(CasProtocolConstants.PARAMETER_SERVICE);
+        if (serviceIds == null) {
+            return new ArrayList<>(0);
+        }
+        return Arrays.stream(serviceIds)
+            .filter(StringUtils::isNotBlank)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private Service createService(final String serviceId) {
+        return this.argumentExtractor.getServiceFactories()
+            .stream()
+            .map(factory -> (Service) factory.createService(serviceId))
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Target service/application " + serviceId + " is unrecognized in the request"));
+    }
 }
@@ -34,7 +34,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.security.auth.login.LoginException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -57,6 +60,7 @@ public class ServiceTicketResourceTests {
     private static final String TEST_VALUE = "test";
     private static final String USERNAME = "username";
     private static final String PASSWORD = "password";
+    private static final int SERVICE_COUNT = 200;
 
     @Mock
     private CentralAuthenticationService casMock;
@@ -164,10 +168,91 @@ public class ServiceTicketResourceTests {
         assertTrue(content.contains("LoginException"));
     }
 
+    @Test
+    public void normalCreationOfSTsForMultipleServices() throws Exception {
+        configureCasMockToCreateValidSTs();
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/services")
+            .param(SERVICE, "https://app1.example.org")
+            .param(SERVICE, "https://app2.example.org"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+            .andExpect(content().json("{\"https://app1.example.org\":\"ST-1\",\"https://app2.example.org\":\"ST-2\"}"));
+
+        verify(ticketSupport, times(1)).getAuthenticationFrom(anyString());
+        verify(casMock, times(1)).grantServiceTickets(anyString(), anyCollection(), any(AuthenticationResult.class));
+        verify(casMock, never()).grantServiceTicket(anyString(), any(Service.class), any(AuthenticationResult.class));
+    }
+
+    @Test
+    public void creationOfSTsWithInvalidTicketException() throws Exception {
+        when(this.casMock.grantServiceTickets(anyString(), anyCollection(), any(AuthenticationResult.class)))
+            .thenThrow(new InvalidTicketException("TGT-1"));
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/services")
+            .param(SERVICE, CoreAuthenticationTestUtils.getService().getId()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void creationOfSTsWithRenewIsBadRequest() throws Exception {
+        configureCasMockToCreateValidSTs();
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/services")
+            .param(SERVICE, CoreAuthenticationTestUtils.getService().getId())
+            .param(RENEW, "true")
+            .param(USERNAME, TEST_VALUE)
+            .param(PASSWORD, TEST_VALUE))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void creationOfSTsWithoutServices() throws Exception {
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/services"))
+            .andExpect(status().is5xxServerError());
+    }
+
+    @Test
+    public void verifyCreationOfSTsResolvesTicketGrantingTicketOnce() throws Exception {
+        configureCasMockToCreateValidST();
+        configureCasMockToCreateValidSTs();
+        val services = IntStream.range(0, SERVICE_COUNT)
+            .mapToObj(i -> "https://app" + i + ".example.org")
+            .toArray(String[]::new);
+
+        for (val service : services) {
+            this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1").param(SERVICE, service))
+                .andExpect(status().isOk());
+        }
+        verify(ticketSupport, times(SERVICE_COUNT)).getAuthenticationFrom(anyString());
+        verify(casMock, times(SERVICE_COUNT)).grantServiceTicket(anyString(), any(Service.class), any(AuthenticationResult.class));
+
+        clearInvocations(ticketSupport, casMock);
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/services").param(SERVICE, services))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(SERVICE_COUNT));
+        verify(ticketSupport, times(1)).getAuthenticationFrom(anyString());
+        verify(casMock, times(1)).grantServiceTickets(anyString(), anyCollection(), any(AuthenticationResult.class));
+        verify(casMock, never()).grantServiceTicket(anyString(), any(Service.class), any(AuthenticationResult.class));
+    }
+
     private void configureCasMockSTCreationToThrow(final Throwable e) {
         when(this.casMock.grantServiceTicket(anyString(), any(Service.class), any(AuthenticationResult.class))).thenThrow(e);
     }
 
+    private void configureCasMockToCreateValidSTs() {
+        when(this.casMock.grantServiceTickets(anyString(), anyCollection(), any(AuthenticationResult.class))).thenAnswer(args -> {
+            val services = (Collection<Service>) args.getArgument(1);
+            val tickets = new ArrayList<ServiceTicket>(services.size());
+            services.forEach(service -> {
+                val st = mock(ServiceTicket.class);
+                when(st.getId()).thenReturn("ST-" + (tickets.size() + 1));
+                tickets.add(st);
+            });
+            return tickets;
+        });
+    }
+
     private void configureCasMockToCreateValidST() {
         val st = mock(ServiceTicket.class);
         when(st.getId()).thenReturn("ST-1");
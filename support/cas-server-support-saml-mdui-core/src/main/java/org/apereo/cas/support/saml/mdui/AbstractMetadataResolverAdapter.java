@@ -2,6 +2,8 @@ package org.apereo.cas.support.saml.mdui;
 
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.Synchronized;
@@ -25,10 +27,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * This is {@link AbstractMetadataResolverAdapter} that encapsulates
- * commons between static and dynamic resolvers.
+ * commons between static and dynamic resolvers. MDUI elements are extracted
+ * once per entity and kept until the metadata aggregate is built again.
  *
  * @author Misagh Moayyed
  * @since 4.1.0
@@ -36,6 +40,10 @@ import java.util.Map;
 @Slf4j
 @Setter
 public abstract class AbstractMetadataResolverAdapter implements MetadataResolverAdapter {
+    /**
+     * Maximum number of entities whose MDUI is kept in memory.
+     */
+    protected static final long MAXIMUM_CACHED_ENTITIES = 50_000;
 
     /**
      * Metadata resources along with filters to perform validation.
@@ -52,7 +60,9 @@ public abstract class AbstractMetadataResolverAdapter implements MetadataResolve
      **/
     protected OpenSamlConfigBean configBean;
 
-    private ChainingMetadataResolver metadataResolver;
+    private volatile Cache<String, Optional<SamlMetadataUIEntity>> metadataUIEntities = newMetadataUIEntityCache();
+
+    private volatile ChainingMetadataResolver metadataResolver;
 
     /**
      * Instantiates a new abstract metadata resolver adapter.
@@ -112,8 +122,28 @@ public abstract class AbstractMetadataResolverAdapter implements MetadataResolve
     @Synchronized
     @SneakyThrows
     public void buildMetadataResolverAggregate(final String entityId) {
+        this.metadataResolver = createMetadataResolverAggregate(entityId);
+        LOGGER.debug("Discarding MDUI extracted from metadata that is now refreshed");
+        this.metadataUIEntities = newMetadataUIEntityCache();
+    }
+
+    @Override
+    public Optional<SamlMetadataUIEntity> getMetadataUIEntity(final String entityId) {
+        return this.metadataUIEntities.get(entityId, id -> Optional.ofNullable(getEntityDescriptorForEntityId(id))
+            .map(entityDescriptor -> SamlMetadataUIEntity.from(entityDescriptor, id)));
+    }
+
+    /**
+     * Create metadata resolver aggregate. Loops through metadata resources
+     * and attempts to resolve the metadata.
+     *
+     * @param entityId the entity id
+     * @return the initialized metadata resolver
+     * @throws Exception the exception
+     */
+    protected ChainingMetadataResolver createMetadataResolverAggregate(final String entityId) throws Exception {
         LOGGER.debug("Building metadata resolver aggregate");
-        this.metadataResolver = new ChainingMetadataResolver();
+        val aggregate = new ChainingMetadataResolver();
         val resolvers = new ArrayList<MetadataResolver>();
         val entries = this.metadataResources.entrySet();
         entries.forEach(entry -> {
@@ -121,11 +151,18 @@ public abstract class AbstractMetadataResolverAdapter implements MetadataResolve
             LOGGER.debug("Loading [{}]", resource.getFilename());
             resolvers.addAll(loadMetadataFromResource(entry.getValue(), resource, entityId));
         });
-        this.metadataResolver.setId(ChainingMetadataResolver.class.getCanonicalName());
-        this.metadataResolver.setResolvers(resolvers);
+        aggregate.setId(ChainingMetadataResolver.class.getCanonicalName());
+        aggregate.setResolvers(resolvers);
         LOGGER.info("Collected metadata from [{}] resolvers(s). Initializing aggregate resolver...", resolvers.size());
-        this.metadataResolver.initialize();
+        aggregate.initialize();
         LOGGER.info("Metadata aggregate initialized successfully.");
+        return aggregate;
+    }
+
+    private static Cache<String, Optional<SamlMetadataUIEntity>> newMetadataUIEntityCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_ENTITIES)
+            .build();
     }
 
     /**
@@ -1,9 +1,12 @@
 package org.apereo.cas.support.saml.mdui;
 
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -13,7 +16,7 @@ import java.util.Set;
  * @since 5.0.0
  */
 @RequiredArgsConstructor
-public class ChainingMetadataResolverAdapter implements MetadataResolverAdapter {
+public class ChainingMetadataResolverAdapter implements MetadataResolverAdapter, DisposableBean {
 
     private final Set<MetadataResolverAdapter> adapters;
 
@@ -21,4 +24,22 @@ public class ChainingMetadataResolverAdapter implements MetadataResolverAdapter
     public EntityDescriptor getEntityDescriptorForEntityId(final String entityId) {
         return adapters.stream().map(adapter -> adapter.getEntityDescriptorForEntityId(entityId)).filter(Objects::nonNull).findFirst().orElse(null);
     }
+
+    @Override
+    public Optional<SamlMetadataUIEntity> getMetadataUIEntity(final String entityId) {
+        return adapters.stream()
+            .map(adapter -> adapter.getMetadataUIEntity(entityId))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .findFirst();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (val adapter : adapters) {
+            if (adapter instanceof DisposableBean) {
+                ((DisposableBean) adapter).destroy();
+            }
+        }
+    }
 }
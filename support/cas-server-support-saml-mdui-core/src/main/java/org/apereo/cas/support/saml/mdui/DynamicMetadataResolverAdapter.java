@@ -2,12 +2,17 @@ package org.apereo.cas.support.saml.mdui;
 
 import org.apereo.cas.util.EncodingUtils;
 
-import lombok.NoArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.apache.commons.io.input.ClosedInputStream;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.metadata.resolver.filter.MetadataFilterChain;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 
@@ -15,19 +20,45 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * A metadata adapter {@link DynamicMetadataResolverAdapter}
  * that queries a metadata server on demand following
- * the metadata query protocol.
+ * the metadata query protocol. MDUI of each entity is fetched
+ * in the background and cached. Fetches run on a thread pool
+ * owned by the adapter, which is shut down once the adapter is closed.
  *
  * @author Misagh Moayyed
  * @since 4.1.0
  */
 @Slf4j
-@NoArgsConstructor
-public class DynamicMetadataResolverAdapter extends AbstractMetadataResolverAdapter {
+public class DynamicMetadataResolverAdapter extends AbstractMetadataResolverAdapter implements AutoCloseable, DisposableBean {
+    private static final Duration DEFAULT_CACHE_EXPIRATION = Duration.ofHours(1);
+
+    private static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final int FETCH_THREADS = 4;
+
+    private final ExecutorService fetchExecutor = Executors.newFixedThreadPool(FETCH_THREADS, new BasicThreadFactory.Builder()
+        .namingPattern("saml-mdui-fetch-%d")
+        .daemon(true)
+        .build());
+
+    private final AsyncLoadingCache<String, Optional<SamlMetadataUIEntity>> metadataUIEntities;
+
+    private final Duration fetchTimeout;
+
+    public DynamicMetadataResolverAdapter() {
+        this(DEFAULT_CACHE_EXPIRATION, DEFAULT_FETCH_TIMEOUT);
+    }
 
     /**
      * Instantiates a new static metadata resolver adapter.
@@ -36,6 +67,64 @@ public class DynamicMetadataResolverAdapter extends AbstractMetadataResolverAdap
      */
     public DynamicMetadataResolverAdapter(final Map<Resource, MetadataFilterChain> metadataResources) {
         super(metadataResources);
+        this.fetchTimeout = DEFAULT_FETCH_TIMEOUT;
+        this.metadataUIEntities = newMetadataUIEntityCache(DEFAULT_CACHE_EXPIRATION);
+    }
+
+    /**
+     * Instantiates a new dynamic metadata resolver adapter.
+     * MDUI fetched for an entity is fetched again in the background once the cache expiration has passed;
+     * until then, or if fetching fails, the MDUI fetched previously is used.
+     *
+     * @param cacheExpiration how long MDUI fetched for an entity is used before it is fetched again
+     * @param fetchTimeout    how long to wait for MDUI of an entity that is not fetched yet
+     */
+    public DynamicMetadataResolverAdapter(final Duration cacheExpiration, final Duration fetchTimeout) {
+        this.fetchTimeout = fetchTimeout;
+        this.metadataUIEntities = newMetadataUIEntityCache(cacheExpiration);
+    }
+
+    private AsyncLoadingCache<String, Optional<SamlMetadataUIEntity>> newMetadataUIEntityCache(final Duration cacheExpiration) {
+        return Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_ENTITIES)
+            .refreshAfterWrite(cacheExpiration)
+            .executor(this.fetchExecutor)
+            .buildAsync(this::fetchMetadataUIEntity);
+    }
+
+    /**
+     * Gets the MDUI elements of the entity. Metadata is fetched on a background thread;
+     * if it is not fetched within the fetch timeout, no MDUI is returned for now while
+     * the fetch continues so that later requests may use its result.
+     *
+     * @param entityId the entity id
+     * @return the MDUI elements
+     */
+    @Override
+    public Optional<SamlMetadataUIEntity> getMetadataUIEntity(final String entityId) {
+        try {
+            return this.metadataUIEntities.get(entityId).get(this.fetchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.debug("Metadata for [{}] is not fetched within [{}]; MDUI will be available once fetched", entityId, this.fetchTimeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Fetching metadata for [{}] is interrupted", entityId);
+        } catch (final ExecutionException e) {
+            LOGGER.warn("Unable to fetch metadata for [{}]: [{}]", entityId, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    @Override
+    public void close() {
+        LOGGER.trace("Shutting down metadata fetch threads");
+        this.fetchExecutor.shutdownNow();
     }
 
     @Override
@@ -44,6 +133,13 @@ public class DynamicMetadataResolverAdapter extends AbstractMetadataResolverAdap
         return super.getEntityDescriptorForEntityId(entityId);
     }
 
+    private Optional<SamlMetadataUIEntity> fetchMetadataUIEntity(final String entityId) throws Exception {
+        LOGGER.debug("Fetching metadata for [{}]", entityId);
+        val aggregate = createMetadataResolverAggregate(entityId);
+        val entityDescriptor = aggregate.resolveSingle(new CriteriaSet(new EntityIdCriterion(entityId)));
+        return Optional.ofNullable(entityDescriptor).map(descriptor -> SamlMetadataUIEntity.from(descriptor, entityId));
+    }
+
     @Override
     protected InputStream getResourceInputStream(final Resource resource, final String entityId) throws IOException {
         if (resource instanceof UrlResource && resource.getURL().toExternalForm().toLowerCase().endsWith("/entities/")) {
@@ -2,6 +2,8 @@ package org.apereo.cas.support.saml.mdui;
 
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 
+import java.util.Optional;
+
 /**
  * {@link MetadataResolverAdapter} is a facade on top of the existing
  * metadata resolution machinery that defines how metadata may be resolved.
@@ -18,4 +20,15 @@ public interface MetadataResolverAdapter {
      * @return the entity descriptor for entity id
      */
     EntityDescriptor getEntityDescriptorForEntityId(String entityId);
+
+    /**
+     * Gets the MDUI elements extracted from the metadata of the entity.
+     *
+     * @param entityId the entity id
+     * @return the MDUI elements, or empty if no metadata is found for the entity
+     */
+    default Optional<SamlMetadataUIEntity> getMetadataUIEntity(final String entityId) {
+        return Optional.ofNullable(getEntityDescriptorForEntityId(entityId))
+            .map(entityDescriptor -> SamlMetadataUIEntity.from(entityDescriptor, entityId));
+    }
 }
@@ -51,7 +51,7 @@ public class MetadataUIUtils {
      * @return true/false
      */
     public static boolean isMetadataFoundForEntityId(final MetadataResolverAdapter metadataAdapter, final String entityId) {
-        return metadataAdapter.getEntityDescriptorForEntityId(entityId) != null;
+        return metadataAdapter.getMetadataUIEntity(entityId).isPresent();
     }
 
     /**
@@ -65,8 +65,8 @@ public class MetadataUIUtils {
      */
     public static SamlMetadataUIInfo locateMetadataUserInterfaceForEntityId(final MetadataResolverAdapter metadataAdapter,
                                                                             final String entityId, final RegisteredService registeredService, final HttpServletRequest requestContext) {
-        val entityDescriptor = metadataAdapter.getEntityDescriptorForEntityId(entityId);
-        return locateMetadataUserInterfaceForEntityId(entityDescriptor, entityId, registeredService, requestContext);
+        val entity = metadataAdapter.getMetadataUIEntity(entityId);
+        return new SamlMetadataUIInfo(entity.orElse(null), registeredService, requestContext.getLocale().getLanguage());
     }
 
     /**
@@ -81,30 +81,42 @@ public class MetadataUIUtils {
     public static SamlMetadataUIInfo locateMetadataUserInterfaceForEntityId(final EntityDescriptor entityDescriptor, final String entityId,
                                                                             final RegisteredService registeredService, final HttpServletRequest requestContext) {
         val mdui = new SamlMetadataUIInfo(registeredService, requestContext.getLocale().getLanguage());
+        mdui.setUiInfo(locateUIInfo(entityDescriptor, entityId));
+        return mdui;
+    }
+
+    /**
+     * Locate the MDUI extension block in the SP SSO descriptor of the entity.
+     *
+     * @param entityDescriptor the entity descriptor
+     * @param entityId         the entity id
+     * @return the ui info, or null if none is found
+     */
+    public static UIInfo locateUIInfo(final EntityDescriptor entityDescriptor, final String entityId) {
         if (entityDescriptor == null) {
             LOGGER.trace("Entity descriptor not found for [{}]", entityId);
-            return mdui;
+            return null;
         }
         val spssoDescriptor = getSPSsoDescriptor(entityDescriptor);
         if (spssoDescriptor == null) {
             LOGGER.trace("SP SSO descriptor not found for [{}]", entityId);
-            return mdui;
+            return null;
         }
         val extensions = spssoDescriptor.getExtensions();
         if (extensions == null) {
             LOGGER.trace("No extensions in the SP SSO descriptor are found for [{}]", UIInfo.DEFAULT_ELEMENT_NAME.getNamespaceURI());
-            return mdui;
+            return null;
         }
         val spExtensions = extensions.getUnknownXMLObjects(UIInfo.DEFAULT_ELEMENT_NAME);
         if (spExtensions.isEmpty()) {
             LOGGER.trace("No extensions in the SP SSO descriptor are located for [{}]", UIInfo.DEFAULT_ELEMENT_NAME.getNamespaceURI());
-            return mdui;
+            return null;
         }
-        spExtensions.stream().filter(UIInfo.class::isInstance).forEach(obj -> {
-            val uiInfo = (UIInfo) obj;
-            LOGGER.trace("Found MDUI info for [{}]", entityId);
-            mdui.setUiInfo(uiInfo);
-        });
-        return mdui;
+        LOGGER.trace("Found MDUI info for [{}]", entityId);
+        return spExtensions.stream()
+            .filter(UIInfo.class::isInstance)
+            .map(UIInfo.class::cast)
+            .reduce((first, second) -> second)
+            .orElse(null);
     }
 }
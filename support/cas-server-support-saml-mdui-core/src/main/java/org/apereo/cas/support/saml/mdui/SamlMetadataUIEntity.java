@@ -0,0 +1,118 @@
+package org.apereo.cas.support.saml.mdui;
+
+import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfo.Logo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.core.xml.schema.XSString;
+import org.opensaml.core.xml.schema.XSURI;
+import org.opensaml.saml.ext.saml2mdui.UIInfo;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.opensaml.saml.saml2.metadata.LocalizedName;
+import org.opensaml.saml.saml2.metadata.LocalizedURI;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link SamlMetadataUIEntity} that holds the MDUI elements of a SAML entity,
+ * extracted once from its metadata so that they can be looked up without
+ * traversing the metadata again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class SamlMetadataUIEntity implements Serializable {
+    private static final long serialVersionUID = 4265013816513564187L;
+
+    private final boolean uiInfoAvailable;
+
+    private final List<LocalizedValue> displayNames;
+
+    private final List<LocalizedValue> descriptions;
+
+    private final List<LocalizedValue> informationURLs;
+
+    private final List<LocalizedValue> privacyStatementURLs;
+
+    private final List<Logo> logos;
+
+    /**
+     * Extract the MDUI elements from the entity descriptor.
+     *
+     * @param entityDescriptor the entity descriptor
+     * @param entityId         the entity id
+     * @return the entity
+     */
+    public static SamlMetadataUIEntity from(final EntityDescriptor entityDescriptor, final String entityId) {
+        return from(MetadataUIUtils.locateUIInfo(entityDescriptor, entityId));
+    }
+
+    /**
+     * Extract the MDUI elements from the ui info.
+     *
+     * @param uiInfo the ui info, may be null
+     * @return the entity
+     */
+    public static SamlMetadataUIEntity from(final UIInfo uiInfo) {
+        if (uiInfo == null) {
+            return new SamlMetadataUIEntity(false, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }
+        val logos = uiInfo.getLogos()
+            .stream()
+            .map(l -> new Logo(l.getURL(), l.getHeight(), l.getWidth()))
+            .collect(Collectors.toList());
+        return new SamlMetadataUIEntity(true, getLocalizedValues(uiInfo.getDisplayNames()),
+            getLocalizedValues(uiInfo.getDescriptions()), getLocalizedValues(uiInfo.getInformationURLs()),
+            getLocalizedValues(uiInfo.getPrivacyStatementURLs()), Collections.unmodifiableList(logos));
+    }
+
+    private static List<LocalizedValue> getLocalizedValues(final List<?> items) {
+        val values = new ArrayList<LocalizedValue>(items.size());
+        items.forEach(item -> {
+            if (item instanceof LocalizedName) {
+                val name = (LocalizedName) item;
+                values.add(new LocalizedValue(name.getXMLLang(), name.getValue(), true));
+            } else if (item instanceof LocalizedURI) {
+                val uri = (LocalizedURI) item;
+                values.add(new LocalizedValue(uri.getXMLLang(), uri.getValue(), false));
+            } else if (item instanceof XSString) {
+                values.add(new LocalizedValue(null, ((XSString) item).getValue(), false));
+            } else if (item instanceof XSURI) {
+                values.add(new LocalizedValue(null, ((XSURI) item).getValue(), false));
+            } else {
+                values.add(new LocalizedValue(null, StringUtils.EMPTY, false));
+            }
+        });
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * A value of a MDUI element along with its language.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class LocalizedValue implements Serializable {
+        private static final long serialVersionUID = -2871506394425160346L;
+
+        private final String language;
+
+        private final String value;
+
+        /**
+         * Whether the value is a localized name that may be selected by the browser language.
+         */
+        private final boolean localizedName;
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.support.saml.mdui;
 
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.saml.mdui.SamlMetadataUIEntity.LocalizedValue;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfo;
 
 import lombok.Getter;
@@ -9,11 +10,7 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.opensaml.core.xml.schema.XSString;
-import org.opensaml.core.xml.schema.XSURI;
 import org.opensaml.saml.ext.saml2mdui.UIInfo;
-import org.opensaml.saml.saml2.metadata.LocalizedName;
-import org.opensaml.saml.saml2.metadata.LocalizedURI;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -24,6 +21,7 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link SamlMetadataUIInfo}.
+ * MDUI elements are read from the {@link SamlMetadataUIEntity} extracted from metadata.
  *
  * @author Misagh Moayyed
  * @since 4.1.0
@@ -37,6 +35,7 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
     private static final long serialVersionUID = -1434801982864628179L;
 
     private transient UIInfo uiInfo;
+    private SamlMetadataUIEntity entity;
     private String locale;
 
     /**
@@ -59,6 +58,30 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
     public SamlMetadataUIInfo(final UIInfo uiInfo, final RegisteredService registeredService) {
         super(registeredService);
         this.uiInfo = uiInfo;
+        this.entity = uiInfo != null ? SamlMetadataUIEntity.from(uiInfo) : null;
+    }
+
+    /**
+     * Instantiates a new Simple mdui info.
+     *
+     * @param entity            the MDUI elements extracted from metadata, may be null
+     * @param registeredService the registered service
+     * @param locale            browser preferred language
+     */
+    public SamlMetadataUIInfo(final SamlMetadataUIEntity entity, final RegisteredService registeredService, final String locale) {
+        super(registeredService);
+        this.entity = entity;
+        this.locale = locale;
+    }
+
+    /**
+     * Sets the ui info and extracts its MDUI elements.
+     *
+     * @param uiInfo the ui info
+     */
+    public void setUiInfo(final UIInfo uiInfo) {
+        this.uiInfo = uiInfo;
+        this.entity = uiInfo != null ? SamlMetadataUIEntity.from(uiInfo) : null;
     }
 
     /**
@@ -67,46 +90,42 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @param items the items
      * @return the string values
      */
-    private static Collection<String> getStringValues(final List<?> items) {
-        val list = new ArrayList<String>();
-        items.forEach(d -> {
-            if (d instanceof XSURI) {
-                list.add(((XSURI) d).getValue());
-            } else if (d instanceof XSString) {
-                list.add(((XSString) d).getValue());
-            }
-        });
-        return list;
+    private static Collection<String> getStringValues(final List<LocalizedValue> items) {
+        return items.stream().map(LocalizedValue::getValue).collect(Collectors.toList());
+    }
+
+    private boolean isUiInfoAvailable() {
+        return this.entity != null && this.entity.isUiInfoAvailable();
     }
 
     @Override
     public Collection<String> getDescriptions() {
-        if (this.uiInfo != null) {
-            return getStringValues(this.uiInfo.getDescriptions());
+        if (isUiInfoAvailable()) {
+            return getStringValues(this.entity.getDescriptions());
         }
         return super.getDescriptions();
     }
 
     @Override
     public Collection<String> getDisplayNames() {
-        if (this.uiInfo != null) {
-            return getStringValues(this.uiInfo.getDisplayNames());
+        if (isUiInfoAvailable()) {
+            return getStringValues(this.entity.getDisplayNames());
         }
         return super.getDescriptions();
     }
 
     @Override
     public Collection<String> getInformationURLs() {
-        if (this.uiInfo != null) {
-            return getStringValues(this.uiInfo.getInformationURLs());
+        if (isUiInfoAvailable()) {
+            return getStringValues(this.entity.getInformationURLs());
         }
         return super.getInformationURLs();
     }
 
     @Override
     public Collection<String> getPrivacyStatementURLs() {
-        if (this.uiInfo != null) {
-            return getStringValues(this.uiInfo.getPrivacyStatementURLs());
+        if (isUiInfoAvailable()) {
+            return getStringValues(this.entity.getPrivacyStatementURLs());
         }
         return super.getPrivacyStatementURLs();
     }
@@ -119,8 +138,8 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
     @Override
     public Collection<Logo> getLogoUrls() {
         val list = new ArrayList<Logo>();
-        if (this.uiInfo != null) {
-            list.addAll(this.uiInfo.getLogos().stream().map(l -> new Logo(l.getURL(), l.getHeight(), l.getWidth())).collect(Collectors.toList()));
+        if (isUiInfoAvailable()) {
+            list.addAll(this.entity.getLogos());
         }
         return list;
     }
@@ -132,8 +151,8 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @return the description
      */
     public String getDescription(final String locale) {
-        if (this.uiInfo != null) {
-            val description = getLocalizedValues(locale, this.uiInfo.getDescriptions());
+        if (isUiInfoAvailable()) {
+            val description = getLocalizedValues(locale, this.entity.getDescriptions());
             return description != null ? description : super.getDescription();
         }
         return super.getDescription();
@@ -151,8 +170,8 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @return the displayName
      */
     public String getDisplayName(final String locale) {
-        if (this.uiInfo != null) {
-            val displayName = getLocalizedValues(locale, this.uiInfo.getDisplayNames());
+        if (isUiInfoAvailable()) {
+            val displayName = getLocalizedValues(locale, this.entity.getDisplayNames());
             return displayName != null ? displayName : super.getDisplayName();
         }
         return super.getDisplayName();
@@ -170,8 +189,8 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @return the informationURL
      */
     public String getInformationURL(final String locale) {
-        if (this.uiInfo != null) {
-            val informationUrl = getLocalizedValues(locale, this.uiInfo.getInformationURLs());
+        if (isUiInfoAvailable()) {
+            val informationUrl = getLocalizedValues(locale, this.entity.getInformationURLs());
             return informationUrl != null ? informationUrl : super.getInformationURL();
         }
         return super.getInformationURL();
@@ -189,8 +208,8 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @return the privacyStatementURL
      */
     public String getPrivacyStatementURL(final String locale) {
-        if (this.uiInfo != null) {
-            val privacyStatementURL = getLocalizedValues(locale, this.uiInfo.getPrivacyStatementURLs());
+        if (isUiInfoAvailable()) {
+            val privacyStatementURL = getLocalizedValues(locale, this.entity.getPrivacyStatementURLs());
             return privacyStatementURL != null ? privacyStatementURL : super.getPrivacyStatementURL();
         }
         return super.getPrivacyStatementURL();
@@ -208,41 +227,30 @@ public class SamlMetadataUIInfo extends DefaultRegisteredServiceUserInterfaceInf
      * @param items  the items
      * @return the string value
      */
-    private static String getLocalizedValues(final String locale, final List<?> items) {
+    private static String getLocalizedValues(final String locale, final List<LocalizedValue> items) {
         val foundLocale = findLocale(StringUtils.defaultString(locale, "en"), items);
         if (foundLocale.isPresent()) {
             return foundLocale.get();
         }
 
         if (!items.isEmpty()) {
-            val item = items.get(0);
-            var value = StringUtils.EMPTY;
-            if (item instanceof LocalizedName) {
-                value = ((LocalizedName) item).getValue();
-            }
-            if (item instanceof LocalizedURI) {
-                value = ((LocalizedURI) item).getValue();
-            }
-            if (item instanceof XSString) {
-                value = ((XSString) item).getValue();
-            }
+            val value = items.get(0).getValue();
             LOGGER.trace("Loading first available locale [{}]", value);
             return value;
         }
         return null;
     }
 
-    private static Optional<String> findLocale(final String locale, final List<?> items) {
+    private static Optional<String> findLocale(final String locale, final List<LocalizedValue> items) {
         LOGGER.trace("Looking for locale [{}]", locale);
         val p = Pattern.compile(locale, Pattern.CASE_INSENSITIVE);
         return items.stream()
-            .filter(item -> item instanceof LocalizedName)
-            .map(item -> (LocalizedName) item)
+            .filter(LocalizedValue::isLocalizedName)
             .filter(item -> {
-                val xmlLang = item.getXMLLang();
+                val xmlLang = item.getLanguage();
                 return StringUtils.isNotBlank(xmlLang) && p.matcher(xmlLang).matches() && StringUtils.isNotBlank(item.getValue());
             })
-            .map(XSString::getValue)
+            .map(LocalizedValue::getValue)
             .findFirst();
     }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.support.saml.mdui.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.mdui.AbstractMetadataResolverAdapter;
@@ -109,7 +110,9 @@ public class SamlMetadataUIConfiguration {
     }
 
     private MetadataResolverAdapter getDynamicMetadataResolverAdapter() {
-        val adapter = new DynamicMetadataResolverAdapter();
+        val mdui = casProperties.getSamlMetadataUi();
+        val adapter = new DynamicMetadataResolverAdapter(Beans.newDuration(mdui.getCacheExpiration()),
+            Beans.newDuration(mdui.getFetchTimeout()));
         configureAdapter(adapter);
         return adapter;
     }
@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.support.saml.mdui.MetadataResolverAdapterCacheTests;
 import org.apereo.cas.support.saml.mdui.web.flow.SamlMetadataUIParserActionTests;
 import org.apereo.cas.support.saml.mdui.web.flow.SamlMetadataUIParserDynamicActionTests;
 
@@ -13,6 +14,10 @@ import org.junit.runners.Suite;
  * @since 4.2.0
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({SamlMetadataUIParserActionTests.class, SamlMetadataUIParserDynamicActionTests.class})
+@Suite.SuiteClasses({
+    SamlMetadataUIParserActionTests.class,
+    SamlMetadataUIParserDynamicActionTests.class,
+    MetadataResolverAdapterCacheTests.class
+})
 public class AllTestsSuite {
 }
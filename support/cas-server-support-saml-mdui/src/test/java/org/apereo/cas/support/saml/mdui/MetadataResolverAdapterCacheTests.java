@@ -0,0 +1,138 @@
+package org.apereo.cas.support.saml.mdui;
+
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.saml.AbstractOpenSamlTests;
+
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilterChain;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link MetadataResolverAdapterCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class MetadataResolverAdapterCacheTests extends AbstractOpenSamlTests {
+    private static final String ENTITY_ID = "https://carmenwiki.osu.edu/shibboleth";
+
+    private static final Resource METADATA = new ClassPathResource("sample-metadata.xml");
+
+    private static Map<Resource, MetadataFilterChain> getMetadataResources() {
+        val resources = new HashMap<Resource, MetadataFilterChain>();
+        resources.put(METADATA, new MetadataFilterChain());
+        return resources;
+    }
+
+    @Test
+    public void verifyStaticMetadataUIIsExtractedOnce() {
+        val adapter = new StaticMetadataResolverAdapter(getMetadataResources());
+        adapter.setConfigBean(configBean);
+        adapter.buildMetadataResolverAggregate();
+
+        val entity = adapter.getMetadataUIEntity(ENTITY_ID);
+        assertTrue(entity.isPresent());
+        assertSame(entity.get(), adapter.getMetadataUIEntity(ENTITY_ID).get());
+        assertFalse(adapter.getMetadataUIEntity("https://unknown.example.org").isPresent());
+
+        val mdui = new SamlMetadataUIInfo(entity.get(), RegisteredServiceTestUtils.getRegisteredService(), "en");
+        assertEquals("CarmenWiki", mdui.getDisplayName());
+        assertEquals("Enterprise Wiki Service at the Ohio State University.", mdui.getDescription());
+        assertEquals("https://ocio.osu.edu/services/view/carmenwiki-wiki-services", mdui.getInformationURL());
+        assertEquals("https://carmenwiki.osu.edu/x/jyLeAQ", mdui.getPrivacyStatementURL());
+        assertEquals(1, mdui.getLogoUrls().size());
+        assertEquals(85, mdui.getLogoUrls().iterator().next().getHeight());
+    }
+
+    @Test
+    public void verifyStaticMetadataUIIsDiscardedOnRefresh() {
+        val adapter = new StaticMetadataResolverAdapter(getMetadataResources());
+        adapter.setConfigBean(configBean);
+        adapter.buildMetadataResolverAggregate();
+        val entity = adapter.getMetadataUIEntity(ENTITY_ID).get();
+
+        adapter.buildMetadataResolverAggregate();
+        val refreshed = adapter.getMetadataUIEntity(ENTITY_ID).get();
+        assertNotSame(entity, refreshed);
+        assertEquals(entity.getDisplayNames().get(0).getValue(), refreshed.getDisplayNames().get(0).getValue());
+    }
+
+    @Test
+    public void verifyDynamicMetadataIsFetchedInBackground() throws Exception {
+        val fetches = new AtomicInteger();
+        val fetchThread = new AtomicReference<Thread>();
+        val adapter = new FetchingDynamicMetadataResolverAdapter(Duration.ofSeconds(10), 0, fetches, fetchThread);
+
+        val entity = adapter.getMetadataUIEntity(ENTITY_ID);
+        assertTrue(entity.isPresent());
+        assertSame(entity.get(), adapter.getMetadataUIEntity(ENTITY_ID).get());
+        assertEquals(1, fetches.get());
+        assertTrue(fetchThread.get().getName().startsWith("saml-mdui-fetch-"));
+        assertNotSame(Thread.currentThread(), fetchThread.get());
+
+        adapter.destroy();
+        fetchThread.get().join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(fetchThread.get().isAlive());
+    }
+
+    @Test
+    public void verifyDynamicMetadataIsAvailableOnceFetched() throws Exception {
+        val fetches = new AtomicInteger();
+        try (val adapter = new FetchingDynamicMetadataResolverAdapter(Duration.ofMillis(50), 500, fetches, new AtomicReference<>())) {
+            assertFalse(adapter.getMetadataUIEntity(ENTITY_ID).isPresent());
+            val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!adapter.getMetadataUIEntity(ENTITY_ID).isPresent() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(adapter.getMetadataUIEntity(ENTITY_ID).isPresent());
+            assertEquals(1, fetches.get());
+        }
+    }
+
+    private class FetchingDynamicMetadataResolverAdapter extends DynamicMetadataResolverAdapter {
+        private final long delay;
+
+        private final AtomicInteger fetches;
+
+        private final AtomicReference<Thread> fetchThread;
+
+        FetchingDynamicMetadataResolverAdapter(final Duration fetchTimeout, final long delay,
+                                               final AtomicInteger fetches, final AtomicReference<Thread> fetchThread) {
+            super(Duration.ofHours(1), fetchTimeout);
+            this.delay = delay;
+            this.fetches = fetches;
+            this.fetchThread = fetchThread;
+            setMetadataResources(getMetadataResources());
+            setConfigBean(configBean);
+        }
+
+        @Override
+        protected InputStream getResourceInputStream(final Resource resource, final String entityId) throws IOException {
+            fetches.incrementAndGet();
+            fetchThread.set(Thread.currentThread());
+            try {
+                Thread.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try (val in = METADATA.getInputStream()) {
+                return new ByteArrayInputStream(IOUtils.toByteArray(in));
+            }
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package org.apereo.cas.web.flow.client;
 
+import org.apereo.cas.support.spnego.util.ReverseDNSResolver;
 import org.apereo.cas.support.spnego.util.ReverseDNSRunnable;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.web.support.WebUtils;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -32,7 +32,6 @@ import java.util.regex.Pattern;
 @ToString
 @Setter
 @Getter
-@AllArgsConstructor
 public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
 
     /**
@@ -51,6 +50,20 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
      */
     private long timeout;
 
+    /**
+     * Resolver that looks up and remembers client host names.
+     * Host names are looked up on a new thread bounded by the timeout if undefined.
+     */
+    private ReverseDNSResolver reverseDnsResolver;
+
+    public BaseSpnegoKnownClientSystemsFilterAction(final Pattern ipsToCheckPattern,
+                                                    final String alternativeRemoteHostAttribute,
+                                                    final long timeout) {
+        this.ipsToCheckPattern = ipsToCheckPattern;
+        this.alternativeRemoteHostAttribute = alternativeRemoteHostAttribute;
+        this.timeout = timeout;
+    }
+
     /**
      * Instantiates a new Base.
      *
@@ -144,14 +157,24 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
     }
 
     /**
-     * Convenience method to perform a reverse DNS lookup. Threads the request
-     * through a custom Runnable class in order to prevent inordinately long
+     * Convenience method to perform a reverse DNS lookup. The lookup is handed
+     * to the reverse DNS resolver, if defined, to reuse earlier results. Otherwise, threads
+     * the request through a custom Runnable class. Both prevent inordinately long
      * user waits while performing reverse lookup.
      *
      * @param remoteIp the remote ip
      * @return the remote host name
      */
     protected String getRemoteHostName(final String remoteIp) {
+        val remoteHostName = resolveRemoteHostName(remoteIp);
+        LOGGER.debug("Found remote host name [{}].", remoteHostName);
+        return StringUtils.isNotBlank(remoteHostName) ? remoteHostName : remoteIp;
+    }
+
+    private String resolveRemoteHostName(final String remoteIp) {
+        if (this.reverseDnsResolver != null) {
+            return this.reverseDnsResolver.resolve(remoteIp, this.timeout);
+        }
         val revDNS = new ReverseDNSRunnable(remoteIp);
         val t = new Thread(revDNS);
         t.start();
@@ -160,8 +183,6 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
         } catch (final InterruptedException e) {
             LOGGER.debug("Threaded lookup failed.  Defaulting to IP [{}].", remoteIp, e);
         }
-        val remoteHostName = revDNS.getHostName();
-        LOGGER.debug("Found remote host name [{}].", remoteHostName);
-        return StringUtils.isNotBlank(remoteHostName) ? remoteHostName : remoteIp;
+        return revDNS.getHostName();
     }
 }
@@ -1,5 +1,9 @@
 package org.apereo.cas.web.flow.client;
 
+import org.apereo.cas.util.LdapUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -13,7 +17,9 @@ import org.ldaptive.ResultCode;
 import org.ldaptive.SearchOperation;
 import org.ldaptive.SearchRequest;
 import org.ldaptive.SearchResult;
+import org.springframework.beans.factory.DisposableBean;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 
 /**
@@ -25,7 +31,8 @@ import java.util.regex.Pattern;
  * @since 4.1
  */
 @Slf4j
-public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownClientSystemsFilterAction {
+public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownClientSystemsFilterAction implements DisposableBean {
+    private static final long MAXIMUM_KNOWN_CLIENTS = 10_000;
 
     /**
      * The must-have attribute name.
@@ -34,6 +41,11 @@ public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownCli
     private final ConnectionFactory connectionFactory;
     private final SearchRequest searchRequest;
 
+    /**
+     * Verdicts on whether client hosts are allowed for spnego, keyed by host name.
+     */
+    private final Cache<String, Boolean> knownClients;
+
     /**
      * Instantiates a new action.
      *
@@ -50,10 +62,35 @@ public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownCli
                                                     final ConnectionFactory connectionFactory,
                                                     final SearchRequest searchRequest,
                                                     final String spnegoAttributeName) {
+        this(ipsToCheckPattern, alternativeRemoteHostAttribute, dnsTimeout, connectionFactory,
+            searchRequest, spnegoAttributeName, Duration.ZERO);
+    }
+
+    /**
+     * Instantiates a new action that remembers the verdict for each client host.
+     *
+     * @param ipsToCheckPattern              the ips to check pattern
+     * @param alternativeRemoteHostAttribute the alternative remote host attribute
+     * @param dnsTimeout                     # of milliseconds to wait for a DNS request to return
+     * @param connectionFactory              the connection factory
+     * @param searchRequest                  the search request
+     * @param spnegoAttributeName            the certificate revocation list attribute name
+     * @param cacheExpiration                how long the verdict for a host is remembered; zero disables caching
+     */
+    public LdapSpnegoKnownClientSystemsFilterAction(final Pattern ipsToCheckPattern,
+                                                    final String alternativeRemoteHostAttribute,
+                                                    final long dnsTimeout,
+                                                    final ConnectionFactory connectionFactory,
+                                                    final SearchRequest searchRequest,
+                                                    final String spnegoAttributeName,
+                                                    final Duration cacheExpiration) {
         super(ipsToCheckPattern, alternativeRemoteHostAttribute, dnsTimeout);
         this.connectionFactory = connectionFactory;
         this.spnegoAttributeName = spnegoAttributeName;
         this.searchRequest = searchRequest;
+        this.knownClients = cacheExpiration.isZero() || cacheExpiration.isNegative()
+            ? null
+            : Caffeine.newBuilder().expireAfterWrite(cacheExpiration).maximumSize(MAXIMUM_KNOWN_CLIENTS).build();
     }
 
     /**
@@ -106,15 +143,28 @@ public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownCli
 
     /**
      * Searches the ldap instance for the attribute value.
+     * Verdicts are remembered per host name, if caching is enabled.
      *
      * @param remoteIp the remote ip
      * @return true/false
      */
-    @SneakyThrows
     protected boolean executeSearchForSpnegoAttribute(final String remoteIp) {
         val remoteHostName = getRemoteHostName(remoteIp);
         LOGGER.debug("Resolved remote hostname [{}] based on ip [{}]", remoteHostName, remoteIp);
+        if (this.knownClients == null) {
+            return searchForSpnegoAttribute(remoteHostName);
+        }
+        return this.knownClients.get(remoteHostName, this::searchForSpnegoAttribute);
+    }
 
+    /**
+     * Searches the ldap instance for the attribute value of the given host.
+     *
+     * @param remoteHostName the remote host name
+     * @return true/false
+     */
+    @SneakyThrows
+    protected boolean searchForSpnegoAttribute(final String remoteHostName) {
         try (val connection = createConnection()) {
             val searchOperation = new SearchOperation(connection);
             this.searchRequest.getSearchFilter().setParameter("host", remoteHostName);
@@ -160,4 +210,9 @@ public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownCli
     protected boolean verifySpnegoAttributeValue(final LdapAttribute attribute) {
         return attribute != null && StringUtils.isNotBlank(attribute.getStringValue());
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
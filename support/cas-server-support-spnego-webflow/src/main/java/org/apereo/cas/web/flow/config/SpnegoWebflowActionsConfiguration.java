@@ -3,6 +3,7 @@ package org.apereo.cas.web.flow.config;
 import org.apereo.cas.authentication.adaptive.AdaptiveAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.spnego.util.ReverseDNSResolver;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.web.flow.SpnegoCredentialsAction;
@@ -71,23 +72,36 @@ public class SpnegoWebflowActionsConfiguration {
         return new SpnegoNegotiateCredentialsAction(supportedBrowsers, spnegoProperties.isNtlm(), spnegoProperties.isMixedModeAuthentication());
     }
 
+    @Bean
+    public ReverseDNSResolver spnegoReverseDnsResolver() {
+        val spnegoProperties = casProperties.getAuthn().getSpnego();
+        return new ReverseDNSResolver(spnegoProperties.getDnsPoolSize(),
+            Beans.newDuration(spnegoProperties.getDnsCacheExpiration()),
+            Beans.newDuration(spnegoProperties.getDnsNegativeCacheExpiration()),
+            spnegoProperties.getDnsCacheMaximumSize());
+    }
+
     @Bean
     @RefreshScope
     public Action baseSpnegoClientAction() {
         val spnegoProperties = casProperties.getAuthn().getSpnego();
-        return new BaseSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
+        val action = new BaseSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis());
+        action.setReverseDnsResolver(spnegoReverseDnsResolver());
+        return action;
     }
 
     @Bean
     @RefreshScope
     public Action hostnameSpnegoClientAction() {
         val spnegoProperties = casProperties.getAuthn().getSpnego();
-        return new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
+        val action = new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(),
             spnegoProperties.getHostNamePatternString());
+        action.setReverseDnsResolver(spnegoReverseDnsResolver());
+        return action;
     }
 
     @Lazy
@@ -99,11 +113,14 @@ public class SpnegoWebflowActionsConfiguration {
         val filter = LdapUtils.newLdaptiveSearchFilter(spnegoProperties.getLdap().getSearchFilter());
 
         val searchRequest = LdapUtils.newLdaptiveSearchRequest(spnegoProperties.getLdap().getBaseDn(), filter);
-        return new LdapSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
+        val action = new LdapSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(),
             connectionFactory,
             searchRequest,
-            spnegoProperties.getSpnegoAttributeName());
+            spnegoProperties.getSpnegoAttributeName(),
+            Beans.newDuration(spnegoProperties.getLdapCacheExpiration()));
+        action.setReverseDnsResolver(spnegoReverseDnsResolver());
+        return action;
     }
 }
@@ -4,6 +4,8 @@ import org.apereo.cas.util.RegexUtils;
 
 import lombok.val;
 import org.junit.Test;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.SearchRequest;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
@@ -11,7 +13,11 @@ import org.springframework.webflow.action.EventFactorySupport;
 import org.springframework.webflow.context.servlet.ServletExternalContext;
 import org.springframework.webflow.test.MockRequestContext;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link BaseSpnegoKnownClientSystemsFilterAction}
@@ -134,4 +140,26 @@ public class SpnegoKnownClientSystemsFilterActionTests {
         assertEquals(ev.getId(), new EventFactorySupport().no(this).getId());
 
     }
+
+    @Test
+    public void verifyLdapVerdictIsCachedPerHost() {
+        val searches = new AtomicInteger();
+        val action = new LdapSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern("127.+"),
+            "", 0, mock(ConnectionFactory.class), new SearchRequest(), "distinguishedName", Duration.ofMinutes(10)) {
+            @Override
+            protected boolean searchForSpnegoAttribute(final String remoteHostName) {
+                searches.incrementAndGet();
+                return true;
+            }
+        };
+
+        for (var i = 0; i < 5_000; i++) {
+            val ctx = new MockRequestContext();
+            val req = new MockHttpServletRequest();
+            req.setRemoteAddr("127.0.0." + (i % 5));
+            ctx.setExternalContext(new ServletExternalContext(new MockServletContext(), req, new MockHttpServletResponse()));
+            assertEquals(new EventFactorySupport().yes(this).getId(), action.doExecute(ctx).getId());
+        }
+        assertEquals(5, searches.get());
+    }
 }
@@ -0,0 +1,152 @@
+package org.apereo.cas.support.spnego.util;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves host names for ip addresses on a bounded pool of threads.
+ * Results are cached; addresses that resolve to a host name are kept for a
+ * longer period than those that cannot be resolved. Concurrent requests for the
+ * same address share a single lookup. A lookup that does not complete within the
+ * given timeout continues in the background so that its result is cached for
+ * later requests, while the caller falls back to the ip address.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class ReverseDNSResolver implements DisposableBean {
+    private static final int QUEUE_CAPACITY_PER_THREAD = 100;
+
+    private final ThreadPoolExecutor executorService;
+
+    private final AsyncLoadingCache<String, String> hostNames;
+
+    private final LongAdder lookups = new LongAdder();
+
+    public ReverseDNSResolver(final int poolSize, final Duration expiration,
+                              final Duration negativeExpiration, final long maximumSize) {
+        this.executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(poolSize * QUEUE_CAPACITY_PER_THREAD), new ReverseDNSThreadFactory());
+        this.hostNames = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new HostNameExpiry(expiration, negativeExpiration))
+            .buildAsync((ipAddress, executor) -> submit(ipAddress));
+    }
+
+    /**
+     * Resolve the host name of the given ip address.
+     *
+     * @param ipAddress the ip address
+     * @param timeout   milliseconds to wait for the lookup; zero or less waits until it completes
+     * @return the host name, or the ip address if it cannot be resolved in time
+     */
+    public String resolve(final String ipAddress, final long timeout) {
+        try {
+            val hostName = hostNames.get(ipAddress);
+            return timeout > 0 ? hostName.get(timeout, TimeUnit.MILLISECONDS) : hostName.get();
+        } catch (final TimeoutException e) {
+            LOGGER.debug("Reverse DNS lookup for [{}] did not complete within [{}] ms. Defaulting to IP.", ipAddress, timeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Reverse DNS lookup for [{}] is interrupted. Defaulting to IP.", ipAddress);
+        } catch (final ExecutionException e) {
+            LOGGER.debug("Reverse DNS lookup for [{}] failed. Defaulting to IP.", ipAddress, e);
+        }
+        return ipAddress;
+    }
+
+    /**
+     * Gets the number of lookups sent to the name service.
+     *
+     * @return the lookup count
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /**
+     * Gets the largest number of threads that have been used for lookups.
+     *
+     * @return the thread count
+     */
+    public int getLargestPoolSize() {
+        return executorService.getLargestPoolSize();
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private CompletableFuture<String> submit(final String ipAddress) {
+        try {
+            return CompletableFuture.supplyAsync(() -> lookup(ipAddress), this.executorService);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Reverse DNS lookup for [{}] is rejected as too many lookups are pending", ipAddress);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String lookup(final String ipAddress) {
+        lookups.increment();
+        val runnable = new ReverseDNSRunnable(ipAddress);
+        runnable.run();
+        return runnable.getHostName();
+    }
+
+    private static class ReverseDNSThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            val thread = new Thread(runnable, "reverse-dns-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class HostNameExpiry implements Expiry<String, String> {
+        private final long expiration;
+
+        private final long negativeExpiration;
+
+        HostNameExpiry(final Duration expiration, final Duration negativeExpiration) {
+            this.expiration = expiration.toNanos();
+            this.negativeExpiration = negativeExpiration.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String ipAddress, final String hostName, final long currentTime) {
+            return ipAddress.equals(hostName) ? negativeExpiration : expiration;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String ipAddress, final String hostName, final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(ipAddress, hostName, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String ipAddress, final String hostName, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
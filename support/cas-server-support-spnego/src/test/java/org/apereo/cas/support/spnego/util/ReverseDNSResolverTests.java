@@ -0,0 +1,62 @@
+package org.apereo.cas.support.spnego.util;
+
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link ReverseDNSResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ReverseDNSResolverTests {
+    private static final int POOL_SIZE = 4;
+
+    private ReverseDNSResolver resolver;
+
+    @Before
+    public void initialize() {
+        resolver = new ReverseDNSResolver(POOL_SIZE, Duration.ofMinutes(30), Duration.ofMinutes(1), 100);
+    }
+
+    @After
+    public void shutdown() {
+        resolver.destroy();
+    }
+
+    @Test
+    public void verifyBurstOfLookupsIsServedFromCache() throws Exception {
+        val addresses = new String[]{"127.0.0.1", "127.0.0.2", "127.0.0.3", "127.0.0.4", "127.0.0.5"};
+        val tasks = new ArrayList<Callable<String>>();
+        for (var i = 0; i < 5_000; i++) {
+            val address = addresses[i % addresses.length];
+            tasks.add(() -> resolver.resolve(address, 5_000));
+        }
+        val callers = Executors.newFixedThreadPool(20);
+        try {
+            for (val result : callers.invokeAll(tasks)) {
+                assertNotNull(result.get());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertTrue(resolver.getLookupCount() <= addresses.length);
+        assertTrue(resolver.getLargestPoolSize() <= POOL_SIZE);
+    }
+
+    @Test
+    public void verifyUnresolvedAddressFallsBackToIp() {
+        assertEquals("256.1.1.1", resolver.resolve("256.1.1.1", 5_000));
+        assertEquals("256.1.1.1", resolver.resolve("256.1.1.1", 5_000));
+        assertEquals(1, resolver.getLookupCount());
+    }
+}
@@ -11,6 +11,7 @@ import org.apereo.cas.util.RegexUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
  * @since 5.1.0
  */
 @Slf4j
-public class SurrogateLdapAuthenticationService extends BaseSurrogateAuthenticationService {
+public class SurrogateLdapAuthenticationService extends BaseSurrogateAuthenticationService implements DisposableBean {
 
     private final ConnectionFactory connectionFactory;
     private final SurrogateAuthenticationProperties.Ldap ldapProperties;
@@ -104,4 +105,9 @@ public class SurrogateLdapAuthenticationService extends BaseSurrogateAuthenticat
         LOGGER.debug("The following accounts may be eligible for surrogate authentication [{}]", eligible);
         return eligible;
     }
+
+    @Override
+    public void destroy() {
+        LdapUtils.closeConnectionFactory(this.connectionFactory);
+    }
 }
@@ -0,0 +1,216 @@
+package org.apereo.cas.services.web;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesRefreshEvent;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link RegisteredServiceThemeCache} that remembers how themes of registered services
+ * are resolved. Groovy scripts are compiled once and reloaded when changed. Themes fetched from
+ * remote endpoints for each service are refreshed in the background once expired; until a refresh succeeds,
+ * the previously fetched theme is served. Endpoints that fail to produce a theme are not contacted
+ * again for the given failure expiration period. Checks for theme bundles are remembered for
+ * the given expiration period. Entries for a registered service are discarded once the
+ * service is saved or deleted. Groovy scripts stop being watched once evicted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class RegisteredServiceThemeCache implements DisposableBean {
+    private final Cache<String, WatchableGroovyScriptResource> themeScripts;
+
+    private final LoadingCache<RemoteThemeKey, String> remoteThemes;
+
+    private final Cache<RemoteThemeKey, Boolean> failedRemoteThemes;
+
+    private final Cache<ThemeBundleKey, Boolean> themeBundles;
+
+    public RegisteredServiceThemeCache(final Duration expiration, final Duration failureExpiration, final long maximumSize) {
+        this.themeScripts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .executor(Runnable::run)
+            .<String, WatchableGroovyScriptResource>removalListener((key, script, cause) -> {
+                if (script != null) {
+                    LOGGER.trace("Closing theme script [{}] as it is [{}]", key, cause);
+                    script.close();
+                }
+            })
+            .build();
+        this.remoteThemes = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .refreshAfterWrite(expiration)
+            .build(RegisteredServiceThemeCache::fetchRemoteTheme);
+        this.failedRemoteThemes = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(failureExpiration)
+            .build();
+        this.themeBundles = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    /**
+     * Gets the compiled groovy script that determines the theme.
+     *
+     * @param resource the resource
+     * @return the theme script
+     */
+    public WatchableGroovyScriptResource getThemeScript(final Resource resource) {
+        return themeScripts.get(resource.getDescription(), key -> new WatchableGroovyScriptResource(resource));
+    }
+
+    /**
+     * Gets the theme fetched from the remote endpoint of the registered service for the given service.
+     *
+     * @param registeredService the registered service
+     * @param service           the service
+     * @param url               the url
+     * @return the remote theme, or null if the endpoint has recently failed to produce one
+     */
+    public String getRemoteTheme(final RegisteredService registeredService, final Service service, final String url) {
+        val key = new RemoteThemeKey(registeredService.getId(), url, service.getId());
+        if (failedRemoteThemes.getIfPresent(key) != null) {
+            LOGGER.trace("Skipping [{}] to determine theme for [{}], since it has recently failed", url, service.getId());
+            return null;
+        }
+        try {
+            return remoteThemes.get(key);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to determine theme from [{}] for [{}]: [{}]", url, service.getId(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            failedRemoteThemes.put(key, Boolean.TRUE);
+            return null;
+        }
+    }
+
+    /**
+     * Determine whether the theme bundle of the registered service can be located.
+     *
+     * @param registeredService the registered service
+     * @param locale            the locale
+     * @param locator           the locator
+     * @return true if the bundle is available
+     */
+    public boolean isThemeBundleAvailable(final RegisteredService registeredService, final Locale locale,
+                                          final Supplier<Boolean> locator) {
+        return themeBundles.get(new ThemeBundleKey(registeredService.getId(), registeredService.getTheme(), locale), key -> locator.get());
+    }
+
+    /**
+     * Discard cached themes of the registered service.
+     *
+     * @param registeredService the registered service
+     */
+    public void invalidate(final RegisteredService registeredService) {
+        LOGGER.trace("Invalidating cached themes for [{}]", registeredService.getName());
+        remoteThemes.asMap().keySet().removeIf(key -> key.getRegisteredServiceId() == registeredService.getId());
+        failedRemoteThemes.asMap().keySet().removeIf(key -> key.getRegisteredServiceId() == registeredService.getId());
+        themeBundles.asMap().keySet().removeIf(key -> key.getRegisteredServiceId() == registeredService.getId());
+    }
+
+    /**
+     * Discard all cached themes.
+     */
+    public void invalidateAll() {
+        remoteThemes.invalidateAll();
+        failedRemoteThemes.invalidateAll();
+        themeBundles.invalidateAll();
+    }
+
+    @Override
+    public void destroy() {
+        themeScripts.invalidateAll();
+        themeScripts.cleanUp();
+    }
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidate(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidate(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered services refresh event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasRegisteredServicesRefreshEvent(final CasRegisteredServicesRefreshEvent event) {
+        invalidateAll();
+    }
+
+    @SneakyThrows
+    private static String fetchRemoteTheme(final RemoteThemeKey key) {
+        HttpResponse response = null;
+        try {
+            LOGGER.debug("Executing URL [{}] to determine theme for [{}]", key.getUrl(), key.getServiceId());
+            response = HttpUtils.executeGet(key.getUrl(), CollectionUtils.wrap("service", key.getServiceId()));
+            if (response != null && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                return IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+            }
+            throw new IllegalArgumentException("Unable to determine theme from " + key.getUrl());
+        } finally {
+            HttpUtils.close(response);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class RemoteThemeKey {
+        private final long registeredServiceId;
+        private final String url;
+        private final String serviceId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class ThemeBundleKey {
+        private final long registeredServiceId;
+        private final String theme;
+        private final Locale locale;
+    }
+}
@@ -3,21 +3,16 @@ package org.apereo.cas.services.web;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
-import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpRequestUtils;
-import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.scripting.ScriptingUtils;
 import org.apereo.cas.web.support.WebUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpResponse;
-import org.apache.http.HttpStatus;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.ResourceLoader;
@@ -27,7 +22,6 @@ import org.springframework.webflow.execution.RequestContextHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -53,6 +47,9 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
     private final CasConfigurationProperties casProperties;
 
     private final ResourceLoader resourceLoader;
+
+    private final RegisteredServiceThemeCache themeCache;
+
     /**
      * This sets a flag on the request called "isMobile" and also
      * provides the custom flag called browserType which can be mapped into the theme.
@@ -66,6 +63,19 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
                                           final AuthenticationServiceSelectionPlan serviceSelectionStrategies,
                                           final ResourceLoader resourceLoader,
                                           final CasConfigurationProperties casProperties) {
+        this(servicesManager, mobileOverrides, serviceSelectionStrategies, resourceLoader, casProperties,
+            new RegisteredServiceThemeCache(Beans.newDuration(casProperties.getTheme().getCacheExpiration()),
+                Beans.newDuration(casProperties.getTheme().getCacheFailureExpiration()),
+                casProperties.getTheme().getCacheMaximumSize()));
+    }
+
+    public RegisteredServiceThemeResolver(final ServicesManager servicesManager,
+                                          final Map<String, String> mobileOverrides,
+                                          final AuthenticationServiceSelectionPlan serviceSelectionStrategies,
+                                          final ResourceLoader resourceLoader,
+                                          final CasConfigurationProperties casProperties,
+                                          final RegisteredServiceThemeCache themeCache) {
+        this.themeCache = themeCache;
         this.servicesManager = servicesManager;
         this.authenticationRequestServiceSelectionStrategies = serviceSelectionStrategies;
         this.resourceLoader = resourceLoader;
@@ -129,38 +139,34 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
     protected String determineThemeNameToChoose(final HttpServletRequest request,
                                                 final Service service,
                                                 final RegisteredService rService) {
-        HttpResponse response = null;
         try {
             LOGGER.debug("Service [{}] is configured to use a custom theme [{}]", rService, rService.getTheme());
 
             val resource = ResourceUtils.getRawResourceFrom(rService.getTheme());
             if (resource instanceof FileSystemResource && resource.exists()) {
                 LOGGER.debug("Executing groovy script to determine theme for [{}]", service.getId());
-                val result = ScriptingUtils.executeGroovyScript(resource, new Object[]{service, rService,
+                val result = themeCache.getThemeScript(resource).execute(new Object[]{service, rService,
                     request.getQueryString(), HttpRequestUtils.getRequestHeaders(request), LOGGER}, String.class, true);
                 return StringUtils.defaultIfBlank(result, getDefaultThemeName());
             }
             if (resource instanceof UrlResource) {
                 val url = resource.getURL().toExternalForm();
-                LOGGER.debug("Executing URL [{}] to determine theme for [{}]", url, service.getId());
-                response = HttpUtils.executeGet(url, CollectionUtils.wrap("service", service.getId()));
-                if (response != null && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-                    return StringUtils.defaultIfBlank(result, getDefaultThemeName());
-                }
+                val result = themeCache.getRemoteTheme(rService, service, url);
+                return StringUtils.defaultIfBlank(result, getDefaultThemeName());
             }
 
-            val messageSource = new CasThemeResourceBundleMessageSource();
-            messageSource.setBasename(rService.getTheme());
-            if (messageSource.doGetBundle(rService.getTheme(), request.getLocale()) != null) {
+            val bundleAvailable = themeCache.isThemeBundleAvailable(rService, request.getLocale(), () -> {
+                val messageSource = new CasThemeResourceBundleMessageSource();
+                messageSource.setBasename(rService.getTheme());
+                return messageSource.doGetBundle(rService.getTheme(), request.getLocale()) != null;
+            });
+            if (bundleAvailable) {
                 LOGGER.trace("Found custom theme [{}] for service [{}]", rService.getTheme(), rService);
                 return rService.getTheme();
             }
             LOGGER.warn("Custom theme [{}] for service [{}] cannot be located. Falling back to default theme...", rService.getTheme(), rService);
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
-        } finally {
-            HttpUtils.close(response);
         }
         return getDefaultThemeName();
     }
@@ -2,11 +2,13 @@ package org.apereo.cas.services.web.config;
 
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.web.CasPropertiesThymeleafViewResolverConfigurer;
 import org.apereo.cas.services.web.CasThymeleafOutputTemplateHandler;
 import org.apereo.cas.services.web.CasThymeleafViewResolverConfigurer;
 import org.apereo.cas.services.web.ChainingThemeResolver;
+import org.apereo.cas.services.web.RegisteredServiceThemeCache;
 import org.apereo.cas.services.web.RegisteredServiceThemeResolver;
 import org.apereo.cas.services.web.RequestHeaderThemeResolver;
 import org.apereo.cas.services.web.ThemeBasedViewResolver;
@@ -115,6 +117,14 @@ public class CasThemesConfiguration {
         return map;
     }
 
+    @ConditionalOnMissingBean(name = "registeredServiceThemeCache")
+    @Bean
+    public RegisteredServiceThemeCache registeredServiceThemeCache() {
+        val theme = casProperties.getTheme();
+        return new RegisteredServiceThemeCache(Beans.newDuration(theme.getCacheExpiration()),
+            Beans.newDuration(theme.getCacheFailureExpiration()), theme.getCacheMaximumSize());
+    }
+
     @ConditionalOnMissingBean(name = "themeResolver")
     @Bean
     public ThemeResolver themeResolver() {
@@ -139,7 +149,8 @@ public class CasThemesConfiguration {
             serviceThemeResolverSupportedBrowsers(),
             authenticationRequestServiceSelectionStrategies.getIfAvailable(),
             this.resourceLoader,
-            new CasConfigurationProperties());
+            new CasConfigurationProperties(),
+            registeredServiceThemeCache());
         serviceThemeResolver.setDefaultThemeName(defaultThemeName);
 
         val header = new RequestHeaderThemeResolver();
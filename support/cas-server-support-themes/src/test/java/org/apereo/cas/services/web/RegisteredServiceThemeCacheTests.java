@@ -0,0 +1,84 @@
+package org.apereo.cas.services.web;
+
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.util.MockWebServer;
+
+import lombok.val;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link RegisteredServiceThemeCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class RegisteredServiceThemeCacheTests {
+
+    @Test
+    public void verifyRemoteThemeIsServedWhenEndpointFails() throws Exception {
+        val cache = new RegisteredServiceThemeCache(Duration.ofMillis(100), Duration.ofSeconds(30), 100);
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://theme.example.org");
+        val service = RegisteredServiceTestUtils.getService("https://theme.example.org");
+
+        try (val webServer = new MockWebServer(9411, "remote-theme")) {
+            webServer.start();
+            assertEquals("remote-theme", cache.getRemoteTheme(registeredService, service, "http://localhost:9411"));
+        }
+        Thread.sleep(200);
+        assertEquals("remote-theme", cache.getRemoteTheme(registeredService, service, "http://localhost:9411"));
+        Thread.sleep(200);
+        assertEquals("remote-theme", cache.getRemoteTheme(registeredService, service, "http://localhost:9411"));
+    }
+
+    @Test
+    public void verifyRemoteThemeIsFetchedPerService() throws Exception {
+        val cache = new RegisteredServiceThemeCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://theme.example.org.*");
+
+        try (val webServer = new MockWebServer(9412, "remote-theme")) {
+            webServer.start();
+            assertEquals("remote-theme", cache.getRemoteTheme(registeredService,
+                RegisteredServiceTestUtils.getService("https://theme.example.org/app1"), "http://localhost:9412"));
+        }
+        assertNull(cache.getRemoteTheme(registeredService,
+            RegisteredServiceTestUtils.getService("https://theme.example.org/app2"), "http://localhost:9412"));
+    }
+
+    @Test
+    public void verifyFailedRemoteThemeIsNotFetchedAgain() throws Exception {
+        val cache = new RegisteredServiceThemeCache(Duration.ofMinutes(10), Duration.ofMillis(500), 100);
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://theme.example.org");
+        val service = RegisteredServiceTestUtils.getService("https://theme.example.org");
+
+        assertNull(cache.getRemoteTheme(registeredService, service, "http://localhost:9413"));
+        try (val webServer = new MockWebServer(9413, "remote-theme")) {
+            webServer.start();
+            assertNull(cache.getRemoteTheme(registeredService, service, "http://localhost:9413"));
+            Thread.sleep(1000);
+            assertEquals("remote-theme", cache.getRemoteTheme(registeredService, service, "http://localhost:9413"));
+        }
+    }
+
+    @Test
+    public void verifyThemeBundleCheckIsRemembered() {
+        val cache = new RegisteredServiceThemeCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://theme.example.org");
+        registeredService.setTheme("my-theme");
+        val lookups = new AtomicInteger();
+
+        for (var i = 0; i < 10; i++) {
+            assertTrue(cache.isThemeBundleAvailable(registeredService, Locale.ENGLISH, () -> lookups.incrementAndGet() > 0));
+        }
+        assertEquals(1, lookups.get());
+
+        cache.invalidate(registeredService);
+        assertTrue(cache.isThemeBundleAvailable(registeredService, Locale.ENGLISH, () -> lookups.incrementAndGet() > 0));
+        assertEquals(2, lookups.get());
+    }
+}
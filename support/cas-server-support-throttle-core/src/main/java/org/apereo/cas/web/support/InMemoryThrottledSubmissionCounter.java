@@ -0,0 +1,51 @@
+package org.apereo.cas.web.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+
+import java.time.Duration;
+
+/**
+ * This is {@link InMemoryThrottledSubmissionCounter} that keeps sliding windows
+ * in a bounded cache. Windows that are not touched for the duration of the window
+ * expire on their own, and the least recently used windows are evicted once
+ * the cache is full, so no periodic cleanup is required.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class InMemoryThrottledSubmissionCounter implements ThrottledSubmissionCounter {
+    private final Cache<String, SlidingWindowCounter> windows;
+
+    private final int buckets;
+
+    public InMemoryThrottledSubmissionCounter(final int buckets, final Duration window, final long maximumSize) {
+        this.buckets = buckets;
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(window)
+            .build();
+    }
+
+    @Override
+    public void increment(final String key, final long bucket) {
+        windows.get(key, k -> new SlidingWindowCounter(buckets)).increment(bucket);
+    }
+
+    @Override
+    public long count(final String key, final long bucket) {
+        val window = windows.getIfPresent(key);
+        return window == null ? 0 : window.count(bucket);
+    }
+
+    /**
+     * Gets the number of windows held in memory.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        windows.cleanUp();
+        return windows.estimatedSize();
+    }
+}
@@ -0,0 +1,57 @@
+package org.apereo.cas.web.support;
+
+import lombok.val;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SlidingWindowCounter} that counts events over a sliding window
+ * of fixed time buckets. Each bucket is addressed by its index, i.e. the current time
+ * divided by the bucket width. Only the most recent buckets that make up the
+ * window are kept; older buckets are reused in place as the window slides.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class SlidingWindowCounter implements Serializable {
+    private static final long serialVersionUID = 2850254186327341392L;
+
+    private final long[] buckets;
+
+    private final int[] counts;
+
+    public SlidingWindowCounter(final int size) {
+        this.buckets = new long[size];
+        this.counts = new int[size];
+    }
+
+    /**
+     * Count an event in the given bucket.
+     *
+     * @param bucket the bucket index
+     */
+    public synchronized void increment(final long bucket) {
+        val slot = (int) (bucket % buckets.length);
+        if (buckets[slot] != bucket) {
+            buckets[slot] = bucket;
+            counts[slot] = 0;
+        }
+        counts[slot]++;
+    }
+
+    /**
+     * Count events in the window that ends with the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return the count
+     */
+    public synchronized long count(final long bucket) {
+        var total = 0L;
+        for (var i = 0; i < buckets.length; i++) {
+            if (buckets[i] <= bucket && buckets[i] > bucket - buckets.length) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,87 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.throttle.ThrottledRequestExecutor;
+import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Throttles submissions once the number of failures within the failure range
+ * reaches the failure threshold. Failures are counted per IP address, or per IP address
+ * and username if a username parameter is defined, over a sliding window of fixed
+ * time buckets that spans the failure range.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter
+    implements InMemoryThrottledSubmissionHandlerInterceptor {
+
+    private final ThrottledSubmissionCounter counter;
+
+    private final long bucketWidthInMillis;
+
+    public SlidingWindowThrottledSubmissionHandlerInterceptorAdapter(final int failureThreshold,
+                                                                     final int failureRangeInSeconds,
+                                                                     final String usernameParameter,
+                                                                     final String authenticationFailureCode,
+                                                                     final AuditTrailExecutionPlan auditTrailExecutionPlan,
+                                                                     final String applicationCode,
+                                                                     final ThrottledRequestResponseHandler throttledRequestResponseHandler,
+                                                                     final ThrottledRequestExecutor throttledRequestExecutor,
+                                                                     final ThrottledSubmissionCounter counter,
+                                                                     final int buckets) {
+        super(failureThreshold, failureRangeInSeconds, usernameParameter,
+            authenticationFailureCode, auditTrailExecutionPlan, applicationCode,
+            throttledRequestResponseHandler, throttledRequestExecutor);
+        this.counter = counter;
+        this.bucketWidthInMillis = Math.max(1, failureRangeInSeconds * 1000L / buckets);
+    }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        return counter.count(constructKey(request), currentBucket()) >= getFailureThreshold();
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        val key = constructKey(request);
+        LOGGER.debug("Recording submission failure [{}]", key);
+        counter.increment(key, currentBucket());
+    }
+
+    @Override
+    public String constructKey(final HttpServletRequest request) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val address = clientInfo != null ? clientInfo.getClientIpAddress() : request.getRemoteAddr();
+        if (StringUtils.isBlank(getUsernameParameter())) {
+            return address;
+        }
+        val username = request.getParameter(getUsernameParameter());
+        if (StringUtils.isBlank(username)) {
+            return address;
+        }
+        return address + ';' + username.toLowerCase();
+    }
+
+    @Override
+    public void decrement() {
+        LOGGER.trace("Sliding windows expire on their own once idle; there is nothing to decrement");
+    }
+
+    @Override
+    public String getName() {
+        return "slidingWindowThrottle";
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketWidthInMillis;
+    }
+}
@@ -0,0 +1,28 @@
+package org.apereo.cas.web.support;
+
+/**
+ * This is {@link ThrottledSubmissionCounter} that keeps a sliding window
+ * of failed submissions per throttling key.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface ThrottledSubmissionCounter {
+
+    /**
+     * Record a failed submission in the given bucket.
+     *
+     * @param key    the key
+     * @param bucket the bucket index
+     */
+    void increment(String key, long bucket);
+
+    /**
+     * Count failed submissions in the window that ends with the given bucket.
+     *
+     * @param key    the key
+     * @param bucket the bucket index
+     * @return the count
+     */
+    long count(String key, long bucket);
+}
@@ -0,0 +1,59 @@
+package org.apereo.cas.web.support;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.AbstractEntryProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Map;
+
+/**
+ * This is {@link HazelcastThrottledSubmissionCounter} that keeps sliding windows
+ * in a distributed Hazelcast map. Failures are recorded with an entry processor that
+ * runs on the member owning the key, so windows are updated in place without
+ * being read, modified and written back by the caller. Windows expire based on
+ * the time-to-live configured for the map.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class HazelcastThrottledSubmissionCounter implements ThrottledSubmissionCounter {
+    private final IMap<String, SlidingWindowCounter> windows;
+
+    private final int buckets;
+
+    @Override
+    public void increment(final String key, final long bucket) {
+        windows.executeOnKey(key, new IncrementWindowEntryProcessor(bucket, buckets));
+    }
+
+    @Override
+    public long count(final String key, final long bucket) {
+        val window = windows.get(key);
+        return window == null ? 0 : window.count(bucket);
+    }
+
+    /**
+     * Records a failure in the window of the entry, creating the window if needed.
+     */
+    @RequiredArgsConstructor
+    public static class IncrementWindowEntryProcessor extends AbstractEntryProcessor<String, SlidingWindowCounter> {
+        private static final long serialVersionUID = -6127795328310472016L;
+
+        private final long bucket;
+
+        private final int buckets;
+
+        @Override
+        public Object process(final Map.Entry<String, SlidingWindowCounter> entry) {
+            var window = entry.getValue();
+            if (window == null) {
+                window = new SlidingWindowCounter(buckets);
+            }
+            window.increment(bucket);
+            entry.setValue(window);
+            return null;
+        }
+    }
+}
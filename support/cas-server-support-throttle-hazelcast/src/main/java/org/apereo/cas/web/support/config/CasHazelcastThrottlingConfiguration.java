@@ -3,6 +3,8 @@ package org.apereo.cas.web.support.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.web.support.HazelcastThrottledSubmissionCounter;
+import org.apereo.cas.web.support.ThrottledSubmissionCounter;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
@@ -29,6 +31,8 @@ public class CasHazelcastThrottlingConfiguration {
 
     private static final String MAP_KEY = "ipMap";
 
+    private static final String WINDOWS_MAP_KEY = "throttleWindowsMap";
+
     @Autowired
     private CasConfigurationProperties casProperties;
 
@@ -47,4 +51,16 @@ public class CasHazelcastThrottlingConfiguration {
         hazelcastInstance.getConfig().addMapConfig(ipMapConfig);
         return hazelcastInstance.getMap(MAP_KEY);
     }
+
+    @Bean
+    public ThrottledSubmissionCounter throttleSubmissionCounter() {
+        val throttle = casProperties.getAuthn().getThrottle();
+        val timeout = Math.max(1, throttle.getFailure().getRangeSeconds());
+        val factory = new HazelcastConfigurationFactory();
+        LOGGER.debug("Creating [{}] to count failed logins over sliding windows with timeout set to [{}]", WINDOWS_MAP_KEY, timeout);
+        val windowsMapConfig = factory.buildMapConfig(throttle.getHazelcast(), WINDOWS_MAP_KEY, timeout);
+        val hazelcastInstance = this.casHazelcastInstance.getObject();
+        hazelcastInstance.getConfig().addMapConfig(windowsMapConfig);
+        return new HazelcastThrottledSubmissionCounter(hazelcastInstance.getMap(WINDOWS_MAP_KEY), throttle.getSlidingWindow().getBuckets());
+    }
 }
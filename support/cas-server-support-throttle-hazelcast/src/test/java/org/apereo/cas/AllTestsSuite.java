@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.web.support.HazelcastThrottledSubmissionCounterTests;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests;
 
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +15,8 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class,
-    InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class
+    InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class,
+    HazelcastThrottledSubmissionCounterTests.class
 })
 @Slf4j
 public class AllTestsSuite {
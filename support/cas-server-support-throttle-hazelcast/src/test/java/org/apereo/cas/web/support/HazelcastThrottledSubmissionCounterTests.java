@@ -0,0 +1,83 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
+import org.apereo.cas.hz.HazelcastConfigurationFactory;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link HazelcastThrottledSubmissionCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class HazelcastThrottledSubmissionCounterTests {
+    private static final String MAP_NAME = "throttleWindows";
+
+    private static final int BUCKETS = 10;
+
+    private HazelcastInstance hz;
+
+    private IMap<String, SlidingWindowCounter> windows;
+
+    private HazelcastThrottledSubmissionCounter counter;
+
+    @Before
+    public void initialize() {
+        val factory = new HazelcastConfigurationFactory();
+        val properties = new BaseHazelcastProperties();
+        properties.getCluster().setInstanceName(getClass().getSimpleName());
+        val config = HazelcastConfigurationFactory.build(properties, factory.buildMapConfig(properties, MAP_NAME, 60));
+        this.hz = Hazelcast.newHazelcastInstance(config);
+        this.windows = hz.getMap(MAP_NAME);
+        this.counter = new HazelcastThrottledSubmissionCounter(windows, BUCKETS);
+    }
+
+    @After
+    public void shutdown() {
+        this.hz.shutdown();
+    }
+
+    @Test
+    public void verifyWindowIsCreatedAndSlides() {
+        assertEquals(0, counter.count("casuser", 100));
+        counter.increment("casuser", 100);
+        counter.increment("casuser", 100);
+        counter.increment("casuser", 105);
+        assertEquals(3, counter.count("casuser", 105));
+        assertEquals(1, counter.count("casuser", 110));
+        assertEquals(0, counter.count("casuser", 115));
+        assertEquals(0, counter.count("someuser", 105));
+        assertEquals(1, windows.size());
+    }
+
+    @Test
+    public void verifyEntryProcessorUpdatesWindowInPlace() {
+        windows.executeOnKey("casuser", new HazelcastThrottledSubmissionCounter.IncrementWindowEntryProcessor(100, BUCKETS));
+        assertEquals(1, windows.get("casuser").count(100));
+
+        windows.executeOnKey("casuser", new HazelcastThrottledSubmissionCounter.IncrementWindowEntryProcessor(101, BUCKETS));
+        assertEquals(2, windows.get("casuser").count(101));
+    }
+
+    @Test
+    public void verifyConcurrentIncrementsAreNotLost() throws Exception {
+        val executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 800).forEach(i -> executor.execute(() -> counter.increment("casuser", 100)));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(800, counter.count("casuser", 100));
+    }
+}
@@ -11,6 +11,9 @@ import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionCleaner;
+import org.apereo.cas.web.support.InMemoryThrottledSubmissionCounter;
+import org.apereo.cas.web.support.SlidingWindowThrottledSubmissionHandlerInterceptorAdapter;
+import org.apereo.cas.web.support.ThrottledSubmissionCounter;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
 
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -73,6 +77,17 @@ public class CasThrottlingConfiguration {
         return new ConcurrentHashMap<String, ZonedDateTime>();
     }
 
+    @RefreshScope
+    @ConditionalOnMissingBean(name = "throttleSubmissionCounter")
+    @Bean
+    public ThrottledSubmissionCounter throttleSubmissionCounter() {
+        val throttle = casProperties.getAuthn().getThrottle();
+        val window = throttle.getSlidingWindow();
+        return new InMemoryThrottledSubmissionCounter(window.getBuckets(),
+            Duration.ofSeconds(Math.max(1, throttle.getFailure().getRangeSeconds())),
+            window.getMaximumSize());
+    }
+
     @RefreshScope
     @ConditionalOnMissingBean(name = "authenticationThrottle")
     @Bean
@@ -84,6 +99,21 @@ public class CasThrottlingConfiguration {
             return ThrottledSubmissionHandlerInterceptor.noOp();
         }
 
+        if (throttle.getSlidingWindow().isEnabled()) {
+            LOGGER.trace("Activating authentication throttling based on sliding windows of failures...");
+            return new SlidingWindowThrottledSubmissionHandlerInterceptorAdapter(
+                throttle.getFailure().getThreshold(),
+                throttle.getFailure().getRangeSeconds(),
+                throttle.getUsernameParameter(),
+                throttle.getFailure().getCode(),
+                auditTrailExecutionPlan.getIfAvailable(),
+                throttle.getAppCode(),
+                throttledRequestResponseHandler(),
+                throttledRequestExecutor(),
+                throttleSubmissionCounter(),
+                throttle.getSlidingWindow().getBuckets());
+        }
+
         if (StringUtils.isNotBlank(throttle.getUsernameParameter())) {
             LOGGER.trace("Activating authentication throttling based on IP address and username...");
             return new InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapter(
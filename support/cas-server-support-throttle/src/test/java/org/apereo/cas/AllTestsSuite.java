@@ -2,6 +2,8 @@ package org.apereo.cas;
 
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests;
+import org.apereo.cas.web.support.SlidingWindowThrottledSubmissionCounterTests;
+import org.apereo.cas.web.support.SlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -15,7 +17,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class,
-    InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests.class
+    InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests.class,
+    SlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests.class,
+    SlidingWindowThrottledSubmissionCounterTests.class
 })
 public class AllTestsSuite {
 }
@@ -0,0 +1,109 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.throttle.DefaultThrottledRequestResponseHandler;
+import org.apereo.cas.throttle.ThrottledRequestExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionCounterTests {
+    private static final int BUCKETS = 10;
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private static final int USERNAMES = 1_000_000;
+
+    private static final int CHECKPOINT = 100_000;
+
+    @After
+    public void afterEachTest() {
+        ClientInfoHolder.setClientInfo(null);
+    }
+
+    @Test
+    public void verifyWindowSlides() {
+        val window = new SlidingWindowCounter(BUCKETS);
+        window.increment(100);
+        window.increment(100);
+        window.increment(105);
+        assertEquals(3, window.count(105));
+        assertEquals(3, window.count(109));
+        assertEquals(1, window.count(110));
+        assertEquals(0, window.count(115));
+
+        window.increment(120);
+        assertEquals(1, window.count(120));
+    }
+
+    @Test
+    public void verifyThrottleAtThreshold() {
+        val counter = new InMemoryThrottledSubmissionCounter(BUCKETS, Duration.ofSeconds(60), MAXIMUM_SIZE);
+        val throttle = getThrottle(counter);
+        val request = getRequest("casuser");
+        assertFalse(throttle.exceedsThreshold(request));
+        throttle.recordSubmissionFailure(request);
+        assertFalse(throttle.exceedsThreshold(request));
+        throttle.recordSubmissionFailure(request);
+        assertTrue(throttle.exceedsThreshold(request));
+        assertFalse(throttle.exceedsThreshold(getRequest("someuser")));
+    }
+
+    @Test
+    public void verifyMemoryAndOverheadUnderDistinctUsernames() {
+        val counter = new InMemoryThrottledSubmissionCounter(BUCKETS, Duration.ofSeconds(60), MAXIMUM_SIZE);
+        val throttle = getThrottle(counter);
+        val latencies = new long[USERNAMES];
+        for (var i = 0; i < USERNAMES; i++) {
+            val request = getRequest("user-" + i);
+            val startTime = System.nanoTime();
+            if (!throttle.exceedsThreshold(request)) {
+                throttle.recordSubmissionFailure(request);
+            }
+            latencies[i] = System.nanoTime() - startTime;
+            if (i % CHECKPOINT == 0) {
+                assertTrue(counter.getSize() <= MAXIMUM_SIZE);
+            }
+        }
+        assertTrue(counter.getSize() <= MAXIMUM_SIZE);
+        assertTrue(counter.getSize() > 0);
+
+        Arrays.sort(latencies);
+        val p99 = latencies[(int) (USERNAMES * 0.99)];
+        LOGGER.info("Recorded failures for [{}] distinct usernames with [{}] window(s) of [{}] bucket(s) in memory and a p99 overhead of [{}] µs",
+            USERNAMES, counter.getSize(), BUCKETS, TimeUnit.NANOSECONDS.toMicros(p99));
+    }
+
+    private static SlidingWindowThrottledSubmissionHandlerInterceptorAdapter getThrottle(final ThrottledSubmissionCounter counter) {
+        return new SlidingWindowThrottledSubmissionHandlerInterceptorAdapter(2, 60, "username",
+            "AUTHENTICATION_FAILED", null, "CAS",
+            new DefaultThrottledRequestResponseHandler("username"),
+            ThrottledRequestExecutor.noOp(), counter, BUCKETS);
+    }
+
+    private static MockHttpServletRequest getRequest(final String username) {
+        val request = new MockHttpServletRequest();
+        request.setParameter("username", username);
+        request.setRemoteAddr("1.2.3.4");
+        request.setLocalAddr("1.2.3.4");
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+        return request;
+    }
+}
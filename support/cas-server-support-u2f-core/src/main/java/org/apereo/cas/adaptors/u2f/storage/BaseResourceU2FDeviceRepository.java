@@ -12,14 +12,18 @@ import lombok.val;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link BaseResourceU2FDeviceRepository}.
+ * Devices may be kept in memory and indexed by username, so that
+ * looking up the devices of a user does not need to read the resource again.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -35,6 +39,10 @@ public abstract class BaseResourceU2FDeviceRepository extends BaseU2FDeviceRepos
     private final long expirationTime;
     private final TimeUnit expirationTimeUnit;
 
+    private final Object lock = new Object();
+
+    private volatile Map<String, List<U2FDeviceRegistration>> devicesByUsername;
+
     public BaseResourceU2FDeviceRepository(final LoadingCache<String, String> requestStorage,
                                            final long expirationTime, final TimeUnit expirationTimeUnit) {
         super(requestStorage);
@@ -45,30 +53,26 @@ public abstract class BaseResourceU2FDeviceRepository extends BaseU2FDeviceRepos
     @Override
     public Collection<? extends DeviceRegistration> getRegisteredDevices(final String username) {
         try {
-            val devices = readDevicesFromResource();
-
-            if (!devices.isEmpty()) {
-                val devs = devices.get(MAP_KEY_DEVICES);
-                val expirationDate = LocalDate.now().minus(this.expirationTime, DateTimeUtils.toChronoUnit(this.expirationTimeUnit));
-                LOGGER.debug("Filtering devices for [{}] based on device expiration date [{}]", username, expirationDate);
-                val list = devs
-                    .stream()
-                    .filter(d -> d.getUsername().equals(username) && d.getCreatedDate().isAfter(expirationDate))
-                    .collect(Collectors.toList());
-
-                LOGGER.debug("There are [{}] device(s) remaining in repository for [{}]", list.size(), username);
-                return list.stream()
-                    .map(r -> {
-                        try {
-                            return DeviceRegistration.fromJson(r.getRecord());
-                        } catch (final Exception e) {
-                            LOGGER.error(e.getMessage(), e);
-                        }
-                        return null;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            }
+            val devs = getDevicesByUsername().getOrDefault(username, new ArrayList<>(0));
+            val expirationDate = getExpirationDate();
+            LOGGER.debug("Filtering devices for [{}] based on device expiration date [{}]", username, expirationDate);
+            val list = devs
+                .stream()
+                .filter(d -> d.getCreatedDate().isAfter(expirationDate))
+                .collect(Collectors.toList());
+
+            LOGGER.debug("There are [{}] device(s) remaining in repository for [{}]", list.size(), username);
+            return list.stream()
+                .map(r -> {
+                    try {
+                        return DeviceRegistration.fromJson(r.getRecord());
+                    } catch (final Exception e) {
+                        LOGGER.error(e.getMessage(), e);
+                    }
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -94,18 +98,17 @@ public abstract class BaseResourceU2FDeviceRepository extends BaseU2FDeviceRepos
             device.setRecord(registration.toJson());
             device.setCreatedDate(LocalDate.now());
 
-            val devices = readDevicesFromResource();
-            val list = new ArrayList<U2FDeviceRegistration>(0);
-
-            if (!devices.isEmpty()) {
-                val devs = devices.get(MAP_KEY_DEVICES);
-                LOGGER.debug("Located [{}] devices in repository", devs.size());
-                list.addAll(new ArrayList<>(devs));
+            synchronized (this.lock) {
+                val devices = getDevicesByUsername();
+                devices.merge(username, Collections.singletonList(device), (current, added) -> {
+                    val list = new ArrayList<U2FDeviceRegistration>(current.size() + added.size());
+                    list.addAll(current);
+                    list.addAll(added);
+                    return Collections.unmodifiableList(list);
+                });
+                LOGGER.debug("There are [{}] device(s) registered for [{}]. Storing...", devices.get(username).size(), username);
+                storeDevices(devices);
             }
-            list.add(device);
-            LOGGER.debug("There are [{}] device(s) remaining in repository. Storing...", list.size());
-            writeDevicesBackToResource(list);
-
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -119,25 +122,124 @@ public abstract class BaseResourceU2FDeviceRepository extends BaseU2FDeviceRepos
     @Override
     public void clean() {
         try {
-            val devices = readDevicesFromResource();
-            if (!devices.isEmpty()) {
-                val devs = devices.get(MAP_KEY_DEVICES);
-                LOGGER.debug("Located [{}] devices in repository", devs.size());
-
-                val expirationDate = LocalDate.now().minus(this.expirationTime, DateTimeUtils.toChronoUnit(this.expirationTimeUnit));
+            synchronized (this.lock) {
+                val devices = getDevicesByUsername();
+                val expirationDate = getExpirationDate();
                 LOGGER.debug("Filtering devices based on device expiration date [{}]", expirationDate);
-                val list = devs.stream()
+                devices.replaceAll((username, devs) -> devs.stream()
                     .filter(d -> d.getCreatedDate().isAfter(expirationDate))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+                devices.values().removeIf(List::isEmpty);
+                LOGGER.debug("There are [{}] user(s) with devices remaining in repository. Storing...", devices.size());
+                storeDevices(devices);
+            }
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
 
-                LOGGER.debug("There are [{}] device(s) remaining in repository. Storing...", list.size());
-                writeDevicesBackToResource(list);
+    /**
+     * Reload the devices kept in memory from the resource.
+     * Has no effect unless {@link #isKeepingDevicesInMemory()}, or while
+     * changes are waiting to be stored since those would be lost otherwise.
+     */
+    public void reload() {
+        if (!isKeepingDevicesInMemory()) {
+            return;
+        }
+        try {
+            synchronized (this.lock) {
+                if (hasPendingChanges()) {
+                    LOGGER.debug("Skipping reload since changes are waiting to be stored");
+                    return;
+                }
+                this.devicesByUsername = indexDevices(readDevicesFromResource());
+                LOGGER.debug("Reloaded devices for [{}] user(s) from the repository", this.devicesByUsername.size());
             }
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
     }
 
+    /**
+     * Whether devices are read from the resource once and then kept in memory, indexed by username.
+     * Repositories whose resource may be changed by others without notice, such as remote
+     * endpoints or scripts, read the resource again on every lookup.
+     *
+     * @return true/false
+     */
+    protected boolean isKeepingDevicesInMemory() {
+        return false;
+    }
+
+    /**
+     * Whether changes kept in memory are not stored yet.
+     *
+     * @return true/false
+     */
+    protected boolean hasPendingChanges() {
+        return false;
+    }
+
+    /**
+     * Store devices once they have changed. By default, they are written back to the resource right away.
+     *
+     * @param devices the devices, by username
+     * @throws Exception the exception
+     */
+    protected void storeDevices(final Map<String, List<U2FDeviceRegistration>> devices) throws Exception {
+        writeDevicesBackToResource(toDeviceList(devices));
+    }
+
+    /**
+     * Gets all devices that are kept in memory.
+     *
+     * @return the devices
+     */
+    protected List<U2FDeviceRegistration> getDevicesInMemory() {
+        val devices = this.devicesByUsername;
+        return devices != null ? toDeviceList(devices) : new ArrayList<>(0);
+    }
+
+    private Map<String, List<U2FDeviceRegistration>> getDevicesByUsername() throws Exception {
+        if (!isKeepingDevicesInMemory()) {
+            return indexDevices(readDevicesFromResource());
+        }
+        var devices = this.devicesByUsername;
+        if (devices == null) {
+            synchronized (this.lock) {
+                if (this.devicesByUsername == null) {
+                    this.devicesByUsername = indexDevices(readDevicesFromResource());
+                }
+                devices = this.devicesByUsername;
+            }
+        }
+        return devices;
+    }
+
+    private LocalDate getExpirationDate() {
+        return LocalDate.now().minus(this.expirationTime, DateTimeUtils.toChronoUnit(this.expirationTimeUnit));
+    }
+
+    private static Map<String, List<U2FDeviceRegistration>> indexDevices(final Map<String, List<U2FDeviceRegistration>> devices) {
+        val index = new ConcurrentHashMap<String, List<U2FDeviceRegistration>>();
+        if (devices != null && devices.containsKey(MAP_KEY_DEVICES)) {
+            val devs = devices.get(MAP_KEY_DEVICES);
+            LOGGER.debug("Located [{}] devices in repository", devs.size());
+            devs.stream()
+                .collect(Collectors.groupingBy(U2FDeviceRegistration::getUsername))
+                .forEach((username, list) -> index.put(username, Collections.unmodifiableList(list)));
+        }
+        return index;
+    }
+
+    private static List<U2FDeviceRegistration> toDeviceList(final Map<String, List<U2FDeviceRegistration>> devices) {
+        return devices.values()
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * Read devices from resource map.
      *
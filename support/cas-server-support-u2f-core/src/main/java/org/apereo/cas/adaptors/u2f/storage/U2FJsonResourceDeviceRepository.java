@@ -1,6 +1,7 @@
 package org.apereo.cas.adaptors.u2f.storage;
 
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.io.DebouncedFileWriter;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -9,8 +10,10 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,18 +21,22 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link U2FJsonResourceDeviceRepository}.
+ * Devices are read once and kept in memory, and read again when the file is changed.
+ * Changes are written back to the file shortly after they are made.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-public class U2FJsonResourceDeviceRepository extends BaseResourceU2FDeviceRepository {
+public class U2FJsonResourceDeviceRepository extends BaseResourceU2FDeviceRepository implements DisposableBean {
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules()
         .enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
 
     private final Resource jsonResource;
 
+    private final DebouncedFileWriter writer;
+
     @SneakyThrows
     public U2FJsonResourceDeviceRepository(final LoadingCache<String, String> requestStorage,
                                            final Resource jsonResource,
@@ -41,6 +48,8 @@ public class U2FJsonResourceDeviceRepository extends BaseResourceU2FDeviceReposi
                 LOGGER.debug("Created JSON resource [{}] for U2F device registrations", jsonResource);
             }
         }
+        this.writer = new DebouncedFileWriter(jsonResource.getFile(), out -> writeDevices(out, getDevicesInMemory()));
+        this.writer.watch(file -> reload());
     }
 
     @Override
@@ -56,9 +65,33 @@ public class U2FJsonResourceDeviceRepository extends BaseResourceU2FDeviceReposi
 
     @Override
     public void writeDevicesBackToResource(final List<U2FDeviceRegistration> list) throws Exception {
+        DebouncedFileWriter.writeAtomically(jsonResource.getFile(), out -> writeDevices(out, list));
+    }
+
+    @Override
+    protected boolean isKeepingDevicesInMemory() {
+        return true;
+    }
+
+    @Override
+    protected boolean hasPendingChanges() {
+        return this.writer.isPending();
+    }
+
+    @Override
+    protected void storeDevices(final Map<String, List<U2FDeviceRegistration>> devices) {
+        this.writer.schedule();
+    }
+
+    @Override
+    public void destroy() {
+        this.writer.close();
+    }
+
+    private void writeDevices(final OutputStream out, final List<U2FDeviceRegistration> list) throws Exception {
         val newDevices = new HashMap<String, List<U2FDeviceRegistration>>();
         newDevices.put(MAP_KEY_DEVICES, list);
-        MAPPER.writerWithDefaultPrettyPrinter().writeValue(jsonResource.getFile(), newDevices);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(out, newDevices);
         LOGGER.debug("Saved [{}] device(s) into repository [{}]", list.size(), jsonResource);
     }
 }
@@ -4,6 +4,7 @@ package org.apereo.cas;
 import org.apereo.cas.adaptors.u2f.U2FAuthenticationHandlerTests;
 import org.apereo.cas.adaptors.u2f.storage.U2FGroovyResourceDeviceRepositoryTests;
 import org.apereo.cas.adaptors.u2f.storage.U2FInMemoryDeviceRepositoryTests;
+import org.apereo.cas.adaptors.u2f.storage.U2FJsonResourceDeviceRepositoryLookupTests;
 import org.apereo.cas.adaptors.u2f.storage.U2FJsonResourceDeviceRepositoryTests;
 import org.apereo.cas.adaptors.u2f.storage.U2FRestResourceDeviceRepositoryTests;
 
@@ -21,6 +22,7 @@ import org.junit.runners.Suite;
     U2FRestResourceDeviceRepositoryTests.class,
     U2FGroovyResourceDeviceRepositoryTests.class,
     U2FJsonResourceDeviceRepositoryTests.class,
+    U2FJsonResourceDeviceRepositoryLookupTests.class,
     U2FInMemoryDeviceRepositoryTests.class,
     U2FAuthenticationHandlerTests.class
 })
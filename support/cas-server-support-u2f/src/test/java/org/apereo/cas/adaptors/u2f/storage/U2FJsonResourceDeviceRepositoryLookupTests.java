@@ -0,0 +1,117 @@
+package org.apereo.cas.adaptors.u2f.storage;
+
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yubico.u2f.data.DeviceRegistration;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link U2FJsonResourceDeviceRepositoryLookupTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class U2FJsonResourceDeviceRepositoryLookupTests {
+    private static final int SMALL_REPOSITORY_SIZE = 100;
+
+    private static final int LARGE_REPOSITORY_SIZE = 50_000;
+
+    private static final int LOOKUPS = 2_000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verifyLookupTimeDoesNotGrowWithRepository() throws Exception {
+        val small = newRepository(folder.newFile("u2f-small.json"), SMALL_REPOSITORY_SIZE);
+        val large = newRepository(folder.newFile("u2f-large.json"), LARGE_REPOSITORY_SIZE);
+        try {
+            measureLookups(small);
+            measureLookups(large);
+
+            val smallTime = measureLookups(small);
+            val largeTime = measureLookups(large);
+            LOGGER.info("Average lookup took [{}] ns with [{}] devices and [{}] ns with [{}] devices",
+                smallTime, SMALL_REPOSITORY_SIZE, largeTime, LARGE_REPOSITORY_SIZE);
+            assertTrue(largeTime < Math.max(smallTime * 10, TimeUnit.MILLISECONDS.toNanos(1)));
+        } finally {
+            small.destroy();
+            large.destroy();
+        }
+    }
+
+    @Test
+    public void verifyLookupsDoNotReadFile() throws Exception {
+        val file = folder.newFile("u2f.json");
+        val repository = newRepository(file, SMALL_REPOSITORY_SIZE);
+        try {
+            assertEquals(2, repository.getRegisteredDevices("casuser").size());
+            assertTrue(file.delete());
+            assertEquals(2, repository.getRegisteredDevices("casuser").size());
+            assertTrue(repository.isDeviceRegisteredFor("casuser"));
+        } finally {
+            repository.destroy();
+        }
+    }
+
+    @Test
+    public void verifyRegisteredDevicesAreWritten() throws Exception {
+        val file = folder.newFile("u2f.json");
+        val repository = newRepository(file, SMALL_REPOSITORY_SIZE);
+        val cert = CertUtils.readCertificate(new ClassPathResource("cert.crt"));
+        repository.registerDevice("newuser", new DeviceRegistration("keyhandle33", "publickey1", cert, 3));
+        assertEquals(1, repository.getRegisteredDevices("newuser").size());
+        repository.destroy();
+
+        val reloaded = newRepository(file);
+        try {
+            assertEquals(1, reloaded.getRegisteredDevices("newuser").size());
+            assertEquals(2, reloaded.getRegisteredDevices("casuser").size());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    private static U2FJsonResourceDeviceRepository newRepository(final File file) {
+        return new U2FJsonResourceDeviceRepository(Caffeine.newBuilder().build(key -> StringUtils.EMPTY),
+            new FileSystemResource(file), 30, TimeUnit.DAYS);
+    }
+
+    private static U2FJsonResourceDeviceRepository newRepository(final File file, final int size) throws Exception {
+        val cert = CertUtils.readCertificate(new ClassPathResource("cert.crt"));
+        val record = new DeviceRegistration("keyhandle11", "publickey1", cert, 1).toJson();
+        val devices = new ArrayList<U2FDeviceRegistration>(size);
+        for (var i = 0; i < size; i++) {
+            val username = i < 2 ? "casuser" : "user" + i;
+            devices.add(new U2FDeviceRegistration(i, username, i < 2 ? record : "{}", LocalDate.now()));
+        }
+        val repository = newRepository(file);
+        repository.writeDevicesBackToResource(devices);
+        repository.reload();
+        return repository;
+    }
+
+    private static long measureLookups(final U2FDeviceRepository repository) {
+        val startTime = System.nanoTime();
+        for (var i = 0; i < LOOKUPS; i++) {
+            assertEquals(2, repository.getRegisteredDevices("casuser").size());
+        }
+        return (System.nanoTime() - startTime) / LOOKUPS;
+    }
+}
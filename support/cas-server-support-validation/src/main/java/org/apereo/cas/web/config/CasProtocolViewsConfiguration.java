@@ -2,6 +2,8 @@ package org.apereo.cas.web.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.web.view.CasProtocolView;
+import org.apereo.cas.web.view.DirectCasServiceValidationFailureView;
+import org.apereo.cas.web.view.DirectCasServiceValidationSuccessView;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -13,6 +15,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
 /**
@@ -38,6 +41,10 @@ public class CasProtocolViewsConfiguration {
     @Autowired
     private ThymeleafProperties thymeleafProperties;
 
+    private String getCharacterEncoding() {
+        return thymeleafProperties.getEncoding().displayName();
+    }
+
     /**
      * The Cas protocol views.
      */
@@ -45,7 +52,10 @@ public class CasProtocolViewsConfiguration {
     public class CasProtocolViews {
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2SuccessView() {
+        public View cas2SuccessView() {
+            if (casProperties.getView().getCas2().isDirectRendering()) {
+                return new DirectCasServiceValidationSuccessView(false, getCharacterEncoding(), MediaType.APPLICATION_XML_VALUE);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getSuccess(),
                 applicationContext,
                 springTemplateEngine, thymeleafProperties,
@@ -54,7 +64,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2ServiceFailureView() {
+        public View cas2ServiceFailureView() {
+            if (casProperties.getView().getCas2().isDirectRendering()) {
+                return new DirectCasServiceValidationFailureView(getCharacterEncoding(), null);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getFailure(), applicationContext,
                 springTemplateEngine, thymeleafProperties);
         }
@@ -79,7 +92,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas3SuccessView() {
+        public View cas3SuccessView() {
+            if (casProperties.getView().getCas3().isDirectRendering()) {
+                return new DirectCasServiceValidationSuccessView(true, getCharacterEncoding(), null);
+            }
             return new CasProtocolView(casProperties.getView().getCas3().getSuccess(),
                 applicationContext, springTemplateEngine, thymeleafProperties);
         }
@@ -87,7 +103,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas3ServiceFailureView() {
+        public View cas3ServiceFailureView() {
+            if (casProperties.getView().getCas3().isDirectRendering()) {
+                return new DirectCasServiceValidationFailureView(getCharacterEncoding(), MediaType.APPLICATION_XML_VALUE);
+            }
             return new CasProtocolView(casProperties.getView().getCas3().getFailure(),
                 applicationContext, springTemplateEngine, thymeleafProperties,
                 MediaType.APPLICATION_XML_VALUE);
@@ -0,0 +1,91 @@
+package org.apereo.cas.web.view;
+
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.servlet.view.AbstractView;
+import org.thymeleaf.spring5.util.SpringContentTypeUtils;
+import org.thymeleaf.spring5.view.ThymeleafView;
+import org.unbescape.html.HtmlEscape;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * This is {@link AbstractDirectCasProtocolView} that writes CAS protocol responses
+ * straight to the response stream, without going through a template.
+ * Output is expected to match the default protocol templates byte for byte;
+ * content type and character encoding of the response are determined
+ * the same way as they are for {@link CasProtocolView}, and values are escaped
+ * just as the template engine would escape them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+public abstract class AbstractDirectCasProtocolView extends AbstractView {
+    /**
+     * Opening tag of the service response.
+     */
+    protected static final String SERVICE_RESPONSE_START = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n";
+
+    /**
+     * Closing tag of the service response.
+     */
+    protected static final String SERVICE_RESPONSE_END = "</cas:serviceResponse>\n";
+
+    private final String characterEncoding;
+
+    protected AbstractDirectCasProtocolView(final String characterEncoding, final String contentType) {
+        this.characterEncoding = characterEncoding;
+        setContentType(StringUtils.defaultIfBlank(contentType, ThymeleafView.DEFAULT_CONTENT_TYPE));
+    }
+
+    /**
+     * Write the escaped text. Nulls produce no output.
+     *
+     * @param writer the writer
+     * @param value  the value
+     * @throws Exception the exception
+     */
+    protected static void writeEscaped(final Writer writer, final Object value) throws Exception {
+        if (value != null) {
+            HtmlEscape.escapeHtml4Xml(value.toString(), writer);
+        }
+    }
+
+    /**
+     * Determine whether the value would be considered true by a template condition.
+     *
+     * @param value the value
+     * @return true if the value is present
+     */
+    protected static boolean isTrue(final String value) {
+        return value != null
+            && !"false".equalsIgnoreCase(value)
+            && !"off".equalsIgnoreCase(value)
+            && !"no".equalsIgnoreCase(value);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                           final HttpServletResponse response) throws Exception {
+        val charset = this.characterEncoding != null ? Charset.forName(this.characterEncoding) : null;
+        response.setContentType(SpringContentTypeUtils.computeViewContentType(request, getContentType(), charset));
+        val writer = response.getWriter();
+        writeResponse(model, writer);
+        writer.flush();
+    }
+
+    /**
+     * Write the response document.
+     *
+     * @param model  the model
+     * @param writer the writer
+     * @throws Exception the exception
+     */
+    protected abstract void writeResponse(Map<String, Object> model, Writer writer) throws Exception;
+}
@@ -0,0 +1,39 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasViewConstants;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * This is {@link DirectCasServiceValidationFailureView} that writes the CAS2/CAS3
+ * service validation failure response.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DirectCasServiceValidationFailureView extends AbstractDirectCasProtocolView {
+
+    public DirectCasServiceValidationFailureView(final String characterEncoding, final String contentType) {
+        super(characterEncoding, contentType);
+    }
+
+    @Override
+    protected void writeResponse(final Map<String, Object> model, final Writer writer) throws Exception {
+        writer.write(SERVICE_RESPONSE_START);
+        writer.write("    <cas:authenticationFailure");
+        val code = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE);
+        if (code != null && StringUtils.isNotEmpty(code.toString())) {
+            writer.write(" code=\"");
+            writeEscaped(writer, code);
+            writer.write('"');
+        }
+        writer.write('>');
+        writeEscaped(writer, model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION));
+        writer.write("</cas:authenticationFailure>\n");
+        writer.write(SERVICE_RESPONSE_END);
+    }
+}
@@ -0,0 +1,78 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+
+import lombok.val;
+
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This is {@link DirectCasServiceValidationSuccessView} that writes the CAS2/CAS3
+ * service validation success response. Formatted attributes, already encoded and rendered
+ * by the delegating view, are written as they are when the view is asked to include them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DirectCasServiceValidationSuccessView extends AbstractDirectCasProtocolView {
+    private final boolean includeAttributes;
+
+    public DirectCasServiceValidationSuccessView(final boolean includeAttributes, final String characterEncoding,
+                                                 final String contentType) {
+        super(characterEncoding, contentType);
+        this.includeAttributes = includeAttributes;
+    }
+
+    @Override
+    protected void writeResponse(final Map<String, Object> model, final Writer writer) throws Exception {
+        writer.write(SERVICE_RESPONSE_START);
+        writer.write("    <cas:authenticationSuccess>\n        <cas:user>");
+        val principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writeEscaped(writer, principal.getId());
+        writer.write("</cas:user>\n        ");
+
+        val pgtIou = (String) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (isTrue(pgtIou)) {
+            writer.write("<cas:proxyGrantingTicket>");
+            writeEscaped(writer, pgtIou);
+            writer.write("</cas:proxyGrantingTicket>");
+        }
+        writer.write("\n        ");
+
+        val proxies = (Collection<?>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS);
+        if (proxies != null && !proxies.isEmpty()) {
+            writer.write("<cas:proxies>\n            ");
+            for (val proxy : proxies) {
+                writer.write("<cas:proxy>");
+                writeEscaped(writer, Authentication.class.cast(proxy).getPrincipal().getId());
+                writer.write("</cas:proxy>");
+            }
+            writer.write("\n        </cas:proxies>");
+        }
+        writer.write("\n");
+
+        if (includeAttributes) {
+            writer.write("        ");
+            val attributes = (Collection<?>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+            if (attributes != null && !attributes.isEmpty()) {
+                writer.write("<cas:attributes>");
+                for (val attribute : attributes) {
+                    writer.write("\n            \n                ");
+                    if (attribute != null) {
+                        writer.write(attribute.toString());
+                    }
+                    writer.write("\n            ");
+                }
+                writer.write("\n        </cas:attributes>");
+            }
+            writer.write("\n");
+        }
+        writer.write("    </cas:authenticationSuccess>\n");
+        writer.write(SERVICE_RESPONSE_END);
+    }
+}
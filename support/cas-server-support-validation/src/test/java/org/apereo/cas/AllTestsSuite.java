@@ -5,6 +5,7 @@ import org.apereo.cas.web.view.Cas10ResponseViewTests;
 import org.apereo.cas.web.view.Cas20ResponseViewTests;
 import org.apereo.cas.web.view.Cas30JsonResponseViewTests;
 import org.apereo.cas.web.view.Cas30ResponseViewTests;
+import org.apereo.cas.web.view.DirectCasServiceValidationViewTests;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRendererTests;
@@ -28,7 +29,8 @@ import org.junit.runners.Suite;
     Cas30JsonResponseViewTests.class,
     DefaultCas30ProtocolAttributesRendererTests.class,
     InlinedCas30ProtocolAttributesRendererTests.class,
-    AttributeValuesPerLineProtocolAttributesRendererTests.class
+    AttributeValuesPerLineProtocolAttributesRendererTests.class,
+    DirectCasServiceValidationViewTests.class
 })
 public class AllTestsSuite {
 }
@@ -23,6 +23,7 @@ import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.services.persondir.IPersonAttributeDao;
 import org.apereo.services.persondir.support.StubPersonAttributeDao;
@@ -196,6 +197,25 @@ public class Cas30ResponseViewTests extends AbstractServiceValidateControllerTes
         assertEquals("binaryAttributeValue", EncodingUtils.decodeBase64ToString(binaryAttr.toString()));
     }
 
+    @Test
+    public void verifyDirectRenderingOfEncodedAttributes() throws Exception {
+        val modelAndView = this.getModelAndViewUponServiceValidationWithSecurePgtUrl();
+        val req = new MockHttpServletRequest(new MockServletContext());
+        val encoder = new DefaultCasProtocolAttributeEncoder(this.servicesManager, CipherExecutor.noOpOfStringToString());
+        val view = new Cas30ResponseView(true, encoder, servicesManager,
+            new DirectCasServiceValidationSuccessView(true, StandardCharsets.UTF_8.name(), null),
+            new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+        val resp = new MockHttpServletResponse();
+        view.render(modelAndView.getModel(), req, resp);
+
+        val content = resp.getContentAsString();
+        assertTrue(content.contains("<cas:attributes>"));
+        val binaryAttr = StringUtils.substringBetween(content, "<cas:binaryAttribute>", "</cas:binaryAttribute>");
+        assertEquals("binaryAttributeValue", EncodingUtils.decodeBase64ToString(binaryAttr));
+    }
+
     @TestConfiguration
     public static class AttributeRepositoryTestConfiguration {
         @Bean
@@ -0,0 +1,185 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContext;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * This is {@link DirectCasServiceValidationViewTests}. Responses are compared against
+ * golden files that are rendered from the default protocol templates.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DirectCasServiceValidationViewTests {
+    private static final File TEMPLATES_DIRECTORY = new File("../../webapp/resources/templates/");
+
+    private static final String UTF_8 = StandardCharsets.UTF_8.name();
+
+    private GenericWebApplicationContext applicationContext;
+
+    private static Map<String, Object> getSuccessModel() {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("o'brien&<sons>"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1-<abc>");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS, CollectionUtils.wrapList(
+            CoreAuthenticationTestUtils.getAuthentication("https://proxy1.example.org/?a=1&b=2"),
+            CoreAuthenticationTestUtils.getAuthentication("https://proxy2.example.org")));
+
+        val attributes = new LinkedHashMap<String, Object>();
+        attributes.put("uid", "casuser");
+        attributes.put("memberOf", CollectionUtils.wrapList("a&b", "<admins>"));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            new DefaultCas30ProtocolAttributesRenderer().render(attributes));
+        return model;
+    }
+
+    private static Map<String, Object> getMinimalSuccessModel() {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS, new ArrayList<>());
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, new ArrayList<>());
+        return model;
+    }
+
+    private static Map<String, Object> getFailureModel() {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket 'ST-1-<abc>' not recognized & \"rejected\"");
+        return model;
+    }
+
+    private static String getGoldenFile(final String name) throws Exception {
+        try (val stream = new ClassPathResource("protocol/" + name + ".xml").getInputStream()) {
+            return IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Before
+    public void initialize() {
+        applicationContext = new GenericWebApplicationContext(new MockServletContext());
+        applicationContext.refresh();
+    }
+
+    @Test
+    public void verifyCas2ResponsesMatchGoldenFiles() throws Exception {
+        val success = new DirectCasServiceValidationSuccessView(false, UTF_8, MediaType.APPLICATION_XML_VALUE);
+        verifyGoldenFile("cas2ServiceValidationSuccess", success, getSuccessModel(), "application/xml;charset=UTF-8");
+        verifyGoldenFile("cas2ServiceValidationSuccessMinimal", success, getMinimalSuccessModel(), "application/xml;charset=UTF-8");
+        verifyGoldenFile("cas2ServiceValidationFailure", new DirectCasServiceValidationFailureView(UTF_8, null),
+            getFailureModel(), "text/html;charset=UTF-8");
+    }
+
+    @Test
+    public void verifyCas3ResponsesMatchGoldenFiles() throws Exception {
+        val success = new DirectCasServiceValidationSuccessView(true, UTF_8, null);
+        verifyGoldenFile("cas3ServiceValidationSuccess", success, getSuccessModel(), "text/html;charset=UTF-8");
+        verifyGoldenFile("cas3ServiceValidationSuccessMinimal", success, getMinimalSuccessModel(), "text/html;charset=UTF-8");
+        verifyGoldenFile("cas3ServiceValidationFailure", new DirectCasServiceValidationFailureView(UTF_8, MediaType.APPLICATION_XML_VALUE),
+            getFailureModel(), "application/xml;charset=UTF-8");
+    }
+
+    @Test
+    public void verifyTemplatesMatchGoldenFiles() throws Exception {
+        assumeTrue(TEMPLATES_DIRECTORY.isDirectory());
+        verifyGoldenFile("cas2ServiceValidationSuccess", getTemplateView("protocol/2.0/casServiceValidationSuccess",
+            MediaType.APPLICATION_XML_VALUE), getSuccessModel(), "application/xml;charset=UTF-8");
+        verifyGoldenFile("cas2ServiceValidationSuccessMinimal", getTemplateView("protocol/2.0/casServiceValidationSuccess",
+            MediaType.APPLICATION_XML_VALUE), getMinimalSuccessModel(), "application/xml;charset=UTF-8");
+        verifyGoldenFile("cas2ServiceValidationFailure", getTemplateView("protocol/2.0/casServiceValidationFailure", null),
+            getFailureModel(), "text/html;charset=UTF-8");
+        verifyGoldenFile("cas3ServiceValidationSuccess", getTemplateView("protocol/3.0/casServiceValidationSuccess", null),
+            getSuccessModel(), "text/html;charset=UTF-8");
+        verifyGoldenFile("cas3ServiceValidationSuccessMinimal", getTemplateView("protocol/3.0/casServiceValidationSuccess", null),
+            getMinimalSuccessModel(), "text/html;charset=UTF-8");
+        verifyGoldenFile("cas3ServiceValidationFailure", getTemplateView("protocol/3.0/casServiceValidationFailure",
+            MediaType.APPLICATION_XML_VALUE), getFailureModel(), "application/xml;charset=UTF-8");
+    }
+
+    @Test
+    public void verifyFailureWithoutCode() throws Exception {
+        val model = getFailureModel();
+        model.remove(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE);
+        val response = render(new DirectCasServiceValidationFailureView(UTF_8, null), model);
+        assertTrue(response.getContentAsString().contains("<cas:authenticationFailure>Ticket"));
+    }
+
+    @Test
+    public void verifyDirectRenderingMatchesTemplates() throws Exception {
+        assumeTrue(TEMPLATES_DIRECTORY.isDirectory());
+        val models = CollectionUtils.wrapList(getSuccessModel(), getMinimalSuccessModel());
+        for (val model : models) {
+            verifySameResponse(getTemplateView("protocol/2.0/casServiceValidationSuccess", MediaType.APPLICATION_XML_VALUE),
+                new DirectCasServiceValidationSuccessView(false, UTF_8, MediaType.APPLICATION_XML_VALUE), model);
+            verifySameResponse(getTemplateView("protocol/3.0/casServiceValidationSuccess", null),
+                new DirectCasServiceValidationSuccessView(true, UTF_8, null), model);
+        }
+        val failure = getFailureModel();
+        verifySameResponse(getTemplateView("protocol/2.0/casServiceValidationFailure", null),
+            new DirectCasServiceValidationFailureView(UTF_8, null), failure);
+        verifySameResponse(getTemplateView("protocol/3.0/casServiceValidationFailure", MediaType.APPLICATION_XML_VALUE),
+            new DirectCasServiceValidationFailureView(UTF_8, MediaType.APPLICATION_XML_VALUE), failure);
+    }
+
+    private void verifySameResponse(final View template, final View direct, final Map<String, Object> model) throws Exception {
+        val expected = render(template, model);
+        val actual = render(direct, model);
+        assertEquals(expected.getContentAsString(), actual.getContentAsString());
+        assertEquals(expected.getContentType(), actual.getContentType());
+    }
+
+    private void verifyGoldenFile(final String name, final View view, final Map<String, Object> model,
+                                  final String contentType) throws Exception {
+        val response = render(view, model);
+        assertEquals(name, getGoldenFile(name), response.getContentAsString());
+        assertEquals(name, contentType, response.getContentType());
+    }
+
+    private MockHttpServletResponse render(final View view, final Map<String, Object> model) throws Exception {
+        val request = new MockHttpServletRequest(new MockServletContext(), "GET", "/cas/serviceValidate");
+        request.setAttribute(RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+        val response = new MockHttpServletResponse();
+        view.render(new HashMap<>(model), request, response);
+        return response;
+    }
+
+    private View getTemplateView(final String templateName, final String contentType) {
+        val resolver = new FileTemplateResolver();
+        resolver.setPrefix(TEMPLATES_DIRECTORY.getAbsolutePath() + File.separator);
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(UTF_8);
+        val engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return new CasProtocolView(templateName, applicationContext, engine, new ThymeleafProperties(), contentType);
+    }
+}
@@ -2,31 +2,46 @@ package org.apereo.cas.adaptors.yubikey.registry;
 
 import org.apereo.cas.adaptors.yubikey.YubiKeyAccountValidator;
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.io.DebouncedFileWriter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link JsonYubiKeyAccountRegistry}.
+ * Devices are read from the JSON resource once and kept in memory,
+ * and read again when the file is changed. Changes are written back
+ * to the file shortly after they are made. Changes and reloads are serialized,
+ * so that a reload never drops devices that are not written yet.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-public class JsonYubiKeyAccountRegistry extends WhitelistYubiKeyAccountRegistry {
+public class JsonYubiKeyAccountRegistry extends WhitelistYubiKeyAccountRegistry implements DisposableBean {
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
     private final Resource jsonResource;
 
+    private final DebouncedFileWriter writer;
+
+    private final Object lock = new Object();
+
+    @SneakyThrows
     public JsonYubiKeyAccountRegistry(final Resource jsonResource, final YubiKeyAccountValidator validator) {
-        super(getDevicesFromJsonResource(jsonResource), validator);
+        super(new ConcurrentHashMap<>(getDevicesFromJsonResource(jsonResource)), validator);
         this.jsonResource = jsonResource;
+        this.writer = new DebouncedFileWriter(jsonResource.getFile(),
+            out -> MAPPER.writer().withDefaultPrettyPrinter().writeValue(out, new HashMap<>(this.devices)));
+        this.writer.watch(file -> reload());
     }
 
     @SneakyThrows
@@ -48,32 +63,59 @@ public class JsonYubiKeyAccountRegistry extends WhitelistYubiKeyAccountRegistry
         return new HashMap<>(0);
     }
 
-    @SneakyThrows
     @Override
     public boolean registerAccountFor(final String uid, final String token) {
         if (getAccountValidator().isValid(uid, token)) {
             val yubikeyPublicId = getAccountValidator().getTokenPublicId(token);
-            val file = jsonResource.getFile();
-            this.devices.put(uid, getCipherExecutor().encode(yubikeyPublicId));
-            MAPPER.writer().withDefaultPrettyPrinter().writeValue(file, this.devices);
+            synchronized (this.lock) {
+                this.devices.put(uid, getCipherExecutor().encode(yubikeyPublicId));
+                this.writer.schedule();
+            }
             return true;
         }
         return false;
     }
 
     @Override
-    @SneakyThrows
     public void delete(final String uid) {
-        this.devices.remove(uid);
-        val file = jsonResource.getFile();
-        MAPPER.writer().withDefaultPrettyPrinter().writeValue(file, this.devices);
+        synchronized (this.lock) {
+            this.devices.remove(uid);
+            this.writer.schedule();
+        }
     }
 
     @Override
-    @SneakyThrows
     public void deleteAll() {
-        this.devices.clear();
-        val file = jsonResource.getFile();
-        MAPPER.writer().withDefaultPrettyPrinter().writeValue(file, this.devices);
+        synchronized (this.lock) {
+            this.devices.clear();
+            this.writer.schedule();
+        }
+    }
+
+    /**
+     * Reload devices from the JSON resource.
+     * Has no effect while changes are waiting to be written, since
+     * those would be lost and the pending write replaces the file anyway.
+     */
+    public void reload() {
+        try {
+            synchronized (this.lock) {
+                if (this.writer.isPending()) {
+                    LOGGER.debug("Skipping reload of [{}] since changes are waiting to be written", this.jsonResource);
+                    return;
+                }
+                val devices = getDevicesFromJsonResource(this.jsonResource);
+                this.devices.putAll(devices);
+                this.devices.keySet().retainAll(devices.keySet());
+                LOGGER.debug("Reloaded [{}] device(s) from [{}]", devices.size(), this.jsonResource);
+            }
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.writer.close();
     }
 }
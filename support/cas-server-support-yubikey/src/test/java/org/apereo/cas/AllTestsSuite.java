@@ -1,6 +1,7 @@
 
 package org.apereo.cas;
 
+import org.apereo.cas.adaptors.yubikey.JsonYubiKeyAccountRegistryLookupTests;
 import org.apereo.cas.adaptors.yubikey.JsonYubiKeyAccountRegistryTests;
 import org.apereo.cas.adaptors.yubikey.YubiKeyAuthenticationHandlerTests;
 import org.apereo.cas.adaptors.yubikey.YubiKeyConfigurationTests;
@@ -17,6 +18,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     JsonYubiKeyAccountRegistryTests.class,
+    JsonYubiKeyAccountRegistryLookupTests.class,
     YubiKeyConfigurationTests.class,
     YubiKeyAuthenticationHandlerTests.class
 })
@@ -0,0 +1,132 @@
+package org.apereo.cas.adaptors.yubikey;
+
+import org.apereo.cas.adaptors.yubikey.registry.JsonYubiKeyAccountRegistry;
+import org.apereo.cas.category.FileSystemCategory;
+
+import lombok.val;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link JsonYubiKeyAccountRegistryLookupTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Category(FileSystemCategory.class)
+public class JsonYubiKeyAccountRegistryLookupTests {
+    private static final int DEVICES = 200;
+
+    private static final YubiKeyAccountValidator VALIDATOR = new YubiKeyAccountValidator() {
+        @Override
+        public boolean isValid(final String uid, final String token) {
+            return true;
+        }
+
+        @Override
+        public String getTokenPublicId(final String token) {
+            return token;
+        }
+    };
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verifyLookupsDoNotReadFile() throws Exception {
+        val file = folder.newFile("yubikey.json");
+        val registry = newRegistry(file);
+        assertTrue(registry.registerAccountFor("casuser", "publicid"));
+        registry.destroy();
+
+        val reloaded = newRegistry(file);
+        try {
+            assertTrue(reloaded.isYubiKeyRegisteredFor("casuser", "publicid"));
+            assertTrue(file.delete());
+            assertTrue(reloaded.isYubiKeyRegisteredFor("casuser", "publicid"));
+            assertEquals(1, reloaded.getAccounts().size());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifyRegisteredDevicesAreWritten() throws Exception {
+        val file = folder.newFile("yubikey.json");
+        val registry = newRegistry(file);
+        IntStream.range(0, DEVICES).forEach(i -> registry.registerAccountFor("user" + i, "publicid" + i));
+        registry.delete("user0");
+        assertEquals(DEVICES - 1, registry.getAccounts().size());
+        registry.destroy();
+
+        val reloaded = newRegistry(file);
+        try {
+            assertEquals(DEVICES - 1, reloaded.getAccounts().size());
+            assertFalse(reloaded.isYubiKeyRegisteredFor("user0"));
+            assertTrue(reloaded.isYubiKeyRegisteredFor("user1", "publicid1"));
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifyReloadPicksUpChangesToFile() throws Exception {
+        val file = folder.newFile("yubikey.json");
+        val registry = newRegistry(file);
+        registry.registerAccountFor("casuser", "publicid");
+        registry.destroy();
+
+        val reloaded = newRegistry(file);
+        try {
+            assertTrue(reloaded.isYubiKeyRegisteredFor("casuser"));
+            val other = newRegistry(file);
+            other.delete("casuser");
+            other.registerAccountFor("newuser", "publicid");
+            other.destroy();
+
+            reloaded.reload();
+            assertFalse(reloaded.isYubiKeyRegisteredFor("casuser"));
+            assertTrue(reloaded.isYubiKeyRegisteredFor("newuser", "publicid"));
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    @Test
+    public void verifyReloadDoesNotDropChangesNotWrittenYet() throws Exception {
+        val file = folder.newFile("yubikey.json");
+        val registry = newRegistry(file);
+        val executor = Executors.newFixedThreadPool(4);
+        try {
+            IntStream.range(0, DEVICES).forEach(i -> executor.execute(() -> registry.registerAccountFor("user" + i, "publicid" + i)));
+            executor.shutdown();
+            while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+                registry.reload();
+            }
+            registry.reload();
+            assertEquals(DEVICES, registry.getAccounts().size());
+        } finally {
+            registry.destroy();
+        }
+        val reloaded = newRegistry(file);
+        try {
+            assertEquals(DEVICES, reloaded.getAccounts().size());
+        } finally {
+            reloaded.destroy();
+        }
+    }
+
+    private static JsonYubiKeyAccountRegistry newRegistry(final File file) {
+        return new JsonYubiKeyAccountRegistry(new FileSystemResource(file), VALIDATOR);
+    }
+}
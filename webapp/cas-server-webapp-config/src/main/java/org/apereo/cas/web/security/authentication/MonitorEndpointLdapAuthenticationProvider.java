@@ -11,10 +11,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.ConnectionFactory;
 import org.ldaptive.Credential;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchExecutor;
 import org.ldaptive.auth.AuthenticationRequest;
+import org.ldaptive.auth.Authenticator;
 import org.pac4j.core.authorization.authorizer.RequireAnyRoleAuthorizer;
 import org.pac4j.core.authorization.generator.AuthorizationGenerator;
 import org.pac4j.core.profile.CommonProfile;
@@ -44,6 +46,8 @@ public class MonitorEndpointLdapAuthenticationProvider implements Authentication
 
     @Override
     public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
+        Authenticator authenticator = null;
+        ConnectionFactory connectionFactory = null;
         try {
             val username = authentication.getPrincipal().toString();
             val credentials = authentication.getCredentials();
@@ -53,7 +57,7 @@ public class MonitorEndpointLdapAuthenticationProvider implements Authentication
             }
             LOGGER.debug("Preparing LDAP authentication request for user [{}]", username);
             val request = new AuthenticationRequest(username, new Credential(password), ReturnAttributes.ALL.value());
-            val authenticator = LdapUtils.newLdaptiveAuthenticator(ldapProperties);
+            authenticator = LdapUtils.newLdaptiveAuthenticator(ldapProperties);
             LOGGER.debug("Executing LDAP authentication request for user [{}]", username);
 
             val response = authenticator.authenticate(request);
@@ -68,7 +72,8 @@ public class MonitorEndpointLdapAuthenticationProvider implements Authentication
                 LOGGER.debug("Collected user profile [{}]", profile);
 
                 val context = Pac4jUtils.getPac4jJ2EContext();
-                val authZGen = buildAuthorizationGenerator();
+                connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(this.ldapProperties);
+                val authZGen = buildAuthorizationGenerator(connectionFactory);
                 authZGen.generate(context, profile);
                 LOGGER.debug("Assembled user profile with roles after generating authorization claims [{}]", profile);
 
@@ -93,6 +98,9 @@ public class MonitorEndpointLdapAuthenticationProvider implements Authentication
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
             throw new InsufficientAuthenticationException("Unexpected LDAP error", e);
+        } finally {
+            LdapUtils.closeAuthenticator(authenticator);
+            LdapUtils.closeConnectionFactory(connectionFactory);
         }
         throw new BadCredentialsException("Could not authenticate provided credentials");
     }
@@ -102,9 +110,8 @@ public class MonitorEndpointLdapAuthenticationProvider implements Authentication
         return UsernamePasswordAuthenticationToken.class.isAssignableFrom(aClass);
     }
 
-    private AuthorizationGenerator<CommonProfile> buildAuthorizationGenerator() {
+    private AuthorizationGenerator<CommonProfile> buildAuthorizationGenerator(final ConnectionFactory connectionFactory) {
         val ldapAuthz = this.ldapProperties.getLdapAuthz();
-        val connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(this.ldapProperties);
 
         if (isGroupBasedAuthorization()) {
             LOGGER.debug("Handling LDAP authorization based on groups");
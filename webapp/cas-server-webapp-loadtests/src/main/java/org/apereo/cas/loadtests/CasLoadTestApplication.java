@@ -0,0 +1,88 @@
+package org.apereo.cas.loadtests;
+
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link CasLoadTestApplication} that starts a local LDAP directory,
+ * a local database and the CAS web application, runs the configured scenarios
+ * and writes a report with throughput and latency percentiles. When a baseline report
+ * is specified, the run fails if any scenario regressed beyond the allowed threshold.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@NoArgsConstructor
+public class CasLoadTestApplication {
+
+    /**
+     * Main entry point of the load tests.
+     *
+     * @param args the args
+     * @throws Exception the exception
+     */
+    public static void main(final String[] args) throws Exception {
+        val settings = LoadTestSettings.fromSystemProperties();
+        LOGGER.info("Running load tests with [{}]", settings);
+
+        val scenarios = Stream.of(new LoginScenario(), new ServiceValidateScenario(),
+            new OAuthAccessTokenScenario(), new SamlSingleSignOnScenario())
+            .collect(Collectors.toMap(LoadTestScenario::getName, Function.identity()));
+
+        val report = new LoadTestReport();
+        report.setRevision(settings.getRevision());
+        report.setTimestamp(ZonedDateTime.now().toString());
+        report.setUsers(settings.getUsers());
+        report.setWarmup(settings.getWarmup().toString());
+        report.setDuration(settings.getDuration().toString());
+
+        val workDirectory = Files.createTempDirectory("cas-loadtests").toFile();
+        try (val directory = new LoadTestLdapDirectory();
+             val database = new LoadTestJdbcDatabase();
+             val server = new LoadTestCasServer(directory, workDirectory)) {
+            val generator = new LoadGenerator(settings, server.getCasServerPrefix());
+            for (val name : settings.getScenarios()) {
+                val scenario = getScenario(scenarios, name);
+                val result = generator.run(scenario);
+                LOGGER.info("Scenario [{}]: [{}] requests, [{}] errors, [{}] req/s, p50 [{}]ms, p95 [{}]ms, p99 [{}]ms, max [{}]ms",
+                    result.getScenario(), result.getRequests(), result.getErrors(),
+                    String.format("%.1f", result.getThroughput()), String.format("%.1f", result.getP50Millis()),
+                    String.format("%.1f", result.getP95Millis()), String.format("%.1f", result.getP99Millis()),
+                    String.format("%.1f", result.getMaxMillis()));
+                report.getResults().add(result);
+            }
+        }
+
+        val reportFile = report.write(new File(settings.getReportDirectory()));
+        LOGGER.info("Load test report is written to [{}]", reportFile.getAbsolutePath());
+
+        if (StringUtils.isNotBlank(settings.getBaseline())) {
+            val baseline = LoadTestReport.read(new File(settings.getBaseline()));
+            val regressions = report.compareWith(baseline, settings.getMaxRegression());
+            if (!regressions.isEmpty()) {
+                regressions.forEach(regression -> LOGGER.error("Regression detected for {}", regression));
+                System.exit(1);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static LoadTestScenario getScenario(final Map<String, LoadTestScenario> scenarios, final String name) {
+        val scenario = scenarios.get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("Unknown load test scenario " + name + "; Available scenarios are " + scenarios.keySet());
+        }
+        return scenario;
+    }
+}
@@ -0,0 +1,47 @@
+package org.apereo.cas.loadtests;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * This is {@link LatencyRecorder} that collects the latency of every
+ * measured execution for a single virtual user. Instances are not thread-safe
+ * and are only read once the virtual user has finished.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private int errors;
+
+    /**
+     * Record an execution.
+     *
+     * @param elapsedNanos the elapsed time in nanoseconds
+     * @param success      whether the execution succeeded
+     */
+    public void record(final long elapsedNanos, final boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Gets the recorded latencies in nanoseconds.
+     *
+     * @return the latencies
+     */
+    public long[] getLatencies() {
+        return Arrays.copyOf(latencies, count);
+    }
+}
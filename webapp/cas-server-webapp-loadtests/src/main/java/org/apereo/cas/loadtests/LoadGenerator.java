@@ -0,0 +1,90 @@
+package org.apereo.cas.loadtests;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link LoadGenerator} that runs a scenario with a fixed number
+ * of concurrent virtual users. Each virtual user executes the scenario in a
+ * closed loop, first for the warmup period and then for the measured period.
+ * Virtual users alternate between the LDAP and the database accounts.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+    private final LoadTestSettings settings;
+
+    private final String casServerPrefix;
+
+    /**
+     * Run the scenario and summarize the results.
+     *
+     * @param scenario the scenario
+     * @return the scenario result
+     * @throws InterruptedException if interrupted while waiting for virtual users
+     */
+    public ScenarioResult run(final LoadTestScenario scenario) throws InterruptedException {
+        LOGGER.info("Running scenario [{}] with [{}] virtual users", scenario.getName(), settings.getUsers());
+        val executor = Executors.newFixedThreadPool(settings.getUsers());
+        val recorders = new ArrayList<LatencyRecorder>(settings.getUsers());
+        val measureStart = System.nanoTime() + settings.getWarmup().toNanos();
+        val measureEnd = measureStart + settings.getDuration().toNanos();
+
+        for (var i = 0; i < settings.getUsers(); i++) {
+            val recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            val client = newClient(i);
+            executor.execute(() -> runVirtualUser(scenario, client, recorder, measureStart, measureEnd));
+        }
+        executor.shutdown();
+        val timeout = settings.getWarmup().plus(settings.getDuration()).toMillis() + TimeUnit.MINUTES.toMillis(1);
+        if (!executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("Virtual users of scenario [{}] did not finish in time", scenario.getName());
+            executor.shutdownNow();
+        }
+        return ScenarioResult.from(scenario.getName(), recorders, settings.getDuration());
+    }
+
+    private LoadTestClient newClient(final int index) {
+        if (index % 2 == 0) {
+            return new LoadTestClient(casServerPrefix, LoadTestLdapDirectory.USERNAME, LoadTestLdapDirectory.PASSWORD);
+        }
+        return new LoadTestClient(casServerPrefix, LoadTestJdbcDatabase.USERNAME, LoadTestJdbcDatabase.PASSWORD);
+    }
+
+    private static void runVirtualUser(final LoadTestScenario scenario, final LoadTestClient client,
+                                       final LatencyRecorder recorder, final long measureStart, final long measureEnd) {
+        try (client) {
+            scenario.prepare(client);
+            while (System.nanoTime() < measureEnd) {
+                val startTime = System.nanoTime();
+                val success = executeQuietly(scenario, client);
+                val endTime = System.nanoTime();
+                if (startTime >= measureStart && endTime <= measureEnd) {
+                    recorder.record(endTime - startTime, success);
+                }
+                scenario.cleanup(client);
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to close client: [{}]", e.getMessage());
+        }
+    }
+
+    private static boolean executeQuietly(final LoadTestScenario scenario, final LoadTestClient client) {
+        try {
+            return scenario.execute(client);
+        } catch (final Exception e) {
+            LOGGER.debug("Scenario [{}] failed: [{}]", scenario.getName(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.apereo.cas.loadtests;
+
+import org.apereo.cas.CasEmbeddedContainerUtils;
+import org.apereo.cas.web.CasWebApplication;
+import org.apereo.cas.web.CasWebApplicationContext;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is {@link LoadTestCasServer} that starts the CAS web application in-process
+ * on embedded Apache Tomcat. Tickets are kept in the default in-memory ticket registry,
+ * and accounts are authenticated against the local LDAP directory and database.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@Getter
+public class LoadTestCasServer implements AutoCloseable {
+    private final String casServerPrefix;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    public LoadTestCasServer(final LoadTestLdapDirectory directory, final File workDirectory) {
+        val port = findAvailablePort();
+        val serverName = "http://localhost:" + port;
+        this.casServerPrefix = serverName + "/cas";
+
+        val properties = new HashMap<String, Object>(CasEmbeddedContainerUtils.getRuntimeProperties(Boolean.TRUE));
+        properties.put("server.port", port);
+        properties.put("server.ssl.enabled", false);
+        properties.put("server.tomcat.basedir", new File(workDirectory, "tomcat").getAbsolutePath());
+        properties.put("server.tomcat.accesslog.enabled", false);
+        properties.put("cas.server.name", serverName);
+        properties.put("cas.server.prefix", casServerPrefix);
+        properties.put("cas.tgc.secure", false);
+        properties.put("cas.authn.accept.users", "");
+        properties.put("cas.serviceRegistry.initFromJson", false);
+        properties.put("cas.serviceRegistry.json.location", "classpath:/loadtests/services");
+        properties.put("cas.authn.samlIdp.entityId", casServerPrefix + "/idp");
+        properties.put("cas.authn.samlIdp.metadata.location", "file:" + new File(workDirectory, "saml").getAbsolutePath());
+        configureLdapAuthentication(properties, directory);
+        configureJdbcAuthentication(properties);
+
+        LOGGER.info("Starting CAS server at [{}]", casServerPrefix);
+        this.applicationContext = new SpringApplicationBuilder(CasWebApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .properties(properties)
+            .logStartupInfo(false)
+            .contextClass(CasWebApplicationContext.class)
+            .run();
+    }
+
+    private static void configureLdapAuthentication(final Map<String, Object> properties, final LoadTestLdapDirectory directory) {
+        val prefix = "cas.authn.ldap[0].";
+        properties.put(prefix + "type", "AUTHENTICATED");
+        properties.put(prefix + "ldapUrl", directory.getLdapUrl());
+        properties.put(prefix + "useSsl", false);
+        properties.put(prefix + "baseDn", LoadTestLdapDirectory.PEOPLE_DN);
+        properties.put(prefix + "searchFilter", "uid={user}");
+        properties.put(prefix + "bindDn", LoadTestLdapDirectory.BIND_DN);
+        properties.put(prefix + "bindCredential", LoadTestLdapDirectory.BIND_CREDENTIAL);
+        properties.put(prefix + "minPoolSize", 5);
+        properties.put(prefix + "maxPoolSize", 50);
+    }
+
+    private static void configureJdbcAuthentication(final Map<String, Object> properties) {
+        val prefix = "cas.authn.jdbc.query[0].";
+        properties.put(prefix + "url", LoadTestJdbcDatabase.URL);
+        properties.put(prefix + "user", LoadTestJdbcDatabase.USER);
+        properties.put(prefix + "password", "");
+        properties.put(prefix + "driverClass", "org.hsqldb.jdbcDriver");
+        properties.put(prefix + "dialect", "org.hibernate.dialect.HSQLDialect");
+        properties.put(prefix + "sql", LoadTestJdbcDatabase.QUERY);
+        properties.put(prefix + "fieldPassword", LoadTestJdbcDatabase.PASSWORD_COLUMN);
+    }
+
+    @SneakyThrows
+    private static int findAvailablePort() {
+        try (val socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+}
@@ -0,0 +1,158 @@
+package org.apereo.cas.loadtests;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.apache.http.HttpHeaders;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LoadTestClient} that acts as a single virtual user.
+ * Each client keeps its own cookies, so single sign-on sessions
+ * established by one virtual user are never shared with another.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+public class LoadTestClient implements Closeable {
+    private static final Pattern EXECUTION_PATTERN = Pattern.compile("name=\"execution\"\\s+value=\"([^\"]+)\"");
+
+    private static final String TICKET_GRANTING_COOKIE = "TGC";
+
+    private final String casServerPrefix;
+
+    private final String username;
+
+    private final String password;
+
+    private final BasicCookieStore cookieStore = new BasicCookieStore();
+
+    private final CloseableHttpClient httpClient;
+
+    public LoadTestClient(final String casServerPrefix, final String username, final String password) {
+        this.casServerPrefix = casServerPrefix;
+        this.username = username;
+        this.password = password;
+        this.httpClient = HttpClients.custom()
+            .setDefaultCookieStore(cookieStore)
+            .build();
+    }
+
+    /**
+     * Log into CAS and establish a single sign-on session.
+     *
+     * @return true if a ticket-granting cookie was issued
+     */
+    public boolean login() {
+        val loginPage = get(casServerPrefix + "/login", false);
+        val matcher = EXECUTION_PATTERN.matcher(loginPage.getBody());
+        if (!matcher.find()) {
+            return false;
+        }
+        val parameters = new LinkedHashMap<String, String>();
+        parameters.put("username", username);
+        parameters.put("password", password);
+        parameters.put("execution", matcher.group(1));
+        parameters.put("_eventId", "submit");
+        parameters.put("geolocation", "");
+        post(casServerPrefix + "/login", parameters, false);
+        return hasSingleSignOnSession();
+    }
+
+    /**
+     * Log out of CAS and discard all cookies.
+     */
+    public void logout() {
+        get(casServerPrefix + "/logout", false);
+        cookieStore.clear();
+    }
+
+    /**
+     * Whether the client holds a ticket-granting cookie.
+     *
+     * @return true/false
+     */
+    public boolean hasSingleSignOnSession() {
+        return cookieStore.getCookies().stream().anyMatch(cookie -> TICKET_GRANTING_COOKIE.equals(cookie.getName()));
+    }
+
+    /**
+     * Execute a GET request.
+     *
+     * @param url             the url
+     * @param followRedirects whether redirects should be followed
+     * @return the response
+     */
+    public Response get(final String url, final boolean followRedirects) {
+        return execute(new HttpGet(url), followRedirects);
+    }
+
+    /**
+     * Execute a POST request with a form body.
+     *
+     * @param url             the url
+     * @param parameters      the form parameters
+     * @param followRedirects whether redirects should be followed
+     * @return the response
+     */
+    public Response post(final String url, final Map<String, String> parameters, final boolean followRedirects) {
+        val request = new HttpPost(url);
+        val form = parameters.entrySet()
+            .stream()
+            .map(entry -> (NameValuePair) new BasicNameValuePair(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList());
+        request.setEntity(new UrlEncodedFormEntity(form, StandardCharsets.UTF_8));
+        return execute(request, followRedirects);
+    }
+
+    @SneakyThrows
+    private Response execute(final HttpRequestBase request, final boolean followRedirects) {
+        request.setConfig(RequestConfig.custom().setRedirectsEnabled(followRedirects).build());
+        try (val response = httpClient.execute(request)) {
+            val location = response.getFirstHeader(HttpHeaders.LOCATION);
+            val body = response.getEntity() != null
+                ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
+                : "";
+            return new Response(response.getStatusLine().getStatusCode(), body,
+                location != null ? location.getValue() : null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * The response received from CAS.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Response {
+        private final int status;
+
+        private final String body;
+
+        private final String location;
+    }
+}
@@ -0,0 +1,72 @@
+package org.apereo.cas.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * This is {@link LoadTestJdbcDatabase} that runs a local in-memory HSQLDB database
+ * with a single account for the duration of the load tests.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class LoadTestJdbcDatabase implements AutoCloseable {
+    /**
+     * JDBC url of the database.
+     */
+    public static final String URL = "jdbc:hsqldb:mem:cas-loadtests";
+
+    /**
+     * Database user.
+     */
+    public static final String USER = "sa";
+
+    /**
+     * Username of the account stored in the database.
+     */
+    public static final String USERNAME = "jdbcuser";
+
+    /**
+     * Password of the account stored in the database.
+     */
+    public static final String PASSWORD = "Mellon";
+
+    /**
+     * Query used by CAS to locate accounts.
+     */
+    public static final String QUERY = "SELECT * FROM CAS_USERS WHERE UID=?";
+
+    /**
+     * Column that holds the account password.
+     */
+    public static final String PASSWORD_COLUMN = "PSW";
+
+    private final Connection connection;
+
+    public LoadTestJdbcDatabase() throws SQLException {
+        this.connection = DriverManager.getConnection(URL, USER, "");
+        try (val statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE CAS_USERS (UID VARCHAR(255) PRIMARY KEY, PSW VARCHAR(255))");
+        }
+        try (val statement = connection.prepareStatement("INSERT INTO CAS_USERS (UID, PSW) VALUES (?, ?)")) {
+            statement.setString(1, USERNAME);
+            statement.setString(2, PASSWORD);
+            statement.executeUpdate();
+        }
+        LOGGER.info("Started database at [{}]", URL);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (val statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.loadtests;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.LDAPException;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link LoadTestLdapDirectory} that runs a local in-memory LDAP directory
+ * with a single account for the duration of the load tests.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class LoadTestLdapDirectory implements AutoCloseable {
+    /**
+     * Base DN of the directory.
+     */
+    public static final String BASE_DN = "dc=example,dc=org";
+
+    /**
+     * Base DN under which accounts are stored.
+     */
+    public static final String PEOPLE_DN = "ou=people," + BASE_DN;
+
+    /**
+     * DN used by CAS to search for accounts.
+     */
+    public static final String BIND_DN = "cn=Directory Manager";
+
+    /**
+     * Credential used by CAS to search for accounts.
+     */
+    public static final String BIND_CREDENTIAL = "password";
+
+    /**
+     * Username of the account stored in the directory.
+     */
+    public static final String USERNAME = "ldapuser";
+
+    /**
+     * Password of the account stored in the directory.
+     */
+    public static final String PASSWORD = "Mellon";
+
+    private final InMemoryDirectoryServer server;
+
+    public LoadTestLdapDirectory() throws LDAPException {
+        val config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.addAdditionalBindCredentials(BIND_DN, BIND_CREDENTIAL);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        this.server = new InMemoryDirectoryServer(config);
+        server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: example");
+        server.add("dn: " + PEOPLE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: people");
+        server.add("dn: uid=" + USERNAME + ',' + PEOPLE_DN,
+            "objectClass: top",
+            "objectClass: person",
+            "objectClass: organizationalPerson",
+            "objectClass: inetOrgPerson",
+            "uid: " + USERNAME,
+            "cn: Load Test User",
+            "sn: User",
+            "mail: " + USERNAME + "@example.org",
+            "userPassword: " + PASSWORD);
+        server.startListening();
+        LOGGER.info("Started LDAP directory at [{}]", getLdapUrl());
+    }
+
+    /**
+     * Gets the url of the directory.
+     *
+     * @return the ldap url
+     */
+    public String getLdapUrl() {
+        return "ldap://localhost:" + server.getListenPort();
+    }
+
+    @Override
+    public void close() {
+        server.shutDown(true);
+    }
+}
@@ -0,0 +1,110 @@
+package org.apereo.cas.loadtests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link LoadTestReport} that records the results of a load test run
+ * along with the revision under test, so runs of different commits can be compared.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Slf4j
+public class LoadTestReport {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private String revision;
+
+    private String timestamp;
+
+    private int users;
+
+    private String warmup;
+
+    private String duration;
+
+    private List<ScenarioResult> results = new ArrayList<>();
+
+    /**
+     * Read a report from the given file.
+     *
+     * @param file the file
+     * @return the load test report
+     */
+    @SneakyThrows
+    public static LoadTestReport read(final File file) {
+        return MAPPER.readValue(file, LoadTestReport.class);
+    }
+
+    /**
+     * Write the report into the given directory, once under the revision
+     * it was produced for and once as the latest report.
+     *
+     * @param directory the directory
+     * @return the file holding the report for this revision
+     */
+    @SneakyThrows
+    public File write(final File directory) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            LOGGER.warn("Unable to create report directory [{}]", directory);
+        }
+        val file = new File(directory, "loadtests-" + revision + ".json");
+        MAPPER.writeValue(file, this);
+        MAPPER.writeValue(new File(directory, "loadtests-latest.json"), this);
+        return file;
+    }
+
+    /**
+     * Compare results with a baseline report. A scenario regresses when its
+     * throughput drops, or its 95th percentile latency grows, by more than the given fraction.
+     *
+     * @param baseline      the baseline
+     * @param maxRegression the max regression
+     * @return descriptions of regressed scenarios
+     */
+    public List<String> compareWith(final LoadTestReport baseline, final double maxRegression) {
+        val regressions = new ArrayList<String>();
+        results.forEach(current -> baseline.getResults()
+            .stream()
+            .filter(previous -> previous.getScenario().equals(current.getScenario()))
+            .findFirst()
+            .ifPresent(previous -> {
+                val throughputChange = change(previous.getThroughput(), current.getThroughput());
+                val latencyChange = change(previous.getP95Millis(), current.getP95Millis());
+                LOGGER.info("Scenario [{}] compared to revision [{}]: throughput [{}%], p95 latency [{}%]",
+                    current.getScenario(), baseline.getRevision(),
+                    String.format("%+.1f", throughputChange * 100), String.format("%+.1f", latencyChange * 100));
+                if (throughputChange < -maxRegression) {
+                    regressions.add(String.format("%s: throughput dropped from %.1f/s to %.1f/s",
+                        current.getScenario(), previous.getThroughput(), current.getThroughput()));
+                }
+                if (latencyChange > maxRegression) {
+                    regressions.add(String.format("%s: p95 latency grew from %.1fms to %.1fms",
+                        current.getScenario(), previous.getP95Millis(), current.getP95Millis()));
+                }
+            }));
+        return regressions;
+    }
+
+    private static double change(final double previous, final double current) {
+        if (previous == 0) {
+            return 0;
+        }
+        return (current - previous) / previous;
+    }
+}
@@ -0,0 +1,42 @@
+package org.apereo.cas.loadtests;
+
+/**
+ * This is {@link LoadTestScenario} that describes a single interaction
+ * with CAS whose throughput and latency are measured.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface LoadTestScenario {
+
+    /**
+     * Gets name of the scenario.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Prepare the virtual user before measurements start.
+     *
+     * @param client the client
+     */
+    default void prepare(final LoadTestClient client) {
+    }
+
+    /**
+     * Execute the measured interaction once.
+     *
+     * @param client the client
+     * @return true if the interaction succeeded
+     */
+    boolean execute(LoadTestClient client);
+
+    /**
+     * Clean up after an execution. Time spent here is not measured.
+     *
+     * @param client the client
+     */
+    default void cleanup(final LoadTestClient client) {
+    }
+}
@@ -0,0 +1,100 @@
+package org.apereo.cas.loadtests;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LoadTestSettings} that describes how load tests are executed.
+ * Settings are read from system properties prefixed with {@code cas.loadtests.}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@Builder
+@ToString
+public class LoadTestSettings {
+    private static final String PREFIX = "cas.loadtests.";
+
+    /**
+     * Number of virtual users that execute each scenario concurrently.
+     */
+    @Builder.Default
+    private final int users = 10;
+
+    /**
+     * Amount of time each scenario runs before measurements are recorded.
+     */
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * Amount of time during which each scenario is measured.
+     */
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(30);
+
+    /**
+     * Names of the scenarios to execute.
+     */
+    @Builder.Default
+    private final List<String> scenarios = Arrays.asList(LoginScenario.NAME, ServiceValidateScenario.NAME,
+        OAuthAccessTokenScenario.NAME, SamlSingleSignOnScenario.NAME);
+
+    /**
+     * Directory where reports are written.
+     */
+    @Builder.Default
+    private final String reportDirectory = "build/reports/loadtests";
+
+    /**
+     * Revision of the codebase under test, recorded in reports.
+     */
+    @Builder.Default
+    private final String revision = "unknown";
+
+    /**
+     * Location of a report produced by an earlier build to compare results with.
+     */
+    private final String baseline;
+
+    /**
+     * Fraction by which throughput may drop, or latency may grow,
+     * compared to the baseline before the run is considered a regression.
+     */
+    @Builder.Default
+    private final double maxRegression = 0.2;
+
+    /**
+     * Build settings from system properties.
+     *
+     * @return the load test settings
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        val builder = LoadTestSettings.builder();
+        getProperty("users").map(Integer::parseInt).ifPresent(builder::users);
+        getProperty("warmup").map(Duration::parse).ifPresent(builder::warmup);
+        getProperty("duration").map(Duration::parse).ifPresent(builder::duration);
+        getProperty("scenarios")
+            .map(value -> Arrays.stream(StringUtils.split(value, ',')).map(String::trim).collect(Collectors.toList()))
+            .ifPresent(builder::scenarios);
+        getProperty("reportDirectory").ifPresent(builder::reportDirectory);
+        getProperty("revision").ifPresent(builder::revision);
+        getProperty("baseline").ifPresent(builder::baseline);
+        getProperty("maxRegression").map(Double::parseDouble).ifPresent(builder::maxRegression);
+        return builder.build();
+    }
+
+    private static Optional<String> getProperty(final String name) {
+        return Optional.ofNullable(StringUtils.trimToNull(System.getProperty(PREFIX + name)));
+    }
+}
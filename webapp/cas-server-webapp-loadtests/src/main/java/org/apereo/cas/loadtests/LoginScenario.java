@@ -0,0 +1,30 @@
+package org.apereo.cas.loadtests;
+
+/**
+ * This is {@link LoginScenario} that submits credentials to the login form
+ * and expects a single sign-on session to be established.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class LoginScenario implements LoadTestScenario {
+    /**
+     * Scenario name.
+     */
+    public static final String NAME = "login";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean execute(final LoadTestClient client) {
+        return client.login();
+    }
+
+    @Override
+    public void cleanup(final LoadTestClient client) {
+        client.logout();
+    }
+}
@@ -0,0 +1,47 @@
+package org.apereo.cas.loadtests;
+
+import lombok.val;
+import org.apache.http.HttpStatus;
+
+import java.util.LinkedHashMap;
+
+/**
+ * This is {@link OAuthAccessTokenScenario} that requests OAuth access tokens
+ * using the resource owner password grant.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class OAuthAccessTokenScenario implements LoadTestScenario {
+    /**
+     * Scenario name.
+     */
+    public static final String NAME = "oauthAccessToken";
+
+    /**
+     * Client id of the registered OAuth service.
+     */
+    public static final String CLIENT_ID = "loadtests";
+
+    /**
+     * Client secret of the registered OAuth service.
+     */
+    public static final String CLIENT_SECRET = "secret";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean execute(final LoadTestClient client) {
+        val parameters = new LinkedHashMap<String, String>();
+        parameters.put("grant_type", "password");
+        parameters.put("client_id", CLIENT_ID);
+        parameters.put("client_secret", CLIENT_SECRET);
+        parameters.put("username", client.getUsername());
+        parameters.put("password", client.getPassword());
+        val response = client.post(client.getCasServerPrefix() + "/oauth2.0/accessToken", parameters, false);
+        return response.getStatus() == HttpStatus.SC_OK && response.getBody().contains("access_token");
+    }
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.loadtests;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import org.apache.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * This is {@link SamlSingleSignOnScenario} that sends SAML2 authentication requests
+ * over the HTTP-Redirect binding using an existing single sign-on session
+ * and expects a SAML response to be posted back to the service provider.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class SamlSingleSignOnScenario implements LoadTestScenario {
+    /**
+     * Scenario name.
+     */
+    public static final String NAME = "samlSso";
+
+    /**
+     * Entity id of the registered service provider.
+     */
+    public static final String ENTITY_ID = "https://sp.loadtests.example.org/shibboleth";
+
+    /**
+     * Assertion consumer service of the registered service provider.
+     */
+    public static final String ASSERTION_CONSUMER_SERVICE = "https://sp.loadtests.example.org/Shibboleth.sso/SAML2/POST";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void prepare(final LoadTestClient client) {
+        client.login();
+    }
+
+    @Override
+    public boolean execute(final LoadTestClient client) {
+        val url = client.getCasServerPrefix() + "/idp/profile/SAML2/Redirect/SSO?SAMLRequest="
+            + URLEncoder.encode(encode(buildAuthnRequest()), StandardCharsets.UTF_8);
+        val response = client.get(url, true);
+        return response.getStatus() == HttpStatus.SC_OK && response.getBody().contains("SAMLResponse");
+    }
+
+    private static String buildAuthnRequest() {
+        val issueInstant = ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ISO_INSTANT);
+        return "<samlp:AuthnRequest xmlns:samlp=\"urn:oasis:names:tc:SAML:2.0:protocol\""
+            + " xmlns:saml=\"urn:oasis:names:tc:SAML:2.0:assertion\""
+            + " ID=\"_" + UUID.randomUUID() + '"'
+            + " Version=\"2.0\""
+            + " IssueInstant=\"" + issueInstant + '"'
+            + " ProtocolBinding=\"urn:oasis:names:tc:SAML:2.0:bindings:HTTP-POST\""
+            + " AssertionConsumerServiceURL=\"" + ASSERTION_CONSUMER_SERVICE + "\">"
+            + "<saml:Issuer>" + ENTITY_ID + "</saml:Issuer>"
+            + "</samlp:AuthnRequest>";
+    }
+
+    @SneakyThrows
+    private static String encode(final String authnRequest) {
+        val output = new ByteArrayOutputStream();
+        try (val deflater = new DeflaterOutputStream(output, new Deflater(Deflater.DEFLATED, true))) {
+            deflater.write(authnRequest.getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+}
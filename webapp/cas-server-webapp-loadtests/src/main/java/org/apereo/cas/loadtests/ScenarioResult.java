@@ -0,0 +1,91 @@
+package org.apereo.cas.loadtests;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ScenarioResult} that summarizes the throughput
+ * and latency distribution of a scenario.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ScenarioResult {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private String scenario;
+
+    private long requests;
+
+    private long errors;
+
+    private double throughput;
+
+    private double meanMillis;
+
+    private double p50Millis;
+
+    private double p90Millis;
+
+    private double p95Millis;
+
+    private double p99Millis;
+
+    private double maxMillis;
+
+    /**
+     * Summarize the measurements collected by all virtual users of a scenario.
+     *
+     * @param scenario  the scenario
+     * @param recorders the recorders
+     * @param window    the measurement window
+     * @return the scenario result
+     */
+    public static ScenarioResult from(final String scenario, final Collection<LatencyRecorder> recorders, final Duration window) {
+        val latencies = recorders.stream()
+            .map(LatencyRecorder::getLatencies)
+            .flatMapToLong(Arrays::stream)
+            .sorted()
+            .toArray();
+
+        val result = new ScenarioResult();
+        result.setScenario(scenario);
+        result.setRequests(latencies.length);
+        result.setErrors(recorders.stream().mapToLong(LatencyRecorder::getErrors).sum());
+        result.setThroughput(latencies.length / (window.toMillis() / 1000D));
+        if (latencies.length > 0) {
+            result.setMeanMillis(Arrays.stream(latencies).average().orElse(0) / NANOS_PER_MILLI);
+            result.setP50Millis(percentile(latencies, 50));
+            result.setP90Millis(percentile(latencies, 90));
+            result.setP95Millis(percentile(latencies, 95));
+            result.setP99Millis(percentile(latencies, 99));
+            result.setMaxMillis(latencies[latencies.length - 1] / NANOS_PER_MILLI);
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the percentile of sorted latencies using the nearest-rank method.
+     *
+     * @param sortedLatencies the sorted latencies in nanoseconds
+     * @param percentile      the percentile
+     * @return the latency in milliseconds
+     */
+    static double percentile(final long[] sortedLatencies, final double percentile) {
+        val rank = (int) Math.ceil(percentile / 100D * sortedLatencies.length);
+        val index = Math.min(Math.max(rank - 1, 0), sortedLatencies.length - 1);
+        return sortedLatencies[index] / NANOS_PER_MILLI;
+    }
+}
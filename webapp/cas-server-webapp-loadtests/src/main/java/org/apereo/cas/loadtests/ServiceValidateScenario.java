@@ -0,0 +1,51 @@
+package org.apereo.cas.loadtests;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is {@link ServiceValidateScenario} that obtains a service ticket
+ * using an existing single sign-on session and validates it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ServiceValidateScenario implements LoadTestScenario {
+    /**
+     * Scenario name.
+     */
+    public static final String NAME = "serviceValidate";
+
+    /**
+     * Service registered for this scenario.
+     */
+    public static final String SERVICE = "https://app.loadtests.example.org/";
+
+    private static final String ENCODED_SERVICE = URLEncoder.encode(SERVICE, StandardCharsets.UTF_8);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void prepare(final LoadTestClient client) {
+        client.login();
+    }
+
+    @Override
+    public boolean execute(final LoadTestClient client) {
+        val prefix = client.getCasServerPrefix();
+        val redirect = client.get(prefix + "/login?service=" + ENCODED_SERVICE, false);
+        val ticket = StringUtils.substringAfter(StringUtils.defaultString(redirect.getLocation()), "ticket=");
+        if (redirect.getStatus() != HttpStatus.SC_MOVED_TEMPORARILY || StringUtils.isBlank(ticket)) {
+            return false;
+        }
+        val validation = client.get(prefix + "/p3/serviceValidate?service=" + ENCODED_SERVICE + "&ticket=" + ticket, false);
+        return validation.getStatus() == HttpStatus.SC_OK && validation.getBody().contains("<cas:authenticationSuccess>");
+    }
+}
@@ -0,0 +1,19 @@
+package org.apereo.cas;
+
+import org.apereo.cas.loadtests.ScenarioResultTests;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * This is {@link AllLoadTestsSuite}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    ScenarioResultTests.class
+})
+public class AllLoadTestsSuite {
+}
@@ -0,0 +1,67 @@
+package org.apereo.cas.loadtests;
+
+import lombok.val;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link ScenarioResultTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ScenarioResultTests {
+
+    @Test
+    public void verifyPercentilesAcrossVirtualUsers() {
+        val first = new LatencyRecorder();
+        val second = new LatencyRecorder();
+        for (var i = 1; i <= 100; i++) {
+            val recorder = i % 2 == 0 ? first : second;
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(i), i != 100);
+        }
+        val result = ScenarioResult.from("login", List.of(first, second), Duration.ofSeconds(10));
+        assertEquals(100, result.getRequests());
+        assertEquals(1, result.getErrors());
+        assertEquals(10, result.getThroughput(), 0);
+        assertEquals(50, result.getP50Millis(), 0);
+        assertEquals(95, result.getP95Millis(), 0);
+        assertEquals(99, result.getP99Millis(), 0);
+        assertEquals(100, result.getMaxMillis(), 0);
+        assertEquals(50.5, result.getMeanMillis(), 0.001);
+    }
+
+    @Test
+    public void verifyEmptyResult() {
+        val result = ScenarioResult.from("login", List.of(new LatencyRecorder()), Duration.ofSeconds(10));
+        assertEquals(0, result.getRequests());
+        assertEquals(0, result.getP99Millis(), 0);
+    }
+
+    @Test
+    public void verifyRegressionAgainstBaseline() {
+        val previous = new ScenarioResult();
+        previous.setScenario("login");
+        previous.setThroughput(100);
+        previous.setP95Millis(20);
+        val baseline = new LoadTestReport();
+        baseline.setRevision("baseline");
+        baseline.getResults().add(previous);
+
+        val current = new ScenarioResult();
+        current.setScenario("login");
+        current.setThroughput(95);
+        current.setP95Millis(30);
+        val report = new LoadTestReport();
+        report.getResults().add(current);
+
+        val regressions = report.compareWith(baseline, 0.2);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("p95 latency"));
+    }
+}